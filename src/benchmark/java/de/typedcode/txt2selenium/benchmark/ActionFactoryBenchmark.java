@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.benchmark;
+
+import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.actions.ActionFactory;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating a single action from its identifier and parameters.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ActionFactoryBenchmark {
+
+    @Param( { "select id element1", "read var1", "assertEquals key1 var1", "click", "comment step", "method method1" } )
+    public String line;
+
+    private SyntheticTree tree;
+    private TestScenario scenario;
+    private String action;
+    private String parameters;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.tree = BenchmarkSupport.prepare( new SyntheticTree( 0, 0, 1, 4, 2, 16 ) );
+        this.scenario = BenchmarkSupport.discover( this.tree );
+
+        String[] split = this.line.split( " ", 2 );
+        this.action = split[ 0 ];
+        this.parameters = split.length > 1 ? split[ 1 ] : "";
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkSupport.cleanUp( this.tree );
+    }
+
+    @Benchmark
+    public AAction createAction() {
+        return ActionFactory.createAction( this.scenario, this.action, this.parameters );
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.benchmark;
+
+import de.typedcode.txt2selenium.executionContext.ScenarioDiscovery;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.DriverPool;
+import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.WebUtil;
+import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.logging.Level;
+
+/**
+ * Set up and tear down shared by the benchmarks.
+ */
+class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+        //Do not instantiate
+    }
+
+    /**
+     * Writes the tree to a temporary directory and configures it as main directory. Logging is reduced to warnings,
+     * so the benchmarks do not measure the console output.
+     *
+     * @param tree Tree to write.
+     * @return The written tree.
+     * @throws IOException if the tree could not be written.
+     */
+    static SyntheticTree prepare( SyntheticTree tree ) throws IOException {
+        UnitLogger.setLogLevel( Level.WARNING );
+
+        tree.write( Files.createTempDirectory( "t2sBenchmark" ) );
+        Configuration.getInstance().setMainDirectory( tree.getMainDirectory() );
+
+        return tree;
+    }
+
+    /**
+     * Creates the scenario tree for the test directory of the given tree.
+     *
+     * @param tree Written tree.
+     * @return Top-level scenario.
+     */
+    static TestScenario discover( SyntheticTree tree ) {
+        return ScenarioDiscovery.discover( tree.getTestDirectory() );
+    }
+
+    /**
+     * Resets the global state and deletes the tree.
+     *
+     * @param tree Tree to delete.
+     * @throws IOException if the tree could not be deleted.
+     */
+    static void cleanUp( SyntheticTree tree ) throws IOException {
+        WebUtil.reset();
+        DriverPool.getInstance().shutdown();
+        CompareStringRepository.getInstance().cleanRepository();
+        Configuration.getInstance().clear();
+
+        tree.delete();
+    }
+}
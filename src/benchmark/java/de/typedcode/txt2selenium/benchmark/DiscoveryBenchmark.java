@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.benchmark;
+
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Start-up: building the scenario tree for a whole test directory.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class DiscoveryBenchmark {
+
+    @Param( { "1", "3" } )
+    public int depth;
+
+    @Param( { "4" } )
+    public int breadth;
+
+    @Param( { "10" } )
+    public int tests;
+
+    @Param( { "40" } )
+    public int actions;
+
+    @Param( { "false", "true" } )
+    public boolean lazy;
+
+    private SyntheticTree tree;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.tree = BenchmarkSupport.prepare( new SyntheticTree( this.depth, this.breadth, this.tests, this.actions, 2, 32 ) );
+        Configuration.getInstance().setLazyParsing( this.lazy );
+    }
+
+    @Setup( Level.Iteration )
+    public void setUpIteration() {
+        // Every discovery registers its scenarios, do not let the repository grow over the whole run
+        CompareStringRepository.getInstance().cleanRepository();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkSupport.cleanUp( this.tree );
+    }
+
+    @Benchmark
+    public TestScenario discover() {
+        return BenchmarkSupport.discover( this.tree );
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.benchmark;
+
+import de.typedcode.txt2selenium.executionContext.Test;
+import de.typedcode.txt2selenium.util.WebUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running the action chain of a test against the stub page. The page is loaded once, so the benchmark measures
+ * the per-action overhead of the loop, the repositories and the element lookups of the in-process driver.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ExecutionBenchmark {
+
+    @Param( { "10", "100" } )
+    public int actions;
+
+    private SyntheticTree tree;
+    private Test test;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.tree = BenchmarkSupport.prepare( new SyntheticTree( 0, 0, 1, this.actions, 0, 16 ) );
+        this.test = BenchmarkSupport.discover( this.tree ).getTests().get( 0 );
+
+        WebUtil.reset();
+        WebUtil.getInstance().openUrl( this.tree.getStubPage().toUri().toString() );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkSupport.cleanUp( this.tree );
+    }
+
+    @Benchmark
+    public void execute() {
+        this.test.execute();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.benchmark;
+
+import de.typedcode.txt2selenium.Txt2Selenium;
+import de.typedcode.txt2selenium.actions.ActionProgram;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.parsers.CompareStringParser;
+import de.typedcode.txt2selenium.parsers.CompiledTest;
+import de.typedcode.txt2selenium.parsers.TestFileParser;
+import de.typedcode.txt2selenium.util.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a single test-file and compare string file.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ParserBenchmark {
+
+    @Param( { "10", "100", "1000" } )
+    public int actions;
+
+    @Param( { "false", "true" } )
+    public boolean cache;
+
+    private SyntheticTree tree;
+    private TestScenario scenario;
+    private Path testFile;
+    private Path compareStrings;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.tree = BenchmarkSupport.prepare( new SyntheticTree( 0, 0, 1, this.actions, 0, this.actions ) );
+        Configuration.getInstance().setTestCacheEnabled( this.cache );
+
+        this.scenario = BenchmarkSupport.discover( this.tree );
+        this.testFile = this.tree.getTestFiles().get( 0 );
+        this.compareStrings = this.tree.getTestDirectory().resolve( Txt2Selenium.COMPARE_STRINGS_FILE_NAME );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkSupport.cleanUp( this.tree );
+    }
+
+    @Benchmark
+    public CompiledTest compile() {
+        return TestFileParser.compile( this.testFile );
+    }
+
+    @Benchmark
+    public ActionProgram parse() {
+        return TestFileParser.parse( this.scenario, this.testFile );
+    }
+
+    @Benchmark
+    public Map< String, String > parseCompareStrings() {
+        return CompareStringParser.parse( this.compareStrings );
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.benchmark;
+
+import de.typedcode.txt2selenium.executionContext.Method;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import de.typedcode.txt2selenium.util.repositories.MethodRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups in the repositories from the deepest scenario of a hierarchy.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class RepositoryBenchmark {
+
+    @Param( { "1", "8", "32" } )
+    public int depth;
+
+    private SyntheticTree tree;
+    private TestScenario deepestScenario;
+    private String localKey;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.tree = BenchmarkSupport.prepare( new SyntheticTree( this.depth, 1, 1, 4, 2, 16 ) );
+
+        this.deepestScenario = BenchmarkSupport.discover( this.tree );
+
+        while( !this.deepestScenario.getSubScenarios().isEmpty() ) {
+            this.deepestScenario = this.deepestScenario.getSubScenarios().get( 0 );
+        }
+
+        this.localKey = String.format( "level%dKey3", this.depth );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkSupport.cleanUp( this.tree );
+    }
+
+    @Benchmark
+    public Optional< String > localCompareString() {
+        return CompareStringRepository.getInstance().getCompareString( this.deepestScenario, this.localKey );
+    }
+
+    @Benchmark
+    public Optional< String > inheritedCompareString() {
+        return CompareStringRepository.getInstance().getCompareString( this.deepestScenario, "key3" );
+    }
+
+    @Benchmark
+    public Optional< String > missingCompareString() {
+        return CompareStringRepository.getInstance().getCompareString( this.deepestScenario, "missing" );
+    }
+
+    @Benchmark
+    public Optional< Method > getMethod() {
+        return MethodRepository.getInstance().getMethod( this.deepestScenario, "method1" );
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.benchmark;
+
+import de.typedcode.txt2selenium.Txt2Selenium;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Generates a test directory of configurable size. Every scenario contains test-files, methods and compare strings,
+ * the tests run against a static stub page so they can be executed without network access.
+ *
+ * The tree can also be written to disk for manual runs:
+ * <code>java -cp benchmarks.jar de.typedcode.txt2selenium.benchmark.SyntheticTree target/tree 3 4 10 40</code>
+ */
+public class SyntheticTree {
+
+    public static final String STUB_PAGE = "stub.html";
+
+    /**
+     * Number of elements on the stub page. Actions cycle through these elements.
+     */
+    static final int ELEMENT_COUNT = 16;
+
+    private final int depth;
+    private final int breadth;
+    private final int testsPerScenario;
+    private final int actionsPerTest;
+    private final int methodsPerScenario;
+    private final int stringsPerScenario;
+
+    private Path mainDirectory;
+    private Path deepestScenario;
+    private final List< Path > testFiles = new ArrayList<>();
+
+    /**
+     * @param depth Number of scenario levels below the test directory.
+     * @param breadth Number of sub-scenarios of each scenario.
+     * @param testsPerScenario Number of test-files in each scenario.
+     * @param actionsPerTest Number of actions in each test-file.
+     * @param methodsPerScenario Number of method-files in each scenario.
+     * @param stringsPerScenario Number of compare strings in each scenario.
+     */
+    public SyntheticTree( int depth, int breadth, int testsPerScenario, int actionsPerTest, int methodsPerScenario, int stringsPerScenario ) {
+        this.depth = depth;
+        this.breadth = breadth;
+        this.testsPerScenario = testsPerScenario;
+        this.actionsPerTest = actionsPerTest;
+        this.methodsPerScenario = methodsPerScenario;
+        this.stringsPerScenario = Math.max( ELEMENT_COUNT, stringsPerScenario );
+    }
+
+    /**
+     * Writes the tree to the given directory. The directory is used as main directory, the tests are written to its
+     * test-folder.
+     *
+     * @param mainDirectory Directory to write the tree to.
+     * @return this
+     * @throws IOException if the tree could not be written.
+     */
+    public SyntheticTree write( Path mainDirectory ) throws IOException {
+        this.mainDirectory = mainDirectory;
+        this.testFiles.clear();
+
+        Files.createDirectories( mainDirectory );
+        Files.writeString( mainDirectory.resolve( STUB_PAGE ), stubPage() );
+
+        writeScenario( mainDirectory.resolve( Txt2Selenium.TEST_FILE_FOLDER ), 0 );
+
+        return this;
+    }
+
+    private void writeScenario( Path scenario, int level ) throws IOException {
+        Files.createDirectories( scenario );
+
+        this.deepestScenario = scenario;
+
+        StringBuilder strings = new StringBuilder();
+
+        for( int i = 0; i < this.stringsPerScenario; i++ ) {
+            // Keys of the top-level scenario are inherited by every sub-scenario
+            String key = level == 0 ? "key" + i : String.format( "level%dKey%d", level, i );
+            strings.append( key ).append( " value" ).append( i % ELEMENT_COUNT ).append( '\n' );
+        }
+
+        Files.writeString( scenario.resolve( Txt2Selenium.COMPARE_STRINGS_FILE_NAME ), strings );
+
+        if( this.methodsPerScenario > 0 ) {
+            Path methods = Files.createDirectories( scenario.resolve( Txt2Selenium.METHOD_FILE_FOLDER ) );
+
+            for( int i = 0; i < this.methodsPerScenario; i++ ) {
+                Files.writeString( methods.resolve( "method" + i + Txt2Selenium.FILE_EXTENSION ), testContent( this.actionsPerTest ) );
+            }
+        }
+
+        for( int i = 0; i < this.testsPerScenario; i++ ) {
+            Path testFile = scenario.resolve( "test" + i + Txt2Selenium.FILE_EXTENSION );
+            Files.writeString( testFile, testContent( this.actionsPerTest ) );
+            this.testFiles.add( testFile );
+        }
+
+        if( level < this.depth ) {
+            for( int i = 0; i < this.breadth; i++ ) {
+                writeScenario( scenario.resolve( "scenario" + i ), level + 1 );
+            }
+        }
+    }
+
+    /**
+     * Creates the content of a test-file. The actions select an element of the stub page, read its text,
+     * compare it to a compare string of the top-level scenario and add a comment.
+     *
+     * @param actions Number of actions.
+     * @return Content of the test-file.
+     */
+    static String testContent( int actions ) {
+        StringBuilder content = new StringBuilder();
+
+        for( int i = 0; i < actions; i++ ) {
+            int element = ( i / 4 ) % ELEMENT_COUNT;
+
+            switch( i % 4 ) {
+                case 0:
+                    content.append( "select id element" ).append( element );
+                    break;
+                case 1:
+                    content.append( "read var" ).append( element );
+                    break;
+                case 2:
+                    content.append( "assertEquals key" ).append( element ).append( " var" ).append( element );
+                    break;
+                default:
+                    content.append( "comment step " ).append( i );
+                    break;
+            }
+
+            content.append( '\n' );
+        }
+
+        return content.toString();
+    }
+
+    private static String stubPage() {
+        StringBuilder page = new StringBuilder( "<!DOCTYPE html>\n<html>\n<head><title>Stub</title></head>\n<body>\n" );
+
+        for( int i = 0; i < ELEMENT_COUNT; i++ ) {
+            page.append( String.format( "<div id=\"element%d\">value%d</div>%n", i, i ) );
+        }
+
+        return page.append( "</body>\n</html>\n" ).toString();
+    }
+
+    /**
+     * Deletes the written tree.
+     *
+     * @throws IOException if a file could not be deleted.
+     */
+    public void delete() throws IOException {
+        if( this.mainDirectory == null || Files.notExists( this.mainDirectory ) ) {
+            return;
+        }
+
+        try( Stream< Path > paths = Files.walk( this.mainDirectory ) ) {
+            for( Path path : ( Iterable< Path > ) paths.sorted( Comparator.reverseOrder() )::iterator ) {
+                Files.delete( path );
+            }
+        }
+    }
+
+    public Path getMainDirectory() {
+        return this.mainDirectory;
+    }
+
+    public Path getTestDirectory() {
+        return this.mainDirectory.resolve( Txt2Selenium.TEST_FILE_FOLDER );
+    }
+
+    /**
+     * @return Directory of the last scenario on the deepest level.
+     */
+    public Path getDeepestScenario() {
+        return this.deepestScenario;
+    }
+
+    public List< Path > getTestFiles() {
+        return this.testFiles;
+    }
+
+    public Path getStubPage() {
+        return this.mainDirectory.resolve( STUB_PAGE );
+    }
+
+    /**
+     * Writes a tree to disk.
+     *
+     * @param args target directory, depth, breadth, tests per scenario and actions per test.
+     * @throws IOException if the tree could not be written.
+     */
+    public static void main( String[] args ) throws IOException {
+        if( args.length < 1 ) {
+            System.err.println( "Usage: SyntheticTree targetDirectory [depth] [breadth] [testsPerScenario] [actionsPerTest]" );
+            return;
+        }
+
+        int depth = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 3;
+        int breadth = args.length > 2 ? Integer.parseInt( args[ 2 ] ) : 4;
+        int tests = args.length > 3 ? Integer.parseInt( args[ 3 ] ) : 10;
+        int actions = args.length > 4 ? Integer.parseInt( args[ 4 ] ) : 40;
+
+        SyntheticTree tree = new SyntheticTree( depth, breadth, tests, actions, 2, 32 ).write( Paths.get( args[ 0 ] ) );
+
+        System.out.printf( "Wrote %d tests to %s%n", tree.getTestFiles().size(), tree.getTestDirectory() );
+    }
+}
@@ -25,20 +25,80 @@
 package de.typedcode.txt2selenium;
 
 import de.typedcode.txt2selenium.exceptions.InstanceInitiationException;
+import de.typedcode.txt2selenium.executionContext.ExecutionPool;
+import de.typedcode.txt2selenium.executionContext.FailurePolicy;
+import de.typedcode.txt2selenium.executionContext.ScenarioDiscovery;
+import de.typedcode.txt2selenium.executionContext.ShardCoordinator;
+import de.typedcode.txt2selenium.executionContext.ShardWorker;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.executionContext.TestTimings;
+import de.typedcode.txt2selenium.executionContext.TestWatcher;
+import de.typedcode.txt2selenium.metrics.MetricsRegistry;
+import de.typedcode.txt2selenium.metrics.MetricsReport;
+import de.typedcode.txt2selenium.results.JUnitXmlResultWriter;
+import de.typedcode.txt2selenium.results.JsonLinesResultWriter;
+import de.typedcode.txt2selenium.results.ResultRecorder;
 import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.DriverPool;
+import de.typedcode.txt2selenium.util.FailureMode;
+import de.typedcode.txt2selenium.util.HttpCache;
+import de.typedcode.txt2selenium.util.LogOverflowPolicy;
+import de.typedcode.txt2selenium.util.SelectorCache;
+import de.typedcode.txt2selenium.util.TestFilter;
 import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.WebUtil;
+import de.typedcode.txt2selenium.util.repositories.SessionRepository;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 public class Txt2Selenium {
     public static final String FILE_EXTENSION = ".t2s";
     public static final String COMPARE_STRINGS_FILE_NAME = "compareStrings" + FILE_EXTENSION;
-    private static final String TEST_FILE_FOLDER = "tests";
+    public static final String DRIVER_PROFILE_FILE_NAME = "driverProfile" + FILE_EXTENSION;
+    public static final String TEST_FILE_FOLDER = "tests";
     public static final String METHOD_FILE_FOLDER = "methods";
+    private static final String THREADS_OPTION = "--threads";
+    private static final String DRIVER_MAX_USES_OPTION = "--driver-max-uses";
+    private static final String CACHE_OPTION = "--cache";
+    private static final String LAZY_OPTION = "--lazy";
+    private static final String VALIDATE_ALL_OPTION = "--validate-all";
+    private static final String FILTER_OPTION = "--filter";
+    private static final String ASYNC_LOG_OPTION = "--async-log";
+    private static final String LOG_BUFFER_OPTION = "--log-buffer";
+    private static final String LOG_OVERFLOW_OPTION = "--log-overflow";
+    private static final String LOG_FILE_OPTION = "--log-file";
+    private static final String JUNIT_XML_OPTION = "--junit-xml";
+    private static final String JSON_RESULTS_OPTION = "--json-results";
+    private static final String METRICS_OPTION = "--metrics";
+    private static final String METRICS_FILE_OPTION = "--metrics-file";
+    private static final String SELECTOR_CACHE_OPTION = "--selector-cache";
+    private static final String COMPARE_STRING_INDEX_OPTION = "--compare-string-index";
+    private static final String COMPARE_STRING_CACHE_OPTION = "--compare-string-cache";
+    private static final String WATCH_OPTION = "--watch";
+    private static final String INLINE_METHODS_OPTION = "--inline-methods";
+    private static final String WORKERS_OPTION = "--workers";
+    private static final String LONGEST_FIRST_OPTION = "--longest-first";
+    private static final String ON_FAILURE_OPTION = "--on-failure";
+    private static final String MAX_FAILURES_OPTION = "--max-failures";
+    private static final String WAIT_TIMEOUT_OPTION = "--wait-timeout";
+    private static final String HTTP_CACHE_OPTION = "--http-cache";
+    private static final String RECORD_OPTION = "--record";
+    private static final String REPLAY_OPTION = "--replay";
+    public static final String WORKER_PORT_OPTION = "--worker-port";
+    public static final String WORKER_ID_OPTION = "--worker-id";
+    private static final String USAGE = "Unexpected argument '%s'. Run txt2Selenium with one path and any options, e.g. "
+            + "java -jar txt2Selenium.jar [OPTIONS] path/to/tests. The options are listed in the README.";
+
+    /**
+     * Options of the command line without <code>--workers</code> and the main directory, passed on to worker processes.
+     */
+    private static List< String > workerOptions = List.of();
 
     private TestScenario defaultTestScenario;
 
@@ -67,12 +127,16 @@ public class Txt2Selenium {
      */
     private void prepareScenarios( Path scenarioPath ) {
         //Getting the testfiles
-        this.defaultTestScenario = new TestScenario( null, scenarioPath );
+        this.defaultTestScenario = ScenarioDiscovery.discover( scenarioPath );
 
         if( !TestScenario.testsExist() ) {
             throw new InstanceInitiationException(
                     "Given test-direcotry does not contain any testfiles: " + scenarioPath );
         }
+
+        if( Configuration.getInstance().isLazyParsing() && Configuration.getInstance().isValidateAll() ) {
+            this.defaultTestScenario.validate();
+        }
     }
 
     /**
@@ -81,7 +145,83 @@ public class Txt2Selenium {
     public void execute() {
         UnitLogger.logInfo( "Starting test execution" );
 
-        this.defaultTestScenario.execute();
+        // Sessions of the previous run may have expired
+        SessionRepository.getInstance().cleanRepository();
+
+        ResultRecorder recorder = ResultRecorder.getInstance();
+        Configuration.getInstance().getJUnitXmlFile().ifPresent( o -> recorder.addListener( new JUnitXmlResultWriter( o ) ) );
+        Configuration.getInstance().getJsonResultFile().ifPresent( o -> recorder.addListener( new JsonLinesResultWriter( o ) ) );
+
+        // Only results written to a file enable the summary
+        boolean recording = recorder.isEnabled();
+
+        if( Configuration.getInstance().isLongestFirst() ) {
+            recorder.addListener( TestTimings.getInstance() );
+        }
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.setEnabled( Configuration.getInstance().isMetricsEnabled() );
+
+        try {
+            if( Configuration.getInstance().getWorkerCount() > 0 ) {
+                new ShardCoordinator( this.defaultTestScenario, getWorkerArguments() ).execute();
+            }
+            else {
+                ExecutionPool.execute( this.defaultTestScenario );
+            }
+        }
+        finally {
+            recorder.close();
+        }
+
+        FailurePolicy failurePolicy = FailurePolicy.getInstance();
+
+        if( failurePolicy.isRunAborted() ) {
+            UnitLogger.logSevere( String.format( "Execution aborted after %d failures", failurePolicy.getFailureCount() ) );
+        }
+
+        if( recording ) {
+            UnitLogger.logInfo( String.format( "Results: %d tests, %d failed, %d errors",
+                    recorder.getTestCount(), recorder.getFailedTestCount(), recorder.getErroneousTestCount() ) );
+        }
+
+        if( metrics.isEnabled() ) {
+            metrics.setEnabled( false );
+            MetricsReport.logSummary( metrics );
+            Configuration.getInstance().getMetricsFile().ifPresent( o -> MetricsReport.writePrometheus( metrics, o ) );
+        }
+
+        if( Configuration.getInstance().isWatchMode() ) {
+            // Drivers stay in the pool, so re-runs start with warm drivers
+            new TestWatcher( this.defaultTestScenario ).watch();
+        }
+
+        // Sessions contain authentication cookies, none are left on disk
+        SessionRepository.getInstance().cleanRepository();
+
+        // The driver of the last sequential test is quit with the idle ones
+        WebUtil.releaseInstance();
+
+        DriverPool driverPool = DriverPool.getInstance();
+        UnitLogger.logInfo( String.format( "Driver pool: %d hits, %d misses, %d evictions",
+                driverPool.getHits(), driverPool.getMisses(), driverPool.getEvictions() ) );
+        driverPool.shutdown();
+
+        SelectorCache selectorCache = SelectorCache.getInstance();
+        UnitLogger.logInfo( String.format( Locale.ROOT, "Selector cache: %d selectors, %d hits, %d misses, %d evictions, hit rate %.1f%%",
+                selectorCache.getSize(), selectorCache.getHits(), selectorCache.getMisses(), selectorCache.getEvictions(), selectorCache.getHitRate() * 100 ) );
+
+        HttpCache httpCache = HttpCache.getInstance();
+
+        if( Configuration.getInstance().isHttpCacheEnabled() ) {
+            UnitLogger.logInfo( String.format( "HTTP cache: %d hits, %d revalidated, %d misses",
+                    httpCache.getHits(), httpCache.getValidations(), httpCache.getMisses() ) );
+        }
+
+        if( Configuration.getInstance().getReplayDirectory().isPresent() ) {
+            UnitLogger.logInfo( String.format( "Replay: %d responses replayed, %d not recorded",
+                    httpCache.getReplayed(), httpCache.getNotRecorded() ) );
+        }
 
         UnitLogger.logInfo( "Test execution finished" );
     }
@@ -90,18 +230,190 @@ public class Txt2Selenium {
         return this.defaultTestScenario;
     }
 
+    private static List< String > getWorkerArguments() {
+        List< String > arguments = new ArrayList<>( workerOptions );
+        Configuration.getInstance().getMainDirectory().ifPresent( o -> arguments.add( o.toString() ) );
+
+        return arguments;
+    }
+
     public static void main(String[] args) {
-        if( args.length == 0 ) {
-            Configuration.getInstance().setMainDirectory( Path.of( "." ) );
+        parseArguments( args );
+
+        Configuration configuration = Configuration.getInstance();
+
+        if( configuration.getWorkerPort() > 0 ) {
+            runWorker( configuration );
+            return;
+        }
+
+        if( configuration.isAsyncLogging() ) {
+            UnitLogger.enableAsync( configuration.getLogBufferSize(), configuration.getLogOverflowPolicy(),
+                    configuration.getLogFile().orElse( null ) );
+        }
+
+        try {
+            Txt2Selenium txt2Selenium = new Txt2Selenium();
+            txt2Selenium.execute();
         }
-        else if ( args.length == 1 ){
-            Configuration.getInstance().setMainDirectory( Path.of( args[0] ) );
+        finally {
+            UnitLogger.disableAsync();
+        }
+    }
+
+    /**
+     * Runs the tests sent by the coordinator. Tests are parsed when they run for the first time, the coordinator
+     * has validated them already.
+     */
+    private static void runWorker( Configuration configuration ) {
+        configuration.setLazyParsing( true );
+        configuration.setValidateAll( false );
+
+        try( ShardWorker worker = ShardWorker.connect( configuration.getWorkerPort(), configuration.getWorkerId() ) ) {
+            worker.serve( new Txt2Selenium().getDefaultTestScenario() );
+            DriverPool.getInstance().shutdown();
+        }
+    }
+
+    /**
+     * Applies the command line arguments to the {@link Configuration}. Options can be given in any order, the
+     * only positional argument is the main directory.
+     *
+     * @param args Arguments passed to main.
+     * @throws IllegalArgumentException if an argument is unknown or an option value is invalid.
+     */
+    private static void parseArguments( String[] args ) {
+        Path mainDirectory = null;
+        List< String > options = new ArrayList<>();
+
+        for( int i = 0; i < args.length; i++ ) {
+            int optionStart = i;
+
+            switch( args[ i ] ) {
+                case THREADS_OPTION:
+                    Configuration.getInstance().setThreadCount( parseNumber( args, ++i ) );
+                    break;
+                case DRIVER_MAX_USES_OPTION:
+                    Configuration.getInstance().setMaxDriverUses( parseNumber( args, ++i ) );
+                    break;
+                case CACHE_OPTION:
+                    Configuration.getInstance().setTestCacheEnabled( true );
+                    break;
+                case LAZY_OPTION:
+                    Configuration.getInstance().setLazyParsing( true );
+                    break;
+                case VALIDATE_ALL_OPTION:
+                    Configuration.getInstance().setValidateAll( true );
+                    break;
+                case FILTER_OPTION:
+                    Configuration.getInstance().setTestFilter( new TestFilter( parseValue( args, ++i ) ) );
+                    break;
+                case ASYNC_LOG_OPTION:
+                    Configuration.getInstance().setAsyncLogging( true );
+                    break;
+                case LOG_BUFFER_OPTION:
+                    Configuration.getInstance().setLogBufferSize( parseNumber( args, ++i ) );
+                    break;
+                case LOG_OVERFLOW_OPTION:
+                    Configuration.getInstance().setLogOverflowPolicy( LogOverflowPolicy.getPolicy( parseValue( args, ++i ) ) );
+                    break;
+                case LOG_FILE_OPTION:
+                    // Writing to a file is done by the asynchronous writer
+                    Configuration.getInstance().setAsyncLogging( true );
+                    Configuration.getInstance().setLogFile( Path.of( parseValue( args, ++i ) ) );
+                    break;
+                case JUNIT_XML_OPTION:
+                    Configuration.getInstance().setJUnitXmlFile( Path.of( parseValue( args, ++i ) ) );
+                    break;
+                case JSON_RESULTS_OPTION:
+                    Configuration.getInstance().setJsonResultFile( Path.of( parseValue( args, ++i ) ) );
+                    break;
+                case METRICS_OPTION:
+                    Configuration.getInstance().setMetricsEnabled( true );
+                    break;
+                case METRICS_FILE_OPTION:
+                    Configuration.getInstance().setMetricsEnabled( true );
+                    Configuration.getInstance().setMetricsFile( Path.of( parseValue( args, ++i ) ) );
+                    break;
+                case SELECTOR_CACHE_OPTION:
+                    Configuration.getInstance().setSelectorCacheSize( parseNumber( args, ++i ) );
+                    break;
+                case WATCH_OPTION:
+                    Configuration.getInstance().setWatchMode( true );
+                    break;
+                case INLINE_METHODS_OPTION:
+                    Configuration.getInstance().setInlineMethods( true );
+                    break;
+                case LONGEST_FIRST_OPTION:
+                    Configuration.getInstance().setLongestFirst( true );
+                    break;
+                case ON_FAILURE_OPTION:
+                    Configuration.getInstance().setFailureMode( FailureMode.getMode( parseValue( args, ++i ) ) );
+                    break;
+                case MAX_FAILURES_OPTION:
+                    Configuration.getInstance().setMaxFailures( parseNumber( args, ++i ) );
+                    break;
+                case WAIT_TIMEOUT_OPTION:
+                    Configuration.getInstance().setWaitTimeout( parseNumber( args, ++i ) );
+                    break;
+                case HTTP_CACHE_OPTION:
+                    Configuration.getInstance().setHttpCacheEnabled( true );
+                    break;
+                case RECORD_OPTION:
+                    Configuration.getInstance().setRecordDirectory( Path.of( parseValue( args, ++i ) ) );
+                    break;
+                case REPLAY_OPTION:
+                    Configuration.getInstance().setReplayDirectory( Path.of( parseValue( args, ++i ) ) );
+                    break;
+                case WORKERS_OPTION:
+                    Configuration.getInstance().setWorkerCount( parseNumber( args, ++i ) );
+                    continue;
+                case WORKER_PORT_OPTION:
+                    Configuration.getInstance().setWorkerPort( parseNumber( args, ++i ) );
+                    break;
+                case WORKER_ID_OPTION:
+                    Configuration.getInstance().setWorkerId( parseNumber( args, ++i ) );
+                    break;
+                case COMPARE_STRING_INDEX_OPTION:
+                    Configuration.getInstance().setCompareStringIndexEnabled( true );
+                    break;
+                case COMPARE_STRING_CACHE_OPTION:
+                    Configuration.getInstance().setCompareStringIndexEnabled( true );
+                    Configuration.getInstance().setCompareStringCacheSize( parseNumber( args, ++i ) );
+                    break;
+                default:
+                    if( mainDirectory != null ) {
+                        throw new IllegalArgumentException( String.format( USAGE, args[ i ] ) );
+                    }
+
+                    mainDirectory = Path.of( args[ i ] );
+                    continue;
+            }
+
+            options.addAll( List.of( args ).subList( optionStart, i + 1 ) );
         }
-        else {
-            throw new IllegalArgumentException( "Run txt2Selenium with path as argument only. e.g. java -jar txt2Selenium.jar path/to/tests" );
+
+        workerOptions = options;
+
+        Configuration.getInstance().setMainDirectory( mainDirectory != null ? mainDirectory : Path.of( "." ) );
+    }
+
+    private static String parseValue( String[] args, int index ) {
+        if( index >= args.length ) {
+            throw new IllegalArgumentException( String.format( "Option %s requires a value.", args[ index - 1 ] ) );
         }
 
-        Txt2Selenium txt2Selenium = new Txt2Selenium();
-        txt2Selenium.execute();
+        return args[ index ];
+    }
+
+    private static int parseNumber( String[] args, int index ) {
+        String value = parseValue( args, index );
+
+        try {
+            return Integer.parseInt( value );
+        }
+        catch( NumberFormatException e ) {
+            throw new IllegalArgumentException( String.format( "Option %s requires a number but was '%s'.", args[ index - 1 ], value ) );
+        }
     }
 }
@@ -24,15 +24,15 @@
 
 package de.typedcode.txt2selenium.actions;
 
+import de.typedcode.txt2selenium.exceptions.ExecutionAbortedException;
+import de.typedcode.txt2selenium.executionContext.FailurePolicy;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.results.ResultRecorder;
+import de.typedcode.txt2selenium.util.FailureMode;
+import de.typedcode.txt2selenium.util.UnitLogger;
 
 public abstract class AAction {
 
-    /**
-     * The action to perform after this action was run. Can be null. Will only be null if this action is the last to perform.
-     */
-    private AAction nextAction;
-
     /**
      * Scenario in which this Action will run.
      */
@@ -53,11 +53,25 @@ public abstract class AAction {
      */
     public abstract String getCommand();
 
-    public void setNextAction( AAction nextAction ) {
-        this.nextAction = nextAction;
+    /**
+     * Logs the failure and marks this action and the running test as failed. Depending on the configured
+     * {@link FailureMode} the test is aborted afterwards.
+     *
+     * @param message Description of the failure.
+     * @throws ExecutionAbortedException if the failure stops the running test.
+     */
+    void fail( String message ) {
+        UnitLogger.logSevere( message );
+        ResultRecorder.getInstance().recordFailure( message );
+
+        FailureMode mode = FailurePolicy.getInstance().recordFailure();
+
+        if( mode != FailureMode.CONTINUE ) {
+            throw new ExecutionAbortedException( String.format( "Aborting after failure (%s)", mode.getIdentifier() ), mode );
+        }
     }
 
-    public AAction getNextAction() {
-        return this.nextAction;
+    public TestScenario getScenario() {
+        return this.testScenario;
     }
 }
\ No newline at end of file
@@ -46,33 +46,56 @@ public class ActionFactory {
      * @return Action
      */
     public static AAction createAction( TestScenario scenario, String action, String parameters ) {
-        switch( action ) {
-            case OpenAction.IDENTIFIER:
+        ActionType type = ActionType.getType( action )
+                .orElseThrow( () -> new ActionInitiationException( "Action '" + action + "' is unknown." ) );
+
+        return createAction( scenario, type, parameters );
+    }
+
+    /**
+     * Creates the action of the given <code>type</code> with the given <code>parameters</code>.
+     *
+     * @param scenario Scenario in which this Action will run.
+     * @param type Type of the Action to create.
+     * @param parameters Parameters for the Action.
+     * @return Action
+     */
+    public static AAction createAction( TestScenario scenario, ActionType type, String parameters ) {
+        switch( type ) {
+            case OPEN:
                 return new OpenAction( scenario, parameters );
-            case ScreenshotAction.IDENTIFIER:
+            case SCREENSHOT:
                 return new ScreenshotAction( scenario, parameters );
-            case ClickAction.IDENTIFIER:
+            case CLICK:
                 return new ClickAction( scenario );
-            case SelectAction.IDENTIFIER:
+            case SELECT:
                 return new SelectAction( scenario, parameters );
-            case ReadAction.IDENTIFIER:
+            case READ:
                 return new ReadAction( scenario, parameters );
-            case TypeAction.IDENTIFIER:
+            case TYPE:
                 return new TypeAction( scenario, parameters );
-            case AssertEqualsAction.IDENTIFIER:
+            case ASSERT_EQUALS:
                 return new AssertEqualsAction( scenario, parameters );
-            case AssertCheckedAction.IDENTIFIER:
+            case ASSERT_CHECKED:
                 return new AssertCheckedAction( scenario, parameters );
-            case MethodAction.IDENTIFIER:
+            case METHOD:
                 return new MethodAction( scenario, parameters );
-            case AssertReadEqualsAction.IDENTIFIER:
+            case ASSERT_READ_EQUALS:
                 return new AssertReadEqualsAction( scenario, parameters );
-            case SendSpecialKeyAction.IDENTIFIER:
+            case SEND_SPECIAL_KEY:
                 return new SendSpecialKeyAction( scenario, parameters );
-            case CommentAction.IDENTIFIER:
+            case COMMENT:
                 return new CommentAction( scenario, parameters );
+            case TIMEOUT:
+                return new TimeoutAction( scenario, parameters );
+            case SAVE_SESSION:
+                return new SaveSessionAction( scenario, parameters );
+            case RESTORE_SESSION:
+                return new RestoreSessionAction( scenario, parameters );
+            case CACHEABLE:
+                return new CacheableAction( scenario, parameters );
             default:
-                throw new ActionInitiationException( "Action '" + action + "' is unknown." );
+                throw new ActionInitiationException( "Action '" + type.getIdentifier() + "' is unknown." );
         }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.actions;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable sequence of the actions of a test or method. The actions are addressed by their program counter, the
+ * index of the action in the program. A program does not change after it was created, so it can be executed by
+ * several threads at once.
+ */
+public final class ActionProgram implements Iterable< AAction > {
+
+    public static final ActionProgram EMPTY = new ActionProgram( new AAction[ 0 ] );
+
+    private final AAction[] actions;
+
+    private ActionProgram( AAction[] actions ) {
+        this.actions = actions;
+    }
+
+    /**
+     * @param actions Actions in the order of execution.
+     * @return Program executing the given actions.
+     */
+    public static ActionProgram of( Collection< ? extends AAction > actions ) {
+        return actions.isEmpty() ? EMPTY : new ActionProgram( actions.toArray( new AAction[ 0 ] ) );
+    }
+
+    /**
+     * @param programCounter Index of the action, 0 is the first action.
+     * @return Action at the given program counter.
+     * @throws ArrayIndexOutOfBoundsException if the program counter is outside the program.
+     */
+    public AAction get( int programCounter ) {
+        return this.actions[ programCounter ];
+    }
+
+    /**
+     * @return Number of actions, the program counter after the last action.
+     */
+    public int size() {
+        return this.actions.length;
+    }
+
+    public boolean isEmpty() {
+        return this.actions.length == 0;
+    }
+
+    @Override
+    public Iterator< AAction > iterator() {
+        return new Iterator< AAction >() {
+
+            private int programCounter;
+
+            @Override
+            public boolean hasNext() {
+                return this.programCounter < ActionProgram.this.actions.length;
+            }
+
+            @Override
+            public AAction next() {
+                if( !hasNext() ) {
+                    throw new NoSuchElementException();
+                }
+
+                return ActionProgram.this.actions[ this.programCounter++ ];
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.actions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Every Action that can be used in a test-file. The ordinal is used as opcode in compiled tests, so new
+ * types have to be appended at the end.
+ */
+public enum ActionType {
+    OPEN( OpenAction.IDENTIFIER ),
+    SCREENSHOT( ScreenshotAction.IDENTIFIER ),
+    CLICK( ClickAction.IDENTIFIER ),
+    SELECT( SelectAction.IDENTIFIER ),
+    READ( ReadAction.IDENTIFIER ),
+    TYPE( TypeAction.IDENTIFIER ),
+    ASSERT_EQUALS( AssertEqualsAction.IDENTIFIER ),
+    ASSERT_CHECKED( AssertCheckedAction.IDENTIFIER ),
+    METHOD( MethodAction.IDENTIFIER ),
+    ASSERT_READ_EQUALS( AssertReadEqualsAction.IDENTIFIER ),
+    SEND_SPECIAL_KEY( SendSpecialKeyAction.IDENTIFIER ),
+    COMMENT( CommentAction.IDENTIFIER ),
+    TIMEOUT( TimeoutAction.IDENTIFIER ),
+    SAVE_SESSION( SaveSessionAction.IDENTIFIER ),
+    RESTORE_SESSION( RestoreSessionAction.IDENTIFIER ),
+    CACHEABLE( CacheableAction.IDENTIFIER );
+
+    private static final ActionType[] VALUES = values();
+
+    private static final Map< String, ActionType > IDENTIFIERS = new HashMap<>();
+
+    static {
+        for( ActionType type : VALUES ) {
+            IDENTIFIERS.put( type.identifier, type );
+        }
+    }
+
+    private final String identifier;
+
+    ActionType( String identifier ) {
+        this.identifier = identifier;
+    }
+
+    public String getIdentifier() {
+        return this.identifier;
+    }
+
+    /**
+     * Returns the ActionType for the identifier used in test-files.
+     *
+     * @param identifier Identifier of the Action as written in the test-file.
+     * @return The corresponding ActionType or an empty Optional if the identifier is unknown.
+     */
+    public static Optional< ActionType > getType( String identifier ) {
+        return Optional.ofNullable( IDENTIFIERS.get( identifier ) );
+    }
+
+    /**
+     * Returns the ActionType for the given opcode.
+     *
+     * @param opcode Ordinal of the ActionType.
+     * @return The corresponding ActionType.
+     * @throws IllegalArgumentException if there is no ActionType for the opcode.
+     */
+    public static ActionType getType( int opcode ) {
+        if( opcode < 0 || opcode >= VALUES.length ) {
+            throw new IllegalArgumentException( String.format( "Unknown action opcode %d.", opcode ) );
+        }
+
+        return VALUES[ opcode ];
+    }
+}
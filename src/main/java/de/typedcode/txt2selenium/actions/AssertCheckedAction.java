@@ -58,11 +58,11 @@ public class AssertCheckedAction extends AAction {
 
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
+        UnitLogger.logInfo( this::getCommand );
         Optional<WebElement> optionalSelectedElement = WebUtil.getInstance().getSelectedElement();
 
         if( optionalSelectedElement.isEmpty() ) {
-            UnitLogger.logSevere( "Error: No Element selected to check for selection status." );
+            fail( "Error: No Element selected to check for selection status." );
             return;
         }
 
@@ -72,11 +72,11 @@ public class AssertCheckedAction extends AAction {
             Boolean actualState = selectedElement.isSelected();
 
             if( actualState != this.expectedState ) {
-                UnitLogger.logSevere( String.format( "Evaluation Error. Element '%s' is %s but should be %s", selectedElement.toString(), actualState, this.expectedState ) ) ;
+                fail( String.format( "Evaluation Error. Element '%s' is %s but should be %s", selectedElement.toString(), actualState, this.expectedState ) ) ;
             }
         }
         catch( UnsupportedOperationException e ) {
-            UnitLogger.logSevere( String.format( "Execution Error. Selected Element '%s' can not be evaluated for checked status.", selectedElement.toString() ) );
+            fail( String.format( "Execution Error. Selected Element '%s' can not be evaluated for checked status.", selectedElement.toString() ) );
         }
     }
 
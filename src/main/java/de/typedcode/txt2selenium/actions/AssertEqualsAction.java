@@ -29,6 +29,7 @@ import de.typedcode.txt2selenium.executionContext.TestScenario;
 import de.typedcode.txt2selenium.util.UnitLogger;
 import de.typedcode.txt2selenium.util.WebUtil;
 import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import de.typedcode.txt2selenium.util.repositories.ReadVariableRepository;
 
 import java.util.Optional;
 
@@ -40,20 +41,30 @@ public class AssertEqualsAction extends AAction {
     private final String actualIdentifier;
     private final boolean evaluationIndicator;
 
+    /**
+     * Compare string of <code>expectedIdentifier</code>, resolved when the action is created.
+     */
+    private final String expected;
+
+    /**
+     * Slot of <code>actualIdentifier</code> in the {@link ReadVariableRepository}.
+     */
+    private final int actualSlot;
+
     /**
      * Creating the AssertEqualsAction. To run the AssertEqualsAction the {@link ReadAction} has
      * to be performed before.
      *
      * @param scenario Scenario in which this Action will run.
      * @param parameters List of parameters for the action. Has to contain two space-seperated parameters.
+     * @throws ActionInitiationException if the parameters are invalid or the expectedIdentifier is no compare string
+     *             of the scenario.
      */
      AssertEqualsAction( TestScenario scenario, String parameters ) {
         super( scenario );
 
         String[] params = parameters.split( " " );
 
-
-
         if( params.length == 2 ) {
             this.evaluationIndicator = true;
             this.expectedIdentifier = params[ 0 ];
@@ -68,34 +79,37 @@ public class AssertEqualsAction extends AAction {
             throw new ActionInitiationException( "Could not create 'AssertEqualsAction'. Wrong number of parameters. Use 'assertEquals expectedIdentifier actualIdentifier'." );
         }
 
-
+        this.expected = CompareStringRepository.getInstance().getCompareString( scenario, this.expectedIdentifier )
+                .orElseThrow( () -> new ActionInitiationException( String.format( "Could not create 'AssertEqualsAction'. Could not find expectedIdentifier '%s'.", this.expectedIdentifier ) ) );
+        this.actualSlot = ReadVariableRepository.getInstance().getSlot( this.actualIdentifier );
     }
 
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
-
-        Optional<String> optionalExpected = CompareStringRepository.getInstance().getCompareString( this.testScenario, this.expectedIdentifier );
-        Optional<String> optionalActual = WebUtil.getInstance().getReadVar( this.actualIdentifier );
+        UnitLogger.logInfo( this::getCommand );
 
-        if( optionalExpected.isEmpty() ) {
-            UnitLogger.logSevere(String.format("Execution Error. Could not find expectedIdentifier '%s'.", this.expectedIdentifier));
-            return;
-        }
+        Optional<String> optionalActual = WebUtil.getInstance().getReadVar( this.actualSlot );
 
         if( optionalActual.isEmpty() ) {
-            UnitLogger.logSevere( String.format( "Execution Error. Could not find actualIdentifier '%s'.", this.actualIdentifier ) );
+            fail( String.format( "Execution Error. Could not find actualIdentifier '%s'.", this.actualIdentifier ) );
             return;
         }
 
-        String expected = optionalExpected.get();
         String actual = optionalActual.get();
 
-        if( ( !actual.equals( expected ) && this.evaluationIndicator ) || ( actual.equals( expected ) && !this.evaluationIndicator ) ) {
-            UnitLogger.logSevere( String.format( "Execution Error. Parameters did not match. Expected (%s): %s / Actual (%s): %s", this.expectedIdentifier, expected, this.actualIdentifier, actual ) );
+        if( ( !actual.equals( this.expected ) && this.evaluationIndicator ) || ( actual.equals( this.expected ) && !this.evaluationIndicator ) ) {
+            fail( String.format( "Execution Error. Parameters did not match. Expected (%s): %s / Actual (%s): %s", this.expectedIdentifier, this.expected, this.actualIdentifier, actual ) );
         }
     }
 
+    public String getExpectedIdentifier() {
+        return this.expectedIdentifier;
+    }
+
+    public String getActualIdentifier() {
+        return this.actualIdentifier;
+    }
+
     @Override
     public String getCommand() {
         return String.format( "%s %s %s %s", IDENTIFIER, this.evaluationIndicator, this.expectedIdentifier, this.actualIdentifier );
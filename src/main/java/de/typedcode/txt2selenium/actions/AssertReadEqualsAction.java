@@ -28,7 +28,7 @@ import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
 import de.typedcode.txt2selenium.util.UnitLogger;
 import de.typedcode.txt2selenium.util.WebUtil;
-import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import de.typedcode.txt2selenium.util.repositories.ReadVariableRepository;
 
 import java.util.Optional;
 
@@ -40,6 +40,12 @@ public class AssertReadEqualsAction extends AAction {
     private final String actualIdentifier;
     private final boolean evaluationIndicator;
 
+    /**
+     * Slots of the identifiers in the {@link ReadVariableRepository}.
+     */
+    private final int expectedSlot;
+    private final int actualSlot;
+
     /**
      * Creating the AssertReadEqualsAction. To run the AssertReadEqualsAction the {@link ReadAction} has
      * to be performed before.
@@ -52,8 +58,6 @@ public class AssertReadEqualsAction extends AAction {
 
         String[] params = parameters.split( " " );
 
-
-
         if( params.length == 2 ) {
             this.evaluationIndicator = true;
             this.expectedIdentifier = params[ 0 ];
@@ -68,23 +72,24 @@ public class AssertReadEqualsAction extends AAction {
             throw new ActionInitiationException( "Could not create 'AssertReadEqualsAction'. Wrong number of parameters. Use 'assertReadEquals expectedIdentifier actualIdentifier'." );
         }
 
-
+        this.expectedSlot = ReadVariableRepository.getInstance().getSlot( this.expectedIdentifier );
+        this.actualSlot = ReadVariableRepository.getInstance().getSlot( this.actualIdentifier );
     }
 
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
+        UnitLogger.logInfo( this::getCommand );
 
-        Optional<String> optionalExpected = WebUtil.getInstance().getReadVar( this.expectedIdentifier );
-        Optional<String> optionalActual = WebUtil.getInstance().getReadVar( this.actualIdentifier );
+        Optional<String> optionalExpected = WebUtil.getInstance().getReadVar( this.expectedSlot );
+        Optional<String> optionalActual = WebUtil.getInstance().getReadVar( this.actualSlot );
 
         if( optionalExpected.isEmpty() ) {
-            UnitLogger.logSevere(String.format("Execution Error. Could not find expectedIdentifier '%s'.", this.expectedIdentifier));
+            fail( String.format( "Execution Error. Could not find expectedIdentifier '%s'.", this.expectedIdentifier ) );
             return;
         }
 
         if( optionalActual.isEmpty() ) {
-            UnitLogger.logSevere( String.format( "Execution Error. Could not find actualIdentifier '%s'.", this.actualIdentifier ) );
+            fail( String.format( "Execution Error. Could not find actualIdentifier '%s'.", this.actualIdentifier ) );
             return;
         }
 
@@ -92,10 +97,18 @@ public class AssertReadEqualsAction extends AAction {
         String actual = optionalActual.get();
 
         if( ( !actual.equals( expected ) && this.evaluationIndicator ) || ( actual.equals( expected ) && !this.evaluationIndicator ) ) {
-            UnitLogger.logSevere( String.format( "Execution Error. Parameters did not match. Expected (%s): %s / Actual (%s): %s", this.expectedIdentifier, expected, this.actualIdentifier, actual ) );
+            fail( String.format( "Execution Error. Parameters did not match. Expected (%s): %s / Actual (%s): %s", this.expectedIdentifier, expected, this.actualIdentifier, actual ) );
         }
     }
 
+    public String getExpectedIdentifier() {
+        return this.expectedIdentifier;
+    }
+
+    public String getActualIdentifier() {
+        return this.actualIdentifier;
+    }
+
     @Override
     public String getCommand() {
         return String.format( "%s %s %s %s", IDENTIFIER, this.evaluationIndicator, this.expectedIdentifier, this.actualIdentifier );
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.actions;
+
+import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+
+/**
+ * Marks a method as cacheable. Only allowed as the first line of a method-file.
+ *
+ * The first call of a cacheable method from a given state runs its actions and keeps the resulting state, see
+ * {@link de.typedcode.txt2selenium.util.BrowserState}. Following calls from the same state restore the kept state
+ * instead of running the actions again. Only methods that always end in the same state for the same starting
+ * state should be cacheable.
+ *
+ * Usage: cacheable
+ */
+public class CacheableAction extends AAction {
+
+    public static final String IDENTIFIER = "cacheable";
+
+    CacheableAction( TestScenario scenario, String parameters ) {
+        super( scenario );
+
+        if( !parameters.trim().isEmpty() ) {
+            throw new ActionInitiationException( String.format( "Could not create 'CacheableAction'. Unexpected parameters '%s'. Use 'cacheable'.", parameters.trim() ) );
+        }
+    }
+
+    /**
+     * The directive is evaluated by the {@link MethodAction} calling the method.
+     */
+    @Override
+    public void execute() {
+    }
+
+    @Override
+    public String getCommand() {
+        return IDENTIFIER;
+    }
+}
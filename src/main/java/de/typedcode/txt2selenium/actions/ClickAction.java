@@ -46,7 +46,7 @@ public class ClickAction extends AAction {
     @Override
     public void execute() {
         try {
-            UnitLogger.logInfo( getCommand() );
+            UnitLogger.logInfo( this::getCommand );
             WebUtil.getInstance().click();
         } catch( NullPointerException e ) {
             throw new ActionExecutionException( "Error execution ClickAction. No element was selected." );
@@ -44,7 +44,7 @@ public class CommentAction extends AAction {
 
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
+        UnitLogger.logInfo( this::getCommand );
     }
 
     @Override
@@ -25,10 +25,14 @@
 package de.typedcode.txt2selenium.actions;
 
 import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
+import de.typedcode.txt2selenium.executionContext.FailurePolicy;
 import de.typedcode.txt2selenium.executionContext.Method;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.BrowserState;
 import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.WebUtil;
 import de.typedcode.txt2selenium.util.repositories.MethodRepository;
+import de.typedcode.txt2selenium.util.repositories.MethodResultRepository;
 
 import java.util.Optional;
 
@@ -63,13 +67,41 @@ public class MethodAction extends AAction {
     }
 
     /**
-     * Opens the given URL in the current state of the
-     * {@see de.typedcode.txt2Selenium.util.WebUtil}.
+     * Runs the method. A {@link Method#isCacheable() cacheable} method that was called from the same state before
+     * is not run, the state it ended in is restored instead.
      */
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
+        UnitLogger.logInfo( this::getCommand );
+
+        if( !this.method.isCacheable() ) {
+            this.method.execute();
+            return;
+        }
+
+        MethodResultRepository results = MethodResultRepository.getInstance();
+        WebUtil webUtil = WebUtil.getInstance();
+        BrowserState input = webUtil.getState();
+        Optional< BrowserState > result = results.getResult( this.method, input );
+
+        if( result.isPresent() ) {
+            UnitLogger.logInfo( () -> String.format( "Restoring cached result of Method: %s", this.method.getName() ) );
+            webUtil.restoreState( result.get() );
+            return;
+        }
+
+        int failures = FailurePolicy.getInstance().getFailureCount();
+
         this.method.execute();
+
+        // States after a failure are not reused. A failure of a parallel test only prevents caching this once.
+        if( FailurePolicy.getInstance().getFailureCount() == failures ) {
+            results.putResult( this.method, input, webUtil.getState() );
+        }
+    }
+
+    public Method getMethod() {
+        return this.method;
     }
 
     @Override
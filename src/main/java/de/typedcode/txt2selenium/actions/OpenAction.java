@@ -58,7 +58,7 @@ public class OpenAction extends AAction {
      */
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
+        UnitLogger.logInfo( this::getCommand );
 
         WebUtil.getInstance().openUrl( url );
     }
@@ -28,6 +28,7 @@ import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
 import de.typedcode.txt2selenium.util.UnitLogger;
 import de.typedcode.txt2selenium.util.WebUtil;
+import de.typedcode.txt2selenium.util.repositories.ReadVariableRepository;
 
 /**
  * Action to read Text from previously selected Elements.
@@ -44,6 +45,11 @@ public class ReadAction extends AAction {
 
     private String readToName;
 
+    /**
+     * Slot of <code>readToName</code> in the {@link ReadVariableRepository}.
+     */
+    private final int readToSlot;
+
     ReadAction( TestScenario testScenario, String readToVar ) {
         super( testScenario );
 
@@ -55,15 +61,23 @@ public class ReadAction extends AAction {
         }
 
         this.readToName = varName;
+        this.readToSlot = ReadVariableRepository.getInstance().getSlot( varName );
     }
 
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
+        UnitLogger.logInfo( this::getCommand );
+
+        String text = WebUtil.getInstance().readText( this.readToSlot );
 
-        String text = WebUtil.getInstance().readText( this.readToName );
+        UnitLogger.logFine( () -> String.format( "%s = %s", this.readToName, text ) );
+    }
 
-        UnitLogger.logFine( String.format( "%s = %s", this.readToName, text ) );
+    /**
+     * @return Name of the variable the text is read to.
+     */
+    public String getReadToName() {
+        return this.readToName;
     }
 
     @Override
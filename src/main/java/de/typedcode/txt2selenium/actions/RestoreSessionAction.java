@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.actions;
+
+import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
+import de.typedcode.txt2selenium.executionContext.FailurePolicy;
+import de.typedcode.txt2selenium.executionContext.Method;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.SessionSnapshot;
+import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.WebUtil;
+import de.typedcode.txt2selenium.util.repositories.SessionRepository;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Continues a session saved by {@link SaveSessionAction}: the cookies are restored, the saved URL is opened and
+ * its local storage is restored.
+ *
+ * If a method is given and the session was not saved yet, the method is run instead and the session is saved
+ * afterwards, unless the method failed. A test starting with <code>restoreSession admin login</code> instead of
+ * <code>method login</code> logs in once per run, every other test continues the saved session.
+ *
+ * Usage: restoreSession name [methodName]
+ */
+public class RestoreSessionAction extends AAction {
+
+    public static final String IDENTIFIER = "restoreSession";
+
+    private static final String USAGE = "Use 'restoreSession name' or 'restoreSession name methodName'.";
+
+    private final String name;
+
+    /**
+     * Creates the session if it was not saved yet. May be null.
+     */
+    private final MethodAction creator;
+
+    RestoreSessionAction( TestScenario scenario, String parameters ) {
+        super( scenario );
+
+        String[] params = parameters.trim().split( "\\s+" );
+
+        if( params.length > 2 || !SessionRepository.isValidName( params[ 0 ] ) ) {
+            throw new ActionInitiationException( String.format( "Could not create 'RestoreSessionAction'. '%s' are no valid parameters. %s", parameters.trim(), USAGE ) );
+        }
+
+        this.name = params[ 0 ];
+        this.creator = params.length == 2 ? new MethodAction( scenario, params[ 1 ] ) : null;
+    }
+
+    @Override
+    public void execute() {
+        UnitLogger.logInfo( this::getCommand );
+
+        SessionRepository repository = SessionRepository.getInstance();
+
+        if( this.creator == null ) {
+            Optional< SessionSnapshot > session = repository.getSession( this.name );
+
+            if( session.isEmpty() ) {
+                fail( String.format( "Execution Error. Session '%s' was not saved.", this.name ) );
+                return;
+            }
+
+            WebUtil.getInstance().restoreSession( session.get() );
+            return;
+        }
+
+        AtomicBoolean created = new AtomicBoolean();
+
+        Optional< SessionSnapshot > session = repository.getSession( this.name, () -> {
+            int failures = FailurePolicy.getInstance().getFailureCount();
+
+            this.creator.execute();
+            created.set( true );
+
+            // A session created despite a failure is not reused. A failure of a parallel test only prevents saving it this once.
+            if( FailurePolicy.getInstance().getFailureCount() != failures ) {
+                return Optional.empty();
+            }
+
+            return Optional.of( WebUtil.getInstance().getSession() );
+        } );
+
+        // The driver that created the session is in it already
+        if( !created.get() ) {
+            session.ifPresent( WebUtil.getInstance()::restoreSession );
+        }
+    }
+
+    /**
+     * @return Name of the restored session.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return Method creating the session if it was not saved yet.
+     */
+    public Optional< Method > getMethod() {
+        return Optional.ofNullable( this.creator ).map( MethodAction::getMethod );
+    }
+
+    @Override
+    public String getCommand() {
+        return this.creator != null
+                ? String.format( "%s %s %s", IDENTIFIER, this.name, this.creator.getMethod().getName() )
+                : String.format( "%s %s", IDENTIFIER, this.name );
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.actions;
+
+import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.WebUtil;
+import de.typedcode.txt2selenium.util.repositories.SessionRepository;
+
+/**
+ * Saves the cookies, the local storage and the URL of the current page under the given name, so following tests
+ * can continue the session with {@link RestoreSessionAction}.
+ *
+ * Usage: saveSession name
+ */
+public class SaveSessionAction extends AAction {
+
+    public static final String IDENTIFIER = "saveSession";
+
+    private final String name;
+
+    SaveSessionAction( TestScenario scenario, String name ) {
+        super( scenario );
+
+        String trimName = name.trim();
+
+        if( !SessionRepository.isValidName( trimName ) ) {
+            throw new ActionInitiationException( String.format( "Could not create 'SaveSessionAction'. '%s' is no valid session name. Use 'saveSession name' with letters, digits, '_' and '-' only.", trimName ) );
+        }
+
+        this.name = trimName;
+    }
+
+    @Override
+    public void execute() {
+        UnitLogger.logInfo( this::getCommand );
+        SessionRepository.getInstance().putSession( this.name, WebUtil.getInstance().getSession() );
+    }
+
+    @Override
+    public String getCommand() {
+        return String.format( "%s %s", IDENTIFIER, this.name );
+    }
+}
@@ -59,7 +59,7 @@ public class ScreenshotAction extends AAction {
 
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
+        UnitLogger.logInfo( this::getCommand );
 
         String source = WebUtil.getInstance().getPageSource();
 
@@ -84,7 +84,7 @@ public class ScreenshotAction extends AAction {
             Optional<Path> mainDirectory = Configuration.getInstance().getMainDirectory();
 
             if( mainDirectory.isEmpty() ) {
-                UnitLogger.logSevere( "ERROR: Configuration has no Main-Directory set. Saving Screenshot aborted." );
+                fail( "ERROR: Configuration has no Main-Directory set. Saving Screenshot aborted." );
                 return;
             }
 
@@ -26,8 +26,8 @@ package de.typedcode.txt2selenium.actions;
 
 import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
-import de.typedcode.txt2selenium.util.ByInitializer;
 import de.typedcode.txt2selenium.util.ByType;
+import de.typedcode.txt2selenium.util.SelectorCache;
 import de.typedcode.txt2selenium.util.UnitLogger;
 import de.typedcode.txt2selenium.util.WebUtil;
 import org.openqa.selenium.By;
@@ -59,18 +59,18 @@ public class SelectAction extends AAction {
         this.paramBy = parameters[ 0 ];
         this.paramValue = parameters[ 1 ];
 
-        this.by = ByInitializer.initialize( ByType.getType( this.paramBy ), this.paramValue );
+        this.by = SelectorCache.getInstance().get( ByType.getType( this.paramBy ), this.paramValue );
     }
 
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
+        UnitLogger.logInfo( this::getCommand );
 
         try {
             WebUtil.getInstance().select( this.by );
         }
         catch( NoSuchElementException e ) {
-            UnitLogger.logSevere( String.format( "No Element found that could be identified by: %s", this.by.toString() ) );
+            fail( String.format( "No Element found that could be identified by: %s", this.by.toString() ) );
         }
     }
 
@@ -58,7 +58,7 @@ public class SendSpecialKeyAction extends AAction {
     @Override
     public void execute() {
         try {
-            UnitLogger.logInfo( getCommand() );
+            UnitLogger.logInfo( this::getCommand );
             WebUtil.getInstance().sendSpecialKey( this.key );
         } catch( NullPointerException e ) {
             throw new ActionExecutionException( "Error executing SendSpecialKeyAction. No element was selected." );
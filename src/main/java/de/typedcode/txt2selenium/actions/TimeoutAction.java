@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.actions;
+
+import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.WebUtil;
+
+/**
+ * Action to set the time the following actions of the test wait for elements.
+ *
+ * Usage: timeout milliseconds
+ *
+ * select waits until the element appears, click until the selected element is displayed and enabled and read until
+ * it is displayed. 0 disables waiting.
+ */
+public class TimeoutAction extends AAction {
+
+    public static final String IDENTIFIER = "timeout";
+
+    private final long timeout;
+
+    TimeoutAction( TestScenario scenario, String parameters ) {
+        super( scenario );
+
+        try {
+            this.timeout = Long.parseLong( parameters.trim() );
+        }
+        catch( NumberFormatException e ) {
+            throw new ActionInitiationException( String.format( "Could not create 'TimeoutAction'. '%s' is no number. Use 'timeout milliseconds'.", parameters ) );
+        }
+
+        if( this.timeout < 0 ) {
+            throw new ActionInitiationException( String.format( "Could not create 'TimeoutAction'. Timeout must not be negative but was %d.", this.timeout ) );
+        }
+    }
+
+    @Override
+    public void execute() {
+        UnitLogger.logInfo( this::getCommand );
+        WebUtil.getInstance().setWaitTimeout( this.timeout );
+    }
+
+    @Override
+    public String getCommand() {
+        return String.format( "%s %d", IDENTIFIER, this.timeout );
+    }
+}
@@ -53,12 +53,12 @@ public class TypeAction extends AAction {
 
     @Override
     public void execute() {
-        UnitLogger.logInfo( getCommand() );
+        UnitLogger.logInfo( this::getCommand );
 
         Optional<WebElement> optionalSelectedElement = WebUtil.getInstance().getSelectedElement();
 
         if( optionalSelectedElement.isEmpty() ) {
-            UnitLogger.logSevere("Coulnd not Type text. No Element selected yet." );
+            fail( "Coulnd not Type text. No Element selected yet." );
             return;
         }
 
@@ -74,7 +74,7 @@ public class TypeAction extends AAction {
             selectedElement.sendKeys( this.textToType );
         } else {
             // No suitable Element to input text
-            UnitLogger.logSevere("Selected element is no Text element to type text to." );
+            fail( "Selected element is no Text element to type text to." );
         }
 
     }
@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.exceptions;
+
+import de.typedcode.txt2selenium.util.FailureMode;
+import de.typedcode.txt2selenium.util.UnitLogger;
+
+public class ExecutionAbortedException extends RuntimeException {
+    private static final long serialVersionUID = -4163925503811732215L;
+
+    /**
+     * How far the abort reaches.
+     */
+    private final FailureMode mode;
+
+    /**
+     * Exception will be thrown by an Action after a failure that stops the running test.
+     *
+     * The failure itself has been logged already, this will only log the given message as information to the
+     * UnitLogger.
+     *
+     * @param message
+     *            Message to define why the test stops.
+     * @param mode
+     *            Mode defining if the scenario or the whole run is aborted as well.
+     */
+    public ExecutionAbortedException( String message, FailureMode mode ) {
+        super( message );
+        this.mode = mode;
+
+        UnitLogger.logInfo( message );
+    }
+
+    public FailureMode getMode() {
+        return this.mode;
+    }
+}
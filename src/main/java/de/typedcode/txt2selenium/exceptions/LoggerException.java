@@ -33,4 +33,14 @@ public class LoggerException extends RuntimeException {
     public LoggerException() {
         super( "Could not instantiate Logging" );
     }
+
+    /**
+     * Exception to throw when a log output could not be opened.
+     *
+     * @param message Message describing the failed output.
+     * @param cause The Exception that caused the failure.
+     */
+    public LoggerException( String message, Throwable cause ) {
+        super( message, cause );
+    }
 }
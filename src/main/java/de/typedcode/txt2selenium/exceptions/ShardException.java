@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.exceptions;
+
+import de.typedcode.txt2selenium.util.UnitLogger;
+
+public class ShardException extends RuntimeException {
+    private static final long serialVersionUID = -4417626011815237093L;
+
+    /**
+     * Exception to report when a worker process exited before a test finished.
+     *
+     * Will automatically log the given message to the UnitLogger.
+     *
+     * @param message
+     *            Message to define what went wrong.
+     */
+    public ShardException( String message ) {
+        super( message );
+
+        UnitLogger.logSevere( message );
+    }
+
+    /**
+     * Exception to throw when the coordinator and its worker processes could not communicate.
+     *
+     * Will automatically log the given message and Throwable to the UnitLogger.
+     *
+     * @param message
+     *            Message to define what went wrong.
+     * @param throwable
+     *            Throwable to log
+     */
+    public ShardException( String message, Throwable throwable ) {
+        super( message, throwable );
+
+        UnitLogger.logSevere( message, throwable );
+    }
+}
@@ -37,6 +37,8 @@ public abstract class ExecutionContext {
     final TestScenario testScenario;
 
     /**
+     * Subclasses have to call {@link #processPath()} at the end of their constructor, after their own state
+     * is set up.
      *
      * @param path path can be a folder or a test-file.
      * @param testScenario Scenario where the Execution-Context is located.
@@ -45,8 +47,6 @@ public abstract class ExecutionContext {
         this.path = path;
         this.testScenario = testScenario;
         this.name = processName();
-
-        processPath();
     }
 
     /**
@@ -69,7 +69,7 @@ public abstract class ExecutionContext {
     public abstract void execute();
 
     /**
-     * Does everything there is to do with the given path. Will be triggered by the Constructor.
+     * Does everything there is to do with the given path. Will be triggered by the Constructor of the subclass.
      */
     abstract void processPath();
 
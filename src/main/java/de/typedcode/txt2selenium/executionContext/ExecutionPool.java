@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.executionContext;
+
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.WebUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Runs ExecutionContexts either sequentially or, if more than one thread is configured, on a pool of
+ * worker threads. Every worker thread has its own {@link WebUtil} so tests running concurrently do not
+ * share the driver, the selected element or read variables.
+ */
+public class ExecutionPool {
+
+    private ExecutionPool() {
+        //Do not instantiate
+    }
+
+    /**
+     * Executes the given ExecutionContext with the number of threads set in the {@link Configuration}.
+     * Returns after every Test within the context has been executed. If configured, the tests of a scenario are
+     * executed longest first, see {@link #executeLongestFirst(TestScenario, int)}.
+     *
+     * @param context ExecutionContext to execute.
+     */
+    public static void execute( ExecutionContext context ) {
+        int threadCount = Configuration.getInstance().getThreadCount();
+
+        if( threadCount <= 1 ) {
+            context.execute();
+            return;
+        }
+
+        if( Configuration.getInstance().isLongestFirst() && context instanceof TestScenario ) {
+            executeLongestFirst( ( TestScenario ) context, threadCount );
+            return;
+        }
+
+        ForkJoinPool pool = createPool( threadCount );
+
+        try {
+            pool.invoke( ForkJoinTask.adapt( context::execute ) );
+        }
+        finally {
+            pool.shutdown();
+            awaitTermination( pool );
+        }
+    }
+
+    /**
+     * Executes the given ExecutionContexts with the number of threads set in the {@link Configuration}.
+     * Returns after every Test within the contexts has been executed.
+     *
+     * @param contexts ExecutionContexts to execute.
+     */
+    public static void execute( List< ? extends ExecutionContext > contexts ) {
+        executeTasks( contexts.stream().map( o -> ( Runnable ) o::execute ).collect( Collectors.toList() ) );
+    }
+
+    /**
+     * Executes the given ExecutionContexts like {@link #execute(List)}, but an exception thrown by a context does not
+     * stop the others. It is passed to the handler on the thread that executed the context.
+     *
+     * @param contexts ExecutionContexts to execute.
+     * @param handler Handles the exception thrown by a context.
+     */
+    public static < T extends ExecutionContext > void execute( List< T > contexts, BiConsumer< ? super T, RuntimeException > handler ) {
+        executeTasks( contexts.stream().map( o -> ( Runnable ) () -> {
+            try {
+                o.execute();
+            }
+            catch( RuntimeException e ) {
+                handler.accept( o, e );
+            }
+        } ).collect( Collectors.toList() ) );
+    }
+
+    private static void executeTasks( List< Runnable > tasks ) {
+        int threadCount = Configuration.getInstance().getThreadCount();
+
+        if( threadCount <= 1 ) {
+            tasks.forEach( Runnable::run );
+            return;
+        }
+
+        ForkJoinPool pool = createPool( threadCount );
+
+        try {
+            pool.invoke( ForkJoinTask.adapt( () -> invokeAll( tasks ) ) );
+        }
+        finally {
+            pool.shutdown();
+            awaitTermination( pool );
+        }
+    }
+
+    /**
+     * Executes the given ExecutionContexts. If called from within a worker thread the contexts are executed
+     * concurrently, otherwise one after another in the given order.
+     *
+     * @param contexts ExecutionContexts to execute.
+     */
+    static void executeAll( List< ? extends ExecutionContext > contexts ) {
+        if( !( Thread.currentThread() instanceof Worker ) || contexts.size() < 2 ) {
+            contexts.forEach( ExecutionContext::execute );
+            return;
+        }
+
+        invokeAll( contexts.stream().map( o -> ( Runnable ) o::execute ).collect( Collectors.toList() ) );
+    }
+
+    private static void invokeAll( List< Runnable > tasks ) {
+        ForkJoinTask.invokeAll( tasks.stream().map( ForkJoinTask::adapt ).collect( Collectors.toList() ) );
+    }
+
+    /**
+     * Executes the tests of the scenario tree ordered by {@link TestTimings#sortLongestFirst(List)}. Every thread
+     * takes the next test as soon as its last test finished, so the longest tests do not end up last. Scenarios
+     * are not logged or measured on their own. If a test throws, no further tests are started and the first
+     * exception is rethrown once every thread has finished its current test.
+     */
+    private static void executeLongestFirst( TestScenario scenario, int threadCount ) {
+        List< Test > tests = new ArrayList<>();
+        scenario.collectExecutedTests( tests );
+        TestTimings.getInstance().sortLongestFirst( tests );
+
+        Queue< Test > pending = new ConcurrentLinkedQueue<>( tests );
+        AtomicReference< RuntimeException > failure = new AtomicReference<>();
+        ForkJoinPool pool = createPool( threadCount );
+
+        try {
+            List< ForkJoinTask< ? > > tasks = new ArrayList<>();
+
+            for( int i = 0; i < threadCount; i++ ) {
+                tasks.add( pool.submit( () -> {
+                    for( Test test = pending.poll(); test != null && !FailurePolicy.getInstance().isRunAborted(); test = pending.poll() ) {
+                        try {
+                            test.execute();
+                        }
+                        catch( RuntimeException e ) {
+                            // The other threads finish their current test and stop as well
+                            pending.clear();
+                            failure.compareAndSet( null, e );
+                        }
+                    }
+                } ) );
+            }
+
+            tasks.forEach( ForkJoinTask::join );
+        }
+        finally {
+            pool.shutdown();
+            awaitTermination( pool );
+        }
+
+        if( failure.get() != null ) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Creates a pool of at most <code>threadCount</code> workers. A worker waiting for the tests of its scenario
+     * executes pending tests itself instead of being compensated by an additional worker, as every worker binds a
+     * driver of its own.
+     */
+    private static ForkJoinPool createPool( int threadCount ) {
+        return new ForkJoinPool( threadCount, Worker::new, null, false, 0, threadCount, 1, o -> true, 60, TimeUnit.SECONDS );
+    }
+
+    private static void awaitTermination( ForkJoinPool pool ) {
+        try {
+            // Workers quit their drivers on termination
+            pool.awaitTermination( 1, TimeUnit.MINUTES );
+        }
+        catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Worker thread owning its own WebUtil for its whole lifetime.
+     */
+    private static class Worker extends ForkJoinWorkerThread {
+
+        Worker( ForkJoinPool pool ) {
+            super( pool );
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            WebUtil.bindWorkerInstance();
+        }
+
+        @Override
+        protected void onTermination( Throwable exception ) {
+            WebUtil.releaseWorkerInstance();
+            super.onTermination( exception );
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.executionContext;
+
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.FailureMode;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the failures of a run and decides, based on the {@link FailureMode} and the maximum number of failures
+ * set in the {@link Configuration}, how the execution continues. Remembers aborted scenarios and an aborted run so
+ * the remaining tests are skipped.
+ */
+public class FailurePolicy {
+
+    private static FailurePolicy instance;
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final Set< TestScenario > abortedScenarios = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean runAborted;
+
+    private FailurePolicy() {
+        //Do not instantiate
+    }
+
+    public static synchronized FailurePolicy getInstance() {
+        if( instance == null ) {
+            instance = new FailurePolicy();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Counts a failure of the running test.
+     *
+     * @return How the execution continues, see {@link #recordFailures(int)}.
+     */
+    public FailureMode recordFailure() {
+        return recordFailures( 1 );
+    }
+
+    /**
+     * Counts failures of a test, e.g. of a test executed by a worker process. If the maximum number of failures is
+     * reached the run is aborted. With {@link FailureMode#ABORT_RUN} the maximum is at least 1.
+     *
+     * @param count Number of failures.
+     * @return {@link FailureMode#ABORT_RUN} if the run is aborted, {@link FailureMode#CONTINUE} if the test
+     * continues, otherwise the configured mode.
+     */
+    public FailureMode recordFailures( int count ) {
+        int total = this.failures.addAndGet( count );
+        FailureMode mode = Configuration.getInstance().getFailureMode();
+        int maxFailures = Configuration.getInstance().getMaxFailures();
+
+        if( mode == FailureMode.ABORT_RUN ) {
+            maxFailures = Math.max( maxFailures, 1 );
+        }
+
+        if( maxFailures > 0 && total >= maxFailures ) {
+            this.runAborted = true;
+            return FailureMode.ABORT_RUN;
+        }
+
+        if( mode == FailureMode.ABORT_TEST || mode == FailureMode.ABORT_SCENARIO ) {
+            return mode;
+        }
+
+        return FailureMode.CONTINUE;
+    }
+
+    /**
+     * Skips the remaining tests of the scenario of the given test if the mode aborts the scenario.
+     *
+     * @param test Test that has been aborted.
+     * @param mode Mode the test has been aborted with.
+     */
+    public void testAborted( Test test, FailureMode mode ) {
+        if( mode == FailureMode.ABORT_SCENARIO && test.getTestScenario() != null ) {
+            this.abortedScenarios.add( test.getTestScenario() );
+        }
+    }
+
+    /**
+     * @param test Test that is about to run.
+     * @return true if the test has to be skipped because the run or its scenario has been aborted.
+     */
+    public boolean isAborted( Test test ) {
+        TestScenario scenario = test.getTestScenario();
+
+        return this.runAborted || ( scenario != null && this.abortedScenarios.contains( scenario ) );
+    }
+
+    public boolean isRunAborted() {
+        return this.runAborted;
+    }
+
+    public int getFailureCount() {
+        return this.failures.get();
+    }
+
+    /**
+     * Resets the counted failures and the aborted scenarios, e.g. before the tests run again.
+     */
+    public void reset() {
+        this.failures.set( 0 );
+        this.abortedScenarios.clear();
+        this.runAborted = false;
+    }
+}
@@ -24,6 +24,9 @@
 
 package de.typedcode.txt2selenium.executionContext;
 
+import de.typedcode.txt2selenium.actions.ActionProgram;
+import de.typedcode.txt2selenium.actions.CacheableAction;
+
 import java.nio.file.Path;
 
 public class Method extends Test {
@@ -36,6 +39,38 @@ public class Method extends Test {
         super( testScenario, path);
     }
 
+    /**
+     * Methods are parsed by the {@link de.typedcode.txt2selenium.util.repositories.MethodRepository} once all methods
+     * of the scenario are known, so methods can call each other.
+     */
+    @Override
+    void processPath() {
+        //Parsed by the MethodRepository
+    }
+
+    /**
+     * The calls of a method are verified by {@link MethodCallGraph#verify(Method)} and inlined into the calling
+     * test, as the called methods might not be parsed yet.
+     */
+    @Override
+    ActionProgram compile( ActionProgram parsedProgram ) {
+        verifyCacheable( parsedProgram, 1 );
+
+        return parsedProgram;
+    }
+
+    /**
+     * @return true if the method-file starts with {@link CacheableAction#IDENTIFIER}.
+     * @throws de.typedcode.txt2selenium.exceptions.ParseException if the method-file is erroneous.
+     */
+    public boolean isCacheable() {
+        parse();
+
+        ActionProgram program = getProgram();
+
+        return !program.isEmpty() && program.get( 0 ) instanceof CacheableAction;
+    }
+
     @Override
     String getExecuteStartMessage() {
         return String.format( "Starting Method: %s", this.name);
@@ -50,4 +85,12 @@ public class Method extends Test {
     String getEmptyMessage() {
         return "Method empty";
     }
+
+    /**
+     * Methods are part of the calling test, their actions are reported with the test.
+     */
+    @Override
+    boolean isReported() {
+        return false;
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.executionContext;
+
+import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.actions.ActionProgram;
+import de.typedcode.txt2selenium.actions.MethodAction;
+import de.typedcode.txt2selenium.actions.RestoreSessionAction;
+import de.typedcode.txt2selenium.exceptions.ParseException;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Follows the {@link MethodAction}s of a parsed action program through all called methods. Methods that are reached
+ * are parsed on the way, so a cycle of method calls is reported as {@link ParseException} instead of overflowing the
+ * stack on execution.
+ */
+public final class MethodCallGraph {
+
+    private MethodCallGraph() {
+        //Do not instantiate
+    }
+
+    /**
+     * Verifies that the given method does not call itself, neither directly nor through other methods.
+     *
+     * @param method Method to verify.
+     * @throws ParseException if a called method is erroneous or the method is part of a cycle.
+     */
+    public static void verify( Method method ) {
+        method.parse();
+
+        Deque< Method > callStack = new ArrayDeque<>();
+        callStack.addLast( method );
+        visit( method.getProgram(), callStack, new HashSet<>() );
+    }
+
+    /**
+     * Verifies that no method called by the given program calls itself.
+     *
+     * @param program Parsed actions of a test or method.
+     * @throws ParseException if a called method is erroneous or part of a cycle.
+     */
+    static void verify( ActionProgram program ) {
+        visit( program, new ArrayDeque<>(), new HashSet<>() );
+    }
+
+    /**
+     * Returns the methods called by the given program, in the order of their first call. Calls within the
+     * methods are not followed.
+     *
+     * @param program Parsed actions of a test or method.
+     * @return Methods called directly by the program.
+     */
+    static Set< Method > getCallees( ActionProgram program ) {
+        Set< Method > callees = new LinkedHashSet<>();
+
+        for( AAction action : program ) {
+            getCallee( action ).ifPresent( callees::add );
+        }
+
+        return callees;
+    }
+
+    /**
+     * @param action Parsed action of a test or method.
+     * @return Method called by the action, empty if it does not call a method.
+     */
+    static Optional< Method > getCallee( AAction action ) {
+        if( action instanceof MethodAction ) {
+            return Optional.of( ( ( MethodAction ) action ).getMethod() );
+        }
+
+        if( action instanceof RestoreSessionAction ) {
+            return ( ( RestoreSessionAction ) action ).getMethod();
+        }
+
+        return Optional.empty();
+    }
+
+    private static void visit( ActionProgram program, Deque< Method > callStack, Set< Method > verified ) {
+        for( Method callee : getCallees( program ) ) {
+            if( callStack.contains( callee ) ) {
+                throw new ParseException( String.format( "Cyclic method calls in scenario '%s': %s",
+                        callee.getTestScenario().getName(), describeCycle( callStack, callee ) ) );
+            }
+
+            if( verified.contains( callee ) ) {
+                continue;
+            }
+
+            callee.parse();
+
+            callStack.addLast( callee );
+            visit( callee.getProgram(), callStack, verified );
+            callStack.removeLast();
+
+            verified.add( callee );
+        }
+    }
+
+    private static String describeCycle( Deque< Method > callStack, Method callee ) {
+        List< Method > cycle = new ArrayList<>( callStack );
+        cycle = cycle.subList( cycle.indexOf( callee ), cycle.size() );
+
+        return cycle.stream().map( Method::getName ).collect( Collectors.joining( " -> ", "", " -> " + callee.getName() ) );
+    }
+}
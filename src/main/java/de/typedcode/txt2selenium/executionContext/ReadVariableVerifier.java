@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.executionContext;
+
+import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.actions.ActionProgram;
+import de.typedcode.txt2selenium.actions.AssertEqualsAction;
+import de.typedcode.txt2selenium.actions.AssertReadEqualsAction;
+import de.typedcode.txt2selenium.actions.MethodAction;
+import de.typedcode.txt2selenium.actions.ReadAction;
+import de.typedcode.txt2selenium.actions.RestoreSessionAction;
+import de.typedcode.txt2selenium.exceptions.ParseException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Verifies that every variable compared by an assertion of a test is read before, either by the test itself or by a
+ * method it called. The read variables are reset for every test, so a misspelled variable would only fail on
+ * execution otherwise.
+ *
+ * Methods are verified as part of their calling tests, as they may compare variables read by the caller.
+ */
+final class ReadVariableVerifier {
+
+    private ReadVariableVerifier() {
+        //Do not instantiate
+    }
+
+    /**
+     * @param test Test the program was parsed from.
+     * @param program Parsed actions of the test. The called methods must be verified by {@link MethodCallGraph}.
+     * @throws ParseException if a variable is compared before it is read.
+     */
+    static void verify( Test test, ActionProgram program ) {
+        visit( test, program, new HashSet<>() );
+    }
+
+    private static void visit( ExecutionContext context, ActionProgram program, Set< String > read ) {
+        for( AAction action : program ) {
+            for( String variable : getUsedVariables( action ) ) {
+                if( !read.contains( variable ) ) {
+                    throw new ParseException( String.format( "Error Parsing file '%s'. Variable '%s' is used by '%s' before it is read.",
+                            context.getPath().toAbsolutePath(), variable, action.getCommand() ) );
+                }
+            }
+
+            if( action instanceof ReadAction ) {
+                read.add( ( ( ReadAction ) action ).getReadToName() );
+            }
+            else if( action instanceof MethodAction ) {
+                Method callee = ( ( MethodAction ) action ).getMethod();
+
+                visit( callee, callee.getProgram(), read );
+            }
+            else if( action instanceof RestoreSessionAction ) {
+                // Variables are not part of a session, they are only read if the session is created by this test
+                ( ( RestoreSessionAction ) action ).getMethod()
+                        .ifPresent( callee -> visit( callee, callee.getProgram(), new HashSet<>( read ) ) );
+            }
+        }
+    }
+
+    private static List< String > getUsedVariables( AAction action ) {
+        if( action instanceof AssertEqualsAction ) {
+            return List.of( ( ( AssertEqualsAction ) action ).getActualIdentifier() );
+        }
+
+        if( action instanceof AssertReadEqualsAction ) {
+            AssertReadEqualsAction assertion = ( AssertReadEqualsAction ) action;
+
+            return List.of( assertion.getExpectedIdentifier(), assertion.getActualIdentifier() );
+        }
+
+        return List.of();
+    }
+}
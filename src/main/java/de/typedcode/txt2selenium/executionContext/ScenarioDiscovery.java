@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.executionContext;
+
+import de.typedcode.txt2selenium.util.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the TestScenario tree on a ForkJoinPool. Sub-scenarios are discovered and test-files are parsed in
+ * parallel, the results are collected in the order of the directory listing so the tree is the same as with a
+ * sequential discovery.
+ */
+public class ScenarioDiscovery {
+
+    private ScenarioDiscovery() {
+        //Do not instantiate
+    }
+
+    /**
+     * Creates the TestScenario for the given directory including all sub-scenarios and tests.
+     *
+     * @param scenarioPath Directory of the scenario.
+     * @return The created TestScenario
+     */
+    public static TestScenario discover( Path scenarioPath ) {
+        int parallelism = Math.max( Runtime.getRuntime().availableProcessors(), Configuration.getInstance().getThreadCount() );
+        ForkJoinPool pool = new ForkJoinPool( parallelism, Worker::new, null, false );
+
+        try {
+            return pool.invoke( ForkJoinTask.adapt( () -> new TestScenario( null, scenarioPath ) ) );
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Applies the <code>mapper</code> to every path. Within a discovery the paths are processed in parallel,
+     * otherwise one after another. The result has the same order as <code>paths</code> in both cases.
+     *
+     * @param paths Paths to process.
+     * @param mapper Function to apply to each path.
+     * @param <T> Type of the result for each path.
+     * @return Results in the order of <code>paths</code>.
+     */
+    static < T > List< T > map( List< Path > paths, Function< Path, T > mapper ) {
+        if( !( Thread.currentThread() instanceof Worker ) || paths.size() < 2 ) {
+            return paths.stream().map( mapper ).collect( Collectors.toList() );
+        }
+
+        List< ForkJoinTask< T > > tasks = paths.stream()
+                .map( o -> ForkJoinTask.adapt( () -> mapper.apply( o ) ) )
+                .collect( Collectors.toList() );
+
+        ForkJoinTask.invokeAll( tasks );
+
+        return tasks.stream().map( ForkJoinTask::join ).collect( Collectors.toList() );
+    }
+
+    private static class Worker extends ForkJoinWorkerThread {
+
+        Worker( ForkJoinPool pool ) {
+            super( pool );
+        }
+    }
+}
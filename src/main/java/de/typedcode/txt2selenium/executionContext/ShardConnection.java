@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.executionContext;
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Connection between the coordinator and a worker process. Every message is one line of tab separated fields, the
+ * first field names the message. Backslashes, tabs and line breaks within a field are escaped, null is written
+ * as <code>\0</code>.
+ */
+final class ShardConnection implements Closeable {
+
+    /**
+     * Worker to coordinator: worker id and number of slots. First message of a worker.
+     */
+    static final String HELLO = "HELLO";
+
+    /**
+     * Worker to coordinator: the slot is free to run the next test.
+     */
+    static final String READY = "READY";
+
+    /**
+     * Coordinator to worker: slot and key of the test to run.
+     */
+    static final String RUN = "RUN";
+
+    /**
+     * Coordinator to worker: no tests are left for the slot.
+     */
+    static final String STOP = "STOP";
+
+    /**
+     * Worker to coordinator: fields of a {@link de.typedcode.txt2selenium.results.ResultCodec encoded} test result.
+     */
+    static final String RESULT = "RESULT";
+
+    /**
+     * Worker to coordinator: level and message of a log record.
+     */
+    static final String LOG = "LOG";
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder();
+
+    ShardConnection( Socket socket ) throws IOException {
+        this.socket = socket;
+        this.reader = new BufferedReader( new InputStreamReader( socket.getInputStream(), StandardCharsets.UTF_8 ) );
+        this.writer = new BufferedWriter( new OutputStreamWriter( socket.getOutputStream(), StandardCharsets.UTF_8 ) );
+    }
+
+    void send( String type, String... fields ) throws IOException {
+        send( type, Arrays.asList( fields ) );
+    }
+
+    /**
+     * Sends a message. Can be called from several threads, every message is sent as a whole.
+     */
+    synchronized void send( String type, List< String > fields ) throws IOException {
+        this.line.setLength( 0 );
+        this.line.append( type );
+
+        for( String field : fields ) {
+            this.line.append( '\t' );
+            escape( field, this.line );
+        }
+
+        this.line.append( '\n' );
+
+        this.writer.append( this.line );
+        this.writer.flush();
+    }
+
+    /**
+     * Waits for the next message. Must only be called by one thread.
+     *
+     * @return Type of the message followed by its fields. null if the other side closed the connection.
+     */
+    List< String > receive() throws IOException {
+        String received = this.reader.readLine();
+
+        return received != null ? split( received ) : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.socket.close();
+    }
+
+    static void escape( String field, StringBuilder target ) {
+        if( field == null ) {
+            target.append( "\\0" );
+            return;
+        }
+
+        for( int i = 0; i < field.length(); i++ ) {
+            char c = field.charAt( i );
+
+            switch( c ) {
+                case '\\':
+                    target.append( "\\\\" );
+                    break;
+                case '\t':
+                    target.append( "\\t" );
+                    break;
+                case '\n':
+                    target.append( "\\n" );
+                    break;
+                case '\r':
+                    target.append( "\\r" );
+                    break;
+                default:
+                    target.append( c );
+                    break;
+            }
+        }
+    }
+
+    static List< String > split( String received ) {
+        List< String > fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isNull = false;
+
+        for( int i = 0; i < received.length(); i++ ) {
+            char c = received.charAt( i );
+
+            if( c == '\t' ) {
+                fields.add( isNull ? null : field.toString() );
+                field.setLength( 0 );
+                isNull = false;
+            }
+            else if( c == '\\' && i + 1 < received.length() ) {
+                char escaped = received.charAt( ++i );
+
+                switch( escaped ) {
+                    case 't':
+                        field.append( '\t' );
+                        break;
+                    case 'n':
+                        field.append( '\n' );
+                        break;
+                    case 'r':
+                        field.append( '\r' );
+                        break;
+                    case '0':
+                        isNull = true;
+                        break;
+                    default:
+                        field.append( escaped );
+                        break;
+                }
+            }
+            else {
+                field.append( c );
+            }
+        }
+
+        fields.add( isNull ? null : field.toString() );
+
+        return fields;
+    }
+}
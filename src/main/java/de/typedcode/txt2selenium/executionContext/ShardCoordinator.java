@@ -0,0 +1,267 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.executionContext;
+
+import de.typedcode.txt2selenium.Txt2Selenium;
+import de.typedcode.txt2selenium.exceptions.ShardException;
+import de.typedcode.txt2selenium.results.ResultCodec;
+import de.typedcode.txt2selenium.results.ResultRecorder;
+import de.typedcode.txt2selenium.results.TestResult;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.FailureMode;
+import de.typedcode.txt2selenium.util.FileUtil;
+import de.typedcode.txt2selenium.util.UnitLogger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Runs the tests of a scenario tree on worker processes, each with its own JVM. The workers are started on this
+ * host and connect to the coordinator on a loopback socket. Every free worker slot is given the next test, so
+ * workers finishing early take over the remaining tests. If configured, the longest tests are given out first.
+ * Results and log records of the workers are passed to the {@link ResultRecorder} and the {@link UnitLogger} of the
+ * coordinator. Failures reported by the workers count for the {@link FailurePolicy} of the coordinator.
+ */
+public class ShardCoordinator {
+
+    /**
+     * Time a started worker has to connect to the coordinator.
+     */
+    private static final int CONNECT_TIMEOUT_MILLIS = 60_000;
+
+    /**
+     * Number of times a test is handed out at most. A test whose worker exits while running it is handed out again
+     * until it ran this often, e.g. after the JVM of the worker crashed.
+     */
+    private static final int MAX_RUNS = 2;
+
+    private final TestScenario rootScenario;
+    private final List< String > workerArguments;
+
+    private final Queue< Test > pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of times a test was handed out to a worker that exited while running it.
+     */
+    private final Map< Test, Integer > lostRuns = new ConcurrentHashMap<>();
+
+    /**
+     * @param rootScenario Scenario tree to execute.
+     * @param workerArguments Command line arguments passed to every worker in addition to its port and id.
+     */
+    public ShardCoordinator( TestScenario rootScenario, List< String > workerArguments ) {
+        this.rootScenario = rootScenario;
+        this.workerArguments = workerArguments;
+    }
+
+    /**
+     * Starts the number of workers set in the {@link Configuration} and returns after every test was executed or
+     * every worker exited. Tests that did not finish are recorded as erroneous, so the results cover every test.
+     *
+     * @throws ShardException if the coordinator could not listen for workers.
+     */
+    public void execute() {
+        List< Test > tests = new ArrayList<>();
+        this.rootScenario.collectExecutedTests( tests );
+
+        if( Configuration.getInstance().isLongestFirst() ) {
+            TestTimings.getInstance().sortLongestFirst( tests );
+        }
+
+        this.pending.addAll( tests );
+
+        int workerCount = Configuration.getInstance().getWorkerCount();
+
+        try( ServerSocket server = new ServerSocket( 0, workerCount, InetAddress.getLoopbackAddress() ) ) {
+            server.setSoTimeout( CONNECT_TIMEOUT_MILLIS );
+
+            UnitLogger.logInfo( String.format( "Running %d tests on %d workers", tests.size(), workerCount ) );
+
+            List< Process > processes = new ArrayList<>();
+
+            for( int i = 1; i <= workerCount; i++ ) {
+                startWorker( i, server.getLocalPort() ).ifPresent( processes::add );
+            }
+
+            List< Thread > connections = new ArrayList<>();
+
+            for( int i = 0; i < processes.size(); i++ ) {
+                Socket socket;
+
+                try {
+                    socket = server.accept();
+                }
+                catch( SocketTimeoutException e ) {
+                    UnitLogger.logSevere( String.format( "Only %d of %d workers connected", i, processes.size() ) );
+                    break;
+                }
+
+                ShardConnection connection = new ShardConnection( socket );
+                Thread thread = new Thread( () -> serve( connection ), "txt2Selenium-coordinator-" + ( i + 1 ) );
+                thread.start();
+                connections.add( thread );
+            }
+
+            for( Thread connection : connections ) {
+                connection.join();
+            }
+
+            processes.forEach( ShardCoordinator::awaitExit );
+        }
+        catch( IOException e ) {
+            throw new ShardException( "Could not communicate with the workers", e );
+        }
+        catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+
+        for( Test test = this.pending.poll(); test != null; test = this.pending.poll() ) {
+            ResultRecorder.getInstance().recordError( test, new ShardException( String.format( "%s was not run, no worker was left to run it", getKey( test ) ) ) );
+        }
+    }
+
+    /**
+     * Key of a test, shared by the coordinator and the workers.
+     */
+    static String getKey( Test test ) {
+        return FileUtil.getTestKey( test.getPath() );
+    }
+
+    private Optional< Process > startWorker( int id, int port ) {
+        List< String > command = new ArrayList<>();
+        command.add( Path.of( System.getProperty( "java.home" ), "bin", "java" ).toString() );
+        command.add( "-cp" );
+        command.add( System.getProperty( "java.class.path" ) );
+        command.add( Txt2Selenium.class.getName() );
+        command.addAll( this.workerArguments );
+        command.addAll( List.of( Txt2Selenium.WORKER_PORT_OPTION, Integer.toString( port ), Txt2Selenium.WORKER_ID_OPTION, Integer.toString( id ) ) );
+
+        try {
+            return Optional.of( new ProcessBuilder( command ).inheritIO().start() );
+        }
+        catch( IOException e ) {
+            UnitLogger.logSevere( String.format( "Could not start worker %d", id ), e );
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Answers the messages of one worker until it disconnects.
+     */
+    private void serve( ShardConnection connection ) {
+        String worker = "?";
+        Map< String, Test > running = new HashMap<>();
+
+        try( connection ) {
+            for( List< String > message = connection.receive(); message != null; message = connection.receive() ) {
+                switch( message.get( 0 ) ) {
+                    case ShardConnection.HELLO:
+                        worker = message.get( 1 );
+                        break;
+                    case ShardConnection.READY:
+                        String slot = message.get( 1 );
+                        running.remove( slot );
+
+                        Test next = this.pending.poll();
+
+                        if( next == null ) {
+                            connection.send( ShardConnection.STOP, slot );
+                        }
+                        else {
+                            running.put( slot, next );
+                            connection.send( ShardConnection.RUN, slot, getKey( next ) );
+                        }
+                        break;
+                    case ShardConnection.RESULT:
+                        TestResult result = ResultCodec.decode( message.subList( 1, message.size() ) );
+                        ResultRecorder.getInstance().recordResult( result );
+                        applyFailurePolicy( result, running.values() );
+                        break;
+                    case ShardConnection.LOG:
+                        UnitLogger.log( Level.parse( message.get( 1 ) ), String.format( "[worker %s] %s", worker, message.get( 2 ) ) );
+                        break;
+                    default:
+                        UnitLogger.logSevere( String.format( "Unknown message '%s' from worker %s", message.get( 0 ), worker ) );
+                        break;
+                }
+            }
+        }
+        catch( IOException | RuntimeException e ) {
+            UnitLogger.logSevere( String.format( "Connection to worker %s failed", worker ), e );
+        }
+
+        for( Test test : running.values() ) {
+            String message = String.format( "Worker %s exited while running %s", worker, getKey( test ) );
+
+            if( this.lostRuns.merge( test, 1, Integer::sum ) < MAX_RUNS ) {
+                UnitLogger.logSevere( message + ", the test is run again" );
+                this.pending.add( test );
+            }
+            else {
+                ResultRecorder.getInstance().recordError( test, new ShardException( message ) );
+            }
+        }
+    }
+
+    /**
+     * Counts the failures of a test executed by a worker. Tests that are skipped because the run or the scenario of
+     * the test has been aborted are not handed out anymore.
+     */
+    private void applyFailurePolicy( TestResult result, Collection< Test > running ) {
+        if( result.getFailures().isEmpty() ) {
+            return;
+        }
+
+        FailurePolicy failurePolicy = FailurePolicy.getInstance();
+        FailureMode mode = failurePolicy.recordFailures( result.getFailures().size() );
+
+        running.stream()
+                .filter( o -> o.getPath().equals( result.getPath() ) )
+                .findFirst()
+                .ifPresent( o -> failurePolicy.testAborted( o, mode ) );
+
+        this.pending.removeIf( failurePolicy::isAborted );
+    }
+
+    private static void awaitExit( Process process ) {
+        try {
+            if( !process.waitFor( 1, TimeUnit.MINUTES ) ) {
+                process.destroy();
+            }
+        }
+        catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            process.destroy();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.executionContext;
+
+import de.typedcode.txt2selenium.exceptions.ShardException;
+import de.typedcode.txt2selenium.results.ResultCodec;
+import de.typedcode.txt2selenium.results.ResultListener;
+import de.typedcode.txt2selenium.results.ResultRecorder;
+import de.typedcode.txt2selenium.results.TestResult;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.WebUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Worker process of a {@link ShardCoordinator}. Runs the tests the coordinator sends on as many slots as threads
+ * are configured, every slot with its own {@link WebUtil}. Log records and test results are sent to the
+ * coordinator instead of being written by the worker.
+ */
+public class ShardWorker implements Closeable {
+
+    /**
+     * Queued for a slot when no tests are left.
+     */
+    private static final String STOP = "";
+
+    private final ShardConnection connection;
+    private final int id;
+
+    private ShardWorker( ShardConnection connection, int id ) {
+        this.connection = connection;
+        this.id = id;
+    }
+
+    /**
+     * Connects to the coordinator and passes the log to it.
+     *
+     * @param port Port the coordinator listens on.
+     * @param id Id of the worker, used in the log of the coordinator.
+     * @return The connected worker.
+     * @throws ShardException if the coordinator could not be reached.
+     */
+    public static ShardWorker connect( int port, int id ) {
+        ShardConnection connection;
+
+        try {
+            connection = new ShardConnection( new Socket( InetAddress.getLoopbackAddress(), port ) );
+        }
+        catch( IOException e ) {
+            throw new ShardException( String.format( "Worker %d could not connect to the coordinator on port %d", id, port ), e );
+        }
+
+        UnitLogger.redirect( new ForwardingHandler( connection ) );
+        ResultRecorder.getInstance().addListener( new ForwardingListener( connection ) );
+
+        return new ShardWorker( connection, id );
+    }
+
+    /**
+     * Runs the tests sent by the coordinator until no tests are left or the coordinator disconnects.
+     *
+     * @param rootScenario Scenario tree containing the tests, discovered with the same arguments as the coordinator.
+     */
+    public void serve( TestScenario rootScenario ) {
+        List< Test > tests = new ArrayList<>();
+        rootScenario.collectExecutedTests( tests );
+
+        Map< String, Test > testsByKey = new HashMap<>();
+        tests.forEach( o -> testsByKey.put( ShardCoordinator.getKey( o ), o ) );
+
+        int slotCount = Math.max( 1, Configuration.getInstance().getThreadCount() );
+        List< BlockingQueue< String > > slots = new ArrayList<>();
+        List< Thread > threads = new ArrayList<>();
+
+        for( int i = 0; i < slotCount; i++ ) {
+            BlockingQueue< String > slot = new LinkedBlockingQueue<>();
+            String slotName = Integer.toString( i );
+
+            slots.add( slot );
+            threads.add( new Thread( () -> runSlot( slotName, slot, testsByKey ), "txt2Selenium-worker-" + this.id + "-" + i ) );
+        }
+
+        try {
+            this.connection.send( ShardConnection.HELLO, Integer.toString( this.id ), Integer.toString( slotCount ) );
+            threads.forEach( Thread::start );
+
+            int stopped = 0;
+
+            while( stopped < slotCount ) {
+                List< String > message = this.connection.receive();
+
+                if( message == null ) {
+                    break;
+                }
+
+                BlockingQueue< String > slot = slots.get( Integer.parseInt( message.get( 1 ) ) );
+
+                if( ShardConnection.RUN.equals( message.get( 0 ) ) ) {
+                    slot.add( message.get( 2 ) );
+                }
+                else if( ShardConnection.STOP.equals( message.get( 0 ) ) ) {
+                    slot.add( STOP );
+                    stopped++;
+                }
+            }
+        }
+        catch( IOException e ) {
+            System.err.printf( "Worker %d lost the connection to the coordinator: %s%n", this.id, e );
+        }
+        finally {
+            slots.forEach( o -> o.add( STOP ) );
+            threads.forEach( ShardWorker::join );
+        }
+    }
+
+    private void runSlot( String slotName, BlockingQueue< String > slot, Map< String, Test > testsByKey ) {
+        WebUtil.bindWorkerInstance();
+
+        try {
+            while( true ) {
+                this.connection.send( ShardConnection.READY, slotName );
+
+                String key = slot.take();
+
+                if( STOP.equals( key ) ) {
+                    return;
+                }
+
+                Test test = testsByKey.get( key );
+
+                if( test == null ) {
+                    UnitLogger.logSevere( String.format( "Test '%s' is unknown to worker %d", key, this.id ) );
+                    continue;
+                }
+
+                try {
+                    test.execute();
+                }
+                catch( RuntimeException e ) {
+                    // Logged and recorded by the test, the next test runs anyway
+                }
+            }
+        }
+        catch( IOException e ) {
+            // The coordinator is gone, serve() reports the lost connection
+        }
+        catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            WebUtil.releaseWorkerInstance();
+        }
+    }
+
+    private static void join( Thread thread ) {
+        try {
+            thread.join();
+        }
+        catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        ResultRecorder.getInstance().close();
+
+        try {
+            this.connection.close();
+        }
+        catch( IOException e ) {
+            System.err.printf( "Worker %d could not close the connection to the coordinator: %s%n", this.id, e );
+        }
+    }
+
+    /**
+     * Sends log records to the coordinator.
+     */
+    private static class ForwardingHandler extends Handler {
+
+        private final ShardConnection connection;
+
+        ForwardingHandler( ShardConnection connection ) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void publish( LogRecord record ) {
+            if( !isLoggable( record ) ) {
+                return;
+            }
+
+            String message = record.getMessage();
+
+            if( record.getThrown() != null ) {
+                StringWriter stackTrace = new StringWriter();
+                record.getThrown().printStackTrace( new PrintWriter( stackTrace ) );
+                message = message + System.lineSeparator() + stackTrace;
+            }
+
+            try {
+                this.connection.send( ShardConnection.LOG, record.getLevel().getName(), message );
+            }
+            catch( IOException e ) {
+                reportError( "Could not send log record to the coordinator", e, ErrorManager.WRITE_FAILURE );
+            }
+        }
+
+        @Override
+        public void flush() {
+            // Every record is sent immediately
+        }
+
+        @Override
+        public void close() {
+            // The connection is closed by the worker
+        }
+    }
+
+    /**
+     * Sends the result of every finished test to the coordinator.
+     */
+    private static class ForwardingListener implements ResultListener {
+
+        private final ShardConnection connection;
+
+        ForwardingListener( ShardConnection connection ) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void testFinished( TestResult result ) {
+            try {
+                this.connection.send( ShardConnection.RESULT, ResultCodec.encode( result ) );
+            }
+            catch( IOException e ) {
+                System.err.printf( "Could not send the result of %s to the coordinator: %s%n", result.getPath(), e );
+            }
+        }
+
+        @Override
+        public void close() {
+            // The connection is closed by the worker
+        }
+    }
+}
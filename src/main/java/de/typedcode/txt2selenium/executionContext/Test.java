@@ -26,19 +26,41 @@ package de.typedcode.txt2selenium.executionContext;
 
 import com.google.common.io.Files;
 import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.actions.ActionProgram;
+import de.typedcode.txt2selenium.actions.CacheableAction;
+import de.typedcode.txt2selenium.actions.MethodAction;
+import de.typedcode.txt2selenium.exceptions.ExecutionAbortedException;
+import de.typedcode.txt2selenium.exceptions.ParseException;
+import de.typedcode.txt2selenium.metrics.MetricsRegistry;
 import de.typedcode.txt2selenium.parsers.TestFileParser;
+import de.typedcode.txt2selenium.results.ResultRecorder;
+import de.typedcode.txt2selenium.util.Configuration;
 import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.WebUtil;
+import de.typedcode.txt2selenium.util.repositories.DriverProfileRepository;
 
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Test extends ExecutionContext {
 
 
     /**
-     * First Action to execute in this Context
+     * Actions of the test-file. Empty until the file is parsed.
      */
-    private AAction firstAction;
+    private ActionProgram program = ActionProgram.EMPTY;
+
+    /**
+     * Actions to execute. If methods are inlined the actions of all called methods replace the method calls,
+     * otherwise this is the {@link #program}.
+     */
+    private ActionProgram executable = ActionProgram.EMPTY;
+
+    /**
+     * Will be set to true as soon as the test-file has been parsed.
+     */
+    private volatile boolean parsed;
 
     /**
      * @param testScenario Instance where this ExecutionContext will run in.
@@ -46,6 +68,8 @@ public class Test extends ExecutionContext {
      */
     public Test( TestScenario testScenario, Path path) {
         super( testScenario, path);
+
+        processPath();
     }
 
     @Override
@@ -70,27 +94,208 @@ public class Test extends ExecutionContext {
 
     @Override
     public void execute() {
-        UnitLogger.logInfo( getExecuteStartMessage() );
+        FailurePolicy failurePolicy = FailurePolicy.getInstance();
+
+        // Methods stop together with their calling test
+        if( isReported() && failurePolicy.isAborted( this ) ) {
+            UnitLogger.logInfo( () -> String.format( "Skipping Test: %s", this.name ) );
+            return;
+        }
 
-        AAction currentAction = this.firstAction;
+        UnitLogger.logInfo( this::getExecuteStartMessage );
 
-        if( currentAction == null ) {
-            UnitLogger.logInfo( getEmptyMessage() );
+        if( isReported() ) {
+            WebUtil.startTest();
+            WebUtil.useProfile( DriverProfileRepository.getInstance().getProfile( this.testScenario ) );
         }
 
-        while( currentAction != null ) {
-            currentAction.execute();
-            currentAction = currentAction.getNextAction();
+        ResultRecorder recorder = ResultRecorder.getInstance();
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        long start = System.nanoTime();
+
+        if( isReported() ) {
+            recorder.testStarted( this );
         }
 
-        UnitLogger.logInfo( getExecuteFinishMessage() );
+        try {
+            parse();
+
+            ActionProgram actions = this.executable;
+
+            if( actions.isEmpty() ) {
+                UnitLogger.logInfo( this::getEmptyMessage );
+            }
+
+            int programCounter = 0;
+
+            while( programCounter < actions.size() ) {
+                AAction currentAction = actions.get( programCounter );
+
+                recorder.actionStarted( currentAction );
+                long actionStart = System.nanoTime();
+
+                try {
+                    currentAction.execute();
+                }
+                catch( ExecutionAbortedException e ) {
+                    // The failure causing the abort has been recorded already
+                    metrics.recordAction( currentAction, System.nanoTime() - actionStart );
+                    recorder.actionFinished( null );
+                    throw e;
+                }
+                catch( RuntimeException e ) {
+                    metrics.recordAction( currentAction, System.nanoTime() - actionStart );
+                    recorder.actionFinished( e );
+                    throw e;
+                }
+
+                metrics.recordAction( currentAction, System.nanoTime() - actionStart );
+                recorder.actionFinished( null );
+                programCounter++;
+            }
+        }
+        catch( ExecutionAbortedException e ) {
+            metrics.recordExecution( this, System.nanoTime() - start );
+
+            if( !isReported() ) {
+                throw e;
+            }
+
+            recorder.testFinished( null );
+            failurePolicy.testAborted( this, e.getMode() );
+            UnitLogger.logInfo( () -> String.format( "Aborted Test: %s", this.name ) );
+            return;
+        }
+        catch( RuntimeException e ) {
+            metrics.recordExecution( this, System.nanoTime() - start );
+
+            if( isReported() ) {
+                recorder.testFinished( e );
+            }
+
+            throw e;
+        }
+
+        metrics.recordExecution( this, System.nanoTime() - start );
+
+        if( isReported() ) {
+            recorder.testFinished( null );
+        }
+
+        UnitLogger.logInfo( this::getExecuteFinishMessage );
+    }
+
+    /**
+     * Defines if the execution is reported to the {@link ResultRecorder} as a test of its own.
+     *
+     * @return true for tests.
+     */
+    boolean isReported() {
+        return true;
     }
 
+    /**
+     * Parses the test-file unless lazy parsing is configured. With lazy parsing the file will be parsed on the
+     * first execution.
+     */
     @Override
     void processPath() {
+        if( !Configuration.getInstance().isLazyParsing() ) {
+            parse();
+        }
+    }
+
+    /**
+     * Discards the parsed actions, the test-file will be parsed again on the next execution.
+     */
+    synchronized void invalidate() {
+        this.parsed = false;
+        this.program = ActionProgram.EMPTY;
+        this.executable = ActionProgram.EMPTY;
+    }
+
+    boolean isParsed() {
+        return this.parsed;
+    }
+
+    /**
+     * @return Actions of the parsed test-file, empty if the file is empty or was not parsed yet.
+     */
+    ActionProgram getProgram() {
+        return this.program;
+    }
+
+    /**
+     * Parses the test-file if it has not been parsed yet.
+     *
+     * @throws de.typedcode.txt2selenium.exceptions.ParseException if the test-file is erroneous.
+     */
+    public void parse() {
+        if( this.parsed ) {
+            return;
+        }
+
+        synchronized( this ) {
+            if( !this.parsed ) {
+                ActionProgram parsedProgram = TestFileParser.parse( this.testScenario, this.path );
+
+                this.executable = compile( parsedProgram );
+                this.program = parsedProgram;
+                this.parsed = true;
+            }
+        }
+    }
+
+    /**
+     * Verifies the methods called by the parsed actions and the read variables and inlines the methods if configured.
+     *
+     * @param parsedProgram Parsed actions of the test-file.
+     * @return Actions with the called methods inlined, the parsed actions if methods are not inlined.
+     * @throws de.typedcode.txt2selenium.exceptions.ParseException if a called method is erroneous, the calls
+     * contain a cycle or a variable is compared before it is read.
+     */
+    ActionProgram compile( ActionProgram parsedProgram ) {
+        verifyCacheable( parsedProgram, 0 );
+        MethodCallGraph.verify( parsedProgram );
+        ReadVariableVerifier.verify( this, parsedProgram );
 
-        Optional<AAction> optionalAction = TestFileParser.parse( this.testScenario, this.path);
+        if( !Configuration.getInstance().isInlineMethods() ) {
+            return parsedProgram;
+        }
+
+        List< AAction > actions = new ArrayList<>();
+        inline( parsedProgram, actions );
+
+        return ActionProgram.of( actions );
+    }
 
-        this.firstAction  = optionalAction.orElse(null );
+    /**
+     * Verifies that {@link CacheableAction#IDENTIFIER} is only used as the header of a method-file.
+     *
+     * @param parsedProgram Parsed actions of the file.
+     * @param firstAllowed Index of the first action that must not be a {@link CacheableAction}.
+     * @throws ParseException if the directive is used anywhere else.
+     */
+    void verifyCacheable( ActionProgram parsedProgram, int firstAllowed ) {
+        for( int i = firstAllowed; i < parsedProgram.size(); i++ ) {
+            if( parsedProgram.get( i ) instanceof CacheableAction ) {
+                throw new ParseException( String.format( "Error Parsing file '%s'. '%s' is only allowed as the first line of a method.",
+                        this.path.toAbsolutePath(), CacheableAction.IDENTIFIER ) );
+            }
+        }
+    }
+
+    /**
+     * Cacheable methods are not inlined, their results are reused by the {@link MethodAction}.
+     */
+    private static void inline( ActionProgram program, List< AAction > actions ) {
+        for( AAction action : program ) {
+            if( action instanceof MethodAction && !( ( MethodAction ) action ).getMethod().isCacheable() ) {
+                inline( ( ( MethodAction ) action ).getMethod().getProgram(), actions );
+            }
+            else {
+                actions.add( action );
+            }
+        }
     }
 }
@@ -25,23 +25,29 @@
 package de.typedcode.txt2selenium.executionContext;
 
 import de.typedcode.txt2selenium.Txt2Selenium;
+import de.typedcode.txt2selenium.metrics.MetricsRegistry;
 import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.DirectoryListing;
 import de.typedcode.txt2selenium.util.FileUtil;
+import de.typedcode.txt2selenium.util.TestFilter;
 import de.typedcode.txt2selenium.util.UnitLogger;
 import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import de.typedcode.txt2selenium.util.repositories.DriverProfileRepository;
 import de.typedcode.txt2selenium.util.repositories.MethodRepository;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class TestScenario extends ExecutionContext {
 
     /**
      * Will be set to true if in any given Scenario is a test.
      */
-    private static boolean testsExist = false;
+    private static volatile boolean testsExist = false;
 
     private List<Test> tests;
     private List<TestScenario> subScenarios;
@@ -55,8 +61,12 @@ public class TestScenario extends ExecutionContext {
         super( testScenario, path );
         this.parentScenario = parentScenario;
 
+        // Compare strings and methods are resolved while the tests are parsed
         CompareStringRepository.getInstance().registerScenario( this );
+        DriverProfileRepository.getInstance().registerScenario( this );
         MethodRepository.getInstance().registerScenario( this );
+
+        processPath();
     }
 
     public static boolean testsExist() {
@@ -78,18 +88,25 @@ public class TestScenario extends ExecutionContext {
 
     @Override
     public void execute() {
+        if( FailurePolicy.getInstance().isRunAborted() ) {
+            return;
+        }
+
+        long start = System.nanoTime();
 
         if( !this.tests.isEmpty() ) {
-            UnitLogger.logInfo( getExecuteStartMessage() );
-            this.tests.forEach( Test::execute );
-            UnitLogger.logInfo( getExecuteFinishMessage() );
+            UnitLogger.logInfo( this::getExecuteStartMessage );
+            ExecutionPool.executeAll( this.tests );
+            UnitLogger.logInfo( this::getExecuteFinishMessage );
         }
         else if ( !this.subScenarios.isEmpty() ) {
-            this.subScenarios.forEach( TestScenario::execute );
+            ExecutionPool.executeAll( this.subScenarios );
         }
         else {
-            UnitLogger.logInfo( getEmptyMessage() );
+            UnitLogger.logInfo( this::getEmptyMessage );
         }
+
+        MetricsRegistry.getInstance().recordExecution( this, System.nanoTime() - start );
     }
 
     @Override
@@ -108,26 +125,91 @@ public class TestScenario extends ExecutionContext {
     }
 
     /**
-     * Searches for and parses the testfiles.
+     * Searches for and parses the testfiles. The directory is listed once, tests and sub-scenarios are
+     * processed in parallel when running within a {@link ScenarioDiscovery}.
      */
      @Override
     void processPath() {
-         this.tests = new ArrayList<>();
-         this.subScenarios = new ArrayList<>();
-         processTests();
-         processSubScenarios();
+         DirectoryListing listing = FileUtil.listDirectory( this.path );
+
+         processTests( listing.getTestFiles() );
+         processSubScenarios( listing.getDirectories() );
+    }
+
+    private void processSubScenarios( List< Path > directories ) {
+        List< Path > scenarioDirectories = directories.stream()
+                .filter( o -> !Txt2Selenium.METHOD_FILE_FOLDER.equals( o.getFileName().toString() ) )
+                .collect( Collectors.toList() );
+
+        List< TestScenario > scenarios = ScenarioDiscovery.map( scenarioDirectories, o -> new TestScenario( this.testScenario, this, o ) );
+
+        if( Configuration.getInstance().getTestFilter().isPresent() ) {
+            // Do not report scenarios as empty just because none of their tests was selected
+            scenarios.removeIf( TestScenario::isEmpty );
+        }
+
+        this.subScenarios = new ArrayList<>( scenarios );
+    }
+
+    /**
+     * Checks if the scenario contains neither tests nor sub-scenarios.
+     * @return true if there is nothing to execute in this scenario.
+     */
+    public boolean isEmpty() {
+        return this.tests.isEmpty() && this.subScenarios.isEmpty();
+    }
+
+    /**
+     * Parses every test and method of this scenario and its sub-scenarios that has not been parsed yet.
+     *
+     * @throws de.typedcode.txt2selenium.exceptions.ParseException if any test-file is erroneous.
+     */
+    public void validate() {
+        MethodRepository.getInstance().getMethodsForScenario( this ).ifPresent( o -> o.values().forEach( MethodCallGraph::verify ) );
+        this.tests.forEach( Test::parse );
+        this.subScenarios.forEach( TestScenario::validate );
     }
 
-    private void processSubScenarios() {
-        //Getting the testfiles
-        List<Path > directories = FileUtil.getTestDirectories( this.path);
+    /**
+     * Creates the methods of this scenario again, e.g. after a method-file changed.
+     *
+     * @throws de.typedcode.txt2selenium.exceptions.ParseException if a method-file is erroneous.
+     */
+    void reloadMethods() {
+        MethodRepository.getInstance().registerScenario( this );
+    }
+
+    void addTest( Test test ) {
+        this.tests.add( test );
+        this.tests.sort( Comparator.comparing( o -> o.getPath().getFileName().toString() ) );
+        TestScenario.setTestsExist();
+    }
 
-        directories.forEach( o -> {
+    void removeTest( Test test ) {
+        this.tests.remove( test );
+    }
 
-            if( !Txt2Selenium.METHOD_FILE_FOLDER.equals( o.getFileName().toString() ) ) {
-                this.subScenarios.add(new TestScenario(this.testScenario, this, o));
-            }
-        } );
+    void addSubScenario( TestScenario scenario ) {
+        this.subScenarios.add( scenario );
+        this.subScenarios.sort( Comparator.comparing( o -> o.getPath().getFileName().toString() ) );
+    }
+
+    void removeSubScenario( TestScenario scenario ) {
+        this.subScenarios.remove( scenario );
+    }
+
+    /**
+     * Adds the tests run by {@link #execute()} to the given list in the order of a sequential execution.
+     *
+     * @param executed List to add the tests to.
+     */
+    void collectExecutedTests( List< Test > executed ) {
+        if( !this.tests.isEmpty() ) {
+            executed.addAll( this.tests );
+        }
+        else {
+            this.subScenarios.forEach( o -> o.collectExecutedTests( executed ) );
+        }
     }
 
     public List<Test> getTests() {
@@ -138,15 +220,18 @@ public class TestScenario extends ExecutionContext {
          return this.subScenarios;
     }
 
-    private void processTests() {
-        //Getting the testfiles
-        List<Path > testFiles = FileUtil.getTestFiles( this.path);
+    private void processTests( List< Path > testFiles ) {
+        Optional< TestFilter > filter = Configuration.getInstance().getTestFilter();
 
-        testFiles.stream()
+        List< Path > tests = testFiles.stream()
                 .filter( o -> !Txt2Selenium.COMPARE_STRINGS_FILE_NAME.equals( o.getFileName().toString() ) )
-                .forEach( o -> this.tests.add( new Test( this, o ) ) );
+                .filter( o -> !Txt2Selenium.DRIVER_PROFILE_FILE_NAME.equals( o.getFileName().toString() ) )
+                .filter( o -> filter.isEmpty() || filter.get().matches( o ) )
+                .collect( Collectors.toList() );
 
-        if( !tests.isEmpty() ) {
+        this.tests = new ArrayList<>( ScenarioDiscovery.map( tests, o -> new Test( this, o ) ) );
+
+        if( !this.tests.isEmpty() ) {
             TestScenario.setTestsExist();
         }
     }
@@ -0,0 +1,250 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.executionContext;
+
+import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.actions.ActionProgram;
+import de.typedcode.txt2selenium.actions.MethodAction;
+import de.typedcode.txt2selenium.parsers.TestCache;
+import de.typedcode.txt2selenium.results.ResultListener;
+import de.typedcode.txt2selenium.results.TestResult;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.FileUtil;
+import de.typedcode.txt2selenium.util.UnitLogger;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Durations of the tests of previous runs, stored in {@link #TIMINGS_FILE} within the {@link TestCache#CACHE_FOLDER}
+ * of the main directory. Registered as {@link ResultListener} the duration of every finished test is recorded and
+ * the store is written when the run ends.
+ *
+ * Tests are ordered longest first by their expected duration. Tests without a recorded duration are estimated by
+ * their number of actions and the average duration of an action in the recorded tests.
+ *
+ * Layout of the file: magic, version, number of tests and for every test its key, duration and number of actions.
+ */
+public class TestTimings implements ResultListener {
+
+    public static final String TIMINGS_FILE = "timings.t2st";
+
+    private static final int MAGIC = 0x54325354;
+    private static final int VERSION = 1;
+
+    /**
+     * Duration of an action assumed while no test has been recorded. Only the relation between the estimates
+     * matters, so the value is arbitrary.
+     */
+    private static final long DEFAULT_ACTION_NANOS = 100_000_000L;
+
+    private static TestTimings instance;
+
+    private final Map< String, Timing > timings = new ConcurrentHashMap<>();
+
+    private TestTimings() {
+        load();
+    }
+
+    public static synchronized TestTimings getInstance() {
+        if( instance == null ) {
+            instance = new TestTimings();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Records the duration of a finished test. The stored duration is the mean of the stored and the new
+     * duration, so a single slow run does not move a test to the front for good.
+     *
+     * @param testFile Path of the test-file.
+     * @param durationNanos Duration of the test.
+     * @param actionCount Number of executed actions including the actions of called methods.
+     */
+    public void record( Path testFile, long durationNanos, int actionCount ) {
+        this.timings.merge( FileUtil.getTestKey( testFile ), new Timing( durationNanos, actionCount ),
+                ( o, n ) -> new Timing( ( o.durationNanos + n.durationNanos ) / 2, n.actionCount ) );
+    }
+
+    /**
+     * @param testFile Path of the test-file.
+     * @return Recorded duration of the test. Empty if the test was not recorded yet.
+     */
+    public OptionalLong getDuration( Path testFile ) {
+        Timing timing = this.timings.get( FileUtil.getTestKey( testFile ) );
+
+        return timing != null ? OptionalLong.of( timing.durationNanos ) : OptionalLong.empty();
+    }
+
+    /**
+     * Sorts the tests by their expected duration, longest first. Tests with the same expected duration keep their
+     * order.
+     *
+     * @param tests Tests to sort.
+     */
+    public void sortLongestFirst( List< Test > tests ) {
+        long actionNanos = getAverageActionNanos();
+
+        Map< Test, Long > estimates = new HashMap<>();
+        tests.forEach( o -> estimates.put( o, estimate( o, actionNanos ) ) );
+
+        tests.sort( Comparator.comparing( estimates::get, Comparator.reverseOrder() ) );
+    }
+
+    @Override
+    public void testFinished( TestResult result ) {
+        record( result.getPath(), result.getDurationNanos(), result.getActions().size() );
+    }
+
+    /**
+     * Writes the recorded durations. The file is written to a temporary file first and then moved, so an aborted
+     * run does not destroy the durations of the previous runs. Failing to write is not an error.
+     */
+    @Override
+    public void close() {
+        Optional< Path > file = getFile();
+
+        if( file.isEmpty() ) {
+            return;
+        }
+
+        try {
+            Files.createDirectories( file.get().getParent() );
+            Path tempFile = Files.createTempFile( file.get().getParent(), TIMINGS_FILE, ".tmp" );
+
+            try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( tempFile ) ) ) ) {
+                Map< String, Timing > snapshot = new TreeMap<>( this.timings );
+
+                out.writeInt( MAGIC );
+                out.writeInt( VERSION );
+                out.writeInt( snapshot.size() );
+
+                for( Map.Entry< String, Timing > entry : snapshot.entrySet() ) {
+                    out.writeUTF( entry.getKey() );
+                    out.writeLong( entry.getValue().durationNanos );
+                    out.writeInt( entry.getValue().actionCount );
+                }
+            }
+
+            Files.move( tempFile, file.get(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch( IOException e ) {
+            UnitLogger.logFine( () -> String.format( "Could not write test durations to %s: %s", file.get(), e.getMessage() ) );
+        }
+    }
+
+    private void load() {
+        Optional< Path > file = getFile();
+
+        if( file.isEmpty() || !Files.exists( file.get() ) ) {
+            return;
+        }
+
+        try( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( file.get() ) ) ) ) {
+            if( in.readInt() != MAGIC || in.readInt() != VERSION ) {
+                return;
+            }
+
+            int count = in.readInt();
+
+            for( int i = 0; i < count; i++ ) {
+                this.timings.put( in.readUTF(), new Timing( in.readLong(), in.readInt() ) );
+            }
+        }
+        catch( IOException e ) {
+            this.timings.clear();
+            UnitLogger.logFine( () -> String.format( "Ignoring unreadable test durations in %s: %s", file.get(), e.getMessage() ) );
+        }
+    }
+
+    private static Optional< Path > getFile() {
+        return Configuration.getInstance().getMainDirectory().map( o -> o.resolve( TestCache.CACHE_FOLDER ).resolve( TIMINGS_FILE ) );
+    }
+
+    private long getAverageActionNanos() {
+        long durationNanos = 0;
+        long actionCount = 0;
+
+        for( Timing timing : this.timings.values() ) {
+            if( timing.actionCount > 0 ) {
+                durationNanos += timing.durationNanos;
+                actionCount += timing.actionCount;
+            }
+        }
+
+        return actionCount > 0 ? Math.max( 1, durationNanos / actionCount ) : DEFAULT_ACTION_NANOS;
+    }
+
+    private long estimate( Test test, long actionNanos ) {
+        OptionalLong duration = getDuration( test.getPath() );
+
+        return duration.isPresent() ? duration.getAsLong() : countActions( test ) * actionNanos;
+    }
+
+    /**
+     * Counts the actions of the test including the actions of called methods. Tests that are not parsed yet are
+     * not parsed for the estimate, their lines are counted instead.
+     */
+    private static long countActions( Test test ) {
+        if( test.isParsed() ) {
+            return countActions( test.getProgram() );
+        }
+
+        try( Stream< String > lines = Files.lines( test.getPath() ) ) {
+            return lines.filter( o -> !o.isBlank() ).count();
+        }
+        catch( IOException | UncheckedIOException e ) {
+            return 0;
+        }
+    }
+
+    private static long countActions( ActionProgram program ) {
+        long count = program.size();
+
+        for( AAction action : program ) {
+            if( action instanceof MethodAction ) {
+                count += countActions( ( ( MethodAction ) action ).getMethod().getProgram() );
+            }
+        }
+
+        return count;
+    }
+
+    private static class Timing {
+
+        private final long durationNanos;
+        private final int actionCount;
+
+        Timing( long durationNanos, int actionCount ) {
+            this.durationNanos = durationNanos;
+            this.actionCount = actionCount;
+        }
+    }
+}
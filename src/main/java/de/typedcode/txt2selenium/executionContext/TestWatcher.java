@@ -0,0 +1,486 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.executionContext;
+
+import de.typedcode.txt2selenium.Txt2Selenium;
+import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.actions.AssertEqualsAction;
+import de.typedcode.txt2selenium.actions.RestoreSessionAction;
+import de.typedcode.txt2selenium.exceptions.ParseException;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.TestFilter;
+import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import de.typedcode.txt2selenium.util.repositories.DriverProfileRepository;
+import de.typedcode.txt2selenium.util.repositories.MethodRepository;
+import de.typedcode.txt2selenium.util.repositories.MethodResultRepository;
+import de.typedcode.txt2selenium.util.repositories.SessionRepository;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.google.common.io.Files.getNameWithoutExtension;
+
+/**
+ * Keeps the parsed TestScenario tree in memory and watches the test directory for changes. Changed test-files,
+ * method-files and compare strings are parsed again and only the tests affected by the change are executed.
+ *
+ * A test is affected if its test-file changed, if it calls a changed method directly or through other methods or
+ * if it asserts a compare string whose value changed.
+ */
+public class TestWatcher {
+
+    /**
+     * Time without further file changes before the affected tests are executed. Editors often write a file in
+     * several steps.
+     */
+    private static final long QUIET_PERIOD_MILLIS = 200;
+
+    private final TestScenario rootScenario;
+
+    private final Map< WatchKey, Path > directories = new HashMap<>();
+
+    private WatchService watchService;
+
+    /**
+     * @param rootScenario Scenario of the test directory, as created by the {@link ScenarioDiscovery}.
+     */
+    public TestWatcher( TestScenario rootScenario ) {
+        this.rootScenario = rootScenario;
+    }
+
+    /**
+     * Watches the test directory and executes the affected tests after every change. Returns when the thread is
+     * interrupted.
+     */
+    public void watch() {
+        try( WatchService service = FileSystems.getDefault().newWatchService() ) {
+            this.watchService = service;
+            register( this.rootScenario.getPath() );
+
+            UnitLogger.logInfo( String.format( "Watching %s for changes", this.rootScenario.getPath() ) );
+
+            while( !Thread.currentThread().isInterrupted() ) {
+                Set< Path > changes = new TreeSet<>();
+
+                if( !collectChanges( service.take(), changes ) ) {
+                    changes.clear();
+                    changes.add( this.rootScenario.getPath() );
+                }
+
+                WatchKey key;
+
+                while( ( key = service.poll( QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS ) ) != null ) {
+                    if( !collectChanges( key, changes ) ) {
+                        changes.clear();
+                        changes.add( this.rootScenario.getPath() );
+                    }
+                }
+
+                execute( update( changes ) );
+            }
+        } catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        } catch( ClosedWatchServiceException e ) {
+            UnitLogger.logInfo( "Watch service closed" );
+        } catch( IOException e ) {
+            UnitLogger.logSevere( "Could not watch the test directory", e );
+        }
+    }
+
+    /**
+     * Adds the paths of the events of the key to <code>changes</code>.
+     *
+     * @return false if events were lost and everything has to be reloaded.
+     */
+    private boolean collectChanges( WatchKey key, Set< Path > changes ) {
+        Path directory = this.directories.get( key );
+        boolean complete = true;
+
+        for( WatchEvent< ? > event : key.pollEvents() ) {
+            if( event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null ) {
+                complete = false;
+                continue;
+            }
+
+            Path path = directory.resolve( ( Path ) event.context() );
+            changes.add( path );
+
+            if( event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory( path ) ) {
+                register( path );
+            }
+        }
+
+        if( !key.reset() ) {
+            this.directories.remove( key );
+        }
+
+        return complete;
+    }
+
+    private void register( Path directory ) {
+        try( Stream< Path > paths = Files.walk( directory ) ) {
+            for( Path path : paths.filter( Files::isDirectory ).collect( Collectors.toList() ) ) {
+                this.directories.put( path.register( this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE ), path );
+            }
+        } catch( IOException e ) {
+            UnitLogger.logSevere( String.format( "Could not watch directory %s", directory ), e );
+        }
+    }
+
+    private void execute( List< Test > tests ) {
+        if( tests.isEmpty() ) {
+            UnitLogger.logInfo( "No tests affected by the changes" );
+            return;
+        }
+
+        UnitLogger.logInfo( String.format( "Executing %d affected tests", tests.size() ) );
+
+        // Failures of previous runs do not abort this one
+        FailurePolicy.getInstance().reset();
+
+        // A broken test does not keep the other affected tests from running
+        ExecutionPool.execute( tests, ( test, e ) ->
+                UnitLogger.logInfo( String.format( "Execution of %s aborted, waiting for further changes: %s", test.getName(), e.getMessage() ) ) );
+    }
+
+    /**
+     * Applies the changed files to the scenario tree. Changed files are parsed again and the tests affected by the
+     * changes are collected. If the changes contain the test directory itself, everything is reloaded.
+     *
+     * @param changes Files and directories that were created, modified or deleted.
+     * @return The affected tests in the order of the scenario tree.
+     */
+    public List< Test > update( Collection< Path > changes ) {
+        Set< Test > affected = new HashSet<>();
+
+        for( Path change : changes ) {
+            try {
+                update( change.toAbsolutePath().normalize(), affected );
+            }
+            catch( ParseException e ) {
+                // The exception was logged when it was created
+                UnitLogger.logInfo( String.format( "Could not apply change of %s", change ) );
+            }
+        }
+
+        List< Test > result = new ArrayList<>();
+        collectTests( this.rootScenario, affected::contains, result );
+
+        return result;
+    }
+
+    private void update( Path change, Set< Test > affected ) {
+        Path fileName = change.getFileName();
+        Path directory = change.getParent();
+
+        if( fileName == null || directory == null ) {
+            return;
+        }
+
+        Optional< TestScenario > scenario = findScenario( change );
+
+        if( scenario.isPresent() ) {
+            // Changes within an existing scenario directory are reported for its files. The scenario itself is only
+            // reloaded if it was deleted or if events were lost
+            if( scenario.get() == this.rootScenario || !Files.isDirectory( change ) ) {
+                reloadScenario( scenario.get(), affected );
+            }
+        }
+        else if( Txt2Selenium.METHOD_FILE_FOLDER.equals( fileName.toString() ) ) {
+            findScenario( directory ).ifPresent( o -> methodsChanged( o, null, affected ) );
+        }
+        else if( Txt2Selenium.METHOD_FILE_FOLDER.equals( directory.getFileName().toString() ) ) {
+            String methodName = getNameWithoutExtension( fileName.toString() );
+            findScenario( directory.getParent() ).ifPresent( o -> methodsChanged( o, methodName, affected ) );
+        }
+        else if( Txt2Selenium.COMPARE_STRINGS_FILE_NAME.equals( fileName.toString() ) ) {
+            findScenario( directory ).ifPresent( o -> compareStringsChanged( o, affected ) );
+        }
+        else if( Txt2Selenium.DRIVER_PROFILE_FILE_NAME.equals( fileName.toString() ) ) {
+            findScenario( directory ).ifPresent( o -> driverProfileChanged( o, affected ) );
+        }
+        else if( Files.isDirectory( change ) ) {
+            findScenario( directory ).ifPresent( o -> addScenario( o, change, affected ) );
+        }
+        else if( fileName.toString().endsWith( Txt2Selenium.FILE_EXTENSION ) ) {
+            findScenario( directory ).ifPresent( o -> testChanged( o, change, affected ) );
+        }
+    }
+
+    private void testChanged( TestScenario scenario, Path path, Set< Test > affected ) {
+        Optional< Test > test = scenario.getTests().stream().filter( o -> isSame( o.getPath(), path ) ).findFirst();
+
+        if( !Files.exists( path ) ) {
+            test.ifPresent( scenario::removeTest );
+            return;
+        }
+
+        if( test.isPresent() ) {
+            reparse( test.get() );
+            affected.add( test.get() );
+            return;
+        }
+
+        Optional< TestFilter > filter = Configuration.getInstance().getTestFilter();
+
+        if( filter.isEmpty() || filter.get().matches( path ) ) {
+            Test created = new Test( scenario, path );
+            scenario.addTest( created );
+            affected.add( created );
+        }
+    }
+
+    /**
+     * Sessions restored by the tests are created by the methods, so the sessions created by a changed method are
+     * removed as well.
+     */
+    private void methodsChanged( TestScenario scenario, String methodName, Set< Test > affected ) {
+        Predicate< AAction > callsMethod = o -> MethodCallGraph.getCallee( o )
+                .filter( m -> methodName == null || methodName.equals( m.getName() ) ).isPresent();
+
+        // Dependencies are resolved before the methods are replaced
+        Set< Test > dependent = scenario.getTests().stream()
+                .filter( o -> dependsOn( o, callsMethod ) )
+                .collect( Collectors.toSet() );
+
+        Predicate< AAction > createsSession = o -> o instanceof RestoreSessionAction && callsMethod.test( o );
+        Set< String > sessions = new HashSet<>();
+        dependent.forEach( o -> collectActions( o, createsSession, new HashSet<>() )
+                .forEach( a -> sessions.add( ( ( RestoreSessionAction ) a ).getName() ) ) );
+        sessions.forEach( SessionRepository.getInstance()::removeSession );
+
+        MethodResultRepository.getInstance().cleanRepository();
+
+        try {
+            scenario.reloadMethods();
+        }
+        finally {
+            // Every test calling a method still refers to the replaced methods
+            Predicate< AAction > callsAnyMethod = o -> MethodCallGraph.getCallee( o ).isPresent();
+            scenario.getTests().stream().filter( o -> dependsOn( o, callsAnyMethod ) ).forEach( TestWatcher::reparse );
+        }
+
+        affected.addAll( dependent );
+    }
+
+    /**
+     * Profiles are inherited, so every test of the scenario and its sub-scenarios is affected.
+     */
+    private void driverProfileChanged( TestScenario scenario, Set< Test > affected ) {
+        DriverProfileRepository.getInstance().reloadScenario( scenario );
+        collectTests( scenario, o -> true, affected );
+    }
+
+    /**
+     * Indexed compare strings map the file that just changed, so the old values can not be read any more. Every
+     * assertion of the scenario is affected then, in-heap compare strings are compared key by key instead.
+     */
+    private void compareStringsChanged( TestScenario scenario, Set< Test > affected ) {
+        CompareStringRepository repository = CompareStringRepository.getInstance();
+
+        if( Configuration.getInstance().isCompareStringIndexEnabled() ) {
+            repository.reloadScenario( scenario );
+            compareStringsChanged( scenario, o -> o instanceof AssertEqualsAction, affected );
+            return;
+        }
+
+        // The map is replaced on reload, so the previous one keeps the old values
+        Map< String, String > previous = repository.getCompareStringsForScenario( scenario );
+        repository.reloadScenario( scenario );
+        Map< String, String > current = repository.getCompareStringsForScenario( scenario );
+
+        Set< String > changedKeys = new HashSet<>( current.keySet() );
+
+        if( previous != null ) {
+            changedKeys.addAll( previous.keySet() );
+            changedKeys.removeIf( o -> Objects.equals( previous.get( o ), current.get( o ) ) );
+        }
+
+        if( changedKeys.isEmpty() ) {
+            return;
+        }
+
+        compareStringsChanged( scenario, o -> o instanceof AssertEqualsAction
+                && changedKeys.contains( ( ( AssertEqualsAction ) o ).getExpectedIdentifier() ), affected );
+    }
+
+    private void compareStringsChanged( TestScenario scenario, Predicate< AAction > assertsKey, Set< Test > affected ) {
+
+        // Compare strings are inherited, sub-scenarios may use the changed values as well
+        List< TestScenario > scenarios = new ArrayList<>();
+        collectScenarios( scenario, scenarios );
+
+        for( TestScenario subScenario : scenarios ) {
+            Optional< Map< String, Method > > methods = MethodRepository.getInstance().getMethodsForScenario( subScenario );
+
+            if( methods.isPresent() && methods.get().values().stream().anyMatch( o -> dependsOn( o, assertsKey ) ) ) {
+                methodsChanged( subScenario, null, affected );
+            }
+
+            for( Test test : subScenario.getTests() ) {
+                if( dependsOn( test, assertsKey ) ) {
+                    reparse( test );
+                    affected.add( test );
+                }
+            }
+        }
+    }
+
+    private void addScenario( TestScenario parent, Path directory, Set< Test > affected ) {
+        TestScenario scenario = new TestScenario( parent.getTestScenario(), parent, directory );
+
+        parent.addSubScenario( scenario );
+        collectTests( scenario, o -> true, affected );
+    }
+
+    /**
+     * Replaces the scenario by a newly discovered one, or removes it if its directory was deleted.
+     */
+    private void reloadScenario( TestScenario scenario, Set< Test > affected ) {
+        TestScenario parent = scenario.parentScenario;
+
+        List< TestScenario > removed = new ArrayList<>();
+        collectScenarios( scenario, removed );
+        removed.forEach( o -> {
+            CompareStringRepository.getInstance().removeScenario( o );
+            DriverProfileRepository.getInstance().removeScenario( o );
+            MethodRepository.getInstance().removeScenario( o );
+        } );
+        MethodResultRepository.getInstance().cleanRepository();
+
+        if( parent == null ) {
+            if( Files.isDirectory( scenario.getPath() ) ) {
+                scenario.reloadMethods();
+                CompareStringRepository.getInstance().reloadScenario( scenario );
+                DriverProfileRepository.getInstance().reloadScenario( scenario );
+                scenario.processPath();
+                collectTests( scenario, o -> true, affected );
+            }
+
+            return;
+        }
+
+        parent.removeSubScenario( scenario );
+
+        if( Files.isDirectory( scenario.getPath() ) ) {
+            addScenario( parent, scenario.getPath(), affected );
+        }
+    }
+
+    /**
+     * Parses the test-file again, so the dependencies of the test are known for the next change. An erroneous
+     * test-file stays unparsed and reports the error when the test is executed.
+     */
+    private static void reparse( Test test ) {
+        test.invalidate();
+
+        try {
+            test.parse();
+        }
+        catch( ParseException e ) {
+            // The exception was logged when it was created
+        }
+    }
+
+    /**
+     * Checks if the test or one of the methods it calls contains an action matching the predicate. Tests that are
+     * not parsed do not depend on anything, they are parsed with the current files on their next execution.
+     */
+    private static boolean dependsOn( Test test, Predicate< AAction > predicate ) {
+        return dependsOn( test, predicate, new HashSet<>() );
+    }
+
+    private static boolean dependsOn( Test test, Predicate< AAction > predicate, Set< Test > visited ) {
+        return !collectActions( test, predicate, visited ).isEmpty();
+    }
+
+    /**
+     * Returns the actions of the test and of the methods it calls that match the predicate.
+     */
+    private static List< AAction > collectActions( Test test, Predicate< AAction > predicate, Set< Test > visited ) {
+        List< AAction > actions = new ArrayList<>();
+
+        if( !test.isParsed() || !visited.add( test ) ) {
+            return actions;
+        }
+
+        for( AAction action : test.getProgram() ) {
+            if( predicate.test( action ) ) {
+                actions.add( action );
+            }
+        }
+
+        for( Method callee : MethodCallGraph.getCallees( test.getProgram() ) ) {
+            actions.addAll( collectActions( callee, predicate, visited ) );
+        }
+
+        return actions;
+    }
+
+    private Optional< TestScenario > findScenario( Path directory ) {
+        List< TestScenario > scenarios = new ArrayList<>();
+        collectScenarios( this.rootScenario, scenarios );
+
+        return scenarios.stream().filter( o -> isSame( o.getPath(), directory ) ).findFirst();
+    }
+
+    private static void collectScenarios( TestScenario scenario, List< TestScenario > scenarios ) {
+        scenarios.add( scenario );
+        scenario.getSubScenarios().forEach( o -> collectScenarios( o, scenarios ) );
+    }
+
+    private static void collectTests( TestScenario scenario, Predicate< Test > filter, Collection< Test > tests ) {
+        scenario.getTests().stream().filter( filter ).forEach( tests::add );
+        scenario.getSubScenarios().forEach( o -> collectTests( o, filter, tests ) );
+    }
+
+    private static boolean isSame( Path first, Path second ) {
+        return first.toAbsolutePath().normalize().equals( second.toAbsolutePath().normalize() );
+    }
+}
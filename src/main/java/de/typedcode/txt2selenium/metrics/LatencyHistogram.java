@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations with fixed buckets. Recording a sample does not allocate and can be done from several
+ * threads at once.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Upper bounds of the buckets in nanoseconds. Samples above the last bound are counted in an additional bucket.
+     */
+    static final long[] BUCKET_BOUNDS = {
+            50_000L, 100_000L, 250_000L, 500_000L,
+            1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 25_000_000L, 50_000_000L,
+            100_000_000L, 250_000_000L, 500_000_000L,
+            1_000_000_000L, 2_500_000_000L, 5_000_000_000L, 10_000_000_000L, 30_000_000_000L, 60_000_000_000L
+    };
+
+    private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_BOUNDS.length + 1 );
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Adds a sample.
+     *
+     * @param nanos Duration in nanoseconds.
+     */
+    public void record( long nanos ) {
+        int bucket = 0;
+
+        while( bucket < BUCKET_BOUNDS.length && nanos > BUCKET_BOUNDS[ bucket ] ) {
+            bucket++;
+        }
+
+        this.buckets.incrementAndGet( bucket );
+        this.count.incrementAndGet();
+        this.sum.addAndGet( nanos );
+
+        long currentMax;
+
+        while( nanos > ( currentMax = this.max.get() ) && !this.max.compareAndSet( currentMax, nanos ) ) {
+            // Retry until the maximum is set or a larger sample was recorded
+        }
+    }
+
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * @return Sum of all samples in nanoseconds.
+     */
+    public long getSum() {
+        return this.sum.get();
+    }
+
+    /**
+     * @return Largest sample in nanoseconds.
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * @return Mean of all samples in nanoseconds. 0 if there are no samples.
+     */
+    public long getMean() {
+        long samples = getCount();
+
+        return samples == 0 ? 0 : getSum() / samples;
+    }
+
+    /**
+     * Number of samples in the bucket with the given index.
+     *
+     * @param index Index of the bucket. The index {@link #getBucketCount()} - 1 is the bucket above the last bound.
+     * @return Number of samples.
+     */
+    public long getBucket( int index ) {
+        return this.buckets.get( index );
+    }
+
+    public static int getBucketCount() {
+        return BUCKET_BOUNDS.length + 1;
+    }
+
+    /**
+     * @param index Index of the bucket.
+     * @return Upper bound of the bucket in nanoseconds. {@link Long#MAX_VALUE} for the last bucket.
+     */
+    public static long getBucketBound( int index ) {
+        return index < BUCKET_BOUNDS.length ? BUCKET_BOUNDS[ index ] : Long.MAX_VALUE;
+    }
+
+    /**
+     * Estimates a quantile by the upper bound of the bucket containing it. The estimate never exceeds the maximum.
+     *
+     * @param quantile Quantile between 0 and 1, e.g. 0.95.
+     * @return Estimated quantile in nanoseconds. 0 if there are no samples.
+     */
+    public long getQuantile( double quantile ) {
+        long samples = getCount();
+
+        if( samples == 0 ) {
+            return 0;
+        }
+
+        long rank = ( long ) Math.ceil( quantile * samples );
+        long seen = 0;
+
+        for( int i = 0; i < getBucketCount(); i++ ) {
+            seen += getBucket( i );
+
+            if( seen >= rank ) {
+                return Math.min( getBucketBound( i ), getMax() );
+            }
+        }
+
+        return getMax();
+    }
+}
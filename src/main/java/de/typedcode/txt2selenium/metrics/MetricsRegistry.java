@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.metrics;
+
+import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.executionContext.ExecutionContext;
+import de.typedcode.txt2selenium.executionContext.Method;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the durations of actions, tests, methods and scenarios. Histograms are created on the first sample,
+ * later samples are recorded without allocation.
+ *
+ * Nothing is recorded until the registry is enabled.
+ */
+public class MetricsRegistry {
+
+    private static MetricsRegistry instance;
+
+    private volatile boolean enabled;
+
+    /**
+     * Histograms per action type, e.g. all SelectActions.
+     */
+    private final Map< Class< ? extends AAction >, LatencyHistogram > actionTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Histograms per single action, i.e. per line of a test-file.
+     */
+    private final Map< AAction, LatencyHistogram > actions = new ConcurrentHashMap<>();
+
+    private final Map< ExecutionContext, LatencyHistogram > tests = new ConcurrentHashMap<>();
+    private final Map< ExecutionContext, LatencyHistogram > methods = new ConcurrentHashMap<>();
+    private final Map< ExecutionContext, LatencyHistogram > scenarios = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+        //Do not instantiate
+    }
+
+    public static synchronized MetricsRegistry getInstance() {
+        if( instance == null ) {
+            instance = new MetricsRegistry();
+        }
+
+        return instance;
+    }
+
+    public void setEnabled( boolean enabled ) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Records the duration of an executed action.
+     *
+     * @param action Executed action.
+     * @param nanos Duration in nanoseconds.
+     */
+    public void recordAction( AAction action, long nanos ) {
+        if( !this.enabled ) {
+            return;
+        }
+
+        this.actionTypes.computeIfAbsent( action.getClass(), o -> new LatencyHistogram() ).record( nanos );
+        this.actions.computeIfAbsent( action, o -> new LatencyHistogram() ).record( nanos );
+    }
+
+    /**
+     * Records the duration of an executed test, method or scenario.
+     *
+     * @param context Executed context.
+     * @param nanos Duration in nanoseconds.
+     */
+    public void recordExecution( ExecutionContext context, long nanos ) {
+        if( !this.enabled ) {
+            return;
+        }
+
+        Map< ExecutionContext, LatencyHistogram > histograms;
+
+        if( context instanceof Method ) {
+            histograms = this.methods;
+        }
+        else if( context instanceof TestScenario ) {
+            histograms = this.scenarios;
+        }
+        else {
+            histograms = this.tests;
+        }
+
+        histograms.computeIfAbsent( context, o -> new LatencyHistogram() ).record( nanos );
+    }
+
+    public Map< Class< ? extends AAction >, LatencyHistogram > getActionTypes() {
+        return this.actionTypes;
+    }
+
+    public Map< AAction, LatencyHistogram > getActions() {
+        return this.actions;
+    }
+
+    public Map< ExecutionContext, LatencyHistogram > getTests() {
+        return this.tests;
+    }
+
+    public Map< ExecutionContext, LatencyHistogram > getMethods() {
+        return this.methods;
+    }
+
+    public Map< ExecutionContext, LatencyHistogram > getScenarios() {
+        return this.scenarios;
+    }
+
+    /**
+     * Removes all recorded samples and disables the registry.
+     */
+    public void clear() {
+        this.enabled = false;
+        this.actionTypes.clear();
+        this.actions.clear();
+        this.tests.clear();
+        this.methods.clear();
+        this.scenarios.clear();
+    }
+
+    /**
+     * Name of an action type as used in the test-files, e.g. <code>assertEquals</code> for the AssertEqualsAction.
+     *
+     * @param actionType Class of the action.
+     * @return Name of the action type.
+     */
+    public static String getActionName( Class< ? extends AAction > actionType ) {
+        String name = actionType.getSimpleName();
+
+        if( name.endsWith( "Action" ) && name.length() > "Action".length() ) {
+            name = name.substring( 0, name.length() - "Action".length() );
+        }
+
+        return Character.toLowerCase( name.charAt( 0 ) ) + name.substring( 1 );
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.metrics;
+
+import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.exceptions.ResultException;
+import de.typedcode.txt2selenium.executionContext.ExecutionContext;
+import de.typedcode.txt2selenium.util.UnitLogger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Exports the {@link MetricsRegistry} as summary to the log and as Prometheus text format.
+ */
+public class MetricsReport {
+
+    /**
+     * Number of entries listed in the summary for the slowest tests, methods and actions.
+     */
+    static final int SUMMARY_ENTRIES = 10;
+
+    private static final String PREFIX = "txt2selenium_";
+
+    private MetricsReport() {
+        //Do not instantiate
+    }
+
+    /**
+     * Logs the durations per action type and the slowest tests, methods and actions.
+     *
+     * @param registry Registry to report.
+     */
+    public static void logSummary( MetricsRegistry registry ) {
+        UnitLogger.logInfo( "Action durations by type:" );
+        sortByTotal( registry.getActionTypes() ).forEach( o -> UnitLogger.logInfo( summaryLine( MetricsRegistry.getActionName( o.getKey() ), o.getValue() ) ) );
+
+        logSlowest( "Slowest tests:", registry.getTests(), MetricsReport::contextName );
+        logSlowest( "Slowest methods:", registry.getMethods(), MetricsReport::contextName );
+        logSlowest( "Slowest actions:", registry.getActions(), MetricsReport::actionName );
+    }
+
+    private static < K > void logSlowest( String title, Map< K, LatencyHistogram > histograms, Function< K, String > name ) {
+        if( histograms.isEmpty() ) {
+            return;
+        }
+
+        UnitLogger.logInfo( title );
+
+        histograms.entrySet().stream()
+                .sorted( Comparator.comparingLong( ( Map.Entry< K, LatencyHistogram > o ) -> o.getValue().getMax() ).reversed() )
+                .limit( SUMMARY_ENTRIES )
+                .forEach( o -> UnitLogger.logInfo( summaryLine( name.apply( o.getKey() ), o.getValue() ) ) );
+    }
+
+    private static < K > List< Map.Entry< K, LatencyHistogram > > sortByTotal( Map< K, LatencyHistogram > histograms ) {
+        return histograms.entrySet().stream()
+                .sorted( Comparator.comparingLong( ( Map.Entry< K, LatencyHistogram > o ) -> o.getValue().getSum() ).reversed() )
+                .collect( Collectors.toList() );
+    }
+
+    static String summaryLine( String name, LatencyHistogram histogram ) {
+        return String.format( Locale.ROOT, "  %s: %d calls, total %s, mean %s, p50 %s, p95 %s, max %s", name, histogram.getCount(),
+                formatDuration( histogram.getSum() ), formatDuration( histogram.getMean() ), formatDuration( histogram.getQuantile( 0.5 ) ),
+                formatDuration( histogram.getQuantile( 0.95 ) ), formatDuration( histogram.getMax() ) );
+    }
+
+    static String formatDuration( long nanos ) {
+        if( nanos >= 1_000_000_000L ) {
+            return String.format( Locale.ROOT, "%.2f s", nanos / 1e9 );
+        }
+
+        return String.format( Locale.ROOT, "%.2f ms", nanos / 1e6 );
+    }
+
+    private static String contextName( ExecutionContext context ) {
+        return context.getTestScenario() != null ? context.getTestScenario().getName() + "/" + context.getName() : context.getName();
+    }
+
+    private static String actionName( AAction action ) {
+        return action.getScenario() != null ? String.format( "%s (%s)", action.getCommand(), action.getScenario().getName() ) : action.getCommand();
+    }
+
+    /**
+     * Writes all histograms except the ones per single action in the Prometheus text format.
+     *
+     * @param registry Registry to write.
+     * @param file File to write to. Will be overwritten.
+     * @throws ResultException if the file could not be written.
+     */
+    public static void writePrometheus( MetricsRegistry registry, Path file ) {
+        try( BufferedWriter writer = Files.newBufferedWriter( file, StandardCharsets.UTF_8 ) ) {
+            StringBuilder text = new StringBuilder();
+
+            appendFamily( text, "action_duration_seconds", "Duration of actions by type.", registry.getActionTypes(),
+                    o -> label( "action", MetricsRegistry.getActionName( o ) ) );
+            appendFamily( text, "test_duration_seconds", "Duration of tests.", registry.getTests(),
+                    o -> scenarioLabel( o ) + "," + label( "test", o.getName() ) );
+            appendFamily( text, "method_duration_seconds", "Duration of method calls.", registry.getMethods(),
+                    o -> scenarioLabel( o ) + "," + label( "method", o.getName() ) );
+            appendFamily( text, "scenario_duration_seconds", "Duration of scenarios.", registry.getScenarios(),
+                    o -> label( "scenario", o.getName() ) );
+
+            writer.append( text );
+        }
+        catch( IOException e ) {
+            throw new ResultException( String.format( "Could not write metrics file %s", file ), e );
+        }
+    }
+
+    private static < K > void appendFamily( StringBuilder text, String name, String help, Map< K, LatencyHistogram > histograms, Function< K, String > labels ) {
+        String metric = PREFIX + name;
+
+        text.append( "# HELP " ).append( metric ).append( ' ' ).append( help ).append( '\n' );
+        text.append( "# TYPE " ).append( metric ).append( " histogram\n" );
+
+        for( Map.Entry< K, LatencyHistogram > entry : histograms.entrySet() ) {
+            String label = labels.apply( entry.getKey() );
+            LatencyHistogram histogram = entry.getValue();
+            long cumulative = 0;
+
+            for( int i = 0; i < LatencyHistogram.getBucketCount(); i++ ) {
+                cumulative += histogram.getBucket( i );
+
+                long bound = LatencyHistogram.getBucketBound( i );
+                String le = bound == Long.MAX_VALUE ? "+Inf" : seconds( bound );
+
+                text.append( metric ).append( "_bucket{" ).append( label ).append( ",le=\"" ).append( le ).append( "\"} " ).append( cumulative ).append( '\n' );
+            }
+
+            text.append( metric ).append( "_sum{" ).append( label ).append( "} " ).append( seconds( histogram.getSum() ) ).append( '\n' );
+            text.append( metric ).append( "_count{" ).append( label ).append( "} " ).append( histogram.getCount() ).append( '\n' );
+        }
+    }
+
+    private static String scenarioLabel( ExecutionContext context ) {
+        return label( "scenario", context.getTestScenario() != null ? context.getTestScenario().getName() : "" );
+    }
+
+    private static String label( String name, String value ) {
+        String escaped = String.valueOf( value ).replace( "\\", "\\\\" ).replace( "\"", "\\\"" ).replace( "\n", "\\n" );
+
+        return name + "=\"" + escaped + "\"";
+    }
+
+    private static String seconds( long nanos ) {
+        return String.valueOf( nanos / 1e9 );
+    }
+}
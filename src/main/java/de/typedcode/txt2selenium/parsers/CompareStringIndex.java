@@ -0,0 +1,409 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.parsers;
+
+import de.typedcode.txt2selenium.exceptions.ParseException;
+import de.typedcode.txt2selenium.util.UnitLogger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Read-only view on a compare strings file that does not load the strings into the heap. The file is
+ * memory-mapped and an index holds the offsets of all lines sorted by their keys, so a value is found by a binary
+ * search over the mapped bytes and only the requested value is decoded.
+ *
+ * The index is stored inside the {@link TestCache#CACHE_FOLDER} of the main directory and is reused as long as
+ * size and CRC32C checksum of the compare strings file match. The checksum is computed over the mapped file on every
+ * open, so an edit keeping size and modification time is detected as well.
+ *
+ * Layout of an index file: magic, version, size, checksum, number of keys and the sorted offsets.
+ */
+public class CompareStringIndex {
+
+    private static final String INDEX_FILE_EXTENSION = ".t2si";
+    private static final int MAGIC = 0x54325349;
+    private static final int VERSION = 2;
+    private static final int HEADER_LENGTH = 28;
+
+    private final ByteBuffer content;
+
+    /**
+     * Offsets of the lines in <code>content</code>, sorted by their keys.
+     */
+    private final IntBuffer offsets;
+
+    private CompareStringIndex( ByteBuffer content, IntBuffer offsets ) {
+        this.content = content;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Opens the compare strings file. The index is loaded from the cache folder or built if it is missing or
+     * outdated.
+     *
+     * @param stringFile Compare strings file to open.
+     * @return Index of the file.
+     * @throws ParseException if the file could not be read or contains a key twice.
+     */
+    public static CompareStringIndex open( Path stringFile ) {
+        try {
+            ByteBuffer content = LineTokenizer.read( stringFile );
+            long size = content.limit();
+            Optional< Path > indexFile = TestCache.getCacheFile( stringFile, INDEX_FILE_EXTENSION );
+            long checksum = indexFile.isPresent() ? checksum( content ) : 0;
+
+            if( indexFile.isPresent() ) {
+                Optional< IntBuffer > offsets = readIndex( indexFile.get(), size, checksum );
+
+                if( offsets.isPresent() ) {
+                    return new CompareStringIndex( content, offsets.get() );
+                }
+            }
+
+            int[] offsets = buildIndex( content );
+
+            if( indexFile.isPresent() && writeIndex( indexFile.get(), size, checksum, offsets ) ) {
+                Optional< IntBuffer > mappedOffsets = readIndex( indexFile.get(), size, checksum );
+
+                if( mappedOffsets.isPresent() ) {
+                    return new CompareStringIndex( content, mappedOffsets.get() );
+                }
+            }
+
+            return new CompareStringIndex( content, IntBuffer.wrap( offsets ) );
+        } catch( IOException e ) {
+            throw new ParseException( "Error reading File.", e );
+        }
+    }
+
+    /**
+     * @return Number of keys in the file.
+     */
+    public int size() {
+        return this.offsets.limit();
+    }
+
+    /**
+     * Returns the value for the given key.
+     *
+     * @param key Key to search for.
+     * @return Value of the key or null if the file does not contain the key.
+     */
+    public String get( String key ) {
+        byte[] keyBytes = key.getBytes( StandardCharsets.UTF_8 );
+
+        int low = 0;
+        int high = size() - 1;
+
+        while( low <= high ) {
+            int middle = ( low + high ) >>> 1;
+            int comparison = compareKey( this.offsets.get( middle ), keyBytes );
+
+            if( comparison < 0 ) {
+                low = middle + 1;
+            }
+            else if( comparison > 0 ) {
+                high = middle - 1;
+            }
+            else {
+                return getValue( middle );
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param index Position in the sorted index.
+     * @return Key at the given position.
+     */
+    public String getKey( int index ) {
+        int offset = this.offsets.get( index );
+
+        return decode( offset, keyEnd( this.content, offset ) );
+    }
+
+    /**
+     * @param index Position in the sorted index.
+     * @return Value at the given position.
+     */
+    public String getValue( int index ) {
+        int offset = this.offsets.get( index );
+        int keyEnd = keyEnd( this.content, offset );
+        int lineEnd = lineEnd( this.content, offset );
+
+        return keyEnd == lineEnd ? "" : decode( keyEnd + 1, lineEnd );
+    }
+
+    private String decode( int from, int to ) {
+        byte[] bytes = new byte[ to - from ];
+
+        for( int i = 0; i < bytes.length; i++ ) {
+            bytes[ i ] = this.content.get( from + i );
+        }
+
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
+    private int compareKey( int offset, byte[] key ) {
+        int keyEnd = keyEnd( this.content, offset );
+        int length = keyEnd - offset;
+
+        for( int i = 0; i < Math.min( length, key.length ); i++ ) {
+            int comparison = Integer.compare( this.content.get( offset + i ) & 0xFF, key[ i ] & 0xFF );
+
+            if( comparison != 0 ) {
+                return comparison;
+            }
+        }
+
+        return Integer.compare( length, key.length );
+    }
+
+    private static int compareKeys( ByteBuffer content, int first, int second ) {
+        int firstEnd = keyEnd( content, first );
+        int secondEnd = keyEnd( content, second );
+        int length = Math.min( firstEnd - first, secondEnd - second );
+
+        for( int i = 0; i < length; i++ ) {
+            int comparison = Integer.compare( content.get( first + i ) & 0xFF, content.get( second + i ) & 0xFF );
+
+            if( comparison != 0 ) {
+                return comparison;
+            }
+        }
+
+        return Integer.compare( firstEnd - first, secondEnd - second );
+    }
+
+    private static int keyEnd( ByteBuffer content, int offset ) {
+        int index = offset;
+
+        while( index < content.limit() ) {
+            byte current = content.get( index );
+
+            if( current == ' ' || current == '\n' || current == '\r' ) {
+                break;
+            }
+
+            index++;
+        }
+
+        return index;
+    }
+
+    private static int lineEnd( ByteBuffer content, int offset ) {
+        int index = offset;
+
+        while( index < content.limit() && content.get( index ) != '\n' && content.get( index ) != '\r' ) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static long checksum( ByteBuffer content ) {
+        CRC32C checksum = new CRC32C();
+        checksum.update( content.duplicate() );
+
+        return checksum.getValue();
+    }
+
+    /**
+     * Collects the offsets of all lines with a key and sorts them by key. Lines are skipped under the same
+     * conditions as in {@link CompareStringParser}.
+     *
+     * The lines are sorted by the first four bytes of their keys first, packed with the number of the line into a
+     * long, so most comparisons neither box nor read the content. Lines with equal prefixes are then sorted by
+     * {@link #sortByKey}.
+     */
+    private static int[] buildIndex( ByteBuffer content ) {
+        LineTokenizer tokenizer = new LineTokenizer( content );
+        int[] lines = new int[ 64 ];
+        int[] lineNumbers = new int[ 64 ];
+        int count = 0;
+
+        while( tokenizer.next() ) {
+            if( !tokenizer.isEmpty() && !tokenizer.startsWithSpace() ) {
+                if( count == lines.length ) {
+                    lines = Arrays.copyOf( lines, count * 2 );
+                    lineNumbers = Arrays.copyOf( lineNumbers, count * 2 );
+                }
+
+                lines[ count ] = tokenizer.getLineStart();
+                lineNumbers[ count ] = tokenizer.getLineNumber();
+                count++;
+            }
+        }
+
+        long[] packed = new long[ count ];
+
+        for( int i = 0; i < count; i++ ) {
+            // Flipping the sign bit sorts the unsigned prefixes in byte order
+            packed[ i ] = ( ( ( long ) keyPrefix( content, lines[ i ] ) << 32 ) ^ Long.MIN_VALUE ) | i;
+        }
+
+        Arrays.sort( packed );
+
+        int[] sorted = new int[ count ];
+
+        for( int i = 0; i < count; i++ ) {
+            sorted[ i ] = ( int ) packed[ i ];
+        }
+
+        int[] buffer = new int[ count ];
+
+        for( int from = 0, to = 1; from < count; from = to++ ) {
+            while( to < count && packed[ to ] >>> 32 == packed[ from ] >>> 32 ) {
+                to++;
+            }
+
+            // Within a prefix the lines are still in file order, the stable sort keeps the later of two equal keys last
+            sortByKey( content, lines, sorted, buffer, from, to );
+        }
+
+        int[] offsets = new int[ count ];
+
+        for( int i = 0; i < count; i++ ) {
+            offsets[ i ] = lines[ sorted[ i ] ];
+
+            if( i > 0 && compareKeys( content, offsets[ i - 1 ], offsets[ i ] ) == 0 ) {
+                throw new ParseException( "Comparestrings contain a doubled key entry at line " + lineNumbers[ sorted[ i ] ] );
+            }
+        }
+
+        return offsets;
+    }
+
+    /**
+     * @return The first four bytes of the key at the offset, padded with zeros.
+     */
+    private static int keyPrefix( ByteBuffer content, int offset ) {
+        int keyEnd = keyEnd( content, offset );
+        int prefix = 0;
+
+        for( int i = 0; i < Integer.BYTES; i++ ) {
+            prefix = ( prefix << 8 ) | ( offset + i < keyEnd ? content.get( offset + i ) & 0xFF : 0 );
+        }
+
+        return prefix;
+    }
+
+    /**
+     * Stable merge sort of the line numbers in <code>sorted</code> between <code>from</code> and <code>to</code> by
+     * the keys of their lines.
+     */
+    private static void sortByKey( ByteBuffer content, int[] lines, int[] sorted, int[] buffer, int from, int to ) {
+        if( to - from < 2 ) {
+            return;
+        }
+
+        int middle = ( from + to ) >>> 1;
+
+        sortByKey( content, lines, sorted, buffer, from, middle );
+        sortByKey( content, lines, sorted, buffer, middle, to );
+
+        if( compareKeys( content, lines[ sorted[ middle - 1 ] ], lines[ sorted[ middle ] ] ) <= 0 ) {
+            return;
+        }
+
+        System.arraycopy( sorted, from, buffer, from, to - from );
+
+        for( int i = from, left = from, right = middle; i < to; i++ ) {
+            if( right == to || ( left < middle && compareKeys( content, lines[ buffer[ left ] ], lines[ buffer[ right ] ] ) <= 0 ) ) {
+                sorted[ i ] = buffer[ left++ ];
+            }
+            else {
+                sorted[ i ] = buffer[ right++ ];
+            }
+        }
+    }
+
+    private static Optional< IntBuffer > readIndex( Path indexFile, long size, long checksum ) {
+        if( !Files.exists( indexFile ) ) {
+            return Optional.empty();
+        }
+
+        try( FileChannel channel = FileChannel.open( indexFile, StandardOpenOption.READ ) ) {
+            ByteBuffer index = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+
+            if( index.limit() < HEADER_LENGTH || index.getInt( 0 ) != MAGIC || index.getInt( 4 ) != VERSION
+                    || index.getLong( 8 ) != size || index.getLong( 16 ) != checksum
+                    || index.limit() != HEADER_LENGTH + index.getInt( 24 ) * Integer.BYTES ) {
+                return Optional.empty();
+            }
+
+            return Optional.of( index.position( HEADER_LENGTH ).slice().asIntBuffer() );
+        } catch( IOException e ) {
+            UnitLogger.logFine( () -> String.format( "Ignoring unreadable index %s: %s", indexFile, e.getMessage() ) );
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the index file. Like the entries of the {@link TestCache} it is written to a temporary file first and
+     * then moved. Failing to write is not an error, the index is kept in memory instead.
+     *
+     * @return true if the index file was written.
+     */
+    private static boolean writeIndex( Path indexFile, long size, long checksum, int[] offsets ) {
+        try {
+            Files.createDirectories( indexFile.getParent() );
+            Path tempFile = Files.createTempFile( indexFile.getParent(), indexFile.getFileName().toString(), ".tmp" );
+
+            try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( tempFile ) ) ) ) {
+                out.writeInt( MAGIC );
+                out.writeInt( VERSION );
+                out.writeLong( size );
+                out.writeLong( checksum );
+                out.writeInt( offsets.length );
+
+                for( int offset : offsets ) {
+                    out.writeInt( offset );
+                }
+            }
+
+            Files.move( tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+
+            return true;
+        } catch( IOException e ) {
+            UnitLogger.logFine( () -> String.format( "Could not write index %s: %s", indexFile, e.getMessage() ) );
+            return false;
+        }
+    }
+}
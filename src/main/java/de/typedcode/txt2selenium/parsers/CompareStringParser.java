@@ -25,12 +25,9 @@
 package de.typedcode.txt2selenium.parsers;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.stream.Stream;
 
 import de.typedcode.txt2selenium.exceptions.ParseException;
 
@@ -57,43 +54,20 @@ public class CompareStringParser {
     public static Map< String, String > parse( Path stringFile ) {
         Map< String, String > result = new HashMap<>();
 
-        try( Stream< ? > stream = Files.lines( stringFile ) ) {
-            String line;
-            String[] split;
-
-            String identifier;
-            String value;
-            int lineNumber = 0;
-
-            Iterator< ? > lineIterator = stream.iterator();
-            while( lineIterator.hasNext() ) {
-                line = ( String ) lineIterator.next();
-
-                lineNumber++;
+        try {
+            LineTokenizer tokenizer = LineTokenizer.open( stringFile );
 
+            while( tokenizer.next() ) {
                 // Skip lines that start with a space
                 // Skip Empty lines
-                if( line == null || line.startsWith( " " ) || line.isEmpty() ) {
+                if( tokenizer.isEmpty() || tokenizer.startsWithSpace() ) {
                     continue;
                 }
 
-                // Split the Line in two parts. Everything before the first space is the part
-                // for the identifier
-                split = line.split( " ", 2 );
-                identifier = split[ 0 ];
-                value = split[ 1 ];
-
-                if( identifier != null ) {
-                    if( value == null ) {
-                        value = "";
-                    }
-
-                    // Check that the identifier is not already taken.
-                    if( result.containsKey( identifier ) ) {
-                        throw new ParseException( "Comparestrings contain a doubled key entry at line " + lineNumber );
-                    }
-
-                    result.put( identifier, value );
+                // Everything before the first space is the part for the identifier, a line without value maps
+                // the identifier to an empty String
+                if( result.putIfAbsent( tokenizer.getKey(), tokenizer.getValue() ) != null ) {
+                    throw new ParseException( "Comparestrings contain a doubled key entry at line " + tokenizer.getLineNumber() );
                 }
             }
         } catch( IOException e ) {
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.parsers;
+
+import de.typedcode.txt2selenium.actions.ActionType;
+
+import java.util.List;
+
+/**
+ * Tokenized content of a test-file: one opcode, parameter and line number per Action. Holds everything needed
+ * to create the Actions without reading or splitting the file again.
+ */
+public class CompiledTest {
+
+    private final ActionType[] types;
+    private final String[] parameters;
+    private final int[] lineNumbers;
+
+    CompiledTest( ActionType[] types, String[] parameters, int[] lineNumbers ) {
+        this.types = types;
+        this.parameters = parameters;
+        this.lineNumbers = lineNumbers;
+    }
+
+    CompiledTest( List< ActionType > types, List< String > parameters, List< Integer > lineNumbers ) {
+        this( types.toArray( new ActionType[ 0 ] ),
+                parameters.toArray( new String[ 0 ] ),
+                lineNumbers.stream().mapToInt( Integer::intValue ).toArray() );
+    }
+
+    /**
+     * Number of Actions in the test.
+     *
+     * @return Number of Actions
+     */
+    public int size() {
+        return this.types.length;
+    }
+
+    public ActionType getType( int index ) {
+        return this.types[ index ];
+    }
+
+    public String getParameters( int index ) {
+        return this.parameters[ index ];
+    }
+
+    public int getLineNumber( int index ) {
+        return this.lineNumbers[ index ];
+    }
+}
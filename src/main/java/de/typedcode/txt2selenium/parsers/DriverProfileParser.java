@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.parsers;
+
+import de.typedcode.txt2selenium.exceptions.ParseException;
+import de.typedcode.txt2selenium.util.DriverProfile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class DriverProfileParser {
+
+    public static final String JAVASCRIPT = "javascript";
+    public static final String CSS = "css";
+    public static final String BLOCK = "block";
+    public static final String BACKGROUND_JAVASCRIPT_WAIT = "backgroundJavaScriptWait";
+
+    private DriverProfileParser() {
+        //Do not instantiate
+    }
+
+    /**
+     * Parses the given File as driver profile.
+     *
+     * Each line sets one setting, the key is separated from the value by a space:
+     * <code>javascript true|false</code>, <code>css true|false</code>, <code>block urlPattern</code> and
+     * <code>backgroundJavaScriptWait milliseconds</code>. <code>block</code> can be used multiple times, every other
+     * setting once. Settings that are not given are inherited.
+     *
+     * @param profileFile File to parse
+     * @return Profile containing the given settings.
+     * @throws ParseException if a setting is unknown, duplicated or has an invalid value or if an IOException is
+     *             thrown.
+     */
+    public static DriverProfile parse( Path profileFile ) {
+        Boolean javascriptEnabled = null;
+        Boolean cssEnabled = null;
+        Long backgroundJavaScriptWait = null;
+        List< Pattern > blockedUrls = new ArrayList<>();
+
+        try {
+            LineTokenizer tokenizer = LineTokenizer.open( profileFile );
+
+            while( tokenizer.next() ) {
+                if( tokenizer.isBlank() || tokenizer.startsWithSpace() ) {
+                    continue;
+                }
+
+                String key = tokenizer.getKey();
+                String value = tokenizer.getValue().trim();
+                int line = tokenizer.getLineNumber();
+
+                switch( key ) {
+                    case JAVASCRIPT:
+                        checkUnset( javascriptEnabled, key, line );
+                        javascriptEnabled = parseBoolean( value, key, line );
+                        break;
+                    case CSS:
+                        checkUnset( cssEnabled, key, line );
+                        cssEnabled = parseBoolean( value, key, line );
+                        break;
+                    case BACKGROUND_JAVASCRIPT_WAIT:
+                        checkUnset( backgroundJavaScriptWait, key, line );
+                        backgroundJavaScriptWait = parseMillis( value, key, line );
+                        break;
+                    case BLOCK:
+                        if( value.isEmpty() ) {
+                            throw new ParseException( String.format( "Driver profile has no URL pattern for '%s' at line %d", key, line ) );
+                        }
+
+                        blockedUrls.add( DriverProfile.compileUrlPattern( value ) );
+                        break;
+                    default:
+                        throw new ParseException( String.format( "Driver profile contains the unknown setting '%s' at line %d", key, line ) );
+                }
+            }
+        } catch( IOException e ) {
+            throw new ParseException( "Error reading File.", e );
+        }
+
+        return new DriverProfile( javascriptEnabled, cssEnabled, backgroundJavaScriptWait, blockedUrls );
+    }
+
+    private static void checkUnset( Object setting, String key, int line ) {
+        if( setting != null ) {
+            throw new ParseException( String.format( "Driver profile contains a doubled setting '%s' at line %d", key, line ) );
+        }
+    }
+
+    private static boolean parseBoolean( String value, String key, int line ) {
+        if( !"true".equals( value ) && !"false".equals( value ) ) {
+            throw new ParseException( String.format( "Driver profile setting '%s' has to be true or false but was '%s' at line %d", key, value, line ) );
+        }
+
+        return Boolean.parseBoolean( value );
+    }
+
+    private static long parseMillis( String value, String key, int line ) {
+        try {
+            long millis = Long.parseLong( value );
+
+            if( millis >= 0 ) {
+                return millis;
+            }
+        }
+        catch( NumberFormatException e ) {
+            // Reported below
+        }
+
+        throw new ParseException( String.format( "Driver profile setting '%s' has to be a number of milliseconds but was '%s' at line %d", key, value, line ) );
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.parsers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Splits UTF-8 encoded files into lines and every line into a key and a value, separated by the first space.
+ * The tokenizer works on the bytes of the file and only creates Strings for the parts that are requested.
+ *
+ * Lines are terminated by <code>\n</code>, <code>\r</code> or <code>\r\n</code>, like {@link String#lines()}.
+ */
+public final class LineTokenizer {
+
+    /**
+     * Files of at least this size are memory-mapped. Smaller files are read, as mapping them costs more than
+     * copying their content.
+     */
+    static final int MAP_THRESHOLD = 64 * 1024;
+
+    private final ByteBuffer content;
+
+    /**
+     * Second view on the content, used to copy parts of a mapped file.
+     */
+    private final ByteBuffer view;
+
+    private final int limit;
+
+    private byte[] scratch = new byte[ 0 ];
+
+    /**
+     * Start of the next line.
+     */
+    private int position;
+
+    private int lineStart;
+    private int lineEnd;
+
+    /**
+     * Index of the first space in the current line, -1 if the line has no space.
+     */
+    private int separator;
+
+    private int lineNumber;
+
+    public LineTokenizer( byte[] content ) {
+        this( ByteBuffer.wrap( content ) );
+    }
+
+    public LineTokenizer( ByteBuffer content ) {
+        this.content = content;
+        this.view = content.duplicate();
+        this.position = content.position();
+        this.limit = content.limit();
+    }
+
+    /**
+     * Opens the given file for tokenizing. Large files are memory-mapped.
+     *
+     * @param file File to tokenize
+     * @return Tokenizer positioned before the first line.
+     * @throws IOException if the file could not be read.
+     */
+    public static LineTokenizer open( Path file ) throws IOException {
+        return new LineTokenizer( read( file ) );
+    }
+
+    /**
+     * Returns the content of the given file. Large files are memory-mapped.
+     *
+     * @param file File to read
+     * @return Content of the file.
+     * @throws IOException if the file could not be read.
+     */
+    static ByteBuffer read( Path file ) throws IOException {
+        try( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) ) {
+            long size = channel.size();
+
+            if( size < MAP_THRESHOLD ) {
+                return ByteBuffer.wrap( Files.readAllBytes( file ) );
+            }
+
+            if( size > Integer.MAX_VALUE ) {
+                throw new IOException( String.format( "File '%s' is too large to be parsed.", file ) );
+            }
+
+            // The mapping stays valid after the channel is closed
+            return channel.map( FileChannel.MapMode.READ_ONLY, 0, size );
+        }
+    }
+
+    /**
+     * Moves to the next line.
+     *
+     * @return false if there is no further line.
+     */
+    public boolean next() {
+        if( this.position >= this.limit ) {
+            return false;
+        }
+
+        int index = this.position;
+        byte current;
+
+        this.lineStart = index;
+        this.separator = -1;
+
+        while( index < this.limit ) {
+            current = this.content.get( index );
+
+            if( current == '\n' || current == '\r' ) {
+                break;
+            }
+
+            if( current == ' ' && this.separator < 0 ) {
+                this.separator = index;
+            }
+
+            index++;
+        }
+
+        this.lineEnd = index;
+
+        if( index + 1 < this.limit && this.content.get( index ) == '\r' && this.content.get( index + 1 ) == '\n' ) {
+            index++;
+        }
+
+        this.position = index + 1;
+        this.lineNumber++;
+
+        return true;
+    }
+
+    /**
+     * @return Index of the first byte of the current line.
+     */
+    int getLineStart() {
+        return this.lineStart;
+    }
+
+    /**
+     * @return Number of the current line, starting at 1.
+     */
+    public int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * @return true if the current line has no characters.
+     */
+    public boolean isEmpty() {
+        return this.lineStart == this.lineEnd;
+    }
+
+    /**
+     * @return true if the current line contains nothing but whitespace, as defined by {@link String#trim()}.
+     */
+    public boolean isBlank() {
+        for( int i = this.lineStart; i < this.lineEnd; i++ ) {
+            if( ( this.content.get( i ) & 0xFF ) > ' ' ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if the current line starts with a space.
+     */
+    public boolean startsWithSpace() {
+        return this.separator == this.lineStart && !isEmpty();
+    }
+
+    /**
+     * Compares the key of the current line with the given bytes without creating a String.
+     *
+     * @param key UTF-8 encoded key to compare with.
+     * @return true if the key of the current line equals the given key.
+     */
+    public boolean keyEquals( byte[] key ) {
+        int keyEnd = getKeyEnd();
+
+        if( keyEnd - this.lineStart != key.length ) {
+            return false;
+        }
+
+        for( int i = 0; i < key.length; i++ ) {
+            if( this.content.get( this.lineStart + i ) != key[ i ] ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return Everything before the first space of the current line, the whole line if there is no space.
+     */
+    public String getKey() {
+        return decode( this.lineStart, getKeyEnd() );
+    }
+
+    /**
+     * @return Everything after the first space of the current line, an empty String if there is no space.
+     */
+    public String getValue() {
+        return this.separator < 0 ? "" : decode( this.separator + 1, this.lineEnd );
+    }
+
+    private int getKeyEnd() {
+        return this.separator < 0 ? this.lineEnd : this.separator;
+    }
+
+    private String decode( int from, int to ) {
+        int length = to - from;
+
+        if( this.content.hasArray() ) {
+            return new String( this.content.array(), this.content.arrayOffset() + from, length, StandardCharsets.UTF_8 );
+        }
+
+        if( this.scratch.length < length ) {
+            this.scratch = new byte[ Math.max( length, this.scratch.length * 2 ) ];
+        }
+
+        this.view.position( from );
+        this.view.get( this.scratch, 0, length );
+
+        return new String( this.scratch, 0, length, StandardCharsets.UTF_8 );
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.parsers;
+
+import de.typedcode.txt2selenium.actions.ActionType;
+import de.typedcode.txt2selenium.exceptions.ParseException;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.UnitLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk cache of compiled test-files. Every test-file gets one cache file inside {@link #CACHE_FOLDER} of the
+ * main directory. An entry is valid as long as size and modification time of the test-file match. If only the
+ * modification time differs, the content hash decides.
+ *
+ * Layout of a cache file: magic, version, number of ActionTypes, size, modification time, content hash,
+ * number of Actions and for every Action its opcode, line number and parameters.
+ */
+public class TestCache {
+
+    public static final String CACHE_FOLDER = ".t2scache";
+
+    private static final String CACHE_FILE_EXTENSION = ".t2sc";
+    private static final int MAGIC = 0x54325343;
+    private static final int VERSION = 1;
+    private static final String HASH_ALGORITHM = "SHA-1";
+    private static final int HASH_LENGTH = 20;
+
+    private static TestCache instance;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private TestCache() {
+        //Do not instantiate
+    }
+
+    public static synchronized TestCache getInstance() {
+        if( instance == null ) {
+            instance = new TestCache();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns the compiled test-file. Loads it from the cache if the cache entry is still valid, otherwise the
+     * file is tokenized and the cache entry is written.
+     *
+     * @param testFile File to compile
+     * @return The tokenized Actions of the file
+     * @throws ParseException if the test-file could not be read or parsed.
+     */
+    CompiledTest get( Path testFile ) {
+        Optional< Path > cacheFile = getCacheFile( testFile );
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes( testFile, BasicFileAttributes.class );
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+
+            byte[] content = null;
+
+            if( cacheFile.isPresent() && Files.exists( cacheFile.get() ) ) {
+                try( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( cacheFile.get() ) ) ) ) {
+                    if( in.readInt() == MAGIC && in.readInt() == VERSION && in.readInt() == ActionType.values().length
+                            && in.readLong() == size ) {
+                        boolean sameModified = in.readLong() == modified;
+                        byte[] cachedHash = in.readNBytes( HASH_LENGTH );
+
+                        if( !sameModified ) {
+                            content = Files.readAllBytes( testFile );
+                        }
+
+                        if( sameModified || Arrays.equals( cachedHash, hash( content ) ) ) {
+                            CompiledTest compiledTest = readActions( in );
+                            this.hits.incrementAndGet();
+
+                            if( !sameModified ) {
+                                // Refresh the modification time so the hash does not have to be computed again
+                                write( cacheFile.get(), size, modified, cachedHash, compiledTest );
+                            }
+
+                            return compiledTest;
+                        }
+                    }
+                } catch( IOException | IllegalArgumentException e ) {
+                    UnitLogger.logFine( () -> String.format( "Ignoring unreadable cache entry for %s: %s", testFile, e.getMessage() ) );
+                }
+            }
+
+            if( content == null ) {
+                content = Files.readAllBytes( testFile );
+            }
+
+            CompiledTest compiledTest = TestFileParser.tokenize( testFile, content );
+            this.misses.incrementAndGet();
+
+            if( cacheFile.isPresent() ) {
+                write( cacheFile.get(), size, modified, hash( content ), compiledTest );
+            }
+
+            return compiledTest;
+        } catch( IOException e ) {
+            throw new ParseException( "Error reading File.", e );
+        }
+    }
+
+    /**
+     * Number of test-files loaded from the cache.
+     *
+     * @return Number of hits
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Number of test-files that had to be tokenized.
+     *
+     * @return Number of misses
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    private static CompiledTest readActions( DataInputStream in ) throws IOException {
+        int count = in.readInt();
+
+        ActionType[] types = new ActionType[ count ];
+        String[] parameters = new String[ count ];
+        int[] lineNumbers = new int[ count ];
+
+        for( int i = 0; i < count; i++ ) {
+            types[ i ] = ActionType.getType( in.readUnsignedByte() );
+            lineNumbers[ i ] = in.readInt();
+            parameters[ i ] = new String( in.readNBytes( in.readInt() ), StandardCharsets.UTF_8 );
+        }
+
+        return new CompiledTest( types, parameters, lineNumbers );
+    }
+
+    /**
+     * Writes the cache file. The file is written to a temporary file first and then moved, so concurrent readers
+     * never see a partially written entry. Failing to write is not an error, the test-file will be tokenized again.
+     */
+    private static void write( Path cacheFile, long size, long modified, byte[] hash, CompiledTest compiledTest ) {
+        try {
+            Files.createDirectories( cacheFile.getParent() );
+            Path tempFile = Files.createTempFile( cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp" );
+
+            try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( tempFile ) ) ) ) {
+                out.writeInt( MAGIC );
+                out.writeInt( VERSION );
+                out.writeInt( ActionType.values().length );
+                out.writeLong( size );
+                out.writeLong( modified );
+                out.write( hash );
+                out.writeInt( compiledTest.size() );
+
+                for( int i = 0; i < compiledTest.size(); i++ ) {
+                    byte[] parameters = compiledTest.getParameters( i ).getBytes( StandardCharsets.UTF_8 );
+
+                    out.writeByte( compiledTest.getType( i ).ordinal() );
+                    out.writeInt( compiledTest.getLineNumber( i ) );
+                    out.writeInt( parameters.length );
+                    out.write( parameters );
+                }
+            }
+
+            Files.move( tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        } catch( IOException e ) {
+            UnitLogger.logFine( () -> String.format( "Could not write cache entry %s: %s", cacheFile, e.getMessage() ) );
+        }
+    }
+
+    private static Optional< Path > getCacheFile( Path testFile ) {
+        return getCacheFile( testFile, CACHE_FILE_EXTENSION );
+    }
+
+    /**
+     * Returns the file inside {@link #CACHE_FOLDER} to store derived data of the given file in.
+     *
+     * @param file File the data is derived from
+     * @param extension Extension of the cache file, including the dot
+     * @return The cache file or an empty Optional if no main directory is configured.
+     */
+    static Optional< Path > getCacheFile( Path file, String extension ) {
+        return Configuration.getInstance().getMainDirectory().map( o -> o.resolve( CACHE_FOLDER ).resolve(
+                toHex( hash( file.toAbsolutePath().normalize().toString().getBytes( StandardCharsets.UTF_8 ) ) )
+                        + extension ) );
+    }
+
+    private static byte[] hash( byte[] content ) {
+        try {
+            return MessageDigest.getInstance( HASH_ALGORITHM ).digest( content );
+        } catch( NoSuchAlgorithmException e ) {
+            // Every Java platform has to support SHA-1
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static String toHex( byte[] bytes ) {
+        StringBuilder result = new StringBuilder( bytes.length * 2 );
+
+        for( byte b : bytes ) {
+            result.append( String.format( "%02x", b ) );
+        }
+
+        return result.toString();
+    }
+}
@@ -26,19 +26,30 @@ package de.typedcode.txt2selenium.parsers;
 
 import de.typedcode.txt2selenium.actions.AAction;
 import de.typedcode.txt2selenium.actions.ActionFactory;
+import de.typedcode.txt2selenium.actions.ActionProgram;
+import de.typedcode.txt2selenium.actions.ActionType;
 import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
 import de.typedcode.txt2selenium.exceptions.ParseException;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.Configuration;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.util.Iterator;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 public class TestFileParser {
 
+    /**
+     * UTF-8 encoded identifiers of the ActionTypes, indexed by opcode. Used to find the ActionType of a line
+     * without creating a String.
+     */
+    private static final byte[][] IDENTIFIERS = Arrays.stream( ActionType.values() )
+            .map( o -> o.getIdentifier().getBytes( StandardCharsets.UTF_8 ) )
+            .toArray( byte[][]::new );
+
     /**
      * Do not instantiate
      */
@@ -53,78 +64,107 @@ public class TestFileParser {
      *            TestScenario where the Test is located
      * @param testFile
      *            File to parse
-     * @return The first action to execute after parsing the file
+     * @return The actions of the file in the order of execution
      */
-    public static Optional< AAction > parse(TestScenario testScenario, Path testFile ) {
-        AAction firstAction = null;
-        AAction currentAction;
-        AAction lastAction = null;
-
-        try( Stream< ? > stream = Files.lines( testFile ) ) {
-            String line;
-            String[] split;
-
-            int lineNumber = 0;
-
-            Iterator< ? > lineIterator = stream.iterator();
-
-            // get the next line
-            while( lineIterator.hasNext() ) {
-                line = ( String ) lineIterator.next();
-                lineNumber++;
-
-                if( line == null || line.trim().isEmpty() ) {
-                    continue;
-                }
-
-                // first part will be the name of the action, everything after that will be
-                // arguments
-                split = line.split( " ", 2 );
-
-                if( split.length > 0 ) {
-                    currentAction = getaAction(testScenario, testFile, split, lineNumber);
-                    if (currentAction != null) {
-
-                        if (firstAction == null) {
-                            // First Action is also the last action at this point. After this the first
-                            // Action will NOT be changed again.
-                            firstAction = currentAction;
-                            lastAction = currentAction;
-                        } else {
-                            // Last action gets a new successor and will be reset to the just now created
-                            // action
-                            lastAction.setNextAction(currentAction);
-                            lastAction = currentAction;
-                        }
-                    }
-                }
-            }
+    public static ActionProgram parse(TestScenario testScenario, Path testFile ) {
+        return link( testScenario, testFile, compile( testFile ) );
+    }
+
+    /**
+     * Reads and tokenizes a Testfile. If the {@link TestCache} is enabled, unchanged files are loaded from the
+     * cache instead.
+     *
+     * @param testFile
+     *            File to compile
+     * @return The tokenized Actions of the file
+     */
+    public static CompiledTest compile( Path testFile ) {
+        if( Configuration.getInstance().isTestCacheEnabled() ) {
+            return TestCache.getInstance().get( testFile );
+        }
+
+        try {
+            return tokenize( testFile, LineTokenizer.open( testFile ) );
         } catch( IOException e ) {
             throw new ParseException( "Error reading File.", e );
         }
+    }
 
-        return Optional.ofNullable( firstAction );
+    /**
+     * Splits the content of a Testfile into the Actions it describes. Empty lines are skipped.
+     *
+     * @param testFile
+     *            File the content was read from
+     * @param content
+     *            Content of the file
+     * @return The tokenized Actions of the file
+     */
+    static CompiledTest tokenize( Path testFile, byte[] content ) {
+        return tokenize( testFile, new LineTokenizer( content ) );
     }
 
-    private static AAction getaAction(TestScenario testScenario, Path testFile, String[] split, int lineNumber) {
-        AAction currentAction;
-        try {
-            String aName = split[ 0 ];
-            String aParam = "";
+    private static CompiledTest tokenize( Path testFile, LineTokenizer tokenizer ) {
+        List< ActionType > types = new ArrayList<>();
+        List< String > parameters = new ArrayList<>();
+        List< Integer > lineNumbers = new ArrayList<>();
+
+        ActionType type;
 
-            if( split.length == 2 && split[ 1 ] != null ) {
-                aParam = split[ 1 ];
+        while( tokenizer.next() ) {
+            if( tokenizer.isBlank() ) {
+                continue;
             }
 
-            if( aName != null ) {
-                currentAction = ActionFactory.createAction( testScenario, aName, aParam );
-            } else {
-                return null;
+            // first part will be the name of the action, everything after that will be
+            // arguments
+            type = getType( tokenizer );
+
+            if( type == null ) {
+                throw new ParseException( "Error Parsing file '" + testFile.toAbsolutePath().toString()
+                        + "' at line " + tokenizer.getLineNumber(), new ActionInitiationException( "Action '" + tokenizer.getKey() + "' is unknown." ) );
+            }
+
+            types.add( type );
+            parameters.add( tokenizer.getValue() );
+            lineNumbers.add( tokenizer.getLineNumber() );
+        }
+
+        return new CompiledTest( types, parameters, lineNumbers );
+    }
+
+    private static ActionType getType( LineTokenizer tokenizer ) {
+        for( int i = 0; i < IDENTIFIERS.length; i++ ) {
+            if( tokenizer.keyEquals( IDENTIFIERS[ i ] ) ) {
+                return ActionType.getType( i );
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates the Actions of a compiled Testfile in order.
+     *
+     * @param testScenario
+     *            TestScenario where the Test is located
+     * @param testFile
+     *            File the Test was compiled from
+     * @param compiledTest
+     *            Tokenized Actions
+     * @return The actions in the order of execution
+     */
+    public static ActionProgram link( TestScenario testScenario, Path testFile, CompiledTest compiledTest ) {
+        List< AAction > actions = new ArrayList<>( compiledTest.size() );
+
+        for( int i = 0; i < compiledTest.size(); i++ ) {
+            try {
+                actions.add( ActionFactory.createAction( testScenario, compiledTest.getType( i ), compiledTest.getParameters( i ) ) );
+            } catch( ActionInitiationException ai ) {
+                throw new ParseException( "Error Parsing file '" + testFile.toAbsolutePath().toString()
+                        + "' at line " + compiledTest.getLineNumber( i ), ai );
             }
-        } catch( ActionInitiationException ai ) {
-            throw new ParseException( "Error Parsing file '" + testFile.toAbsolutePath().toString()
-                    + "' at line " + lineNumber, ai );
         }
-        return currentAction;
+
+        return ActionProgram.of( actions );
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.results;
+
+import java.util.Optional;
+
+/**
+ * Outcome of a single executed action.
+ */
+public class ActionResult {
+
+    private final String command;
+    private final long durationNanos;
+    private final ResultStatus status;
+    private final String message;
+
+    ActionResult( String command, long durationNanos, ResultStatus status, String message ) {
+        this.command = command;
+        this.durationNanos = durationNanos;
+        this.status = status;
+        this.message = message;
+    }
+
+    public String getCommand() {
+        return this.command;
+    }
+
+    public long getDurationNanos() {
+        return this.durationNanos;
+    }
+
+    public ResultStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * @return Failure or error message. Empty if the action passed.
+     */
+    public Optional< String > getMessage() {
+        return Optional.ofNullable( this.message );
+    }
+}
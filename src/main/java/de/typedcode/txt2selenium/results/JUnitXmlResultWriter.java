@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.results;
+
+import de.typedcode.txt2selenium.exceptions.ResultException;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Writes the results as JUnit XML. Every test is written as a <code>testcase</code> as soon as it finished, so the
+ * file grows while the tests run. The scenario of a test is used as class name.
+ *
+ * As the number of tests is not known before the run, the <code>testsuite</code> has no counter attributes.
+ */
+public class JUnitXmlResultWriter implements ResultListener {
+
+    private static final String SUITE_NAME = "txt2Selenium";
+
+    private final Path file;
+    private final Writer writer;
+    private final XMLStreamWriter xml;
+
+    /**
+     * Creates the file and writes the start of the document.
+     *
+     * @param file File to write the results to. Will be overwritten.
+     * @throws ResultException if the file could not be created.
+     */
+    public JUnitXmlResultWriter( Path file ) {
+        this.file = file;
+
+        try {
+            this.writer = Files.newBufferedWriter( file, StandardCharsets.UTF_8 );
+            this.xml = XMLOutputFactory.newInstance().createXMLStreamWriter( this.writer );
+
+            this.xml.writeStartDocument( StandardCharsets.UTF_8.name(), "1.0" );
+            this.xml.writeCharacters( "\n" );
+            this.xml.writeStartElement( "testsuite" );
+            this.xml.writeAttribute( "name", SUITE_NAME );
+            this.xml.flush();
+        }
+        catch( IOException | XMLStreamException e ) {
+            throw new ResultException( String.format( "Could not create JUnit XML file %s", file ), e );
+        }
+    }
+
+    @Override
+    public synchronized void testFinished( TestResult result ) {
+        try {
+            this.xml.writeCharacters( "\n  " );
+            this.xml.writeStartElement( "testcase" );
+            this.xml.writeAttribute( "classname", result.getScenarioName().replace( '/', '.' ).replace( '\\', '.' ) );
+            this.xml.writeAttribute( "name", result.getTestName() );
+            this.xml.writeAttribute( "time", String.format( Locale.ROOT, "%.3f", result.getDurationNanos() / 1e9 ) );
+
+            if( result.getError().isPresent() ) {
+                Throwable error = result.getError().get();
+
+                this.xml.writeCharacters( "\n    " );
+                this.xml.writeStartElement( "error" );
+                this.xml.writeAttribute( "message", String.valueOf( error.getMessage() ) );
+                this.xml.writeAttribute( "type", result.getErrorType().orElse( error.getClass().getName() ) );
+                this.xml.writeCharacters( stackTrace( error ) );
+                this.xml.writeEndElement();
+            }
+
+            if( !result.getFailures().isEmpty() ) {
+                this.xml.writeCharacters( "\n    " );
+                this.xml.writeStartElement( "failure" );
+                this.xml.writeAttribute( "message", result.getFailures().get( 0 ) );
+                this.xml.writeCharacters( String.join( "\n", result.getFailures() ) );
+                this.xml.writeEndElement();
+            }
+
+            if( result.getStatus() != ResultStatus.PASSED ) {
+                this.xml.writeCharacters( "\n  " );
+            }
+
+            this.xml.writeEndElement();
+            this.xml.flush();
+        }
+        catch( XMLStreamException e ) {
+            throw new ResultException( String.format( "Could not write to JUnit XML file %s", this.file ), e );
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            this.xml.writeCharacters( "\n" );
+            this.xml.writeEndElement();
+            this.xml.writeEndDocument();
+            this.xml.close();
+            this.writer.close();
+        }
+        catch( IOException | XMLStreamException e ) {
+            throw new ResultException( String.format( "Could not close JUnit XML file %s", this.file ), e );
+        }
+    }
+
+    private static String stackTrace( Throwable throwable ) {
+        StringWriter stackTrace = new StringWriter();
+        throwable.printStackTrace( new PrintWriter( stackTrace ) );
+
+        return stackTrace.toString();
+    }
+}
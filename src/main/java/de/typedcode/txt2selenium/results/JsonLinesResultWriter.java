@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.results;
+
+import de.typedcode.txt2selenium.exceptions.ResultException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes one JSON object per line for every finished test, including the results of its actions. Each line is
+ * flushed immediately, so the file can be followed while the tests run.
+ */
+public class JsonLinesResultWriter implements ResultListener {
+
+    private final Path file;
+    private final BufferedWriter writer;
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * @param file File to write the results to. Will be overwritten.
+     * @throws ResultException if the file could not be created.
+     */
+    public JsonLinesResultWriter( Path file ) {
+        this.file = file;
+
+        try {
+            this.writer = Files.newBufferedWriter( file, StandardCharsets.UTF_8 );
+        }
+        catch( IOException e ) {
+            throw new ResultException( String.format( "Could not create result file %s", file ), e );
+        }
+    }
+
+    @Override
+    public synchronized void testFinished( TestResult result ) {
+        this.line.setLength( 0 );
+
+        this.line.append( '{' );
+        appendField( "scenario", result.getScenarioName() ).append( ',' );
+        appendField( "test", result.getTestName() ).append( ',' );
+        appendField( "path", result.getPath().toString() ).append( ',' );
+        appendField( "status", result.getStatus().getIdentifier() ).append( ',' );
+        appendDuration( result.getDurationNanos() ).append( ',' );
+        appendStrings( "failures", result.getFailures() );
+
+        if( result.getError().isPresent() ) {
+            this.line.append( ',' );
+            appendField( "error", String.valueOf( result.getError().get().getMessage() ) );
+        }
+
+        this.line.append( ",\"actions\":[" );
+
+        List< ActionResult > actions = result.getActions();
+
+        for( int i = 0; i < actions.size(); i++ ) {
+            ActionResult action = actions.get( i );
+
+            if( i > 0 ) {
+                this.line.append( ',' );
+            }
+
+            this.line.append( '{' );
+            appendField( "command", action.getCommand() ).append( ',' );
+            appendField( "status", action.getStatus().getIdentifier() ).append( ',' );
+            appendDuration( action.getDurationNanos() );
+
+            Optional< String > message = action.getMessage();
+
+            if( message.isPresent() ) {
+                this.line.append( ',' );
+                appendField( "message", message.get() );
+            }
+
+            this.line.append( '}' );
+        }
+
+        this.line.append( "]}" ).append( '\n' );
+
+        try {
+            this.writer.append( this.line );
+            this.writer.flush();
+        }
+        catch( IOException e ) {
+            throw new ResultException( String.format( "Could not write to result file %s", this.file ), e );
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            this.writer.close();
+        }
+        catch( IOException e ) {
+            throw new ResultException( String.format( "Could not close result file %s", this.file ), e );
+        }
+    }
+
+    private StringBuilder appendDuration( long nanos ) {
+        return this.line.append( "\"durationMs\":" ).append( nanos / 1_000_000.0 );
+    }
+
+    private StringBuilder appendStrings( String name, List< String > values ) {
+        this.line.append( '"' ).append( name ).append( "\":[" );
+
+        for( int i = 0; i < values.size(); i++ ) {
+            if( i > 0 ) {
+                this.line.append( ',' );
+            }
+
+            appendString( values.get( i ) );
+        }
+
+        return this.line.append( ']' );
+    }
+
+    private StringBuilder appendField( String name, String value ) {
+        this.line.append( '"' ).append( name ).append( "\":" );
+
+        return appendString( value );
+    }
+
+    private StringBuilder appendString( String value ) {
+        this.line.append( '"' );
+
+        for( int i = 0; i < value.length(); i++ ) {
+            char c = value.charAt( i );
+
+            switch( c ) {
+                case '"':
+                    this.line.append( "\\\"" );
+                    break;
+                case '\\':
+                    this.line.append( "\\\\" );
+                    break;
+                case '\n':
+                    this.line.append( "\\n" );
+                    break;
+                case '\r':
+                    this.line.append( "\\r" );
+                    break;
+                case '\t':
+                    this.line.append( "\\t" );
+                    break;
+                default:
+                    if( c < 0x20 ) {
+                        this.line.append( String.format( "\\u%04x", ( int ) c ) );
+                    }
+                    else {
+                        this.line.append( c );
+                    }
+                    break;
+            }
+        }
+
+        return this.line.append( '"' );
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.results;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Converts a {@link TestResult} into a flat list of strings and back, so results can be passed from a worker
+ * process to the coordinator. Values that are not present are encoded as null.
+ */
+public final class ResultCodec {
+
+    private ResultCodec() {
+        //Do not instantiate
+    }
+
+    /**
+     * @param result Result to encode.
+     * @return Fields describing the result, some of them may be null.
+     */
+    public static List< String > encode( TestResult result ) {
+        List< String > fields = new ArrayList<>();
+
+        fields.add( result.getScenarioName() );
+        fields.add( result.getTestName() );
+        fields.add( result.getPath().toString() );
+        fields.add( Long.toString( result.getDurationNanos() ) );
+
+        Throwable error = result.getError().orElse( null );
+        fields.add( result.getErrorType().orElse( null ) );
+        fields.add( error != null ? error.getMessage() : null );
+        fields.add( error != null ? stackTrace( error ) : null );
+
+        fields.add( Integer.toString( result.getFailures().size() ) );
+        fields.addAll( result.getFailures() );
+
+        fields.add( Integer.toString( result.getActions().size() ) );
+
+        for( ActionResult action : result.getActions() ) {
+            fields.add( action.getCommand() );
+            fields.add( Long.toString( action.getDurationNanos() ) );
+            fields.add( action.getStatus().name() );
+            fields.add( action.getMessage().orElse( null ) );
+        }
+
+        return fields;
+    }
+
+    /**
+     * @param fields Fields created by {@link #encode(TestResult)}.
+     * @return The encoded result. An error of the test is restored with its message and stack trace but not its
+     * class, see {@link TestResult#getErrorType()}.
+     * @throws IllegalArgumentException if the fields do not describe a result.
+     */
+    public static TestResult decode( List< String > fields ) {
+        Iterator< String > iterator = fields.iterator();
+
+        try {
+            String scenarioName = iterator.next();
+            String testName = iterator.next();
+            Path path = Path.of( iterator.next() );
+            long durationNanos = Long.parseLong( iterator.next() );
+
+            String errorType = iterator.next();
+            String errorMessage = iterator.next();
+            String stackTrace = iterator.next();
+
+            int failureCount = Integer.parseInt( iterator.next() );
+            List< String > failures = new ArrayList<>( failureCount );
+
+            for( int i = 0; i < failureCount; i++ ) {
+                failures.add( iterator.next() );
+            }
+
+            int actionCount = Integer.parseInt( iterator.next() );
+            List< ActionResult > actions = new ArrayList<>( actionCount );
+
+            for( int i = 0; i < actionCount; i++ ) {
+                actions.add( new ActionResult( iterator.next(), Long.parseLong( iterator.next() ),
+                        ResultStatus.valueOf( iterator.next() ), iterator.next() ) );
+            }
+
+            if( iterator.hasNext() ) {
+                throw new IllegalArgumentException( "Test result contains unexpected fields." );
+            }
+
+            Throwable error = errorType != null ? new TransferredError( errorMessage, stackTrace ) : null;
+
+            return new TestResult( scenarioName, testName, path, durationNanos, failures, error, errorType, actions );
+        }
+        catch( NoSuchElementException | NullPointerException e ) {
+            throw new IllegalArgumentException( "Test result is incomplete.", e );
+        }
+    }
+
+    private static String stackTrace( Throwable throwable ) {
+        StringWriter stackTrace = new StringWriter();
+        throwable.printStackTrace( new PrintWriter( stackTrace ) );
+
+        return stackTrace.toString();
+    }
+
+    /**
+     * Error of a test that ran in another process. Prints the stack trace of the original error.
+     */
+    private static class TransferredError extends RuntimeException {
+
+        private static final long serialVersionUID = -3021775309473611702L;
+
+        private final String stackTrace;
+
+        TransferredError( String message, String stackTrace ) {
+            super( message, null, false, false );
+            this.stackTrace = stackTrace != null ? stackTrace : "";
+        }
+
+        @Override
+        public void printStackTrace( PrintWriter writer ) {
+            writer.print( this.stackTrace );
+        }
+
+        @Override
+        public void printStackTrace( PrintStream stream ) {
+            stream.print( this.stackTrace );
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.results;
+
+import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.executionContext.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the outcome and duration of every test and action and passes the result of a test to the
+ * {@link ResultListener}s as soon as the test finished. Only the results of running tests are kept in memory.
+ *
+ * Nothing is recorded while no listener is registered.
+ */
+public class ResultRecorder {
+
+    private static ResultRecorder instance;
+
+    private final List< ResultListener > listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Recording of the test running on the current thread.
+     */
+    private final ThreadLocal< Recording > recording = new ThreadLocal<>();
+
+    private final AtomicInteger tests = new AtomicInteger();
+    private final AtomicInteger failedTests = new AtomicInteger();
+    private final AtomicInteger erroneousTests = new AtomicInteger();
+
+    private ResultRecorder() {
+        //Do not instantiate
+    }
+
+    public static synchronized ResultRecorder getInstance() {
+        if( instance == null ) {
+            instance = new ResultRecorder();
+        }
+
+        return instance;
+    }
+
+    public void addListener( ResultListener listener ) {
+        this.listeners.add( listener );
+    }
+
+    /**
+     * @return true if at least one listener is registered.
+     */
+    public boolean isEnabled() {
+        return !this.listeners.isEmpty();
+    }
+
+    /**
+     * Starts the recording of a test on the current thread.
+     *
+     * @param test Test that is about to run.
+     */
+    public void testStarted( Test test ) {
+        if( isEnabled() ) {
+            this.recording.set( new Recording( test ) );
+        }
+    }
+
+    /**
+     * Finishes the recording of the test running on the current thread and passes its result to the listeners.
+     *
+     * @param error Exception that aborted the test. null if the test ran to its end.
+     */
+    public void testFinished( Throwable error ) {
+        Recording current = this.recording.get();
+
+        if( current == null ) {
+            return;
+        }
+
+        this.recording.remove();
+
+        recordResult( current.finish( error ) );
+    }
+
+    /**
+     * Records an erroneous result for a test that could not finish, e.g. because the worker process running it
+     * exited. No actions are recorded for the test.
+     *
+     * @param test Test that did not finish.
+     * @param error Reason the test did not finish.
+     */
+    public void recordError( Test test, Throwable error ) {
+        recordResult( new TestResult( getScenarioName( test ), test.getName(), test.getPath(), 0, List.of(), error, List.of() ) );
+    }
+
+    /**
+     * Counts the result of a finished test and passes it to the listeners, e.g. a result received from a worker
+     * process.
+     *
+     * @param result Result of the test.
+     */
+    public void recordResult( TestResult result ) {
+        this.tests.incrementAndGet();
+
+        if( result.getStatus() == ResultStatus.FAILED ) {
+            this.failedTests.incrementAndGet();
+        }
+        else if( result.getStatus() == ResultStatus.ERROR ) {
+            this.erroneousTests.incrementAndGet();
+        }
+
+        this.listeners.forEach( o -> o.testFinished( result ) );
+    }
+
+    /**
+     * Marks the start of an action of the test running on the current thread.
+     *
+     * @param action Action that is about to run.
+     */
+    public void actionStarted( AAction action ) {
+        Recording current = this.recording.get();
+
+        if( current != null ) {
+            current.actionStarted( action );
+        }
+    }
+
+    /**
+     * Marks the end of the last started action of the test running on the current thread.
+     *
+     * @param error Exception thrown by the action. null if the action ran to its end.
+     */
+    public void actionFinished( Throwable error ) {
+        Recording current = this.recording.get();
+
+        if( current != null ) {
+            current.actionFinished( error );
+        }
+    }
+
+    /**
+     * Marks the running action and its test as failed.
+     *
+     * @param message Description of the failure.
+     */
+    public void recordFailure( String message ) {
+        Recording current = this.recording.get();
+
+        if( current != null ) {
+            current.failure( message );
+        }
+    }
+
+    /**
+     * Closes and removes all listeners.
+     */
+    public void close() {
+        this.listeners.forEach( ResultListener::close );
+        this.listeners.clear();
+    }
+
+    /**
+     * Removes all listeners without closing them and resets the counters.
+     */
+    public void clear() {
+        this.listeners.clear();
+        this.tests.set( 0 );
+        this.failedTests.set( 0 );
+        this.erroneousTests.set( 0 );
+    }
+
+    public int getTestCount() {
+        return this.tests.get();
+    }
+
+    public int getFailedTestCount() {
+        return this.failedTests.get();
+    }
+
+    public int getErroneousTestCount() {
+        return this.erroneousTests.get();
+    }
+
+    /**
+     * Results of a single running test. Only used by the thread running the test.
+     */
+    private static class Recording {
+
+        private final Test test;
+        private final long start = System.nanoTime();
+
+        private final Deque< RunningAction > runningActions = new ArrayDeque<>();
+        private final List< ActionResult > actions = new ArrayList<>();
+        private final List< String > failures = new ArrayList<>();
+
+        Recording( Test test ) {
+            this.test = test;
+        }
+
+        void actionStarted( AAction action ) {
+            this.runningActions.push( new RunningAction( action ) );
+        }
+
+        void actionFinished( Throwable error ) {
+            RunningAction running = this.runningActions.poll();
+
+            if( running == null ) {
+                return;
+            }
+
+            long duration = System.nanoTime() - running.start;
+            ResultStatus status = ResultStatus.PASSED;
+            String message = running.failure;
+
+            if( error != null ) {
+                status = ResultStatus.ERROR;
+                message = error.getMessage();
+            }
+            else if( message != null ) {
+                status = ResultStatus.FAILED;
+            }
+
+            // A method fails if one of its actions failed
+            RunningAction caller = this.runningActions.peek();
+
+            if( caller != null && caller.failure == null && status == ResultStatus.FAILED ) {
+                caller.failure = message;
+            }
+
+            this.actions.add( new ActionResult( running.action.getCommand(), duration, status, message ) );
+        }
+
+        void failure( String message ) {
+            this.failures.add( message );
+
+            RunningAction running = this.runningActions.peek();
+
+            if( running != null && running.failure == null ) {
+                running.failure = message;
+            }
+        }
+
+        TestResult finish( Throwable error ) {
+            return new TestResult( getScenarioName( this.test ), this.test.getName(), this.test.getPath(), System.nanoTime() - this.start,
+                    this.failures, error, this.actions );
+        }
+    }
+
+    private static String getScenarioName( Test test ) {
+        return test.getTestScenario() != null ? Objects.toString( test.getTestScenario().getName(), "" ) : "";
+    }
+
+    private static class RunningAction {
+
+        private final AAction action;
+        private final long start = System.nanoTime();
+        private String failure;
+
+        RunningAction( AAction action ) {
+            this.action = action;
+        }
+    }
+}
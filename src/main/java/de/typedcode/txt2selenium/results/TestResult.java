@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.results;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outcome of an executed test including the results of its actions.
+ */
+public class TestResult {
+
+    private final String scenarioName;
+    private final String testName;
+    private final Path path;
+    private final long durationNanos;
+    private final ResultStatus status;
+    private final List< String > failures;
+    private final Throwable error;
+    private final String errorType;
+    private final List< ActionResult > actions;
+
+    TestResult( String scenarioName, String testName, Path path, long durationNanos, List< String > failures, Throwable error, List< ActionResult > actions ) {
+        this( scenarioName, testName, path, durationNanos, failures, error, error != null ? error.getClass().getName() : null, actions );
+    }
+
+    /**
+     * @param errorType Class name of the error. Differs from the class of <code>error</code> if the error was
+     *                  transferred from another process.
+     */
+    TestResult( String scenarioName, String testName, Path path, long durationNanos, List< String > failures, Throwable error, String errorType, List< ActionResult > actions ) {
+        this.scenarioName = scenarioName;
+        this.testName = testName;
+        this.path = path;
+        this.durationNanos = durationNanos;
+        this.failures = failures;
+        this.error = error;
+        this.errorType = errorType;
+        this.actions = actions;
+
+        if( error != null ) {
+            this.status = ResultStatus.ERROR;
+        }
+        else if( !failures.isEmpty() ) {
+            this.status = ResultStatus.FAILED;
+        }
+        else {
+            this.status = ResultStatus.PASSED;
+        }
+    }
+
+    public String getScenarioName() {
+        return this.scenarioName;
+    }
+
+    public String getTestName() {
+        return this.testName;
+    }
+
+    public Path getPath() {
+        return this.path;
+    }
+
+    public long getDurationNanos() {
+        return this.durationNanos;
+    }
+
+    public ResultStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * @return Messages of all failures in the order they occurred.
+     */
+    public List< String > getFailures() {
+        return this.failures;
+    }
+
+    /**
+     * @return Exception that aborted the test. Empty if the test ran to its end.
+     */
+    public Optional< Throwable > getError() {
+        return Optional.ofNullable( this.error );
+    }
+
+    /**
+     * @return Class name of the exception that aborted the test. Empty if the test ran to its end.
+     */
+    public Optional< String > getErrorType() {
+        return Optional.ofNullable( this.errorType );
+    }
+
+    /**
+     * @return Results of the executed actions in the order they finished. Actions of called methods are included.
+     */
+    public List< ActionResult > getActions() {
+        return this.actions;
+    }
+}
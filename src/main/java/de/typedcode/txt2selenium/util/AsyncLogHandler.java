@@ -0,0 +1,299 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Handler that hands the records to a single writer thread. Records are kept in a bounded ring buffer, the writer
+ * takes all buffered records at once, formats them and writes them as one batch.
+ */
+class AsyncLogHandler extends Handler {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern( "yyyy-MM-dd HH:mm:ss" ).withZone( ZoneId.systemDefault() );
+
+    private final LogRecord[] buffer;
+    private final LogOverflowPolicy overflowPolicy;
+    private final List< Writer > writers;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = this.lock.newCondition();
+    private final Condition notFull = this.lock.newCondition();
+    private final Condition drained = this.lock.newCondition();
+
+    /**
+     * Index of the oldest buffered record.
+     */
+    private int head;
+    private int count;
+    private boolean writing;
+    private boolean closed;
+    private long dropped;
+
+    private final Thread writerThread;
+
+    // Only used by the writer thread
+    private final StringBuilder batch = new StringBuilder();
+    private long lastSecond = -1;
+    private String lastTimestamp;
+
+    /**
+     * @param capacity Number of records the buffer can hold.
+     * @param overflowPolicy What to do with new records if the buffer is full.
+     * @param writers Writers to write the formatted records to. Closed together with the handler.
+     */
+    AsyncLogHandler( int capacity, LogOverflowPolicy overflowPolicy, List< Writer > writers ) {
+        if( capacity < 1 ) {
+            throw new IllegalArgumentException( String.format( "Log buffer size has to be at least 1 but was %d.", capacity ) );
+        }
+
+        this.buffer = new LogRecord[ capacity ];
+        this.overflowPolicy = overflowPolicy;
+        this.writers = writers;
+
+        this.writerThread = new Thread( this::writeLoop, "txt2Selenium-log-writer" );
+        this.writerThread.setDaemon( true );
+        this.writerThread.start();
+    }
+
+    @Override
+    public void publish( LogRecord record ) {
+        if( !isLoggable( record ) ) {
+            return;
+        }
+
+        this.lock.lock();
+
+        try {
+            if( this.closed ) {
+                return;
+            }
+
+            if( this.count == this.buffer.length ) {
+                switch( this.overflowPolicy ) {
+                    case DROP_NEWEST:
+                        this.dropped++;
+                        return;
+                    case DROP_OLDEST:
+                        this.buffer[ this.head ] = null;
+                        this.head = ( this.head + 1 ) % this.buffer.length;
+                        this.count--;
+                        this.dropped++;
+                        break;
+                    default:
+                        while( this.count == this.buffer.length && !this.closed ) {
+                            this.notFull.awaitUninterruptibly();
+                        }
+
+                        if( this.closed ) {
+                            return;
+                        }
+                        break;
+                }
+            }
+
+            this.buffer[ ( this.head + this.count ) % this.buffer.length ] = record;
+            this.count++;
+            this.notEmpty.signal();
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every record published so far has been written.
+     */
+    @Override
+    public void flush() {
+        this.lock.lock();
+
+        try {
+            while( ( this.count > 0 || this.writing ) && this.writerThread.isAlive() ) {
+                this.drained.await( 100, TimeUnit.MILLISECONDS );
+            }
+        }
+        catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the remaining records and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        this.lock.lock();
+
+        try {
+            this.closed = true;
+            this.notEmpty.signal();
+            this.notFull.signalAll();
+        }
+        finally {
+            this.lock.unlock();
+        }
+
+        try {
+            this.writerThread.join();
+        }
+        catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+
+        for( Writer writer : this.writers ) {
+            try {
+                writer.close();
+            }
+            catch( IOException e ) {
+                reportError( "Could not close log writer", e, ErrorManager.CLOSE_FAILURE );
+            }
+        }
+    }
+
+    /**
+     * Number of records discarded because the buffer was full.
+     *
+     * @return Number of dropped records.
+     */
+    long getDropped() {
+        this.lock.lock();
+
+        try {
+            return this.dropped;
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void writeLoop() {
+        LogRecord[] records = new LogRecord[ this.buffer.length ];
+        long reportedDrops = 0;
+
+        while( true ) {
+            int taken;
+            long drops;
+
+            this.lock.lock();
+
+            try {
+                while( this.count == 0 && !this.closed ) {
+                    this.writing = false;
+                    this.drained.signalAll();
+                    this.notEmpty.awaitUninterruptibly();
+                }
+
+                if( this.count == 0 ) {
+                    this.writing = false;
+                    this.drained.signalAll();
+                    return;
+                }
+
+                taken = this.count;
+
+                for( int i = 0; i < taken; i++ ) {
+                    int index = ( this.head + i ) % this.buffer.length;
+                    records[ i ] = this.buffer[ index ];
+                    this.buffer[ index ] = null;
+                }
+
+                this.head = ( this.head + taken ) % this.buffer.length;
+                this.count = 0;
+                this.writing = true;
+                drops = this.dropped;
+
+                this.notFull.signalAll();
+            }
+            finally {
+                this.lock.unlock();
+            }
+
+            if( drops > reportedDrops ) {
+                appendLine( System.currentTimeMillis(), "WARNING", String.format( "%d log records dropped, the log buffer was full", drops - reportedDrops ) );
+                reportedDrops = drops;
+            }
+
+            for( int i = 0; i < taken; i++ ) {
+                appendRecord( records[ i ] );
+                records[ i ] = null;
+            }
+
+            writeBatch();
+        }
+    }
+
+    private void appendRecord( LogRecord record ) {
+        appendLine( record.getMillis(), record.getLevel().getLocalizedName(), record.getMessage() );
+    }
+
+    /**
+     * Formats a line like the synchronous console output: <code>[date time] [LEVEL  ] message</code>
+     */
+    private void appendLine( long millis, String level, String message ) {
+        long second = millis / 1000;
+
+        if( second != this.lastSecond ) {
+            this.lastSecond = second;
+            this.lastTimestamp = TIME_FORMAT.format( Instant.ofEpochMilli( millis ) );
+        }
+
+        this.batch.append( '[' ).append( this.lastTimestamp ).append( "] [" ).append( level );
+
+        for( int i = level.length(); i < 7; i++ ) {
+            this.batch.append( ' ' );
+        }
+
+        this.batch.append( "] " ).append( message ).append( ' ' ).append( System.lineSeparator() );
+    }
+
+    private void writeBatch() {
+        for( Writer writer : this.writers ) {
+            try {
+                writer.append( this.batch );
+                writer.flush();
+            }
+            catch( IOException e ) {
+                reportError( "Could not write log records", e, ErrorManager.WRITE_FAILURE );
+            }
+        }
+
+        this.batch.setLength( 0 );
+    }
+}
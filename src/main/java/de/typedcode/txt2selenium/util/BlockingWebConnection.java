@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+import com.gargoylesoftware.htmlunit.WebClient;
+import com.gargoylesoftware.htmlunit.WebRequest;
+import com.gargoylesoftware.htmlunit.WebResponse;
+import com.gargoylesoftware.htmlunit.WebResponseData;
+import com.gargoylesoftware.htmlunit.util.WebConnectionWrapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Answers requests to URLs blocked by the {@link DriverProfile} of the driver with an empty response instead of
+ * loading them.
+ *
+ * The connection is only closed by its {@link WebClient}, which handles every exception of close(). It is never a
+ * resource of a try-with-resources statement, so the InterruptedException javac warns about cannot be lost.
+ */
+@SuppressWarnings( "try" )
+class BlockingWebConnection extends WebConnectionWrapper {
+
+    private static final int NO_CONTENT = 204;
+
+    private volatile DriverProfile profile = DriverProfile.DEFAULT;
+
+    /**
+     * Replaces the connection of the client by this one.
+     *
+     * @param webClient Client whose requests are filtered.
+     */
+    BlockingWebConnection( WebClient webClient ) {
+        super( webClient );
+    }
+
+    void setProfile( DriverProfile profile ) {
+        this.profile = profile;
+    }
+
+    @Override
+    public WebResponse getResponse( WebRequest request ) throws IOException {
+        if( this.profile.isBlocked( request.getUrl().toString() ) ) {
+            UnitLogger.logFine( () -> String.format( "Blocked %s", request.getUrl() ) );
+            return new WebResponse( new WebResponseData( new byte[ 0 ], NO_CONTENT, "No Content", List.of() ), request, 0 );
+        }
+
+        return super.getResponse( request );
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+import com.gargoylesoftware.htmlunit.util.Cookie;
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * State of a test's {@link WebUtil}: the browser session, the read variables and the selected element. Taken by
+ * {@link WebUtil#getState()} and applied by {@link WebUtil#restoreState(BrowserState)}.
+ */
+public final class BrowserState {
+
+    private final SessionSnapshot session;
+    private final String[] readElements;
+    private final By selectedBy;
+
+    /**
+     * Identifies the state, built on first use.
+     */
+    private String key;
+
+    BrowserState( SessionSnapshot session, String[] readElements, By selectedBy ) {
+        this.session = session;
+        this.readElements = readElements.clone();
+        this.selectedBy = selectedBy;
+    }
+
+    SessionSnapshot getSession() {
+        return this.session;
+    }
+
+    String[] getReadElements() {
+        return this.readElements.clone();
+    }
+
+    Optional< By > getSelectedBy() {
+        return Optional.ofNullable( this.selectedBy );
+    }
+
+    /**
+     * States with the same key have the same URL, cookies, local storage, read variables and selection. The
+     * order of cookies and storage entries does not matter.
+     *
+     * @return Key of the state.
+     */
+    public String getKey() {
+        if( this.key == null ) {
+            String cookies = this.session.getCookies().stream()
+                    .sorted( Comparator.comparing( Cookie::toString ) )
+                    .map( Cookie::toString )
+                    .collect( Collectors.joining( "; ", "[", "]" ) );
+            Map< String, String > localStorage = new TreeMap<>( this.session.getLocalStorage() );
+
+            // The variables grow with the read variables known, unset ones at the end do not matter
+            int readCount = this.readElements.length;
+
+            while( readCount > 0 && this.readElements[ readCount - 1 ] == null ) {
+                readCount--;
+            }
+
+            this.key = String.join( "\n", this.session.getUrl(), cookies, localStorage.toString(),
+                    Arrays.toString( Arrays.copyOf( this.readElements, readCount ) ), String.valueOf( this.selectedBy ) );
+        }
+
+        return this.key;
+    }
+}
@@ -43,20 +43,19 @@ public enum ByType {
      *             If the given <code>type</code> is unknown.
      */
     public static ByType getType( String type ) {
-        String lowerCaseType = type.toLowerCase();
-
-        if( NAME.type.equals( lowerCaseType ) ) {
-            return NAME;
-        }
-
-        if( ID.type.equals( lowerCaseType ) ) {
+        // Compare ignoring the case instead of lowercasing, so the lookup does not create a new String
+        if( ID.type.equalsIgnoreCase( type ) ) {
             return ID;
         }
 
-        if( XPATH.type.equals( lowerCaseType ) ) {
+        if( XPATH.type.equalsIgnoreCase( type ) ) {
             return XPATH;
         }
 
+        if( NAME.type.equalsIgnoreCase( type ) ) {
+            return NAME;
+        }
+
         throw new NullPointerException( String.format( "Given type '%s' is unknown.", type ) );
     }
 }
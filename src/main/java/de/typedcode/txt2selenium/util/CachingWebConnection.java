@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+import com.gargoylesoftware.htmlunit.WebClient;
+import com.gargoylesoftware.htmlunit.WebRequest;
+import com.gargoylesoftware.htmlunit.WebResponse;
+import com.gargoylesoftware.htmlunit.util.WebConnectionWrapper;
+
+import java.io.IOException;
+
+/**
+ * Passes the requests of a driver to the {@link HttpCache} shared by all drivers.
+ *
+ * The connection is only closed by its {@link WebClient}, which handles every exception of close(). It is never a
+ * resource of a try-with-resources statement, so the InterruptedException javac warns about cannot be lost.
+ */
+@SuppressWarnings( "try" )
+class CachingWebConnection extends WebConnectionWrapper {
+
+    private final WebClient webClient;
+
+    /**
+     * Replaces the connection of the client by this one.
+     *
+     * @param webClient Client whose requests are cached.
+     */
+    CachingWebConnection( WebClient webClient ) {
+        super( webClient );
+        this.webClient = webClient;
+    }
+
+    @Override
+    public WebResponse getResponse( WebRequest request ) throws IOException {
+        return HttpCache.getInstance().getResponse( request, getWrappedWebConnection(), sendsCredentials( request ) );
+    }
+
+    /**
+     * Cookies are added to the request when it is sent, so the cookies of the client are checked as well.
+     */
+    private boolean sendsCredentials( WebRequest request ) {
+        return request.isAdditionalHeader( "Authorization" ) || request.isAdditionalHeader( "Cookie" )
+                || request.getCredentials() != null || request.getUrlCredentials() != null
+                || !this.webClient.getCookies( request.getUrl() ).isEmpty();
+    }
+}
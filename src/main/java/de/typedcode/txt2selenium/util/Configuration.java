@@ -28,10 +28,154 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 public class Configuration {
+    private static final int DEFAULT_MAX_DRIVER_USES = 100;
+
     private static Configuration instance;
 
     private Path mainDirectory;
 
+    /**
+     * Number of worker threads used to execute tests. 1 means sequential execution.
+     */
+    private int threadCount = 1;
+
+    /**
+     * Number of times a pooled driver is handed out before it is replaced. 0 means unlimited.
+     */
+    private int maxDriverUses = DEFAULT_MAX_DRIVER_USES;
+
+    /**
+     * Will be set to true if compiled test-files are cached within the main directory.
+     */
+    private boolean testCacheEnabled;
+
+    /**
+     * Will be set to true if test-files are parsed on their first execution instead of on discovery.
+     */
+    private boolean lazyParsing;
+
+    /**
+     * Will be set to true if every test-file is parsed before the execution starts even if lazy parsing is set.
+     */
+    private boolean validateAll;
+
+    /**
+     * Filter to select the tests to run. If no filter is set, every test will be run.
+     */
+    private TestFilter testFilter;
+
+    /**
+     * Will be set to true if log records are written by a separate thread.
+     */
+    private boolean asyncLogging;
+
+    public static final int DEFAULT_LOG_BUFFER_SIZE = 8192;
+
+    private int logBufferSize = DEFAULT_LOG_BUFFER_SIZE;
+
+    private LogOverflowPolicy logOverflowPolicy = LogOverflowPolicy.BLOCK;
+
+    /**
+     * File the log is additionally written to. Requires asynchronous logging.
+     */
+    private Path logFile;
+
+    /**
+     * File to write the test results to as JUnit XML.
+     */
+    private Path junitXmlFile;
+
+    /**
+     * File to write the test results to as JSON lines.
+     */
+    private Path jsonResultFile;
+
+    /**
+     * Will be set to true if the durations of actions, tests, methods and scenarios are measured.
+     */
+    private boolean metricsEnabled;
+
+    /**
+     * File to write the measured durations to in the Prometheus text format.
+     */
+    private Path metricsFile;
+
+    public static final int DEFAULT_SELECTOR_CACHE_SIZE = 1024;
+
+    /**
+     * Maximum number of selectors kept by the {@link SelectorCache}. 0 disables the cache.
+     */
+    private int selectorCacheSize = DEFAULT_SELECTOR_CACHE_SIZE;
+
+    /**
+     * If true, compare strings are read from an index on the memory-mapped file instead of being loaded into the heap.
+     */
+    private boolean compareStringIndexEnabled;
+
+    public static final int DEFAULT_COMPARE_STRING_CACHE_SIZE = 1024;
+
+    /**
+     * Maximum number of indexed compare strings kept in memory per file.
+     */
+    private int compareStringCacheSize = DEFAULT_COMPARE_STRING_CACHE_SIZE;
+
+    /**
+     * If true, the test directory is watched after the first run and affected tests are executed on every change.
+     */
+    private boolean watchMode;
+
+    /**
+     * If true, the actions of called methods are executed as part of the calling test instead of calling the method.
+     */
+    private boolean inlineMethods;
+
+    /**
+     * Number of worker processes running the tests. 0 runs the tests in this process.
+     */
+    private int workerCount;
+
+    /**
+     * Port of the coordinator if this process is a worker, otherwise 0.
+     */
+    private int workerPort;
+
+    private int workerId;
+
+    /**
+     * If true, durations of the tests are stored and parallel runs execute the longest tests first.
+     */
+    private boolean longestFirst;
+
+    /**
+     * What happens to the execution after an assertion or selection failed.
+     */
+    private FailureMode failureMode = FailureMode.CONTINUE;
+
+    /**
+     * Number of failures after which the whole run is aborted. 0 for no limit.
+     */
+    private int maxFailures;
+
+    /**
+     * Time in milliseconds actions wait for elements to appear or become usable. 0 to not wait at all.
+     */
+    private long waitTimeout;
+
+    /**
+     * If true, HTTP responses are cached in the cache folder of the main directory, see {@link HttpCache}.
+     */
+    private boolean httpCacheEnabled;
+
+    /**
+     * Directory HTTP responses are recorded to.
+     */
+    private Path recordDirectory;
+
+    /**
+     * Directory HTTP responses are replayed from instead of requesting them.
+     */
+    private Path replayDirectory;
+
     private Configuration() {
     }
 
@@ -51,7 +195,362 @@ public class Configuration {
         return Optional.ofNullable( mainDirectory );
     }
 
+    /**
+     * Sets the number of worker threads used to execute tests. Each worker uses its own
+     * {@link WebUtil}.
+     *
+     * @param threadCount Number of worker threads. Has to be at least 1.
+     * @throws IllegalArgumentException if <code>threadCount</code> is lower than 1.
+     */
+    public void setThreadCount( int threadCount ) {
+        if( threadCount < 1 ) {
+            throw new IllegalArgumentException( String.format( "Thread count has to be at least 1 but was %d.", threadCount ) );
+        }
+
+        this.threadCount = threadCount;
+    }
+
+    public int getThreadCount() {
+        return this.threadCount;
+    }
+
+    /**
+     * Sets how often a driver of the {@link DriverPool} is handed out before it is quit and replaced by a new one.
+     *
+     * @param maxDriverUses Maximum number of uses. 0 means unlimited.
+     * @throws IllegalArgumentException if <code>maxDriverUses</code> is negative.
+     */
+    public void setMaxDriverUses( int maxDriverUses ) {
+        if( maxDriverUses < 0 ) {
+            throw new IllegalArgumentException( String.format( "Maximum driver uses must not be negative but was %d.", maxDriverUses ) );
+        }
+
+        this.maxDriverUses = maxDriverUses;
+    }
+
+    public int getMaxDriverUses() {
+        return this.maxDriverUses;
+    }
+
+    public void setTestCacheEnabled( boolean testCacheEnabled ) {
+        this.testCacheEnabled = testCacheEnabled;
+    }
+
+    public boolean isTestCacheEnabled() {
+        return this.testCacheEnabled;
+    }
+
+    public void setLazyParsing( boolean lazyParsing ) {
+        this.lazyParsing = lazyParsing;
+    }
+
+    public boolean isLazyParsing() {
+        return this.lazyParsing;
+    }
+
+    public void setValidateAll( boolean validateAll ) {
+        this.validateAll = validateAll;
+    }
+
+    public boolean isValidateAll() {
+        return this.validateAll;
+    }
+
+    public void setTestFilter( TestFilter testFilter ) {
+        this.testFilter = testFilter;
+    }
+
+    public Optional< TestFilter > getTestFilter() {
+        return Optional.ofNullable( this.testFilter );
+    }
+
+    public void setAsyncLogging( boolean asyncLogging ) {
+        this.asyncLogging = asyncLogging;
+    }
+
+    public boolean isAsyncLogging() {
+        return this.asyncLogging;
+    }
+
+    /**
+     * Sets the number of log records the asynchronous logging can buffer.
+     *
+     * @param logBufferSize Number of records. Has to be at least 1.
+     * @throws IllegalArgumentException if <code>logBufferSize</code> is lower than 1.
+     */
+    public void setLogBufferSize( int logBufferSize ) {
+        if( logBufferSize < 1 ) {
+            throw new IllegalArgumentException( String.format( "Log buffer size has to be at least 1 but was %d.", logBufferSize ) );
+        }
+
+        this.logBufferSize = logBufferSize;
+    }
+
+    public int getLogBufferSize() {
+        return this.logBufferSize;
+    }
+
+    public void setLogOverflowPolicy( LogOverflowPolicy logOverflowPolicy ) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return this.logOverflowPolicy;
+    }
+
+    public void setLogFile( Path logFile ) {
+        this.logFile = logFile;
+    }
+
+    public Optional< Path > getLogFile() {
+        return Optional.ofNullable( this.logFile );
+    }
+
+    public void setJUnitXmlFile( Path junitXmlFile ) {
+        this.junitXmlFile = junitXmlFile;
+    }
+
+    public Optional< Path > getJUnitXmlFile() {
+        return Optional.ofNullable( this.junitXmlFile );
+    }
+
+    public void setJsonResultFile( Path jsonResultFile ) {
+        this.jsonResultFile = jsonResultFile;
+    }
+
+    public Optional< Path > getJsonResultFile() {
+        return Optional.ofNullable( this.jsonResultFile );
+    }
+
+    public void setMetricsEnabled( boolean metricsEnabled ) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public boolean isMetricsEnabled() {
+        return this.metricsEnabled;
+    }
+
+    public void setMetricsFile( Path metricsFile ) {
+        this.metricsFile = metricsFile;
+    }
+
+    public Optional< Path > getMetricsFile() {
+        return Optional.ofNullable( this.metricsFile );
+    }
+
+    /**
+     * Sets the maximum number of selectors kept by the {@link SelectorCache}.
+     *
+     * @param selectorCacheSize Maximum number of selectors. 0 disables the cache.
+     * @throws IllegalArgumentException if <code>selectorCacheSize</code> is negative.
+     */
+    public void setSelectorCacheSize( int selectorCacheSize ) {
+        if( selectorCacheSize < 0 ) {
+            throw new IllegalArgumentException( String.format( "Selector cache size must not be negative but was %d.", selectorCacheSize ) );
+        }
+
+        this.selectorCacheSize = selectorCacheSize;
+    }
+
+    public int getSelectorCacheSize() {
+        return this.selectorCacheSize;
+    }
+
+    public void setCompareStringIndexEnabled( boolean compareStringIndexEnabled ) {
+        this.compareStringIndexEnabled = compareStringIndexEnabled;
+    }
+
+    public boolean isCompareStringIndexEnabled() {
+        return this.compareStringIndexEnabled;
+    }
+
+    /**
+     * Sets the maximum number of indexed compare strings kept in memory per file.
+     *
+     * @param compareStringCacheSize Maximum number of compare strings. 0 disables the cache.
+     * @throws IllegalArgumentException if <code>compareStringCacheSize</code> is negative.
+     */
+    public void setCompareStringCacheSize( int compareStringCacheSize ) {
+        if( compareStringCacheSize < 0 ) {
+            throw new IllegalArgumentException( String.format( "Compare string cache size must not be negative but was %d.", compareStringCacheSize ) );
+        }
+
+        this.compareStringCacheSize = compareStringCacheSize;
+    }
+
+    public int getCompareStringCacheSize() {
+        return this.compareStringCacheSize;
+    }
+
+    public void setWatchMode( boolean watchMode ) {
+        this.watchMode = watchMode;
+    }
+
+    public boolean isWatchMode() {
+        return this.watchMode;
+    }
+
+    public void setInlineMethods( boolean inlineMethods ) {
+        this.inlineMethods = inlineMethods;
+    }
+
+    public boolean isInlineMethods() {
+        return this.inlineMethods;
+    }
+
+    /**
+     * @param workerCount Number of worker processes, 0 to run the tests in this process.
+     * @throws IllegalArgumentException if the count is negative.
+     */
+    public void setWorkerCount( int workerCount ) {
+        if( workerCount < 0 ) {
+            throw new IllegalArgumentException( String.format( "Worker count must not be negative but was %d.", workerCount ) );
+        }
+
+        this.workerCount = workerCount;
+    }
+
+    public int getWorkerCount() {
+        return this.workerCount;
+    }
+
+    public void setWorkerPort( int workerPort ) {
+        this.workerPort = workerPort;
+    }
+
+    /**
+     * @return Port of the coordinator if this process is a worker, otherwise 0.
+     */
+    public int getWorkerPort() {
+        return this.workerPort;
+    }
+
+    public void setWorkerId( int workerId ) {
+        this.workerId = workerId;
+    }
+
+    public int getWorkerId() {
+        return this.workerId;
+    }
+
+    public void setLongestFirst( boolean longestFirst ) {
+        this.longestFirst = longestFirst;
+    }
+
+    public boolean isLongestFirst() {
+        return this.longestFirst;
+    }
+
+    public void setFailureMode( FailureMode failureMode ) {
+        this.failureMode = failureMode;
+    }
+
+    public FailureMode getFailureMode() {
+        return this.failureMode;
+    }
+
+    /**
+     * @param maxFailures Number of failures after which the whole run is aborted, 0 for no limit.
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    public void setMaxFailures( int maxFailures ) {
+        if( maxFailures < 0 ) {
+            throw new IllegalArgumentException( String.format( "Maximum number of failures must not be negative but was %d.", maxFailures ) );
+        }
+
+        this.maxFailures = maxFailures;
+    }
+
+    public int getMaxFailures() {
+        return this.maxFailures;
+    }
+
+    /**
+     * @param waitTimeout Time in milliseconds actions wait for elements, 0 to not wait at all.
+     * @throws IllegalArgumentException if the time is negative.
+     */
+    public void setWaitTimeout( long waitTimeout ) {
+        if( waitTimeout < 0 ) {
+            throw new IllegalArgumentException( String.format( "Wait timeout must not be negative but was %d.", waitTimeout ) );
+        }
+
+        this.waitTimeout = waitTimeout;
+    }
+
+    public long getWaitTimeout() {
+        return this.waitTimeout;
+    }
+
+    public void setHttpCacheEnabled( boolean httpCacheEnabled ) {
+        this.httpCacheEnabled = httpCacheEnabled;
+    }
+
+    public boolean isHttpCacheEnabled() {
+        return this.httpCacheEnabled;
+    }
+
+    /**
+     * @param recordDirectory Directory HTTP responses are recorded to.
+     * @throws IllegalArgumentException if responses are replayed.
+     */
+    public void setRecordDirectory( Path recordDirectory ) {
+        if( recordDirectory != null && this.replayDirectory != null ) {
+            throw new IllegalArgumentException( "Responses can not be recorded and replayed at the same time." );
+        }
+
+        this.recordDirectory = recordDirectory;
+    }
+
+    public Optional< Path > getRecordDirectory() {
+        return Optional.ofNullable( this.recordDirectory );
+    }
+
+    /**
+     * @param replayDirectory Directory HTTP responses are replayed from.
+     * @throws IllegalArgumentException if responses are recorded.
+     */
+    public void setReplayDirectory( Path replayDirectory ) {
+        if( replayDirectory != null && this.recordDirectory != null ) {
+            throw new IllegalArgumentException( "Responses can not be recorded and replayed at the same time." );
+        }
+
+        this.replayDirectory = replayDirectory;
+    }
+
+    public Optional< Path > getReplayDirectory() {
+        return Optional.ofNullable( this.replayDirectory );
+    }
+
     public void clear() {
         this.mainDirectory = null;
+        this.threadCount = 1;
+        this.maxDriverUses = DEFAULT_MAX_DRIVER_USES;
+        this.testCacheEnabled = false;
+        this.lazyParsing = false;
+        this.validateAll = false;
+        this.testFilter = null;
+        this.asyncLogging = false;
+        this.logBufferSize = DEFAULT_LOG_BUFFER_SIZE;
+        this.logOverflowPolicy = LogOverflowPolicy.BLOCK;
+        this.logFile = null;
+        this.junitXmlFile = null;
+        this.jsonResultFile = null;
+        this.metricsEnabled = false;
+        this.metricsFile = null;
+        this.selectorCacheSize = DEFAULT_SELECTOR_CACHE_SIZE;
+        this.compareStringIndexEnabled = false;
+        this.compareStringCacheSize = DEFAULT_COMPARE_STRING_CACHE_SIZE;
+        this.watchMode = false;
+        this.inlineMethods = false;
+        this.workerCount = 0;
+        this.workerPort = 0;
+        this.workerId = 0;
+        this.longestFirst = false;
+        this.failureMode = FailureMode.CONTINUE;
+        this.maxFailures = 0;
+        this.waitTimeout = 0;
+        this.httpCacheEnabled = false;
+        this.recordDirectory = null;
+        this.replayDirectory = null;
     }
 }
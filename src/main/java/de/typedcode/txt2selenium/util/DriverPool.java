@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.util;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of HtmlUnitDrivers used by the {@link WebUtil}. Creating a driver is expensive, so released drivers
+ * are cleaned and handed out again. A driver is evicted after it has been used
+ * {@link Configuration#getMaxDriverUses()} times or if it could not be cleaned.
+ */
+public class DriverPool {
+
+    private static DriverPool instance;
+
+    private final ConcurrentLinkedDeque< PooledDriver > idleDrivers = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private DriverPool() {
+        //Do not instantiate
+    }
+
+    public static synchronized DriverPool getInstance() {
+        if( instance == null ) {
+            instance = new DriverPool();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Hands out an idle driver or creates a new one if no idle driver is available.
+     *
+     * @return Driver ready to use.
+     */
+    PooledDriver acquire() {
+        PooledDriver driver = this.idleDrivers.pollFirst();
+
+        if( driver != null ) {
+            this.idleCount.decrementAndGet();
+            this.hits.incrementAndGet();
+        }
+        else {
+            this.misses.incrementAndGet();
+            driver = new PooledDriver();
+        }
+
+        driver.incrementUses();
+
+        return driver;
+    }
+
+    /**
+     * Takes a driver back. The driver is cleaned and kept for the next {@link #acquire()} unless it failed,
+     * reached the maximum number of uses or the pool already holds enough idle drivers.
+     *
+     * @param driver Driver to take back.
+     * @param failed true if the driver ran into an error and must not be used again.
+     */
+    void release( PooledDriver driver, boolean failed ) {
+        int maxUses = Configuration.getInstance().getMaxDriverUses();
+
+        if( failed || ( maxUses > 0 && driver.getUses() >= maxUses ) ) {
+            evict( driver );
+            return;
+        }
+
+        try {
+            driver.recycle();
+        }
+        catch( RuntimeException e ) {
+            UnitLogger.logFine( () -> String.format( "Could not recycle driver: %s", e.getMessage() ) );
+            evict( driver );
+            return;
+        }
+
+        if( this.idleCount.incrementAndGet() > Math.max( 1, Configuration.getInstance().getThreadCount() ) ) {
+            this.idleCount.decrementAndGet();
+            evict( driver );
+            return;
+        }
+
+        this.idleDrivers.offerFirst( driver );
+    }
+
+    private void evict( PooledDriver driver ) {
+        this.evictions.incrementAndGet();
+        driver.quit();
+    }
+
+    /**
+     * Quits every idle driver. Drivers currently in use are not affected.
+     */
+    public void shutdown() {
+        PooledDriver driver;
+
+        while( ( driver = this.idleDrivers.pollFirst() ) != null ) {
+            this.idleCount.decrementAndGet();
+            driver.quit();
+        }
+    }
+
+    /**
+     * Number of times an idle driver could be handed out.
+     *
+     * @return Number of hits
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Number of times a new driver had to be created.
+     *
+     * @return Number of misses
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Number of drivers that have been quit because they failed, were used too often or were not needed.
+     *
+     * @return Number of evictions
+     */
+    public long getEvictions() {
+        return this.evictions.get();
+    }
+
+    /**
+     * Number of drivers currently waiting in the pool.
+     *
+     * @return Number of idle drivers
+     */
+    public int getIdleCount() {
+        return this.idleCount.get();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Settings of the browser used by the tests of a scenario: if JavaScript and CSS are enabled, which URLs are not
+ * loaded and how long background JavaScript may run after a page was opened. Settings that are not set are taken
+ * from the profile of the parent scenario, see {@link #inherit(DriverProfile)}.
+ */
+public final class DriverProfile {
+
+    /**
+     * Settings of a driver created by the {@link DriverPool}.
+     */
+    public static final DriverProfile DEFAULT = new DriverProfile( false, true, 0L, List.of() );
+
+    private final Boolean javascriptEnabled;
+    private final Boolean cssEnabled;
+    private final Long backgroundJavaScriptWait;
+
+    /**
+     * Patterns of the URLs that are not loaded.
+     */
+    private final List< Pattern > blockedUrls;
+
+    /**
+     * @param javascriptEnabled If JavaScript is executed. null to inherit the setting.
+     * @param cssEnabled If stylesheets are loaded and applied. null to inherit the setting.
+     * @param backgroundJavaScriptWait Time in milliseconds background JavaScript may run after a page was opened.
+     *                                 null to inherit the setting.
+     * @param blockedUrls Patterns of the URLs that are not loaded, in addition to the inherited ones.
+     */
+    public DriverProfile( Boolean javascriptEnabled, Boolean cssEnabled, Long backgroundJavaScriptWait, List< Pattern > blockedUrls ) {
+        this.javascriptEnabled = javascriptEnabled;
+        this.cssEnabled = cssEnabled;
+        this.backgroundJavaScriptWait = backgroundJavaScriptWait;
+        this.blockedUrls = Collections.unmodifiableList( new ArrayList<>( blockedUrls ) );
+    }
+
+    /**
+     * Creates the pattern of a blocked URL. <code>*</code> matches any number of characters, everything else
+     * matches literally, e.g. <code>*.png</code> or <code>https://www.google-analytics.com/*</code>.
+     *
+     * @param glob Pattern of the URL.
+     * @return Pattern matching the whole URL.
+     */
+    public static Pattern compileUrlPattern( String glob ) {
+        StringBuilder regex = new StringBuilder();
+        int start = 0;
+
+        for( int wildcard = glob.indexOf( '*' ); wildcard >= 0; wildcard = glob.indexOf( '*', start ) ) {
+            regex.append( Pattern.quote( glob.substring( start, wildcard ) ) ).append( ".*" );
+            start = wildcard + 1;
+        }
+
+        regex.append( Pattern.quote( glob.substring( start ) ) );
+
+        return Pattern.compile( regex.toString() );
+    }
+
+    /**
+     * Fills the settings that are not set with the settings of the parent. Blocked URLs of both profiles are
+     * blocked.
+     *
+     * @param parent Profile of the parent scenario, every setting has to be set.
+     * @return Profile with every setting set.
+     */
+    public DriverProfile inherit( DriverProfile parent ) {
+        List< Pattern > blocked = new ArrayList<>( parent.blockedUrls );
+        blocked.addAll( this.blockedUrls );
+
+        return new DriverProfile(
+                this.javascriptEnabled != null ? this.javascriptEnabled : parent.javascriptEnabled,
+                this.cssEnabled != null ? this.cssEnabled : parent.cssEnabled,
+                this.backgroundJavaScriptWait != null ? this.backgroundJavaScriptWait : parent.backgroundJavaScriptWait,
+                blocked );
+    }
+
+    public boolean isJavascriptEnabled() {
+        return this.javascriptEnabled;
+    }
+
+    public boolean isCssEnabled() {
+        return this.cssEnabled;
+    }
+
+    public long getBackgroundJavaScriptWait() {
+        return this.backgroundJavaScriptWait;
+    }
+
+    public List< Pattern > getBlockedUrls() {
+        return this.blockedUrls;
+    }
+
+    /**
+     * @param url URL that is about to be loaded.
+     * @return true if the URL matches one of the blocked patterns.
+     */
+    public boolean isBlocked( String url ) {
+        for( Pattern pattern : this.blockedUrls ) {
+            if( pattern.matcher( url ).matches() ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
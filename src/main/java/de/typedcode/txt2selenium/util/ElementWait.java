@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Polls a condition on the page until it is met or the timeout elapsed. The first polls follow each other after
+ * {@link #INITIAL_POLL_MILLIS}, the interval doubles with every poll up to {@link #MAX_POLL_MILLIS}. While
+ * background JavaScript jobs of the page are pending, the condition is polled again as soon as the jobs are done
+ * instead.
+ */
+final class ElementWait {
+
+    static final long INITIAL_POLL_MILLIS = 10;
+    static final long MAX_POLL_MILLIS = 500;
+
+    private ElementWait() {
+        //Do not instantiate
+    }
+
+    /**
+     * Polls the condition until it returns a value or <code>timeoutMillis</code> elapsed. The condition is polled
+     * at least once.
+     *
+     * @param driver Driver showing the page the condition is checked on.
+     * @param timeoutMillis Time to wait at most.
+     * @param condition Returns the awaited value, empty while the condition is not met.
+     * @param <T> Type of the awaited value.
+     * @return The value of the first successful poll, empty if the condition was not met in time.
+     */
+    static < T > Optional< T > poll( PooledDriver driver, long timeoutMillis, Supplier< Optional< T > > condition ) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeoutMillis );
+        long interval = INITIAL_POLL_MILLIS;
+
+        while( true ) {
+            Optional< T > result = condition.get();
+            long remaining = deadline - System.nanoTime();
+
+            if( result.isPresent() || remaining <= 0 ) {
+                return result;
+            }
+
+            // Rounded up, so less than a millisecond left is waited for as well
+            long pause = Math.min( interval, TimeUnit.NANOSECONDS.toMillis( remaining ) + 1 );
+
+            if( driver.getPendingJobCount() > 0 ) {
+                // Changes to the page are most likely made by the jobs, so their end is the best time to poll
+                driver.waitForJobs( pause );
+                continue;
+            }
+
+            try {
+                Thread.sleep( pause );
+            }
+            catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+
+            interval = Math.min( interval * 2, MAX_POLL_MILLIS );
+        }
+    }
+}
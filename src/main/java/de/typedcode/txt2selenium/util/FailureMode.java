@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+/**
+ * Describes how the execution continues after an assertion or selection failed.
+ */
+public enum FailureMode {
+    /**
+     * The failure is logged and the test continues with its next action.
+     */
+    CONTINUE( "continue" ),
+
+    /**
+     * The failed test stops, the remaining tests are executed.
+     */
+    ABORT_TEST( "abort-test" ),
+
+    /**
+     * The failed test stops and the remaining tests of its scenario are skipped.
+     */
+    ABORT_SCENARIO( "abort-scenario" ),
+
+    /**
+     * The failed test stops and every remaining test is skipped. Tests running concurrently finish.
+     */
+    ABORT_RUN( "abort-run" );
+
+    private final String identifier;
+
+    FailureMode( String identifier ) {
+        this.identifier = identifier;
+    }
+
+    public String getIdentifier() {
+        return this.identifier;
+    }
+
+    /**
+     * Returns the mode for the given identifier.
+     *
+     * @param identifier Identifier of the mode, e.g. <code>abort-test</code>.
+     * @return The corresponding mode.
+     * @throws IllegalArgumentException if the identifier is unknown.
+     */
+    public static FailureMode getMode( String identifier ) {
+        for( FailureMode mode : values() ) {
+            if( mode.identifier.equalsIgnoreCase( identifier ) ) {
+                return mode;
+            }
+        }
+
+        throw new IllegalArgumentException( String.format( "Failure mode '%s' is unknown. Use continue, abort-test, abort-scenario or abort-run.", identifier ) );
+    }
+}
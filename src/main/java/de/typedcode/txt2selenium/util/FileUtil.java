@@ -28,10 +28,12 @@ import de.typedcode.txt2selenium.Txt2Selenium;
 
 import java.io.IOException;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class FileUtil {
 
@@ -43,25 +45,44 @@ public class FileUtil {
     }
 
     /**
-     * Searches the given Path for test-files and returns them.
-     * @param path Path to search for test-files
-     * @return List of Paths containing tests.
+     * Lists the given directory once and returns the test-files and sub-directories it contains. Both are sorted
+     * by name so the order does not depend on the file system.
+     * @param path Directory to list
+     * @return Test-files and directories within <code>path</code>
      */
-    public static List<Path > getTestFiles( Path path ) {
-        List<Path > files = new ArrayList<>();
+    public static DirectoryListing listDirectory( Path path ) {
+        List<Path> files = new ArrayList<>();
+        List<Path> directories = new ArrayList<>();
         PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:*" + Txt2Selenium.FILE_EXTENSION );
 
-        try ( Stream< Path > filesStream = Files.walk( path, 1 ) ) {
-            files = filesStream
-                    .filter( Files::isRegularFile )
-                    .filter( o -> matcher.matches( o.getFileName() ) )
-                    .collect(Collectors.toList());
+        try ( DirectoryStream< Path > entries = Files.newDirectoryStream( path ) ) {
+            for( Path entry : entries ) {
+                BasicFileAttributes attributes = Files.readAttributes( entry, BasicFileAttributes.class );
 
+                if( attributes.isDirectory() ) {
+                    directories.add( entry );
+                }
+                else if( attributes.isRegularFile() && matcher.matches( entry.getFileName() ) ) {
+                    files.add( entry );
+                }
+            }
         } catch( IOException e ) {
-            UnitLogger.logSevere( String.format( "Error getting Test Files for %s", path ), e );
+            UnitLogger.logSevere( String.format( "Error listing directory %s", path ), e );
         }
 
-        return files;
+        files.sort( Comparator.comparing( o -> o.getFileName().toString() ) );
+        directories.sort( Comparator.comparing( o -> o.getFileName().toString() ) );
+
+        return new DirectoryListing( files, directories );
+    }
+
+    /**
+     * Searches the given Path for test-files and returns them.
+     * @param path Path to search for test-files
+     * @return List of Paths containing tests.
+     */
+    public static List<Path > getTestFiles( Path path ) {
+        return listDirectory( path ).getTestFiles();
     }
 
     /**
@@ -70,17 +91,20 @@ public class FileUtil {
      * @return List of directory Paths.
      */
     public static List<Path> getTestDirectories( Path path ) {
-        List<Path> result = new ArrayList<>();
+        return listDirectory( path ).getDirectories();
+    }
 
-        try ( Stream< Path > filesStream = Files.walk( path, 1 ) ) {
-            result = filesStream
-                    .filter( Files::isDirectory )
-                    .filter( o -> !o.equals( path ) )  //Ignore the given path
-                    .collect( Collectors.toList() );
-        } catch( IOException e ) {
-            UnitLogger.logSevere( String.format( "Error getting Test Directories for %s", path ), e );
-        }
+    /**
+     * Identifies a test-file across runs and processes: the path relative to the test directory of the main
+     * directory, separated by <code>/</code>.
+     * @param testFile Path of the test-file.
+     * @return Key of the test-file.
+     */
+    public static String getTestKey( Path testFile ) {
+        Path testDirectory = Configuration.getInstance().getMainDirectory().orElse( Path.of( "." ) )
+                .resolve( Txt2Selenium.TEST_FILE_FOLDER ).toAbsolutePath().normalize();
+        Path relative = testDirectory.relativize( testFile.toAbsolutePath().normalize() );
 
-        return result;
+        return StreamSupport.stream( relative.spliterator(), false ).map( Path::toString ).collect( Collectors.joining( "/" ) );
     }
 }
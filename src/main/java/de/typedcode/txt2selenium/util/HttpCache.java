@@ -0,0 +1,257 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+import com.gargoylesoftware.htmlunit.HttpMethod;
+import com.gargoylesoftware.htmlunit.WebConnection;
+import com.gargoylesoftware.htmlunit.WebRequest;
+import com.gargoylesoftware.htmlunit.WebResponse;
+import com.gargoylesoftware.htmlunit.WebResponseData;
+import de.typedcode.txt2selenium.parsers.TestCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP responses shared by all drivers of the process, see {@link CachingWebConnection}. Depending on the
+ * {@link Configuration}:
+ *
+ * <ul>
+ *     <li>Cache: responses to GET requests are kept while they are fresh. Stale responses with an
+ *     <code>ETag</code> or <code>Last-Modified</code> header are validated with the server and only downloaded
+ *     again if they changed. Responses are stored in {@link #CACHE_FOLDER} within the {@link TestCache#CACHE_FOLDER}
+ *     of the main directory, so worker processes and later runs use them as well.</li>
+ *     <li>Record: every response is written to the record directory.</li>
+ *     <li>Replay: every response is taken from the replay directory, nothing is sent to a server. Requests that were
+ *     not recorded are answered with <code>404 Not Recorded</code>.</li>
+ * </ul>
+ */
+public class HttpCache {
+
+    public static final String CACHE_FOLDER = "http";
+
+    /**
+     * Size of the response bodies kept in memory by the cache and the record store at most.
+     */
+    private static final long MAX_MEMORY_BYTES = 64L * 1024 * 1024;
+
+    private static final int OK = 200;
+    private static final int NOT_MODIFIED = 304;
+    private static final int NOT_FOUND = 404;
+
+    private static HttpCache instance;
+
+    private final ResponseStore cache;
+    private final ResponseStore recordStore;
+    private final ResponseStore replayStore;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong validations = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong notRecorded = new AtomicLong();
+
+    private HttpCache() {
+        Configuration configuration = Configuration.getInstance();
+
+        this.cache = configuration.isHttpCacheEnabled()
+                ? new ResponseStore( configuration.getMainDirectory().map( o -> o.resolve( TestCache.CACHE_FOLDER ).resolve( CACHE_FOLDER ) ).orElse( null ), MAX_MEMORY_BYTES )
+                : null;
+        this.recordStore = configuration.getRecordDirectory().map( o -> new ResponseStore( o, MAX_MEMORY_BYTES ) ).orElse( null );
+        // Replayed traffic is kept in memory completely
+        this.replayStore = configuration.getReplayDirectory().map( o -> new ResponseStore( o, Long.MAX_VALUE ) ).orElse( null );
+    }
+
+    public static synchronized HttpCache getInstance() {
+        if( instance == null ) {
+            instance = new HttpCache();
+        }
+
+        return instance;
+    }
+
+    /**
+     * @return true if responses are cached, recorded or replayed.
+     */
+    public boolean isEnabled() {
+        return this.cache != null || this.recordStore != null || this.replayStore != null;
+    }
+
+    /**
+     * Answers the request from the cache or the replay directory or sends it with the given connection. Requests
+     * sending credentials are neither answered from the cache nor cached, their responses may belong to one user.
+     *
+     * @param request Request to answer.
+     * @param connection Connection to the server.
+     * @param withCredentials true if the request sends cookies or credentials.
+     * @return Response to the request.
+     * @throws IOException if the server could not be reached or the response could not be read.
+     */
+    WebResponse getResponse( WebRequest request, WebConnection connection, boolean withCredentials ) throws IOException {
+        String key = getKey( request );
+
+        if( this.replayStore != null ) {
+            return replay( request, key );
+        }
+
+        WebResponse response = this.cache != null && request.getHttpMethod() == HttpMethod.GET && !withCredentials
+                ? getCachedResponse( request, key, connection )
+                : connection.getResponse( request );
+
+        if( this.recordStore == null ) {
+            return response;
+        }
+
+        StoredResponse stored = StoredResponse.of( response, System.currentTimeMillis() );
+        this.recordStore.put( key, stored );
+
+        return stored.toResponse( request );
+    }
+
+    private WebResponse replay( WebRequest request, String key ) {
+        Optional< StoredResponse > stored = this.replayStore.get( key );
+
+        if( stored.isPresent() ) {
+            this.replayed.incrementAndGet();
+            return stored.get().toResponse( request );
+        }
+
+        this.notRecorded.incrementAndGet();
+        UnitLogger.logFine( () -> String.format( "No recorded response for %s", key ) );
+
+        return new WebResponse( new WebResponseData( new byte[ 0 ], NOT_FOUND, "Not Recorded", List.of() ), request, 0 );
+    }
+
+    private WebResponse getCachedResponse( WebRequest request, String key, WebConnection connection ) throws IOException {
+        long now = System.currentTimeMillis();
+        Optional< StoredResponse > cached = this.cache.get( key );
+
+        if( cached.isEmpty() ) {
+            this.misses.incrementAndGet();
+            return store( request, key, connection.getResponse( request ), now );
+        }
+
+        if( cached.get().isFresh( now ) ) {
+            this.hits.incrementAndGet();
+            return cached.get().toResponse( request );
+        }
+
+        Optional< String > entityTag = cached.get().getHeader( "ETag" );
+        Optional< String > lastModified = cached.get().getHeader( "Last-Modified" );
+
+        entityTag.ifPresent( o -> request.setAdditionalHeader( "If-None-Match", o ) );
+        lastModified.ifPresent( o -> request.setAdditionalHeader( "If-Modified-Since", o ) );
+
+        WebResponse response;
+
+        try {
+            response = connection.getResponse( request );
+        }
+        finally {
+            // The request may be sent again, e.g. on a reload
+            request.removeAdditionalHeader( "If-None-Match" );
+            request.removeAdditionalHeader( "If-Modified-Since" );
+        }
+
+        if( response.getStatusCode() == NOT_MODIFIED ) {
+            this.validations.incrementAndGet();
+
+            StoredResponse refreshed = cached.get().refresh( response.getResponseHeaders(), now );
+            this.cache.put( key, refreshed );
+
+            return refreshed.toResponse( request );
+        }
+
+        this.misses.incrementAndGet();
+
+        return store( request, key, response, now );
+    }
+
+    /**
+     * Caches the response if it may be reused: successful responses without cookies that are fresh or can be
+     * validated. Private responses and responses varying by request headers are not cached, as the key does not
+     * tell the users or the request headers apart.
+     */
+    private WebResponse store( WebRequest request, String key, WebResponse response, long now ) throws IOException {
+        Optional< String > cacheControl = Optional.ofNullable( response.getResponseHeaderValue( "Cache-Control" ) ).map( o -> o.toLowerCase( Locale.ROOT ) );
+
+        if( response.getStatusCode() != OK
+                || cacheControl.map( o -> o.contains( "no-store" ) || o.contains( "private" ) ).orElse( false )
+                || response.getResponseHeaderValue( "Set-Cookie" ) != null
+                || response.getResponseHeaderValue( "Vary" ) != null ) {
+            return response;
+        }
+
+        StoredResponse stored = StoredResponse.of( response, now );
+
+        if( stored.isFresh( now ) || stored.getHeader( "ETag" ).isPresent() || stored.getHeader( "Last-Modified" ).isPresent() ) {
+            this.cache.put( key, stored );
+        }
+
+        return stored.toResponse( request );
+    }
+
+    /**
+     * Requests are identified by method and URL. Requests with a body or parameters, e.g. submitted forms, are
+     * identified by those as well.
+     */
+    private static String getKey( WebRequest request ) {
+        StringBuilder key = new StringBuilder( request.getHttpMethod().name() ).append( ' ' ).append( request.getUrl() );
+
+        if( request.getRequestBody() != null ) {
+            key.append( ' ' ).append( request.getRequestBody() );
+        }
+
+        if( !request.getRequestParameters().isEmpty() ) {
+            key.append( ' ' ).append( request.getRequestParameters() );
+        }
+
+        return key.toString();
+    }
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getValidations() {
+        return this.validations.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    public long getReplayed() {
+        return this.replayed.get();
+    }
+
+    public long getNotRecorded() {
+        return this.notRecorded.get();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.util;
+
+/**
+ * Describes what the asynchronous logging does with a new record if its buffer is full.
+ */
+public enum LogOverflowPolicy {
+    /**
+     * The logging thread waits until the writer made room. No record is lost.
+     */
+    BLOCK( "block" ),
+
+    /**
+     * The new record is discarded.
+     */
+    DROP_NEWEST( "drop-newest" ),
+
+    /**
+     * The oldest buffered record is discarded to make room for the new one.
+     */
+    DROP_OLDEST( "drop-oldest" );
+
+    private final String identifier;
+
+    LogOverflowPolicy( String identifier ) {
+        this.identifier = identifier;
+    }
+
+    public String getIdentifier() {
+        return this.identifier;
+    }
+
+    /**
+     * Returns the policy for the given identifier.
+     *
+     * @param identifier Identifier of the policy, e.g. <code>drop-oldest</code>.
+     * @return The corresponding policy.
+     * @throws IllegalArgumentException if the identifier is unknown.
+     */
+    public static LogOverflowPolicy getPolicy( String identifier ) {
+        for( LogOverflowPolicy policy : values() ) {
+            if( policy.identifier.equalsIgnoreCase( identifier ) ) {
+                return policy;
+            }
+        }
+
+        throw new IllegalArgumentException( String.format( "Overflow policy '%s' is unknown. Use block, drop-newest or drop-oldest.", identifier ) );
+    }
+}
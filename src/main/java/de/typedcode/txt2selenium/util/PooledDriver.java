@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.util;
+
+import com.gargoylesoftware.htmlunit.CookieManager;
+import com.gargoylesoftware.htmlunit.History;
+import com.gargoylesoftware.htmlunit.Page;
+import com.gargoylesoftware.htmlunit.StorageHolder;
+import com.gargoylesoftware.htmlunit.TopLevelWindow;
+import com.gargoylesoftware.htmlunit.WebClient;
+import com.gargoylesoftware.htmlunit.WebWindow;
+import com.gargoylesoftware.htmlunit.util.Cookie;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HtmlUnitDriver that can be cleaned and handed out again by the {@link DriverPool} instead of being
+ * rebuilt.
+ */
+class PooledDriver extends HtmlUnitDriver {
+
+    private static final String BLANK_PAGE = "about:blank";
+
+    /**
+     * Number of times the driver has been handed out by the pool.
+     */
+    private int uses;
+
+    /**
+     * Profile the driver is set up with.
+     */
+    private DriverProfile profile = DriverProfile.DEFAULT;
+
+    /**
+     * Connection filtering the blocked URLs. Installed when the first profile blocking URLs is applied.
+     */
+    private BlockingWebConnection blockingConnection;
+
+    /**
+     * Routes the requests through the {@link HttpCache} if caching, recording or replaying is configured. Called
+     * from the constructor, so no fields are set here.
+     */
+    @Override
+    protected WebClient modifyWebClient( WebClient client ) {
+        if( HttpCache.getInstance().isEnabled() ) {
+            new CachingWebConnection( client );
+        }
+
+        return client;
+    }
+
+    /**
+     * Removes everything a test could have left behind: cookies, web storage, additional windows, pending
+     * JavaScript jobs and the history. The page cache and the JavaScript engine are kept.
+     */
+    void recycle() {
+        WebClient webClient = getWebClient();
+
+        webClient.getCookieManager().clearCookies();
+
+        List< TopLevelWindow > windows = webClient.getTopLevelWindows();
+
+        for( int i = windows.size() - 1; i > 0; i-- ) {
+            windows.get( i ).close();
+        }
+
+        webClient.getCurrentWindow().getJobManager().removeAllJobs();
+
+        get( BLANK_PAGE );
+
+        clearStorage( webClient.getStorageHolder() );
+
+        History history = webClient.getCurrentWindow().getHistory();
+
+        while( history.getLength() > 1 ) {
+            history.removeCurrent();
+        }
+    }
+
+    /**
+     * Clears the local, session and global storage of every origin. The StorageHolder keeps them for the lifetime
+     * of the client but only hands out the storage of single pages, so its maps are read by reflection.
+     *
+     * @throws IllegalStateException if the storage could not be cleared, the driver must not be used again then.
+     */
+    private static void clearStorage( StorageHolder storageHolder ) {
+        try {
+            Method getStorage = StorageHolder.class.getDeclaredMethod( "getStorage", StorageHolder.Type.class );
+            getStorage.setAccessible( true );
+
+            for( StorageHolder.Type type : StorageHolder.Type.values() ) {
+                @SuppressWarnings( "unchecked" )
+                Map< String, Map< String, String > > storage = ( Map< String, Map< String, String > > ) getStorage.invoke( storageHolder, type );
+
+                if( storage != null ) {
+                    // Storage objects of open pages refer to the maps of their origin
+                    storage.values().forEach( Map::clear );
+                    storage.clear();
+                }
+            }
+        }
+        catch( ReflectiveOperationException | RuntimeException e ) {
+            throw new IllegalStateException( String.format( "Could not clear the web storage: %s", e ), e );
+        }
+    }
+
+    /**
+     * @return Number of background JavaScript jobs of the current window that have not finished yet.
+     */
+    int getPendingJobCount() {
+        WebWindow window = getWebClient().getCurrentWindow();
+
+        return window != null ? window.getJobManager().getJobCount() : 0;
+    }
+
+    /**
+     * Waits until every background JavaScript job has finished or the timeout elapsed.
+     *
+     * @param timeoutMillis Time to wait at most.
+     * @return Number of jobs still pending.
+     */
+    int waitForJobs( long timeoutMillis ) {
+        return getWebClient().waitForBackgroundJavaScript( timeoutMillis );
+    }
+
+    /**
+     * Sets up the driver with the given profile, unless it is set up with it already. Pages opened before keep
+     * the settings they were loaded with.
+     *
+     * @param newProfile Profile to apply.
+     */
+    void applyProfile( DriverProfile newProfile ) {
+        if( newProfile == this.profile ) {
+            return;
+        }
+
+        if( newProfile.isJavascriptEnabled() != isJavascriptEnabled() ) {
+            setJavascriptEnabled( newProfile.isJavascriptEnabled() );
+        }
+
+        WebClient webClient = getWebClient();
+        webClient.getOptions().setCssEnabled( newProfile.isCssEnabled() );
+
+        if( this.blockingConnection == null && !newProfile.getBlockedUrls().isEmpty() ) {
+            this.blockingConnection = new BlockingWebConnection( webClient );
+        }
+
+        if( this.blockingConnection != null ) {
+            this.blockingConnection.setProfile( newProfile );
+        }
+
+        this.profile = newProfile;
+    }
+
+    /**
+     * @return Cookies of every domain.
+     */
+    List< Cookie > getCookies() {
+        return new ArrayList<>( getWebClient().getCookieManager().getCookies() );
+    }
+
+    /**
+     * Replaces all cookies by the given ones.
+     *
+     * @param cookies Cookies to set.
+     */
+    void setCookies( List< Cookie > cookies ) {
+        CookieManager cookieManager = getWebClient().getCookieManager();
+        cookieManager.clearCookies();
+        cookies.forEach( cookieManager::addCookie );
+    }
+
+    /**
+     * @return Local storage of the origin of the current page, empty if no page is loaded.
+     */
+    Map< String, String > getLocalStorage() {
+        Page page = getWebClient().getCurrentWindow().getEnclosedPage();
+
+        return page != null ? new HashMap<>( getWebClient().getStorageHolder().getStore( StorageHolder.Type.LOCAL_STORAGE, page ) ) : Map.of();
+    }
+
+    /**
+     * Replaces the local storage of the origin of the current page by the given entries.
+     *
+     * @param entries Entries to set.
+     */
+    void setLocalStorage( Map< String, String > entries ) {
+        Page page = getWebClient().getCurrentWindow().getEnclosedPage();
+
+        if( page != null ) {
+            Map< String, String > store = getWebClient().getStorageHolder().getStore( StorageHolder.Type.LOCAL_STORAGE, page );
+            store.clear();
+            store.putAll( entries );
+        }
+    }
+
+    DriverProfile getProfile() {
+        return this.profile;
+    }
+
+    void incrementUses() {
+        this.uses++;
+    }
+
+    int getUses() {
+        return this.uses;
+    }
+}
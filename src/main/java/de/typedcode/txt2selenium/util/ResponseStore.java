@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Responses kept in memory and, if a directory is given, in one file per response within the directory, so other
+ * processes and later runs find them as well. Memory holds at most <code>maxMemoryBytes</code> of bodies, the
+ * least recently used responses are dropped first and read from the directory again when needed.
+ *
+ * Layout of a file: magic, version, key of the response and the {@link StoredResponse}.
+ */
+final class ResponseStore {
+
+    static final String FILE_EXTENSION = ".t2sr";
+
+    private static final int MAGIC = 0x54325352;
+    private static final int VERSION = 1;
+
+    private final Path directory;
+    private final long maxMemoryBytes;
+
+    private final LinkedHashMap< String, StoredResponse > memory = new LinkedHashMap<>( 16, 0.75f, true );
+    private long memoryBytes;
+
+    /**
+     * @param directory Directory to store the responses in. null to keep them in memory only.
+     * @param maxMemoryBytes Size of the bodies kept in memory at most.
+     */
+    ResponseStore( Path directory, long maxMemoryBytes ) {
+        this.directory = directory;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    /**
+     * @param key Key of the response.
+     * @return The stored response, empty if neither the memory nor the directory contains it.
+     */
+    Optional< StoredResponse > get( String key ) {
+        synchronized( this.memory ) {
+            StoredResponse response = this.memory.get( key );
+
+            if( response != null ) {
+                return Optional.of( response );
+            }
+        }
+
+        Optional< StoredResponse > loaded = load( key );
+        loaded.ifPresent( o -> remember( key, o ) );
+
+        return loaded;
+    }
+
+    /**
+     * Stores the response in memory and in the directory. A response that could not be written is kept in memory
+     * only.
+     *
+     * @param key Key of the response.
+     * @param response Response to store.
+     */
+    void put( String key, StoredResponse response ) {
+        remember( key, response );
+
+        if( this.directory == null ) {
+            return;
+        }
+
+        Path file = getFile( key );
+
+        try {
+            Files.createDirectories( this.directory );
+            Path tempFile = Files.createTempFile( this.directory, file.getFileName().toString(), ".tmp" );
+
+            try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( tempFile ) ) ) ) {
+                out.writeInt( MAGIC );
+                out.writeInt( VERSION );
+                out.writeUTF( key );
+                response.write( out );
+            }
+
+            // Processes sharing the directory never read a partially written file
+            Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch( IOException e ) {
+            UnitLogger.logFine( () -> String.format( "Could not store the response for %s in %s: %s", key, file, e.getMessage() ) );
+        }
+    }
+
+    private Optional< StoredResponse > load( String key ) {
+        if( this.directory == null ) {
+            return Optional.empty();
+        }
+
+        Path file = getFile( key );
+
+        if( !Files.exists( file ) ) {
+            return Optional.empty();
+        }
+
+        try( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+            // Keys with the same hash are not stored in the same file
+            if( in.readInt() != MAGIC || in.readInt() != VERSION || !key.equals( in.readUTF() ) ) {
+                return Optional.empty();
+            }
+
+            return Optional.of( StoredResponse.read( in ) );
+        }
+        catch( IOException e ) {
+            UnitLogger.logFine( () -> String.format( "Ignoring unreadable response in %s: %s", file, e.getMessage() ) );
+            return Optional.empty();
+        }
+    }
+
+    private void remember( String key, StoredResponse response ) {
+        synchronized( this.memory ) {
+            StoredResponse previous = this.memory.put( key, response );
+
+            if( previous != null ) {
+                this.memoryBytes -= previous.getSize();
+            }
+
+            this.memoryBytes += response.getSize();
+
+            Iterator< Map.Entry< String, StoredResponse > > iterator = this.memory.entrySet().iterator();
+
+            while( this.memoryBytes > this.maxMemoryBytes && iterator.hasNext() ) {
+                Map.Entry< String, StoredResponse > eldest = iterator.next();
+                this.memoryBytes -= eldest.getValue().getSize();
+                iterator.remove();
+            }
+        }
+    }
+
+    private Path getFile( String key ) {
+        byte[] hash;
+
+        try {
+            hash = MessageDigest.getInstance( "SHA-1" ).digest( key.getBytes( StandardCharsets.UTF_8 ) );
+        } catch( NoSuchAlgorithmException e ) {
+            // Every Java platform has to support SHA-1
+            throw new IllegalStateException( e );
+        }
+
+        StringBuilder name = new StringBuilder( hash.length * 2 + FILE_EXTENSION.length() );
+
+        for( byte b : hash ) {
+            name.append( String.format( "%02x", b ) );
+        }
+
+        return this.directory.resolve( name.append( FILE_EXTENSION ).toString() );
+    }
+}
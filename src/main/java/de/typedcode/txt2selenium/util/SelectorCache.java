@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.util;
+
+import org.openqa.selenium.By;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Interns the <code>By</code> objects created for selectors. Suites use the same selectors in many tests, so
+ * every distinct selector is created once and shared by all actions and workers. <code>By</code> objects are
+ * immutable and can be shared safely.
+ *
+ * The cache holds at most {@link Configuration#getSelectorCacheSize()} selectors. The least recently used selector
+ * is evicted if the cache is full.
+ */
+public class SelectorCache {
+
+    private static SelectorCache instance;
+
+    private final Map< Key, By > selectors = new LinkedHashMap<>( 16, 0.75f, true );
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private SelectorCache() {
+        //Do not instantiate
+    }
+
+    public static synchronized SelectorCache getInstance() {
+        if( instance == null ) {
+            instance = new SelectorCache();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns the shared <code>By</code> object for the selector and creates it if it is not cached.
+     *
+     * @param byType Type of the selector.
+     * @param expression Id, name or XPath to select.
+     * @return Shared <code>By</code> object.
+     */
+    public By get( ByType byType, String expression ) {
+        int maxSize = Configuration.getInstance().getSelectorCacheSize();
+
+        if( maxSize <= 0 ) {
+            return ByInitializer.initialize( byType, expression );
+        }
+
+        Key key = new Key( byType, expression );
+
+        synchronized( this ) {
+            By by = this.selectors.get( key );
+
+            if( by != null ) {
+                this.hits++;
+                return by;
+            }
+
+            this.misses++;
+            by = ByInitializer.initialize( byType, expression );
+            this.selectors.put( key, by );
+
+            while( this.selectors.size() > maxSize ) {
+                this.selectors.remove( this.selectors.keySet().iterator().next() );
+                this.evictions++;
+            }
+
+            return by;
+        }
+    }
+
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+    public synchronized int getSize() {
+        return this.selectors.size();
+    }
+
+    /**
+     * @return Share of lookups that were answered from the cache. 0 if there was no lookup.
+     */
+    public synchronized double getHitRate() {
+        long lookups = this.hits + this.misses;
+
+        return lookups == 0 ? 0 : ( double ) this.hits / lookups;
+    }
+
+    /**
+     * Removes all selectors and resets the statistics.
+     */
+    public synchronized void clear() {
+        this.selectors.clear();
+        this.hits = 0;
+        this.misses = 0;
+        this.evictions = 0;
+    }
+
+    private static final class Key {
+
+        private final ByType byType;
+        private final String expression;
+
+        Key( ByType byType, String expression ) {
+            this.byType = byType;
+            this.expression = expression;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            if( this == o ) {
+                return true;
+            }
+
+            if( !( o instanceof Key ) ) {
+                return false;
+            }
+
+            Key other = ( Key ) o;
+
+            return this.byType == other.byType && this.expression.equals( other.expression );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash( this.byType, this.expression );
+        }
+    }
+}
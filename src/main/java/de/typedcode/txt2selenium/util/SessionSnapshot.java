@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+import com.gargoylesoftware.htmlunit.util.Cookie;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of a browser session: the cookies of every domain, the local storage of the current page and its URL.
+ * Taken by {@link WebUtil#getSession()} and applied to another driver by {@link WebUtil#restoreSession(SessionSnapshot)}.
+ */
+public final class SessionSnapshot {
+
+    private final String url;
+    private final List< Cookie > cookies;
+    private final Map< String, String > localStorage;
+
+    SessionSnapshot( String url, List< Cookie > cookies, Map< String, String > localStorage ) {
+        this.url = url;
+        this.cookies = Collections.unmodifiableList( new ArrayList<>( cookies ) );
+        this.localStorage = Collections.unmodifiableMap( new HashMap<>( localStorage ) );
+    }
+
+    public String getUrl() {
+        return this.url;
+    }
+
+    public List< Cookie > getCookies() {
+        return this.cookies;
+    }
+
+    public Map< String, String > getLocalStorage() {
+        return this.localStorage;
+    }
+
+    /**
+     * Writes the snapshot in the format read by {@link #read(DataInputStream)}.
+     *
+     * @param out Stream to write to.
+     * @throws IOException if the stream could not be written.
+     */
+    public void write( DataOutputStream out ) throws IOException {
+        out.writeUTF( this.url );
+
+        out.writeInt( this.cookies.size() );
+
+        for( Cookie cookie : this.cookies ) {
+            writeNullable( out, cookie.getDomain() );
+            out.writeUTF( cookie.getName() );
+            out.writeUTF( cookie.getValue() );
+            writeNullable( out, cookie.getPath() );
+            out.writeLong( cookie.getExpires() != null ? cookie.getExpires().getTime() : -1 );
+            out.writeBoolean( cookie.isSecure() );
+            out.writeBoolean( cookie.isHttpOnly() );
+        }
+
+        out.writeInt( this.localStorage.size() );
+
+        for( Map.Entry< String, String > entry : this.localStorage.entrySet() ) {
+            out.writeUTF( entry.getKey() );
+            out.writeUTF( entry.getValue() );
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(DataOutputStream)}.
+     *
+     * @param in Stream to read from.
+     * @return The snapshot.
+     * @throws IOException if the stream could not be read.
+     */
+    public static SessionSnapshot read( DataInputStream in ) throws IOException {
+        String url = in.readUTF();
+
+        int cookieCount = in.readInt();
+        List< Cookie > cookies = new ArrayList<>( cookieCount );
+
+        for( int i = 0; i < cookieCount; i++ ) {
+            String domain = readNullable( in );
+            String name = in.readUTF();
+            String value = in.readUTF();
+            String path = readNullable( in );
+            long expires = in.readLong();
+            boolean secure = in.readBoolean();
+            boolean httpOnly = in.readBoolean();
+
+            cookies.add( new Cookie( domain, name, value, path, expires >= 0 ? new Date( expires ) : null, secure, httpOnly ) );
+        }
+
+        int entryCount = in.readInt();
+        Map< String, String > localStorage = new HashMap<>();
+
+        for( int i = 0; i < entryCount; i++ ) {
+            localStorage.put( in.readUTF(), in.readUTF() );
+        }
+
+        return new SessionSnapshot( url, cookies, localStorage );
+    }
+
+    private static void writeNullable( DataOutputStream out, String value ) throws IOException {
+        out.writeBoolean( value != null );
+
+        if( value != null ) {
+            out.writeUTF( value );
+        }
+    }
+
+    private static String readNullable( DataInputStream in ) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
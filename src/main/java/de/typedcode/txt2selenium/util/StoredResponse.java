@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util;
+
+import com.gargoylesoftware.htmlunit.WebRequest;
+import com.gargoylesoftware.htmlunit.WebResponse;
+import com.gargoylesoftware.htmlunit.WebResponseData;
+import com.gargoylesoftware.htmlunit.util.NameValuePair;
+import org.apache.http.client.utils.DateUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Complete HTTP response held by the {@link HttpCache}: status, headers and body, together with the time until
+ * which it may be used without asking the server again.
+ */
+final class StoredResponse {
+
+    private final int statusCode;
+    private final String statusMessage;
+    private final List< NameValuePair > headers;
+    private final byte[] body;
+
+    /**
+     * Time in milliseconds since the epoch until which the response is fresh.
+     */
+    private final long freshUntil;
+
+    StoredResponse( int statusCode, String statusMessage, List< NameValuePair > headers, byte[] body, long freshUntil ) {
+        this.statusCode = statusCode;
+        this.statusMessage = statusMessage;
+        this.headers = Collections.unmodifiableList( new ArrayList<>( headers ) );
+        this.body = body;
+        this.freshUntil = freshUntil;
+    }
+
+    /**
+     * Reads the complete response.
+     *
+     * @param response Response received from the server.
+     * @param now Time the response was received.
+     * @return The stored response.
+     * @throws IOException if the body could not be read.
+     */
+    static StoredResponse of( WebResponse response, long now ) throws IOException {
+        byte[] body;
+
+        try( InputStream in = response.getContentAsStream() ) {
+            body = in != null ? in.readAllBytes() : new byte[ 0 ];
+        }
+
+        return new StoredResponse( response.getStatusCode(), response.getStatusMessage(), response.getResponseHeaders(), body,
+                getFreshUntil( response.getResponseHeaders(), now ) );
+    }
+
+    /**
+     * Computes until when a response with the given headers is fresh, from <code>Cache-Control: max-age</code> or
+     * <code>Expires</code>. Responses without either have to be validated before every use.
+     */
+    static long getFreshUntil( List< NameValuePair > headers, long now ) {
+        Optional< String > cacheControl = getHeader( headers, "Cache-Control" ).map( o -> o.toLowerCase( Locale.ROOT ) );
+
+        if( cacheControl.isPresent() ) {
+            if( cacheControl.get().contains( "no-cache" ) ) {
+                return now;
+            }
+
+            for( String directive : cacheControl.get().split( "," ) ) {
+                String trimmed = directive.trim();
+
+                if( trimmed.startsWith( "max-age=" ) ) {
+                    try {
+                        return now + Long.parseLong( trimmed.substring( "max-age=".length() ) ) * 1000;
+                    }
+                    catch( NumberFormatException e ) {
+                        return now;
+                    }
+                }
+            }
+        }
+
+        Date expires = getHeader( headers, "Expires" ).map( DateUtils::parseDate ).orElse( null );
+
+        return expires != null ? expires.getTime() : now;
+    }
+
+    static Optional< String > getHeader( List< NameValuePair > headers, String name ) {
+        return headers.stream().filter( o -> name.equalsIgnoreCase( o.getName() ) ).map( NameValuePair::getValue ).findFirst();
+    }
+
+    Optional< String > getHeader( String name ) {
+        return getHeader( this.headers, name );
+    }
+
+    boolean isFresh( long now ) {
+        return now < this.freshUntil;
+    }
+
+    int getStatusCode() {
+        return this.statusCode;
+    }
+
+    int getSize() {
+        return this.body.length;
+    }
+
+    /**
+     * Renews the freshness after the server confirmed that the response is still valid. The freshness is taken from
+     * the headers of the confirmation if it has caching headers, otherwise from the stored headers.
+     *
+     * @param validationHeaders Headers of the <code>304 Not Modified</code> response.
+     * @param now Time the confirmation was received.
+     * @return This response with the new freshness.
+     */
+    StoredResponse refresh( List< NameValuePair > validationHeaders, long now ) {
+        boolean hasCachingHeaders = getHeader( validationHeaders, "Cache-Control" ).isPresent() || getHeader( validationHeaders, "Expires" ).isPresent();
+
+        return new StoredResponse( this.statusCode, this.statusMessage, this.headers, this.body,
+                getFreshUntil( hasCachingHeaders ? validationHeaders : this.headers, now ) );
+    }
+
+    /**
+     * @param request Request the response answers.
+     * @return A new response for the request with the stored status, headers and body.
+     */
+    WebResponse toResponse( WebRequest request ) {
+        return new WebResponse( new WebResponseData( this.body, this.statusCode, this.statusMessage, this.headers ), request, 0 );
+    }
+
+    void write( DataOutputStream out ) throws IOException {
+        out.writeInt( this.statusCode );
+        out.writeUTF( this.statusMessage != null ? this.statusMessage : "" );
+        out.writeLong( this.freshUntil );
+        out.writeInt( this.headers.size() );
+
+        for( NameValuePair header : this.headers ) {
+            out.writeUTF( header.getName() );
+            out.writeUTF( header.getValue() );
+        }
+
+        out.writeInt( this.body.length );
+        out.write( this.body );
+    }
+
+    static StoredResponse read( DataInputStream in ) throws IOException {
+        int statusCode = in.readInt();
+        String statusMessage = in.readUTF();
+        long freshUntil = in.readLong();
+        int headerCount = in.readInt();
+        List< NameValuePair > headers = new ArrayList<>( headerCount );
+
+        for( int i = 0; i < headerCount; i++ ) {
+            headers.add( new NameValuePair( in.readUTF(), in.readUTF() ) );
+        }
+
+        byte[] body = new byte[ in.readInt() ];
+        in.readFully( body );
+
+        return new StoredResponse( statusCode, statusMessage, headers, body, freshUntil );
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.util;
+
+import de.typedcode.txt2selenium.Txt2Selenium;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Optional;
+
+/**
+ * Selects the tests to run by a glob pattern. The pattern is matched against the path of a test relative to
+ * the test directory, with and without file extension, and against every directory containing the test.
+ *
+ * E.g. <code>login</code> selects every test in the scenario <code>login</code> and
+ * <code>**&#47;checkout*</code> every test whose name starts with <code>checkout</code>.
+ */
+public class TestFilter {
+
+    private final String glob;
+    private final PathMatcher matcher;
+
+    /**
+     * @param glob Glob pattern as described for {@link java.nio.file.FileSystem#getPathMatcher(String)}.
+     */
+    public TestFilter( String glob ) {
+        this.glob = glob;
+        this.matcher = FileSystems.getDefault().getPathMatcher( "glob:" + glob );
+    }
+
+    public String getGlob() {
+        return this.glob;
+    }
+
+    /**
+     * Checks if the given test-file is selected by the filter.
+     *
+     * @param testFile Path of the test-file.
+     * @return true if the test-file or one of its directories matches the pattern.
+     */
+    public boolean matches( Path testFile ) {
+        Optional< Path > testDirectory = Configuration.getInstance().getMainDirectory()
+                .map( o -> o.resolve( Txt2Selenium.TEST_FILE_FOLDER ).toAbsolutePath().normalize() );
+
+        Path absoluteFile = testFile.toAbsolutePath().normalize();
+
+        if( testDirectory.isEmpty() || !absoluteFile.startsWith( testDirectory.get() ) ) {
+            return false;
+        }
+
+        Path relative = testDirectory.get().relativize( absoluteFile );
+
+        String fileName = relative.getFileName().toString();
+
+        if( fileName.endsWith( Txt2Selenium.FILE_EXTENSION )
+                && this.matcher.matches( relative.resolveSibling( fileName.substring( 0, fileName.length() - Txt2Selenium.FILE_EXTENSION.length() ) ) ) ) {
+            return true;
+        }
+
+        for( Path current = relative; current != null; current = current.getParent() ) {
+            if( this.matcher.matches( current ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -25,19 +25,39 @@
 package de.typedcode.txt2selenium.util;
 
 import de.typedcode.txt2selenium.exceptions.LoggerException;
-import java.util.Date;
 
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
 import java.util.logging.*;
 
 public class UnitLogger {
 
     private static Logger instance;
 
+    private static ConsoleHandler consoleHandler;
+
+    /**
+     * Handler replacing the <code>consoleHandler</code> while asynchronous logging is enabled.
+     */
+    private static AsyncLogHandler asyncHandler;
+
     static {
         // Logging will only be done to the stdout
         instance = Logger.getLogger( Logger.GLOBAL_LOGGER_NAME );
         instance.setUseParentHandlers( false );
         ConsoleHandler handler = new ConsoleHandler();
+        consoleHandler = handler;
         handler.setFormatter( new SimpleFormatter() {
             private static final String format = "[%1$tF %1$tT] [%2$-7s] %3$s %n";
 
@@ -57,6 +77,99 @@ public class UnitLogger {
 
     }
 
+    /**
+     * Replaces the synchronous console output by a writer thread. Records are buffered and written in batches to the
+     * console and, if given, to <code>logFile</code>. Handlers added by {@link #addHandler(Handler)} are not affected.
+     *
+     * @param bufferSize Number of records that can be buffered.
+     * @param overflowPolicy What to do with new records if the buffer is full.
+     * @param logFile File to append the log to. May be null to log to the console only.
+     * @throws LoggerException if the log file could not be opened.
+     */
+    public static synchronized void enableAsync( int bufferSize, LogOverflowPolicy overflowPolicy, Path logFile ) {
+        if( asyncHandler != null ) {
+            disableAsync();
+        }
+
+        List< Writer > writers = new ArrayList<>();
+        Charset consoleCharset = consoleHandler.getEncoding() != null ? Charset.forName( consoleHandler.getEncoding() ) : Charset.defaultCharset();
+
+        // The console must stay open when the handler is closed
+        writers.add( new FilterWriter( new OutputStreamWriter( System.err, consoleCharset ) ) {
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        } );
+
+        if( logFile != null ) {
+            try {
+                writers.add( Files.newBufferedWriter( logFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND ) );
+            }
+            catch( IOException e ) {
+                throw new LoggerException( String.format( "Could not open log file %s", logFile ), e );
+            }
+        }
+
+        AsyncLogHandler handler = new AsyncLogHandler( bufferSize, overflowPolicy, writers );
+        handler.setLevel( consoleHandler.getLevel() );
+
+        instance.removeHandler( consoleHandler );
+        instance.addHandler( handler );
+        asyncHandler = handler;
+    }
+
+    /**
+     * Writes all buffered records, stops the writer thread and switches back to the synchronous console output.
+     * Does nothing if asynchronous logging is not enabled.
+     */
+    public static synchronized void disableAsync() {
+        if( asyncHandler == null ) {
+            return;
+        }
+
+        instance.removeHandler( asyncHandler );
+        asyncHandler.close();
+        asyncHandler = null;
+
+        instance.addHandler( consoleHandler );
+    }
+
+    /**
+     * Replaces the console output by the given handler, e.g. to pass the log of a worker process to its coordinator.
+     * Handlers added by {@link #addHandler(Handler)} are not affected.
+     *
+     * @param handler Handler receiving the records instead of the console.
+     */
+    public static synchronized void redirect( Handler handler ) {
+        disableAsync();
+
+        instance.removeHandler( consoleHandler );
+        instance.addHandler( handler );
+    }
+
+    /**
+     * Waits until every record logged so far has been written.
+     */
+    public static void flush() {
+        AsyncLogHandler handler = asyncHandler;
+
+        if( handler != null ) {
+            handler.flush();
+        }
+    }
+
+    /**
+     * Number of records the asynchronous logging discarded because its buffer was full.
+     *
+     * @return Number of dropped records. 0 if asynchronous logging is not enabled.
+     */
+    public static long getDroppedRecords() {
+        AsyncLogHandler handler = asyncHandler;
+
+        return handler != null ? handler.getDropped() : 0;
+    }
+
     /**
      * Sets the Log level
      *
@@ -90,6 +203,36 @@ public class UnitLogger {
         }
     }
 
+    /**
+     * Logs a message with the given level. The message is only created if the level is enabled.
+     *
+     * @param logLevel
+     *            Level to log the Message with
+     * @param logMessage
+     *            Supplier creating the message to log.
+     */
+    private static void log( Level logLevel, Supplier< String > logMessage ) {
+        Logger localInstance = instance;
+
+        if( localInstance == null ) {
+            throw new LoggerException();
+        }
+
+        localInstance.log( logLevel, logMessage );
+    }
+
+    /**
+     * Logs a message with the given level, e.g. a record received from a worker process.
+     *
+     * @param logLevel
+     *            Level to log the Message with
+     * @param logMessage
+     *            Message to log.
+     */
+    public static void log( Level logLevel, String logMessage ) {
+        log( logLevel, logMessage, null );
+    }
+
     /**
      * Logs a Severe message.
      * 
@@ -100,6 +243,16 @@ public class UnitLogger {
         log( Level.SEVERE, logMessage, null );
     }
 
+    /**
+     * Logs a Severe message. The message is only created if the level is enabled.
+     *
+     * @param logMessage
+     *            Supplier creating the message to log.
+     */
+    public static void logSevere( Supplier< String > logMessage ) {
+        log( Level.SEVERE, logMessage );
+    }
+
     /**
      * Logs a Severe message and the given Throwable
      * 
@@ -122,6 +275,16 @@ public class UnitLogger {
         log( Level.INFO, logMessage, null );
     }
 
+    /**
+     * Logs an Info message. The message is only created if the level is enabled.
+     *
+     * @param logMessage
+     *            Supplier creating the message to log.
+     */
+    public static void logInfo( Supplier< String > logMessage ) {
+        log( Level.INFO, logMessage );
+    }
+
     /**
      * Logs a Fine message.
      *
@@ -132,6 +295,16 @@ public class UnitLogger {
         log( Level.FINE, logMessage, null );
     }
 
+    /**
+     * Logs a Fine message. The message is only created if the level is enabled.
+     *
+     * @param logMessage
+     *            Supplier creating the message to log.
+     */
+    public static void logFine( Supplier< String > logMessage ) {
+        log( Level.FINE, logMessage );
+    }
+
     /**
      * Logs a config message.
      *
@@ -142,6 +315,16 @@ public class UnitLogger {
         log( Level.CONFIG, logMessage, null );
     }
 
+    /**
+     * Logs a config message. The message is only created if the level is enabled.
+     *
+     * @param logMessage
+     *            Supplier creating the message to log.
+     */
+    public static void logConfig( Supplier< String > logMessage ) {
+        log( Level.CONFIG, logMessage );
+    }
+
     /**
      * Adding a handler to the Logger.
      *
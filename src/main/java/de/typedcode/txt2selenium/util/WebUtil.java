@@ -24,28 +24,36 @@
 
 package de.typedcode.txt2selenium.util;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.htmlunit.HtmlUnitDriver;
 
 import de.typedcode.txt2selenium.exceptions.ActionExecutionException;
+import de.typedcode.txt2selenium.util.repositories.ReadVariableRepository;
 
 public class WebUtil {
 
     /**
-     * HTML driver to use in the Tests.
+     * HTML driver to use in the Tests. Taken from and returned to the {@link DriverPool}.
      */
-    private HtmlUnitDriver driver = new HtmlUnitDriver();
+    private final PooledDriver driver = DriverPool.getInstance().acquire();
 
     /**
-     * Map to store Text read from WebElements.
+     * Will be set to true if the driver failed and must not be handed out again.
      */
-    private Map< String, String > readElements = new HashMap<>();
+    private boolean driverFailed;
+
+    /**
+     * Text read from WebElements, indexed by the slot of the variable in the {@link ReadVariableRepository}.
+     */
+    private String[] readElements = new String[ ReadVariableRepository.getInstance().size() ];
 
     /**
      * WebElement that has be lastly selected.
@@ -57,20 +65,58 @@ public class WebUtil {
      */
     private By selectedBy;
 
+    /**
+     * Time in milliseconds set by the running test to wait for elements. Negative to use the time set in the
+     * {@link Configuration}.
+     */
+    private long waitTimeout = -1;
+
+    /**
+     * Will be set to true when a test starts with this WebUtil.
+     */
+    private boolean usedByTest;
+
     /**
      * Instance of the WebUtil.
      */
     private static WebUtil webUtil;
 
+    /**
+     * Instances of the WebUtil bound to worker threads when tests are executed in parallel.
+     * Threads without a bound instance share <code>webUtil</code>.
+     */
+    private static final ThreadLocal< WebUtil > workerWebUtil = new ThreadLocal<>();
+
+    /**
+     * Profile of the test running on each thread, applied to the driver before a page is opened.
+     */
+    private static final ThreadLocal< DriverProfile > threadProfile = ThreadLocal.withInitial( () -> DriverProfile.DEFAULT );
+
     /**
      * Resets the WebUtil. Resets the driver, the selected element and previously
-     * read text.
+     * read text. The previously used driver is cleaned and returned to the {@link DriverPool}.
      */
     public static void reset() {
-        webUtil = new WebUtil();
+        if( workerWebUtil.get() != null ) {
+            workerWebUtil.get().releaseDriver();
+            workerWebUtil.set( new WebUtil() );
+        }
+        else {
+            if( webUtil != null ) {
+                webUtil.releaseDriver();
+            }
+
+            webUtil = new WebUtil();
+        }
     }
 
     public static WebUtil getInstance() {
+        WebUtil workerInstance = workerWebUtil.get();
+
+        if( workerInstance != null ) {
+            return workerInstance;
+        }
+
         if( webUtil == null ) {
             reset();
         }
@@ -79,13 +125,137 @@ public class WebUtil {
     }
 
     /**
-     * Opens the given URL in the WebDriver.
+     * Binds a new WebUtil to the current thread. Until {@link #releaseWorkerInstance()} is called,
+     * {@link #getInstance()} returns this isolated instance for the current thread.
+     */
+    public static void bindWorkerInstance() {
+        if( workerWebUtil.get() == null ) {
+            workerWebUtil.set( new WebUtil() );
+        }
+    }
+
+    /**
+     * Returns the driver of the WebUtil bound to the current thread to the {@link DriverPool} and removes the binding.
+     */
+    public static void releaseWorkerInstance() {
+        WebUtil workerInstance = workerWebUtil.get();
+
+        if( workerInstance != null ) {
+            workerWebUtil.remove();
+            workerInstance.releaseDriver();
+        }
+    }
+
+    /**
+     * Prepares the WebUtil of the current thread for the test that is about to run. If a previous test used it, its
+     * driver is cleaned and returned to the {@link DriverPool} and a new WebUtil takes its place, so the selection,
+     * read variables, timeout, cookies and windows of the previous test do not apply.
+     */
+    public static void startTest() {
+        if( getInstance().usedByTest ) {
+            reset();
+        }
+
+        getInstance().usedByTest = true;
+    }
+
+    /**
+     * Returns the driver of the WebUtil shared by threads without a bound instance to the {@link DriverPool}, e.g.
+     * before the pool is shut down. The next call of {@link #getInstance()} creates a new WebUtil.
+     */
+    public static void releaseInstance() {
+        if( webUtil != null ) {
+            webUtil.releaseDriver();
+            webUtil = null;
+        }
+    }
+
+    /**
+     * Sets the profile used to open pages on the current thread, e.g. the profile of the scenario of the test that
+     * is about to run. Does not create a WebUtil.
+     *
+     * @param profile Profile to use.
+     */
+    public static void useProfile( DriverProfile profile ) {
+        threadProfile.set( profile );
+    }
+
+    private void releaseDriver() {
+        // Instances replaced by mocks in tests have no driver
+        if( this.driver != null ) {
+            DriverPool.getInstance().release( this.driver, this.driverFailed );
+        }
+    }
+
+    /**
+     * Opens the given URL in the WebDriver, set up with the profile of the current thread. If the profile allows
+     * background JavaScript to run after the page was opened, waits until the jobs finished or the time elapsed.
      * 
      * @param url
      *            URL to open
      */
     public void openUrl( String url ) {
-        this.driver.get( url );
+        DriverProfile profile = threadProfile.get();
+
+        try {
+            this.driver.applyProfile( profile );
+            this.driver.get( url );
+
+            if( profile.isJavascriptEnabled() && profile.getBackgroundJavaScriptWait() > 0 ) {
+                this.driver.waitForJobs( profile.getBackgroundJavaScriptWait() );
+            }
+        }
+        catch( WebDriverException e ) {
+            this.driverFailed = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the session of the driver, e.g. after logging in.
+     *
+     * @return Cookies, local storage and URL of the current page.
+     */
+    public SessionSnapshot getSession() {
+        return new SessionSnapshot( this.driver.getCurrentUrl(), this.driver.getCookies(), this.driver.getLocalStorage() );
+    }
+
+    /**
+     * Replaces the cookies of the driver by the ones of the snapshot and opens its URL. The local storage of the
+     * page is replaced once the page is loaded, so scripts running while the page loads do not see it.
+     *
+     * @param session Snapshot taken by {@link #getSession()}, possibly on another driver.
+     */
+    public void restoreSession( SessionSnapshot session ) {
+        this.driver.setCookies( session.getCookies() );
+        openUrl( session.getUrl() );
+        this.driver.setLocalStorage( session.getLocalStorage() );
+    }
+
+    /**
+     * Takes a snapshot of the session, the read variables and the selection, e.g. after a method ran.
+     *
+     * @return State of this WebUtil.
+     */
+    public BrowserState getState() {
+        return new BrowserState( getSession(), this.readElements, this.selectedBy );
+    }
+
+    /**
+     * Restores the session, the read variables and the selection of the state. The page is opened again from its
+     * URL and the element is selected again on it.
+     *
+     * @param state State taken by {@link #getState()}, possibly by another WebUtil.
+     */
+    public void restoreState( BrowserState state ) {
+        restoreSession( state.getSession() );
+
+        String[] restored = state.getReadElements();
+        this.readElements = Arrays.copyOf( restored, Math.max( restored.length, this.readElements.length ) );
+
+        this.selectedElement = null;
+        this.selectedBy = null;
+        state.getSelectedBy().ifPresent( this::select );
     }
 
     /**
@@ -124,6 +294,8 @@ public class WebUtil {
      */
     public void click() {
         if( this.selectedElement != null ) {
+            // If the element does not become clickable in time, the driver reports why
+            awaitSelection( o -> o.isDisplayed() && o.isEnabled() );
             this.selectedElement.click();
         }
         else {
@@ -153,20 +325,91 @@ public class WebUtil {
      * @return Content identified by the identifier or null if the content does not exist
      */
     public Optional<String> getReadVar( String identifier ) {
-        return Optional.ofNullable( this.readElements.get( identifier ) );
+        int slot = ReadVariableRepository.getInstance().findSlot( identifier );
+
+        return slot < 0 ? Optional.empty() : getReadVar( slot );
+    }
+
+    /**
+     * Returns the text read to the variable in the given slot.
+     *
+     * @param slot Slot of the variable in the {@link ReadVariableRepository}.
+     * @return Text read to the variable, empty if nothing was read to it.
+     */
+    public Optional<String> getReadVar( int slot ) {
+        return slot < this.readElements.length ? Optional.ofNullable( this.readElements[ slot ] ) : Optional.empty();
+    }
+
+    /**
+     * Sets the time the following actions of the current test wait for elements. {@link #startTest()} discards it.
+     *
+     * @param waitTimeout Time in milliseconds, 0 to not wait at all.
+     */
+    public void setWaitTimeout( long waitTimeout ) {
+        this.waitTimeout = waitTimeout;
     }
 
     /**
-     * Selects the Element identified by <code>By</code>
+     * @return Time in milliseconds actions wait for elements.
+     */
+    public long getWaitTimeout() {
+        return this.waitTimeout >= 0 ? this.waitTimeout : Configuration.getInstance().getWaitTimeout();
+    }
+
+    /**
+     * Selects the Element identified by <code>By</code>. If a wait timeout is set, waits until the element
+     * appears.
      * 
      * @param by
      *            Identifying Object
+     * @throws NoSuchElementException if no element could be found in time.
      */
     public void select( By by ) {
-        this.selectedElement = driver.findElement( by );
+        long timeout = getWaitTimeout();
+
+        if( timeout <= 0 ) {
+            this.selectedElement = driver.findElement( by );
+        }
+        else {
+            this.selectedElement = ElementWait.poll( this.driver, timeout, () -> findFirst( by ) )
+                    .orElseThrow( () -> new NoSuchElementException( String.format( "No element found within %d ms by %s", timeout, by ) ) );
+        }
+
         this.selectedBy = by;
     }
 
+    /**
+     * Finds the first element without the implicit wait of the driver.
+     */
+    private Optional< WebElement > findFirst( By by ) {
+        return this.driver.findElements( by ).stream().findFirst();
+    }
+
+    /**
+     * Waits until the selected element meets the given condition, if a wait timeout is set. If the element was
+     * removed from the page, e.g. because a script rendered it again, it is selected again by its
+     * <code>selectedBy</code>.
+     *
+     * @param condition Condition the selected element has to meet.
+     */
+    private void awaitSelection( Predicate< WebElement > condition ) {
+        long timeout = getWaitTimeout();
+
+        if( timeout <= 0 ) {
+            return;
+        }
+
+        ElementWait.poll( this.driver, timeout, () -> {
+            try {
+                return Optional.of( this.selectedElement ).filter( condition );
+            }
+            catch( StaleElementReferenceException e ) {
+                findFirst( this.selectedBy ).ifPresent( o -> this.selectedElement = o );
+                return Optional.empty();
+            }
+        } );
+    }
+
     public Optional<By> getSelectedBy() {
         return Optional.ofNullable( this.selectedBy );
     }
@@ -178,19 +421,35 @@ public class WebUtil {
      *            Internal variable to assign the current text to.
      */
     public String readText( String readToName ) {
+        return readText( ReadVariableRepository.getInstance().getSlot( readToName ) );
+    }
+
+    /**
+     * Reads the text from the currently selected Element.
+     *
+     * @param slot
+     *            Slot of the variable in the {@link ReadVariableRepository} to assign the current text to.
+     */
+    public String readText( int slot ) {
 
         if( this.selectedElement == null ) {
             throw new ActionExecutionException( "Could not execute 'read'. No Element was selected." );
         }
 
+        awaitSelection( o -> o.isDisplayed() );
+
         String text = this.selectedElement.getText();
 
         if( text == null ) {
             throw new ActionExecutionException( "Reading the Text from selected Element returned null" );
         }
 
-        this.readElements.put( readToName, text );
+        if( slot >= this.readElements.length ) {
+            this.readElements = Arrays.copyOf( this.readElements, Math.max( slot + 1, ReadVariableRepository.getInstance().size() ) );
+        }
+
+        this.readElements[ slot ] = text;
 
         return text;
     }
-}
\ No newline at end of file
+}
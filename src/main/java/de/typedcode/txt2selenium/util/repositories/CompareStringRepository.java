@@ -26,26 +26,39 @@ package de.typedcode.txt2selenium.util.repositories;
 
 import de.typedcode.txt2selenium.Txt2Selenium;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.parsers.CompareStringIndex;
 import de.typedcode.txt2selenium.parsers.CompareStringParser;
+import de.typedcode.txt2selenium.util.Configuration;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CompareStringRepository {
 
     private static CompareStringRepository instance;
 
-    private Map< TestScenario, Map<String, String>> compareStrings = new HashMap<>();
+    /**
+     * Compare strings defined in the directory of each scenario.
+     */
+    private Map< TestScenario, Map<String, String>> compareStrings = new ConcurrentHashMap<>();
+
+    /**
+     * Compare strings visible in each scenario, including the inherited ones. Strings of a scenario overwrite the
+     * strings of its parents. Filled on the first lookup for a scenario.
+     */
+    private Map< TestScenario, Map<String, String>> resolvedCompareStrings = new ConcurrentHashMap<>();
 
     private CompareStringRepository() {
         //Do not instantiate
     }
 
-    public static CompareStringRepository getInstance() {
+    public static synchronized CompareStringRepository getInstance() {
         if( instance == null ) {
             instance =  new CompareStringRepository();
         }
@@ -61,24 +74,75 @@ public class CompareStringRepository {
         Map<String, String> scenarioStrings = new HashMap<>();
 
         if( Files.exists( path) ) {
-            scenarioStrings = CompareStringParser.parse( path );
+            Configuration configuration = Configuration.getInstance();
+
+            if( configuration.isCompareStringIndexEnabled() ) {
+                scenarioStrings = new IndexedCompareStrings( CompareStringIndex.open( path ), configuration.getCompareStringCacheSize() );
+            }
+            else {
+                scenarioStrings = CompareStringParser.parse( path );
+            }
         }
 
         compareStrings.put( scenario, scenarioStrings );
     }
 
+    /**
+     * Reads the compare strings of the scenario again, e.g. after its compare strings file changed. The merged
+     * views of all scenarios are rebuilt on their next lookup.
+     */
+    public void reloadScenario( TestScenario scenario ) {
+        registerScenario( scenario );
+        this.resolvedCompareStrings.clear();
+    }
+
+    /**
+     * Removes the compare strings of a scenario that no longer exists.
+     */
+    public void removeScenario( TestScenario scenario ) {
+        this.compareStrings.remove( scenario );
+        this.resolvedCompareStrings.clear();
+    }
+
     public Optional< String > getCompareString( TestScenario scenario, String key ) {
-        String compareString = compareStrings.get( scenario ).get( key );
+        return Optional.ofNullable( getResolvedCompareStrings( scenario ).get( key ) );
+    }
+
+    /**
+     * Returns the compare strings visible in the scenario, including the inherited ones. The view is built once on
+     * the first lookup. Scenarios without own compare strings share the view of their parent. In-heap compare
+     * strings of a scenario are added to a {@link PersistentCompareStrings} sharing the data of the parent, so every
+     * key is resolved with a single lookup. Indexed compare strings are not loaded into the heap, their view looks
+     * the keys up layer by layer instead.
+     *
+     * @return Compare strings visible in the scenario.
+     */
+    public Map< String, String > getResolvedCompareStrings( TestScenario scenario ) {
+        Map< String, String > resolved = resolvedCompareStrings.get( scenario );
 
-        if(compareString != null) {
-            return Optional.of( compareString );
+        if( resolved != null ) {
+            return resolved;
         }
-        else if ( scenario.parentScenario != null ) {
-            return getCompareString( scenario.parentScenario, key );
+
+        Map< String, String > scenarioStrings = compareStrings.getOrDefault( scenario, Map.of() );
+        Map< String, String > parentStrings = scenario.parentScenario == null ? Map.of() : getResolvedCompareStrings( scenario.parentScenario );
+
+        if( scenarioStrings.isEmpty() ) {
+            resolved = parentStrings;
+        }
+        else if( Configuration.getInstance().isCompareStringIndexEnabled() ) {
+            resolved = parentStrings.isEmpty()
+                    ? Collections.unmodifiableMap( scenarioStrings )
+                    : new LayeredCompareStrings( Collections.unmodifiableMap( scenarioStrings ), parentStrings );
         }
         else {
-            return Optional.empty();
+            resolved = PersistentCompareStrings.of( parentStrings ).with( scenarioStrings );
         }
+
+        // Concurrent lookups may merge the same view twice, the first one is kept
+        Map< String, String > existing = resolvedCompareStrings.putIfAbsent( scenario, resolved );
+
+        return existing == null ? resolved : existing;
     }
 
     public Map< String, String > getCompareStringsForScenario( TestScenario tsc ) {
@@ -90,5 +154,6 @@ public class CompareStringRepository {
      */
     public void cleanRepository() {
         this.compareStrings.clear();
+        this.resolvedCompareStrings.clear();
     }
 }
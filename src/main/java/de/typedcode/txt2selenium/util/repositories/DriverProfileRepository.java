@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util.repositories;
+
+import de.typedcode.txt2selenium.Txt2Selenium;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.parsers.DriverProfileParser;
+import de.typedcode.txt2selenium.util.DriverProfile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Driver profiles of the scenarios, read from the {@link Txt2Selenium#DRIVER_PROFILE_FILE_NAME} in the directory of
+ * a scenario. Scenarios inherit the settings of their parents, the root inherits {@link DriverProfile#DEFAULT}.
+ */
+public class DriverProfileRepository {
+
+    private static DriverProfileRepository instance;
+
+    /**
+     * Profiles defined in the directory of each scenario. Scenarios without a profile file have no entry.
+     */
+    private final Map< TestScenario, DriverProfile > profiles = new ConcurrentHashMap<>();
+
+    /**
+     * Profiles with every setting resolved. Filled on the first lookup for a scenario.
+     */
+    private final Map< TestScenario, DriverProfile > resolvedProfiles = new ConcurrentHashMap<>();
+
+    private DriverProfileRepository() {
+        //Do not instantiate
+    }
+
+    public static synchronized DriverProfileRepository getInstance() {
+        if( instance == null ) {
+            instance = new DriverProfileRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * Reads the profile file of the scenario if it has one.
+     *
+     * @throws de.typedcode.txt2selenium.exceptions.ParseException if the profile file is erroneous.
+     */
+    public void registerScenario( TestScenario scenario ) {
+        Path path = scenario.getPath().resolve( Txt2Selenium.DRIVER_PROFILE_FILE_NAME );
+
+        if( Files.exists( path ) ) {
+            this.profiles.put( scenario, DriverProfileParser.parse( path ) );
+        }
+        else {
+            this.profiles.remove( scenario );
+        }
+    }
+
+    /**
+     * Reads the profile of the scenario again, e.g. after its profile file changed. The resolved profiles of all
+     * scenarios are rebuilt on their next lookup.
+     */
+    public void reloadScenario( TestScenario scenario ) {
+        registerScenario( scenario );
+        this.resolvedProfiles.clear();
+    }
+
+    /**
+     * Removes the profile of a scenario that no longer exists.
+     */
+    public void removeScenario( TestScenario scenario ) {
+        this.profiles.remove( scenario );
+        this.resolvedProfiles.clear();
+    }
+
+    /**
+     * Returns the profile used by the tests of the scenario, including the inherited settings.
+     *
+     * @param scenario Scenario of the test. May be null.
+     * @return Profile with every setting set.
+     */
+    public DriverProfile getProfile( TestScenario scenario ) {
+        if( scenario == null ) {
+            return DriverProfile.DEFAULT;
+        }
+
+        DriverProfile resolved = this.resolvedProfiles.get( scenario );
+
+        if( resolved != null ) {
+            return resolved;
+        }
+
+        DriverProfile parent = getProfile( scenario.parentScenario );
+        DriverProfile own = this.profiles.get( scenario );
+
+        resolved = own != null ? own.inherit( parent ) : parent;
+
+        // Concurrent lookups may resolve the same profile twice, the first one is kept
+        DriverProfile existing = this.resolvedProfiles.putIfAbsent( scenario, resolved );
+
+        return existing == null ? resolved : existing;
+    }
+
+    /**
+     * Clears the Repository
+     */
+    public void cleanRepository() {
+        this.profiles.clear();
+        this.resolvedProfiles.clear();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.util.repositories;
+
+import de.typedcode.txt2selenium.parsers.CompareStringIndex;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compare strings of one scenario backed by a {@link CompareStringIndex}. Values are read from the mapped file on
+ * demand, the most recently used ones are kept in a bounded cache.
+ */
+class IndexedCompareStrings extends AbstractMap< String, String > {
+
+    /**
+     * Marks keys that are known to be missing in the cache.
+     */
+    private static final String MISSING = new String();
+
+    private final CompareStringIndex index;
+
+    private final Map< String, String > recentlyUsed;
+
+    /**
+     * @param index Index of the compare strings file.
+     * @param cacheSize Maximum number of values to keep in memory, 0 disables the cache.
+     */
+    IndexedCompareStrings( CompareStringIndex index, int cacheSize ) {
+        this.index = index;
+        this.recentlyUsed = new LinkedHashMap<>( 16, 0.75f, true ) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry( Map.Entry< String, String > eldest ) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public String get( Object key ) {
+        if( !( key instanceof String ) ) {
+            return null;
+        }
+
+        String value;
+
+        synchronized( this.recentlyUsed ) {
+            value = this.recentlyUsed.get( key );
+        }
+
+        if( value == null ) {
+            value = this.index.get( ( String ) key );
+
+            synchronized( this.recentlyUsed ) {
+                this.recentlyUsed.put( ( String ) key, value == null ? MISSING : value );
+            }
+        }
+
+        return value == MISSING ? null : value;
+    }
+
+    @Override
+    public boolean containsKey( Object key ) {
+        return get( key ) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.index.size();
+    }
+
+    @Override
+    public Set< Entry< String, String > > entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator< Entry< String, String > > iterator() {
+                return new Iterator<>() {
+                    private int position;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.position < index.size();
+                    }
+
+                    @Override
+                    public Entry< String, String > next() {
+                        if( !hasNext() ) {
+                            throw new NoSuchElementException();
+                        }
+
+                        int current = this.position++;
+
+                        return new SimpleImmutableEntry<>( index.getKey( current ), index.getValue( current ) );
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return index.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.util.repositories;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compare strings of a scenario on top of the inherited ones. Used for indexed compare strings instead of a merged
+ * copy, so inheriting a large table does not load it into the heap.
+ */
+class LayeredCompareStrings extends AbstractMap< String, String > {
+
+    private final Map< String, String > scenarioStrings;
+    private final Map< String, String > parentStrings;
+
+    /**
+     * Counted on the first call of {@link #size()}, -1 before. The layers do not change.
+     */
+    private volatile int size = -1;
+
+    LayeredCompareStrings( Map< String, String > scenarioStrings, Map< String, String > parentStrings ) {
+        this.scenarioStrings = scenarioStrings;
+        this.parentStrings = parentStrings;
+    }
+
+    @Override
+    public String get( Object key ) {
+        String value = this.scenarioStrings.get( key );
+
+        return value != null ? value : this.parentStrings.get( key );
+    }
+
+    @Override
+    public boolean containsKey( Object key ) {
+        return this.scenarioStrings.containsKey( key ) || this.parentStrings.containsKey( key );
+    }
+
+    /**
+     * Checks the layers without merging them.
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.scenarioStrings.isEmpty() && this.parentStrings.isEmpty();
+    }
+
+    /**
+     * Counts the inherited strings and the strings of the scenario that do not overwrite one of them. Only the keys
+     * of the scenario are visited, the inherited layers are not merged.
+     */
+    @Override
+    public int size() {
+        if( this.size < 0 ) {
+            int count = this.parentStrings.size();
+
+            for( String key : this.scenarioStrings.keySet() ) {
+                if( !this.parentStrings.containsKey( key ) ) {
+                    count++;
+                }
+            }
+
+            this.size = count;
+        }
+
+        return this.size;
+    }
+
+    /**
+     * Merges all layers. Only meant for inspecting the compare strings, lookups use {@link #get(Object)}.
+     */
+    @Override
+    public Set< Entry< String, String > > entrySet() {
+        Map< String, String > merged = new HashMap<>( this.parentStrings );
+        merged.putAll( this.scenarioStrings );
+
+        return Collections.unmodifiableMap( merged ).entrySet();
+    }
+}
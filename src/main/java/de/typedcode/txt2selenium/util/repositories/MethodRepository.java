@@ -26,17 +26,20 @@ package de.typedcode.txt2selenium.util.repositories;
 
 import de.typedcode.txt2selenium.Txt2Selenium;
 import de.typedcode.txt2selenium.executionContext.Method;
+import de.typedcode.txt2selenium.executionContext.MethodCallGraph;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.Configuration;
 import de.typedcode.txt2selenium.util.FileUtil;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MethodRepository {
 
-    private Map< TestScenario, Map<String, Method>> methodMap = new HashMap<>();
+    private Map< TestScenario, Map<String, Method>> methodMap = new ConcurrentHashMap<>();
 
     private static MethodRepository instance;
 
@@ -44,7 +47,7 @@ public class MethodRepository {
         //Do not instantiate
     }
 
-    public static MethodRepository getInstance() {
+    public static synchronized MethodRepository getInstance() {
         if( instance == null ) {
             instance =  new MethodRepository();
         }
@@ -53,7 +56,11 @@ public class MethodRepository {
     }
 
     /**
-     * Computes the compare Strings for this Scenario
+     * Creates the methods of this Scenario. The methods are parsed after all of them are registered, so they can call
+     * each other. Unless lazy parsing is configured, cyclic calls are reported right away.
+     *
+     * @throws de.typedcode.txt2selenium.exceptions.ParseException if a method-file is erroneous or methods call each
+     * other in a cycle.
      */
     public void registerScenario( TestScenario scenario ) {
         Path path = Paths.get( scenario.getPath().toString(), Txt2Selenium.METHOD_FILE_FOLDER );
@@ -73,6 +80,17 @@ public class MethodRepository {
         }
 
         methodMap.put( scenario, scenarioMethods );
+
+        if( !Configuration.getInstance().isLazyParsing() ) {
+            scenarioMethods.values().forEach( MethodCallGraph::verify );
+        }
+    }
+
+    /**
+     * Removes the methods of a scenario that no longer exists.
+     */
+    public void removeScenario( TestScenario scenario ) {
+        methodMap.remove( scenario );
     }
 
     public Optional< Map< String, Method > >getMethodsForScenario(TestScenario testScenario) {
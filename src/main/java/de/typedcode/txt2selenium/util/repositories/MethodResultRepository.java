@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util.repositories;
+
+import de.typedcode.txt2selenium.executionContext.Method;
+import de.typedcode.txt2selenium.util.BrowserState;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Results of cacheable methods, by method and the key of the state the method was called from. Shared by all
+ * threads of the process.
+ */
+public class MethodResultRepository {
+
+    private static MethodResultRepository instance;
+
+    private final Map< Method, Map< String, BrowserState > > results = new ConcurrentHashMap<>();
+
+    private MethodResultRepository() {
+        //Do not instantiate
+    }
+
+    public static synchronized MethodResultRepository getInstance() {
+        if( instance == null ) {
+            instance = new MethodResultRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * @param method Called method.
+     * @param input State the method is called from.
+     * @return State the method ended in when it was called from the same state, empty if it was not called from
+     * that state yet.
+     */
+    public Optional< BrowserState > getResult( Method method, BrowserState input ) {
+        Map< String, BrowserState > methodResults = this.results.get( method );
+
+        return methodResults != null ? Optional.ofNullable( methodResults.get( input.getKey() ) ) : Optional.empty();
+    }
+
+    /**
+     * @param method Called method.
+     * @param input State the method was called from.
+     * @param result State the method ended in.
+     */
+    public void putResult( Method method, BrowserState input, BrowserState result ) {
+        this.results.computeIfAbsent( method, o -> new ConcurrentHashMap<>() ).put( input.getKey(), result );
+    }
+
+    /**
+     * Removes all results, e.g. after methods changed. Methods calling a changed method end in other states as
+     * well.
+     */
+    public void cleanRepository() {
+        this.results.clear();
+    }
+
+    /**
+     * @return Number of results of all methods.
+     */
+    public int size() {
+        return this.results.values().stream().mapToInt( Map::size ).sum();
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util.repositories;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable compare strings stored in a hash array mapped trie. {@link #with(Map)} adds the strings of a scenario
+ * to the inherited ones and returns a new instance sharing every node that did not change, so a scenario costs only
+ * as much memory as its own strings. A key is resolved with a single hash lookup, independent of the depth of the
+ * scenario tree.
+ */
+final class PersistentCompareStrings extends AbstractMap< String, String > {
+
+    static final PersistentCompareStrings EMPTY = new PersistentCompareStrings( new BitmapNode( 0, new Object[ 0 ] ), 0 );
+
+    private static final int BITS = 5;
+    private static final int MASK = ( 1 << BITS ) - 1;
+
+    private final Node root;
+    private final int size;
+
+    private PersistentCompareStrings( Node root, int size ) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @param strings Compare strings to share or copy.
+     * @return The given strings if they are persistent already, a persistent copy of them otherwise.
+     */
+    static PersistentCompareStrings of( Map< String, String > strings ) {
+        return strings instanceof PersistentCompareStrings ? ( PersistentCompareStrings ) strings : EMPTY.with( strings );
+    }
+
+    /**
+     * Returns the strings of this instance, overwritten and extended by the given ones. This instance is not
+     * changed.
+     *
+     * @param strings Strings to add.
+     * @return Strings of both maps.
+     */
+    PersistentCompareStrings with( Map< String, String > strings ) {
+        Node newRoot = this.root;
+        int newSize = this.size;
+
+        for( Entry< String, String > entry : strings.entrySet() ) {
+            boolean[] added = new boolean[ 1 ];
+            newRoot = newRoot.put( 0, hash( entry.getKey() ), entry.getKey(), entry.getValue(), added );
+
+            if( added[ 0 ] ) {
+                newSize++;
+            }
+        }
+
+        return new PersistentCompareStrings( newRoot, newSize );
+    }
+
+    @Override
+    public String get( Object key ) {
+        return key instanceof String ? this.root.get( 0, hash( key ), key ) : null;
+    }
+
+    @Override
+    public boolean containsKey( Object key ) {
+        return get( key ) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Collects all entries. Only meant for inspecting the compare strings, lookups use {@link #get(Object)}.
+     */
+    @Override
+    public Set< Entry< String, String > > entrySet() {
+        List< Entry< String, String > > entries = new ArrayList<>( this.size );
+        this.root.collect( entries );
+
+        return new AbstractSet<>() {
+            @Override
+            public Iterator< Entry< String, String > > iterator() {
+                return Collections.unmodifiableList( entries ).iterator();
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+        };
+    }
+
+    private static int hash( Object key ) {
+        int hash = key.hashCode();
+
+        return hash ^ ( hash >>> 16 );
+    }
+
+    private interface Node {
+
+        String get( int shift, int hash, Object key );
+
+        /**
+         * Returns a node with the entry added, this node is not changed.
+         *
+         * @param added Set to true if the key was not contained yet.
+         */
+        Node put( int shift, int hash, String key, String value, boolean[] added );
+
+        void collect( List< Entry< String, String > > entries );
+    }
+
+    /**
+     * Node with up to 32 children, selected by {@link #BITS} bits of the hash. A child is either an entry, stored as
+     * key and value, or a node, stored as null and the node.
+     */
+    private static final class BitmapNode implements Node {
+
+        private final int bitmap;
+        private final Object[] children;
+
+        BitmapNode( int bitmap, Object[] children ) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        @Override
+        public String get( int shift, int hash, Object key ) {
+            int bit = 1 << ( ( hash >>> shift ) & MASK );
+
+            if( ( this.bitmap & bit ) == 0 ) {
+                return null;
+            }
+
+            int index = 2 * Integer.bitCount( this.bitmap & ( bit - 1 ) );
+            Object childKey = this.children[ index ];
+
+            if( childKey == null ) {
+                return ( ( Node ) this.children[ index + 1 ] ).get( shift + BITS, hash, key );
+            }
+
+            return key.equals( childKey ) ? ( String ) this.children[ index + 1 ] : null;
+        }
+
+        @Override
+        public Node put( int shift, int hash, String key, String value, boolean[] added ) {
+            int bit = 1 << ( ( hash >>> shift ) & MASK );
+            int index = 2 * Integer.bitCount( this.bitmap & ( bit - 1 ) );
+
+            if( ( this.bitmap & bit ) == 0 ) {
+                Object[] newChildren = new Object[ this.children.length + 2 ];
+                System.arraycopy( this.children, 0, newChildren, 0, index );
+                newChildren[ index ] = key;
+                newChildren[ index + 1 ] = value;
+                System.arraycopy( this.children, index, newChildren, index + 2, this.children.length - index );
+                added[ 0 ] = true;
+
+                return new BitmapNode( this.bitmap | bit, newChildren );
+            }
+
+            Object childKey = this.children[ index ];
+            Object child;
+
+            if( childKey == null ) {
+                child = ( ( Node ) this.children[ index + 1 ] ).put( shift + BITS, hash, key, value, added );
+            }
+            else if( key.equals( childKey ) ) {
+                child = value;
+            }
+            else {
+                child = createNode( shift + BITS, ( String ) childKey, ( String ) this.children[ index + 1 ], hash, key, value );
+                added[ 0 ] = true;
+            }
+
+            Object[] newChildren = this.children.clone();
+            newChildren[ index ] = child instanceof Node ? null : key;
+            newChildren[ index + 1 ] = child;
+
+            return new BitmapNode( this.bitmap, newChildren );
+        }
+
+        private static Node createNode( int shift, String firstKey, String firstValue, int secondHash, String secondKey, String secondValue ) {
+            int firstHash = hash( firstKey );
+
+            if( shift >= Integer.SIZE || firstHash == secondHash ) {
+                return new CollisionNode( new String[] { firstKey, secondKey }, new String[] { firstValue, secondValue } );
+            }
+
+            boolean[] added = new boolean[ 1 ];
+
+            return new BitmapNode( 0, new Object[ 0 ] )
+                    .put( shift, firstHash, firstKey, firstValue, added )
+                    .put( shift, secondHash, secondKey, secondValue, added );
+        }
+
+        @Override
+        public void collect( List< Entry< String, String > > entries ) {
+            for( int i = 0; i < this.children.length; i += 2 ) {
+                if( this.children[ i ] == null ) {
+                    ( ( Node ) this.children[ i + 1 ] ).collect( entries );
+                }
+                else {
+                    entries.add( new SimpleImmutableEntry<>( ( String ) this.children[ i ], ( String ) this.children[ i + 1 ] ) );
+                }
+            }
+        }
+    }
+
+    /**
+     * Entries whose keys have the same hash.
+     */
+    private static final class CollisionNode implements Node {
+
+        private final String[] keys;
+        private final String[] values;
+
+        CollisionNode( String[] keys, String[] values ) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        public String get( int shift, int hash, Object key ) {
+            for( int i = 0; i < this.keys.length; i++ ) {
+                if( this.keys[ i ].equals( key ) ) {
+                    return this.values[ i ];
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public Node put( int shift, int hash, String key, String value, boolean[] added ) {
+            for( int i = 0; i < this.keys.length; i++ ) {
+                if( this.keys[ i ].equals( key ) ) {
+                    String[] newValues = this.values.clone();
+                    newValues[ i ] = value;
+
+                    return new CollisionNode( this.keys, newValues );
+                }
+            }
+
+            added[ 0 ] = true;
+
+            String[] newKeys = Arrays.copyOf( this.keys, this.keys.length + 1 );
+            String[] newValues = Arrays.copyOf( this.values, this.values.length + 1 );
+            newKeys[ this.keys.length ] = key;
+            newValues[ this.values.length ] = value;
+
+            return new CollisionNode( newKeys, newValues );
+        }
+
+        @Override
+        public void collect( List< Entry< String, String > > entries ) {
+            for( int i = 0; i < this.keys.length; i++ ) {
+                entries.add( new SimpleImmutableEntry<>( this.keys[ i ], this.values[ i ] ) );
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2selenium.util.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns every name of a read variable an index. The names are resolved while the test-files are parsed, so the
+ * {@link de.typedcode.txt2selenium.util.WebUtil} stores the read texts in an array instead of hashing the names on
+ * every execution.
+ *
+ * Slots are shared by all tests, the read texts are not: every test starts without read variables, so it can only
+ * compare variables read by itself or by the methods it called.
+ */
+public class ReadVariableRepository {
+
+    private static ReadVariableRepository instance;
+
+    private final Map< String, Integer > slots = new ConcurrentHashMap<>();
+
+    private final List< String > names = new ArrayList<>();
+
+    private ReadVariableRepository() {
+        //Do not instantiate
+    }
+
+    public static synchronized ReadVariableRepository getInstance() {
+        if( instance == null ) {
+            instance = new ReadVariableRepository();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns the slot for the given variable name. Unknown names get the next free slot.
+     *
+     * @param name Name of the read variable.
+     * @return Slot of the variable.
+     */
+    public int getSlot( String name ) {
+        Integer slot = this.slots.get( name );
+
+        if( slot != null ) {
+            return slot;
+        }
+
+        synchronized( this.names ) {
+            return this.slots.computeIfAbsent( name, o -> {
+                this.names.add( o );
+                return this.names.size() - 1;
+            } );
+        }
+    }
+
+    /**
+     * Returns the slot for the given variable name without assigning a new one.
+     *
+     * @param name Name of the read variable.
+     * @return Slot of the variable or -1 if the name was never used.
+     */
+    public int findSlot( String name ) {
+        return this.slots.getOrDefault( name, -1 );
+    }
+
+    /**
+     * @param slot Slot of a read variable.
+     * @return Name of the variable in the given slot.
+     */
+    public String getName( int slot ) {
+        synchronized( this.names ) {
+            return this.names.get( slot );
+        }
+    }
+
+    /**
+     * @return Number of assigned slots.
+     */
+    public int size() {
+        return this.slots.size();
+    }
+}
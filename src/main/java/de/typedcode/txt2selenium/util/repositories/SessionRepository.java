@@ -0,0 +1,278 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2selenium.util.repositories;
+
+import de.typedcode.txt2selenium.parsers.TestCache;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.SessionSnapshot;
+import de.typedcode.txt2selenium.util.UnitLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Browser sessions saved by name, e.g. after logging in. Sessions are shared by all threads of the process. Sessions
+ * contain authentication cookies, so they are written to disk only if tests run in worker processes: then they are
+ * written to {@link #CACHE_FOLDER} within the {@link TestCache#CACHE_FOLDER} of the main directory, so worker
+ * processes use the sessions saved by the others. The files are removed with {@link #cleanRepository()}.
+ */
+public class SessionRepository {
+
+    public static final String CACHE_FOLDER = "sessions";
+
+    private static final String FILE_EXTENSION = ".t2ss";
+    private static final String LOCK_FILE_EXTENSION = ".lock";
+
+    /**
+     * Session names are used as file names.
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile( "[\\w-]+" );
+
+    private static final int MAGIC = 0x54325353;
+    private static final int VERSION = 1;
+
+    private static SessionRepository instance;
+
+    private final Map< String, SessionSnapshot > sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Lock per session name, held while the session is created.
+     */
+    private final Map< String, Object > locks = new ConcurrentHashMap<>();
+
+    private SessionRepository() {
+        //Do not instantiate
+    }
+
+    public static synchronized SessionRepository getInstance() {
+        if( instance == null ) {
+            instance = new SessionRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * @param name Name of a session.
+     * @return true if the name consists of letters, digits, underscores and hyphens only.
+     */
+    public static boolean isValidName( String name ) {
+        return NAME_PATTERN.matcher( name ).matches();
+    }
+
+    /**
+     * Returns the session saved by this or another process.
+     *
+     * @param name Name of the session.
+     * @return The session or an empty Optional if it was not saved.
+     */
+    public Optional< SessionSnapshot > getSession( String name ) {
+        SessionSnapshot session = this.sessions.get( name );
+
+        if( session != null ) {
+            return Optional.of( session );
+        }
+
+        Optional< SessionSnapshot > stored = load( name );
+        stored.ifPresent( o -> this.sessions.putIfAbsent( name, o ) );
+
+        return stored;
+    }
+
+    /**
+     * Returns the saved session or creates and saves it if it was not saved yet. Threads and worker processes
+     * asking for a session that is being created wait for it instead of creating it again.
+     *
+     * @param name Name of the session.
+     * @param creator Creates the session on the driver of the current thread. Returns an empty Optional if the
+     *                session must not be saved, e.g. because its creation failed.
+     * @return The session, empty if it was not saved and the creator did not save it.
+     */
+    public Optional< SessionSnapshot > getSession( String name, Supplier< Optional< SessionSnapshot > > creator ) {
+        synchronized( this.locks.computeIfAbsent( name, o -> new Object() ) ) {
+            Optional< SessionSnapshot > session = getSession( name );
+
+            if( session.isPresent() ) {
+                return session;
+            }
+
+            Optional< Path > directory = getDirectory();
+
+            if( directory.isEmpty() ) {
+                return create( name, creator );
+            }
+
+            Path lockFile = directory.get().resolve( name + LOCK_FILE_EXTENSION );
+
+            try {
+                Files.createDirectories( directory.get() );
+
+                // Other processes wait for the lock file, this process for the lock of the name held already
+                try( FileChannel channel = FileChannel.open( lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE ) ) {
+                    FileLock lock = channel.lock();
+
+                    try {
+                        return getSession( name ).or( () -> create( name, creator ) );
+                    }
+                    finally {
+                        lock.release();
+                    }
+                }
+            }
+            catch( IOException e ) {
+                UnitLogger.logFine( () -> String.format( "Could not lock session '%s' in %s: %s", name, lockFile, e.getMessage() ) );
+                return getSession( name ).or( () -> create( name, creator ) );
+            }
+        }
+    }
+
+    private Optional< SessionSnapshot > create( String name, Supplier< Optional< SessionSnapshot > > creator ) {
+        Optional< SessionSnapshot > created = creator.get();
+        created.ifPresent( o -> putSession( name, o ) );
+
+        return created;
+    }
+
+    /**
+     * Saves the session for this and, if tests run in worker processes, the other processes, replacing a session
+     * with the same name.
+     *
+     * @param name Name of the session.
+     * @param session Session to save.
+     */
+    public void putSession( String name, SessionSnapshot session ) {
+        this.sessions.put( name, session );
+
+        getDirectory().ifPresent( o -> store( o, name, session ) );
+    }
+
+    /**
+     * Removes the session, e.g. because the method creating it changed.
+     *
+     * @param name Name of the session.
+     */
+    public void removeSession( String name ) {
+        this.sessions.remove( name );
+
+        getDirectory().ifPresent( o -> {
+            try {
+                Files.deleteIfExists( o.resolve( name + FILE_EXTENSION ) );
+            }
+            catch( IOException e ) {
+                UnitLogger.logFine( () -> String.format( "Could not remove session '%s' in %s: %s", name, o, e.getMessage() ) );
+            }
+        } );
+    }
+
+    /**
+     * Removes every session, including the files saved for other processes. Called before a run, so sessions
+     * are created once per run, and after it, so no cookies are left on disk.
+     */
+    public void cleanRepository() {
+        this.sessions.clear();
+
+        Optional< Path > directory = Configuration.getInstance().getMainDirectory().map( o -> o.resolve( TestCache.CACHE_FOLDER ).resolve( CACHE_FOLDER ) );
+
+        if( directory.isEmpty() || !Files.isDirectory( directory.get() ) ) {
+            return;
+        }
+
+        try( DirectoryStream< Path > files = Files.newDirectoryStream( directory.get(), "*{" + FILE_EXTENSION + "," + LOCK_FILE_EXTENSION + "}" ) ) {
+            for( Path file : files ) {
+                Files.deleteIfExists( file );
+            }
+        }
+        catch( IOException e ) {
+            UnitLogger.logFine( () -> String.format( "Could not remove the sessions in %s: %s", directory.get(), e.getMessage() ) );
+        }
+    }
+
+    /**
+     * @return Directory the sessions are shared in, empty if tests do not run in worker processes.
+     */
+    private static Optional< Path > getDirectory() {
+        Configuration configuration = Configuration.getInstance();
+
+        if( configuration.getWorkerCount() == 0 && configuration.getWorkerPort() == 0 ) {
+            return Optional.empty();
+        }
+
+        return configuration.getMainDirectory().map( o -> o.resolve( TestCache.CACHE_FOLDER ).resolve( CACHE_FOLDER ) );
+    }
+
+    private static void store( Path directory, String name, SessionSnapshot session ) {
+        Path file = directory.resolve( name + FILE_EXTENSION );
+
+        try {
+            Files.createDirectories( directory );
+            Path tempFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+
+            try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( tempFile ) ) ) ) {
+                out.writeInt( MAGIC );
+                out.writeInt( VERSION );
+                session.write( out );
+            }
+
+            // Processes sharing the directory never read a partially written file
+            Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch( IOException e ) {
+            UnitLogger.logFine( () -> String.format( "Could not save session '%s' in %s: %s", name, file, e.getMessage() ) );
+        }
+    }
+
+    private static Optional< SessionSnapshot > load( String name ) {
+        Optional< Path > file = getDirectory().map( o -> o.resolve( name + FILE_EXTENSION ) );
+
+        if( file.isEmpty() || !Files.exists( file.get() ) ) {
+            return Optional.empty();
+        }
+
+        try( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( file.get() ) ) ) ) {
+            if( in.readInt() != MAGIC || in.readInt() != VERSION ) {
+                return Optional.empty();
+            }
+
+            return Optional.of( SessionSnapshot.read( in ) );
+        }
+        catch( IOException e ) {
+            UnitLogger.logFine( () -> String.format( "Ignoring unreadable session in %s: %s", file.get(), e.getMessage() ) );
+            return Optional.empty();
+        }
+    }
+}
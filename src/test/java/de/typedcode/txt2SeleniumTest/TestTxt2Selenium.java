@@ -104,7 +104,7 @@ class TestTxt2Selenium {
         String[] arguments = new String[] { "first", "second" };
         Throwable exception = assertThrows( RuntimeException.class, () -> { Txt2Selenium.main( arguments ); } );
         assertEquals(
-                "Run txt2Selenium with path as argument only. e.g. java -jar txt2Selenium.jar path/to/tests",
+                "Unexpected argument 'second'. Run txt2Selenium with one path and any options, e.g. java -jar txt2Selenium.jar [OPTIONS] path/to/tests. The options are listed in the README.",
                 exception.getMessage() );
     }
 
@@ -130,4 +130,59 @@ class TestTxt2Selenium {
         assertEquals( "Starting test execution", logRecords.get( 0 ).getMessage() );
         assertEquals( "Test execution finished", logRecords.get( logRecords.size() - 1 ).getMessage() );
     }
+
+    @Test
+    void testMainThreadsOption() {
+        Path path = Paths.get( "src", "test", "resources", "Txt2Selenium", "initiation", "testResolving" );
+        String[] arguments = new String[] { "--threads", "2", path.toString() };
+
+        try {
+            Txt2Selenium.main( arguments );
+
+            assertEquals( 2, Configuration.getInstance().getThreadCount() );
+            assertEquals( path, Configuration.getInstance().getMainDirectory().get() );
+
+            List<LogRecord> logRecords = this.handler.getLogRecords();
+
+            assertEquals( 1, logRecords.stream().filter( o -> "Starting Test: first".equals( o.getMessage() ) ).count() );
+            assertEquals( 1, logRecords.stream().filter( o -> "Starting Test: second".equals( o.getMessage() ) ).count() );
+            assertEquals( "Test execution finished", logRecords.get( logRecords.size() - 1 ).getMessage() );
+        }
+        finally {
+            Configuration.getInstance().clear();
+        }
+    }
+
+    @Test
+    void testMainThreadsOptionInvalid() {
+        Throwable exception = assertThrows( IllegalArgumentException.class, () -> Txt2Selenium.main( new String[] { "--threads", "many" } ) );
+        assertEquals( "Option --threads requires a number but was 'many'.", exception.getMessage() );
+
+        exception = assertThrows( IllegalArgumentException.class, () -> Txt2Selenium.main( new String[] { "--threads" } ) );
+        assertEquals( "Option --threads requires a value.", exception.getMessage() );
+    }
+
+    @Test
+    void testMainWorkersOption() {
+        Path path = Paths.get( "src", "test", "resources", "Txt2Selenium", "initiation", "testResolving" );
+        String[] arguments = new String[] { "--workers", "2", path.toString() };
+
+        try {
+            Txt2Selenium.main( arguments );
+
+            assertEquals( 2, Configuration.getInstance().getWorkerCount() );
+
+            List<LogRecord> logRecords = this.handler.getLogRecords();
+
+            assertEquals( 1, logRecords.stream().filter( o -> "Running 2 tests on 2 workers".equals( o.getMessage() ) ).count() );
+            assertEquals( 1, logRecords.stream().filter( o -> o.getMessage().matches( "\\[worker [12]\\] Starting Test: first" ) ).count() );
+            assertEquals( 1, logRecords.stream().filter( o -> o.getMessage().matches( "\\[worker [12]\\] Starting Test: second" ) ).count() );
+            assertEquals( 0, logRecords.stream().filter( o -> o.getMessage().startsWith( "Starting Test" ) ).count() );
+            assertEquals( 0, logRecords.stream().filter( o -> o.getMessage().contains( "did not finish" ) ).count() );
+            assertEquals( "Test execution finished", logRecords.get( logRecords.size() - 1 ).getMessage() );
+        }
+        finally {
+            Configuration.getInstance().clear();
+        }
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2SeleniumTest.actions;
+
+import de.typedcode.txt2selenium.actions.*;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestActionProgram {
+
+    private final TestScenario testScenario = Mockito.mock( TestScenario.class );
+
+    @Test
+    void testEmptyProgram() {
+        ActionProgram program = ActionProgram.of( new ArrayList<>() );
+
+        assertSame( ActionProgram.EMPTY, program );
+        assertTrue( program.isEmpty() );
+        assertEquals( 0, program.size() );
+        assertFalse( program.iterator().hasNext() );
+    }
+
+    @Test
+    void testProgramCounter() {
+        AAction first = ActionFactory.createAction( this.testScenario, ActionType.COMMENT, "first" );
+        AAction second = ActionFactory.createAction( this.testScenario, ActionType.COMMENT, "second" );
+
+        List< AAction > actions = new ArrayList<>( List.of( first, second ) );
+        ActionProgram program = ActionProgram.of( actions );
+
+        actions.clear();
+
+        assertFalse( program.isEmpty() );
+        assertEquals( 2, program.size() );
+        assertSame( first, program.get( 0 ) );
+        assertSame( second, program.get( 1 ) );
+        assertThrows( ArrayIndexOutOfBoundsException.class, () -> program.get( 2 ) );
+    }
+
+    @Test
+    void testIteration() {
+        AAction first = ActionFactory.createAction( this.testScenario, ActionType.COMMENT, "first" );
+        AAction second = ActionFactory.createAction( this.testScenario, ActionType.COMMENT, "second" );
+
+        Iterator< AAction > iterator = ActionProgram.of( List.of( first, second ) ).iterator();
+
+        assertSame( first, iterator.next() );
+        assertSame( second, iterator.next() );
+        assertFalse( iterator.hasNext() );
+        assertThrows( NoSuchElementException.class, iterator::next );
+    }
+}
@@ -33,6 +33,7 @@ import de.typedcode.txt2selenium.executionContext.TestScenario;
 import de.typedcode.txt2selenium.util.UnitLogger;
 import de.typedcode.txt2selenium.util.WebUtil;
 import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import de.typedcode.txt2selenium.util.repositories.ReadVariableRepository;
 import de.typedcode.txt2SeleniumTest.testUtils.TestLoggingHandler;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -108,30 +109,21 @@ class TestAssertEqualsAction {
 
     @Test
     void testActionInitiationErrorExpectedNotExisting() throws ActionInitiationException {
-        AssertEqualsAction action = ( AssertEqualsAction ) ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "first second" );
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.empty() );
 
-        TestLoggingHandler handler = new TestLoggingHandler();
-        UnitLogger.addHandler( handler );
-
-        action.execute();
-
-        List<LogRecord> logRecords = handler.getLogRecords();
-
-        assertEquals( 2, logRecords.size() );
-
-        assertEquals(Level.INFO, logRecords.get( 0 ).getLevel());
-        assertEquals( String.format( "%s %s first second", AssertEqualsAction.IDENTIFIER, Boolean.TRUE.toString() ), logRecords.get( 0 ).getMessage() );
+        Throwable exception = assertThrows( ActionInitiationException.class,
+                () -> ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "first second" ) );
 
-        assertEquals(Level.SEVERE, logRecords.get( 1 ).getLevel());
-        assertEquals( "Execution Error. Could not find expectedIdentifier 'first'.", logRecords.get( 1 ).getMessage());
+        assertEquals( "Could not create 'AssertEqualsAction'. Could not find expectedIdentifier 'first'.", exception.getMessage() );
     }
 
     @Test
     void testActionExecutionParamNotRead() throws ActionExecutionException {
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
+
         AssertEqualsAction assertAction = ( AssertEqualsAction )ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "first second" );
 
-        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.empty() );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.empty() );
 
         TestLoggingHandler handler = new TestLoggingHandler();
         UnitLogger.addHandler( handler );
@@ -151,10 +143,11 @@ class TestAssertEqualsAction {
 
     @Test
     void testActionExecutionNoMatch() throws ActionExecutionException {
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "value" ) );
+
         AssertEqualsAction assertAction = ( AssertEqualsAction )ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "first second" );
 
-        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "value" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         TestLoggingHandler handler = new TestLoggingHandler();
         UnitLogger.addHandler( handler );
@@ -174,30 +167,33 @@ class TestAssertEqualsAction {
 
     @Test
     void testActionExecutionSuccessfull() {
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
+
         AssertEqualsAction assertAction = ( AssertEqualsAction )ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "first second" );
 
-        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         assertAction.execute();
     }
 
     @Test
     void testThreeParamsTrueEvaluationSuccessfull() {
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
+
         AssertEqualsAction assertAction = ( AssertEqualsAction )ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "true first second" );
 
-        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         assertAction.execute();
     }
 
     @Test
     void testThreeParamsTrueEvaluationNoMatchLog() throws ActionExecutionException {
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "value" ) );
+
         AssertEqualsAction assertAction = ( AssertEqualsAction )ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "true first second" );
 
-        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "value" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         TestLoggingHandler handler = new TestLoggingHandler();
         UnitLogger.addHandler( handler );
@@ -218,10 +214,11 @@ class TestAssertEqualsAction {
     @Test
     void testThreeParamsFalseEvaluationSuccessfull() {
         //Check that evaluation is successfull if the evaluationIndicator Parameter is false and the values do not match
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock,  "first" ) ).thenReturn( Optional.of( "value" ) );
+
         AssertEqualsAction assertAction = ( AssertEqualsAction )ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "false first second" );
 
-        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock,  "first" ) ).thenReturn( Optional.of( "value" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         assertAction.execute();
     }
@@ -229,10 +226,11 @@ class TestAssertEqualsAction {
     @Test
     void testThreeParamsFalseEvaluationNoMatch() throws ActionExecutionException {
         //Check that evaluation is not successfull if the evaluationIndicator Parameter is false and the values do match
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
+
         AssertEqualsAction assertAction = ( AssertEqualsAction )ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "false first second" );
 
-        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         TestLoggingHandler handler = new TestLoggingHandler();
         UnitLogger.addHandler( handler );
@@ -252,6 +250,8 @@ class TestAssertEqualsAction {
 
     @Test
     void testGetCommandTwoParameters() {
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "value" ) );
+
         AAction action = ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "first second" );
 
         assertEquals( String.format( "%s true first second", AssertEqualsAction.IDENTIFIER ), action.getCommand() );
@@ -259,6 +259,8 @@ class TestAssertEqualsAction {
 
     @Test
     void testGetCommandThreeParametersTrue() {
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "value" ) );
+
         AAction action = ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "true first second" );
 
         assertEquals( String.format( "%s true first second", AssertEqualsAction.IDENTIFIER ), action.getCommand() );
@@ -266,6 +268,8 @@ class TestAssertEqualsAction {
 
     @Test
     void testGetCommandThreeParametersFalse() {
+        Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "value" ) );
+
         AAction action = ActionFactory.createAction(testScenarioMock, AssertEqualsAction.IDENTIFIER, "false first second" );
 
         assertEquals( String.format( "%s false first second", AssertEqualsAction.IDENTIFIER ), action.getCommand() );
@@ -34,6 +34,7 @@ import de.typedcode.txt2selenium.executionContext.TestScenario;
 import de.typedcode.txt2selenium.util.UnitLogger;
 import de.typedcode.txt2selenium.util.WebUtil;
 import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import de.typedcode.txt2selenium.util.repositories.ReadVariableRepository;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -130,8 +131,8 @@ class TestAssertReadEqualsAction {
     void testActionExecutionParamNotRead() throws ActionExecutionException {
         AssertReadEqualsAction assertAction = ( AssertReadEqualsAction )ActionFactory.createAction(testScenarioMock, AssertReadEqualsAction.IDENTIFIER, "first second" );
 
-        Mockito.when( this.webUtil.getReadVar( "first" ) ).thenReturn( Optional.of( "actual" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.empty() );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "first" ) ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.empty() );
 
         TestLoggingHandler handler = new TestLoggingHandler();
         UnitLogger.addHandler( handler );
@@ -153,8 +154,8 @@ class TestAssertReadEqualsAction {
     void testActionExecutionNoMatch() throws ActionExecutionException {
         AssertReadEqualsAction assertAction = ( AssertReadEqualsAction )ActionFactory.createAction(testScenarioMock, AssertReadEqualsAction.IDENTIFIER, "first second" );
 
-        Mockito.when( this.webUtil.getReadVar( "first" ) ).thenReturn( Optional.of( "value" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "first" ) ) ).thenReturn( Optional.of( "value" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         TestLoggingHandler handler = new TestLoggingHandler();
         UnitLogger.addHandler( handler );
@@ -177,7 +178,7 @@ class TestAssertReadEqualsAction {
         AssertReadEqualsAction assertAction = ( AssertReadEqualsAction )ActionFactory.createAction(testScenarioMock, AssertReadEqualsAction.IDENTIFIER, "first second" );
 
         Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         assertAction.execute();
     }
@@ -187,7 +188,7 @@ class TestAssertReadEqualsAction {
         AssertReadEqualsAction assertAction = ( AssertReadEqualsAction )ActionFactory.createAction(testScenarioMock, AssertReadEqualsAction.IDENTIFIER, "true first second" );
 
         Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock, "first" ) ).thenReturn( Optional.of( "actual" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         assertAction.execute();
     }
@@ -196,8 +197,8 @@ class TestAssertReadEqualsAction {
     void testThreeParamsTrueEvaluationNoMatchLog() throws ActionExecutionException {
         AssertReadEqualsAction assertAction = ( AssertReadEqualsAction )ActionFactory.createAction(testScenarioMock, AssertReadEqualsAction.IDENTIFIER, "true first second" );
 
-        Mockito.when( this.webUtil.getReadVar( "first" ) ).thenReturn( Optional.of( "value" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "first" ) ) ).thenReturn( Optional.of( "value" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         TestLoggingHandler handler = new TestLoggingHandler();
         UnitLogger.addHandler( handler );
@@ -221,7 +222,7 @@ class TestAssertReadEqualsAction {
         AssertReadEqualsAction assertAction = ( AssertReadEqualsAction )ActionFactory.createAction(testScenarioMock, AssertReadEqualsAction.IDENTIFIER, "false first second" );
 
         Mockito.when( CompareStringRepository.getInstance().getCompareString( this.testScenarioMock,  "first" ) ).thenReturn( Optional.of( "value" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         assertAction.execute();
     }
@@ -231,8 +232,8 @@ class TestAssertReadEqualsAction {
         //Check that evaluation is not successfull if the evaluationIndicator Parameter is false and the values do match
         AssertReadEqualsAction assertAction = ( AssertReadEqualsAction )ActionFactory.createAction(testScenarioMock, AssertReadEqualsAction.IDENTIFIER, "false first second" );
 
-        Mockito.when( this.webUtil.getReadVar( "first" ) ).thenReturn( Optional.of( "actual" ) );
-        Mockito.when( this.webUtil.getReadVar( "second" ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "first" ) ) ).thenReturn( Optional.of( "actual" ) );
+        Mockito.when( this.webUtil.getReadVar( ReadVariableRepository.getInstance().getSlot( "second" ) ) ).thenReturn( Optional.of( "actual" ) );
 
         TestLoggingHandler handler = new TestLoggingHandler();
         UnitLogger.addHandler( handler );
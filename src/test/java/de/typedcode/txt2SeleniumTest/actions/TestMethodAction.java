@@ -29,11 +29,13 @@ import de.typedcode.txt2selenium.actions.ActionFactory;
 import de.typedcode.txt2selenium.actions.MethodAction;
 import de.typedcode.txt2selenium.actions.OpenAction;
 import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
+import de.typedcode.txt2selenium.exceptions.ParseException;
 import de.typedcode.txt2selenium.executionContext.Method;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
 import de.typedcode.txt2selenium.util.UnitLogger;
 import de.typedcode.txt2selenium.util.WebUtil;
 import de.typedcode.txt2selenium.util.repositories.MethodRepository;
+import de.typedcode.txt2selenium.util.repositories.MethodResultRepository;
 import de.typedcode.txt2SeleniumTest.testUtils.TestLoggingHandler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +49,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -69,6 +72,8 @@ class TestMethodAction {
         Field instance = MethodRepository.class.getDeclaredField("instance" );
         instance.setAccessible( true );
         instance.set( instance, null );
+
+        MethodResultRepository.getInstance().cleanRepository();
     }
 
     private void prepareMock( TestScenario scenario, String method, Method dummyMethod ) throws Exception {
@@ -159,4 +164,55 @@ class TestMethodAction {
         assertEquals( "Method empty", records.get( 2 ).getMessage() );
         assertEquals( "Ending Method: testLoggingEmptyMethod", records.get( 3 ).getMessage() );
     }
+
+    @Test
+    void testCacheableMethod() throws Exception {
+        WebUtil.reset();
+
+        TestLoggingHandler handler = new TestLoggingHandler();
+        UnitLogger.addHandler( handler );
+
+        String page = Paths.get( "src", "test", "resources", "actions", "methodAction", "page.html" ).toUri().toString();
+        Method method = new Method( this.testScenario, Paths.get( "src", "test", "resources", "actions", "methodAction", "testCacheableMethod.t2s" ) );
+        prepareMock( this.testScenario, "testCacheableMethod", method );
+
+        assertTrue( method.isCacheable() );
+
+        AAction methodAction = ActionFactory.createAction( this.testScenario, MethodAction.IDENTIFIER, "testCacheableMethod" );
+
+        ActionFactory.createAction( this.testScenario, OpenAction.IDENTIFIER, page ).execute();
+        methodAction.execute();
+
+        assertEquals( "content", WebUtil.getInstance().getReadVar( "myRead" ).get() );
+        assertEquals( 1, MethodResultRepository.getInstance().size() );
+
+        // Same state as before the first call
+        WebUtil.reset();
+        ActionFactory.createAction( this.testScenario, OpenAction.IDENTIFIER, page ).execute();
+        methodAction.execute();
+
+        assertEquals( "content", WebUtil.getInstance().getReadVar( "myRead" ).get() );
+        assertEquals( "Run Method Title", WebUtil.getInstance().getTitle() );
+        assertTrue( WebUtil.getInstance().getSelectedElement().isPresent() );
+
+        List< String > messages = handler.getLogRecords().stream().map( LogRecord::getMessage ).collect( Collectors.toList() );
+
+        assertEquals( 1, messages.stream().filter( "Starting Method: testCacheableMethod"::equals ).count() );
+        assertTrue( messages.contains( "Restoring cached result of Method: testCacheableMethod" ) );
+
+        // Another starting state runs the method again
+        methodAction.execute();
+
+        assertEquals( 2, MethodResultRepository.getInstance().size() );
+    }
+
+    @Test
+    void testMisplacedCacheable() {
+        Method method = new Method( this.testScenario, Paths.get( "src", "test", "resources", "actions", "methodAction", "testMisplacedCacheable.t2s" ) );
+
+        Throwable exception = assertThrows( ParseException.class, method::parse );
+
+        assertTrue( exception.getMessage().endsWith( "'cacheable' is only allowed as the first line of a method." ) );
+        assertFalse( new Method( this.testScenario, Paths.get( "src", "test", "resources", "actions", "methodAction", "testRunMethod.t2s" ) ).isCacheable() );
+    }
 }
@@ -62,6 +62,12 @@ class TestSendSpecialKeyAction {
     private WebUtil webUtil;
     private HtmlUnitDriver driver;
 
+    @BeforeEach
+    void before() {
+        // The element selected by another test must not be used
+        WebUtil.reset();
+    }
+
     @Test
     void testUnknownKey() throws ActionInitiationException {
         Throwable exception = assertThrows( ActionInitiationException.class,
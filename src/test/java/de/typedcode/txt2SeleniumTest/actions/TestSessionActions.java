@@ -0,0 +1,277 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2SeleniumTest.actions;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.actions.ActionFactory;
+import de.typedcode.txt2selenium.actions.OpenAction;
+import de.typedcode.txt2selenium.actions.RestoreSessionAction;
+import de.typedcode.txt2selenium.actions.SaveSessionAction;
+import de.typedcode.txt2selenium.exceptions.ActionInitiationException;
+import de.typedcode.txt2selenium.executionContext.FailurePolicy;
+import de.typedcode.txt2selenium.executionContext.Method;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.parsers.TestCache;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.DriverProfile;
+import de.typedcode.txt2selenium.util.WebUtil;
+import de.typedcode.txt2selenium.util.repositories.MethodRepository;
+import de.typedcode.txt2selenium.util.repositories.SessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSessionActions {
+
+    @TempDir
+    Path mainDirectory;
+
+    private final TestScenario testScenario = Mockito.mock( TestScenario.class );
+    private final AtomicInteger logins = new AtomicInteger();
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        Configuration.getInstance().setMainDirectory( this.mainDirectory );
+        WebUtil.reset();
+
+        this.server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+        this.server.createContext( "/login", o -> {
+            this.logins.incrementAndGet();
+            o.getResponseHeaders().add( "Set-Cookie", "session=abc; Path=/" );
+            respond( o, "Logged in" );
+        } );
+        this.server.createContext( "/home", o -> {
+            String cookie = o.getRequestHeaders().getFirst( "Cookie" );
+            respond( o, cookie != null ? cookie : "Anonymous" );
+        } );
+        this.server.createContext( "/stale", o -> respond( o, "Stale", "localStorage.setItem( 'stale', 'value' );" ) );
+        this.server.start();
+
+        this.baseUrl = String.format( "http://localhost:%d", this.server.getAddress().getPort() );
+
+        Path methodFile = this.mainDirectory.resolve( "login.t2s" );
+        Files.writeString( methodFile, String.format( "open %s/login\nopen %s/home", this.baseUrl, this.baseUrl ) );
+
+        MethodRepository methodRepository = Mockito.mock( MethodRepository.class );
+        Mockito.when( methodRepository.getMethod( this.testScenario, "login" ) ).thenReturn( Optional.of( new Method( this.testScenario, methodFile ) ) );
+        setInstance( MethodRepository.class, methodRepository );
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        this.server.stop( 0 );
+        setInstance( MethodRepository.class, null );
+        setInstance( SessionRepository.class, null );
+        FailurePolicy.getInstance().reset();
+        WebUtil.reset();
+        Configuration.getInstance().clear();
+    }
+
+    private static void setInstance( Class< ? > type, Object value ) throws Exception {
+        Field instance = type.getDeclaredField( "instance" );
+        instance.setAccessible( true );
+        instance.set( instance, value );
+    }
+
+    private static void respond( HttpExchange exchange, String title ) throws IOException {
+        respond( exchange, title, "" );
+    }
+
+    private static void respond( HttpExchange exchange, String title, String script ) throws IOException {
+        byte[] content = String.format( "<html><head><title>%s</title><script>%s</script></head><body></body></html>", title, script ).getBytes( StandardCharsets.UTF_8 );
+        exchange.getResponseHeaders().add( "Content-Type", "text/html" );
+        exchange.sendResponseHeaders( 200, content.length );
+
+        try( OutputStream out = exchange.getResponseBody() ) {
+            out.write( content );
+        }
+    }
+
+    private void open( String path ) {
+        ActionFactory.createAction( this.testScenario, OpenAction.IDENTIFIER, this.baseUrl + path ).execute();
+    }
+
+    @Test
+    void testRestoreSessionCreatedByMethod() throws Exception {
+        AAction action = ActionFactory.createAction( this.testScenario, RestoreSessionAction.IDENTIFIER, "admin login" );
+
+        assertEquals( "restoreSession admin login", action.getCommand() );
+
+        action.execute();
+
+        assertEquals( 1, this.logins.get() );
+        assertEquals( "session=abc", WebUtil.getInstance().getTitle() );
+
+        // The next test gets a cleaned driver
+        WebUtil.reset();
+        open( "/home" );
+        assertEquals( "Anonymous", WebUtil.getInstance().getTitle() );
+
+        action.execute();
+
+        assertEquals( 1, this.logins.get() );
+        assertEquals( "session=abc", WebUtil.getInstance().getTitle() );
+
+        // Without worker processes sessions are kept in memory only
+        Path sessions = this.mainDirectory.resolve( TestCache.CACHE_FOLDER ).resolve( SessionRepository.CACHE_FOLDER );
+        assertFalse( Files.exists( sessions ) );
+
+        SessionRepository.getInstance().cleanRepository();
+
+        assertTrue( SessionRepository.getInstance().getSession( "admin" ).isEmpty() );
+    }
+
+    @Test
+    void testFailedMethodDoesNotSaveSession() throws Exception {
+        Path methodFile = this.mainDirectory.resolve( "broken.t2s" );
+        Files.writeString( methodFile, String.format( "open %s/login\nrestoreSession missing", this.baseUrl ) );
+        Mockito.when( MethodRepository.getInstance().getMethod( this.testScenario, "broken" ) ).thenReturn( Optional.of( new Method( this.testScenario, methodFile ) ) );
+
+        AAction action = ActionFactory.createAction( this.testScenario, RestoreSessionAction.IDENTIFIER, "admin broken" );
+
+        action.execute();
+
+        assertEquals( 1, FailurePolicy.getInstance().getFailureCount() );
+        assertTrue( SessionRepository.getInstance().getSession( "admin" ).isEmpty() );
+
+        // The next test runs the method again instead of continuing the broken session
+        WebUtil.reset();
+        action.execute();
+
+        assertEquals( 2, this.logins.get() );
+        assertEquals( 2, FailurePolicy.getInstance().getFailureCount() );
+        assertTrue( SessionRepository.getInstance().getSession( "admin" ).isEmpty() );
+    }
+
+    @Test
+    void testSessionSharedWithWorkers() throws Exception {
+        Configuration.getInstance().setWorkerCount( 2 );
+        AAction action = ActionFactory.createAction( this.testScenario, RestoreSessionAction.IDENTIFIER, "admin login" );
+
+        action.execute();
+
+        // Other processes read the saved session
+        Path sessions = this.mainDirectory.resolve( TestCache.CACHE_FOLDER ).resolve( SessionRepository.CACHE_FOLDER );
+        assertTrue( Files.exists( sessions.resolve( "admin.t2ss" ) ) );
+        assertTrue( Files.exists( sessions.resolve( "admin.lock" ) ) );
+
+        setInstance( SessionRepository.class, null );
+        WebUtil.reset();
+        action.execute();
+
+        assertEquals( 1, this.logins.get() );
+        assertEquals( "session=abc", WebUtil.getInstance().getTitle() );
+
+        SessionRepository.getInstance().cleanRepository();
+
+        assertTrue( SessionRepository.getInstance().getSession( "admin" ).isEmpty() );
+        assertEquals( 0, Files.list( sessions ).count() );
+    }
+
+    @Test
+    void testSaveAndRestoreSession() {
+        AAction restore = ActionFactory.createAction( this.testScenario, RestoreSessionAction.IDENTIFIER, "user" );
+
+        assertEquals( "restoreSession user", restore.getCommand() );
+
+        restore.execute();
+
+        assertEquals( 1, FailurePolicy.getInstance().getFailureCount() );
+
+        open( "/login" );
+        open( "/home" );
+
+        AAction save = ActionFactory.createAction( this.testScenario, SaveSessionAction.IDENTIFIER, "user" );
+
+        assertEquals( "saveSession user", save.getCommand() );
+
+        save.execute();
+        WebUtil.reset();
+        restore.execute();
+
+        assertEquals( 1, FailurePolicy.getInstance().getFailureCount() );
+        assertEquals( "session=abc", WebUtil.getInstance().getTitle() );
+    }
+
+    @Test
+    void testRestoreReplacesLocalStorage() {
+        open( "/login" );
+        open( "/home" );
+        ActionFactory.createAction( this.testScenario, SaveSessionAction.IDENTIFIER, "user" ).execute();
+
+        WebUtil.useProfile( new DriverProfile( true, true, 0L, List.of() ) );
+
+        try {
+            open( "/stale" );
+
+            assertEquals( "value", WebUtil.getInstance().getSession().getLocalStorage().get( "stale" ) );
+
+            ActionFactory.createAction( this.testScenario, RestoreSessionAction.IDENTIFIER, "user" ).execute();
+        }
+        finally {
+            WebUtil.useProfile( DriverProfile.DEFAULT );
+        }
+
+        // Keys left on the driver are not part of the restored session
+        assertEquals( "session=abc", WebUtil.getInstance().getTitle() );
+        assertTrue( WebUtil.getInstance().getSession().getLocalStorage().isEmpty() );
+    }
+
+    @Test
+    void testInvalidParameters() {
+        Throwable exception = assertThrows( ActionInitiationException.class,
+                () -> ActionFactory.createAction( this.testScenario, SaveSessionAction.IDENTIFIER, "my session" ) );
+
+        assertEquals( "Could not create 'SaveSessionAction'. 'my session' is no valid session name. Use 'saveSession name' with letters, digits, '_' and '-' only.", exception.getMessage() );
+
+        exception = assertThrows( ActionInitiationException.class,
+                () -> ActionFactory.createAction( this.testScenario, RestoreSessionAction.IDENTIFIER, "admin login extra" ) );
+
+        assertEquals( "Could not create 'RestoreSessionAction'. 'admin login extra' are no valid parameters. Use 'restoreSession name' or 'restoreSession name methodName'.", exception.getMessage() );
+
+        assertThrows( ActionInitiationException.class,
+                () -> ActionFactory.createAction( this.testScenario, RestoreSessionAction.IDENTIFIER, "admin unknown" ) );
+    }
+}
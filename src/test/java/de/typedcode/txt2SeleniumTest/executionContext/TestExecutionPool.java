@@ -0,0 +1,239 @@
+package de.typedcode.txt2SeleniumTest.executionContext;
+
+import com.sun.net.httpserver.HttpServer;
+import de.typedcode.txt2SeleniumTest.testUtils.TestLoggingHandler;
+import de.typedcode.txt2selenium.exceptions.ParseException;
+import de.typedcode.txt2selenium.executionContext.ExecutionPool;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.executionContext.TestTimings;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.WebUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestExecutionPool {
+
+    private Configuration configuration;
+    private TestLoggingHandler handler;
+
+    @BeforeEach
+    void before() throws NoSuchFieldException, IllegalAccessException {
+        configuration = Mockito.mock( Configuration.class );
+        Field instance = Configuration.class.getDeclaredField("instance" );
+        instance.setAccessible( true );
+        instance.set( instance, configuration );
+
+        this.handler = new TestLoggingHandler();
+        UnitLogger.addHandler( this.handler );
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        UnitLogger.removeHandler( this.handler );
+
+        Field instance = Configuration.class.getDeclaredField("instance" );
+        instance.setAccessible( true );
+        instance.set( instance, null );
+    }
+
+    @Test
+    void testSequentialUsesSharedWebUtil() {
+        Mockito.when( this.configuration.getThreadCount() ).thenReturn( 1 );
+
+        AtomicReference<WebUtil> used = new AtomicReference<>();
+        TestScenario scenario = Mockito.mock( TestScenario.class );
+        Mockito.doAnswer( o -> { used.set( WebUtil.getInstance() ); return null; } ).when( scenario ).execute();
+
+        ExecutionPool.execute( scenario );
+
+        assertSame( WebUtil.getInstance(), used.get() );
+    }
+
+    @Test
+    void testParallelUsesWorkerWebUtil() {
+        Mockito.when( this.configuration.getThreadCount() ).thenReturn( 2 );
+
+        AtomicReference<WebUtil> used = new AtomicReference<>();
+        TestScenario scenario = Mockito.mock( TestScenario.class );
+        Mockito.doAnswer( o -> { used.set( WebUtil.getInstance() ); return null; } ).when( scenario ).execute();
+
+        ExecutionPool.execute( scenario );
+
+        assertNotNull( used.get() );
+        assertNotSame( WebUtil.getInstance(), used.get() );
+    }
+
+    @Test
+    void testParallelExecutesEveryTest() {
+        Path scenarioPath = Paths.get( "src", "test", "resources", "executionContext", "testScenario", "testsOnly" );
+        Mockito.when( this.configuration.getMainDirectory() ).thenReturn( Optional.of( scenarioPath.getParent() ) );
+        Mockito.when( this.configuration.getThreadCount() ).thenReturn( 3 );
+
+        TestScenario tsc = new TestScenario( null, scenarioPath );
+
+        ExecutionPool.execute( tsc );
+
+        List<LogRecord> records = this.handler.getLogRecords();
+
+        assertEquals( 11, records.size() );
+        assertEquals( "Starting Scenario: testsOnly", records.get( 0 ).getMessage() );
+        assertEquals( "Ending Scenario: testsOnly", records.get( 10 ).getMessage() );
+
+        for( String test : new String[] { "test1", "test2", "test3" } ) {
+            assertEquals( 1, records.stream().filter( o -> ( "Starting Test: " + test ).equals( o.getMessage() ) ).count() );
+            assertEquals( 1, records.stream().filter( o -> ( "Ending Test: " + test ).equals( o.getMessage() ) ).count() );
+        }
+    }
+
+    @Test
+    void testLongestFirstExecutesEveryTest() throws Exception {
+        Path scenarioPath = Paths.get( "src", "test", "resources", "executionContext", "testScenario", "testsOnly" );
+        Mockito.when( this.configuration.getMainDirectory() ).thenReturn( Optional.of( scenarioPath.getParent() ) );
+        Mockito.when( this.configuration.getThreadCount() ).thenReturn( 2 );
+        Mockito.when( this.configuration.isLongestFirst() ).thenReturn( true );
+
+        TestScenario tsc = new TestScenario( null, scenarioPath );
+
+        try {
+            ExecutionPool.execute( tsc );
+        }
+        finally {
+            Field instance = TestTimings.class.getDeclaredField( "instance" );
+            instance.setAccessible( true );
+            instance.set( instance, null );
+        }
+
+        List<LogRecord> records = this.handler.getLogRecords();
+
+        // Tests are not grouped by scenario
+        assertEquals( 9, records.size() );
+        assertEquals( 0, records.stream().filter( o -> o.getMessage().contains( "Scenario" ) ).count() );
+
+        for( String test : new String[] { "test1", "test2", "test3" } ) {
+            assertEquals( 1, records.stream().filter( o -> ( "Starting Test: " + test ).equals( o.getMessage() ) ).count() );
+            assertEquals( 1, records.stream().filter( o -> ( "Ending Test: " + test ).equals( o.getMessage() ) ).count() );
+        }
+    }
+
+    @Test
+    void testNestedScenariosStayOnConfiguredThreads( @TempDir Path scenarioPath ) throws Exception {
+        HttpServer server = HttpServer.create( new InetSocketAddress( "localhost", 0 ), 0 );
+        server.setExecutor( Executors.newCachedThreadPool() );
+        server.createContext( "/slow", o -> {
+            try {
+                Thread.sleep( 50 );
+            }
+            catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+
+            byte[] content = "<html><head><title>Slow</title></head></html>".getBytes( StandardCharsets.UTF_8 );
+            o.getResponseHeaders().add( "Content-Type", "text/html" );
+            o.sendResponseHeaders( 200, content.length );
+
+            try( OutputStream out = o.getResponseBody() ) {
+                out.write( content );
+            }
+        } );
+        server.start();
+
+        Mockito.when( this.configuration.getMainDirectory() ).thenReturn( Optional.of( scenarioPath.getParent() ) );
+        Mockito.when( this.configuration.getThreadCount() ).thenReturn( 2 );
+
+        // Workers joining the tests of their scenario must not be compensated by further workers with own drivers
+        for( String scenario : new String[] { "a", "b", "c", "d" } ) {
+            Path directory = Files.createDirectory( scenarioPath.resolve( scenario ) );
+
+            for( int i = 0; i < 4; i++ ) {
+                Files.writeString( directory.resolve( "test" + i + ".t2s" ), String.format( "open http://localhost:%d/slow", server.getAddress().getPort() ) );
+            }
+        }
+
+        try {
+            ExecutionPool.execute( new TestScenario( null, scenarioPath ) );
+        }
+        finally {
+            server.stop( 0 );
+        }
+
+        List< LogRecord > started = this.handler.getLogRecords().stream()
+                .filter( o -> o.getMessage().startsWith( "Starting Test: " ) )
+                .collect( Collectors.toList() );
+
+        assertEquals( 16, started.size() );
+        assertTrue( started.stream().map( LogRecord::getThreadID ).distinct().count() <= 2 );
+    }
+
+    @Test
+    void testHandlerContinuesAfterException() {
+        for( int threadCount : new int[] { 1, 2 } ) {
+            Mockito.when( this.configuration.getThreadCount() ).thenReturn( threadCount );
+
+            TestScenario broken = Mockito.mock( TestScenario.class );
+            Mockito.doThrow( new IllegalStateException( "broken" ) ).when( broken ).execute();
+
+            AtomicInteger executed = new AtomicInteger();
+            TestScenario working = Mockito.mock( TestScenario.class );
+            Mockito.doAnswer( o -> executed.incrementAndGet() ).when( working ).execute();
+
+            List< TestScenario > failed = new CopyOnWriteArrayList<>();
+
+            ExecutionPool.execute( List.of( broken, working, working ), ( context, e ) -> failed.add( context ) );
+
+            assertEquals( List.of( broken ), failed );
+            assertEquals( 2, executed.get() );
+        }
+    }
+
+    @Test
+    void testLongestFirstStopsOnException( @TempDir Path scenarioPath ) throws Exception {
+        Mockito.when( this.configuration.getMainDirectory() ).thenReturn( Optional.of( scenarioPath.getParent() ) );
+        Mockito.when( this.configuration.getThreadCount() ).thenReturn( 2 );
+        Mockito.when( this.configuration.isLongestFirst() ).thenReturn( true );
+        Mockito.when( this.configuration.isLazyParsing() ).thenReturn( true );
+
+        // The longest test is executed first and fails while it is parsed
+        Files.writeString( scenarioPath.resolve( "broken.t2s" ), "unknownAction\nunknownAction\nunknownAction" );
+
+        for( int i = 0; i < 20; i++ ) {
+            Files.writeString( scenarioPath.resolve( "test" + i + ".t2s" ), "comment test" );
+        }
+
+        TestScenario tsc = new TestScenario( null, scenarioPath );
+
+        try {
+            assertThrows( ParseException.class, () -> ExecutionPool.execute( tsc ) );
+        }
+        finally {
+            Field instance = TestTimings.class.getDeclaredField( "instance" );
+            instance.setAccessible( true );
+            instance.set( instance, null );
+        }
+
+        long started = this.handler.getLogRecords().stream().filter( o -> o.getMessage().startsWith( "Starting Test: test" ) ).count();
+
+        assertTrue( started < 20 );
+    }
+}
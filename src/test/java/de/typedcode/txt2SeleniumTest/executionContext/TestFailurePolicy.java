@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2SeleniumTest.executionContext;
+
+import de.typedcode.txt2SeleniumTest.testUtils.TestLoggingHandler;
+import de.typedcode.txt2selenium.executionContext.FailurePolicy;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.FailureMode;
+import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestFailurePolicy {
+
+    private static final Path SCENARIO_PATH = Paths.get( "src", "test", "resources", "executionContext", "failurePolicy" );
+
+    private TestLoggingHandler handler;
+
+    @BeforeEach
+    void beforeEach() {
+        Configuration.getInstance().setMainDirectory( SCENARIO_PATH );
+        FailurePolicy.getInstance().reset();
+
+        this.handler = new TestLoggingHandler();
+        UnitLogger.addHandler( this.handler );
+    }
+
+    @AfterEach
+    void afterEach() {
+        UnitLogger.removeHandler( this.handler );
+        FailurePolicy.getInstance().reset();
+        CompareStringRepository.getInstance().cleanRepository();
+        Configuration.getInstance().clear();
+    }
+
+    private List< String > execute() {
+        new TestScenario( null, SCENARIO_PATH ).execute();
+
+        return this.handler.getLogRecords().stream().map( LogRecord::getMessage ).collect( Collectors.toList() );
+    }
+
+    @Test
+    void testContinue() {
+        List< String > messages = execute();
+
+        assertTrue( messages.contains( "comment: after failures" ) );
+        assertTrue( messages.contains( "Ending Test: a" ) );
+        assertTrue( messages.contains( "comment: b" ) );
+        assertTrue( messages.contains( "comment: c" ) );
+        assertEquals( 2, FailurePolicy.getInstance().getFailureCount() );
+        assertFalse( FailurePolicy.getInstance().isRunAborted() );
+    }
+
+    @Test
+    void testAbortTest() {
+        Configuration.getInstance().setFailureMode( FailureMode.ABORT_TEST );
+
+        List< String > messages = execute();
+
+        assertFalse( messages.contains( "comment: after failures" ) );
+        assertTrue( messages.contains( "Aborted Test: a" ) );
+        assertTrue( messages.contains( "comment: b" ) );
+        assertTrue( messages.contains( "comment: c" ) );
+        assertEquals( 1, FailurePolicy.getInstance().getFailureCount() );
+    }
+
+    @Test
+    void testAbortScenario() {
+        Configuration.getInstance().setFailureMode( FailureMode.ABORT_SCENARIO );
+
+        List< String > messages = execute();
+
+        assertFalse( messages.contains( "comment: after failures" ) );
+        assertTrue( messages.contains( "Skipping Test: b" ) );
+        assertFalse( messages.contains( "comment: b" ) );
+        assertTrue( messages.contains( "comment: c" ) );
+        assertFalse( FailurePolicy.getInstance().isRunAborted() );
+    }
+
+    @Test
+    void testAbortRun() {
+        Configuration.getInstance().setFailureMode( FailureMode.ABORT_RUN );
+
+        List< String > messages = execute();
+
+        assertFalse( messages.contains( "comment: after failures" ) );
+        assertFalse( messages.contains( "comment: b" ) );
+        assertFalse( messages.contains( "Starting Scenario: second" ) );
+        assertTrue( FailurePolicy.getInstance().isRunAborted() );
+    }
+
+    @Test
+    void testMaxFailures() {
+        Configuration.getInstance().setMaxFailures( 2 );
+
+        List< String > messages = execute();
+
+        assertFalse( messages.contains( "comment: after failures" ) );
+        assertFalse( messages.contains( "comment: c" ) );
+        assertTrue( FailurePolicy.getInstance().isRunAborted() );
+
+        FailurePolicy.getInstance().reset();
+        Configuration.getInstance().setMaxFailures( 3 );
+
+        messages = execute();
+
+        assertTrue( messages.contains( "comment: c" ) );
+        assertFalse( FailurePolicy.getInstance().isRunAborted() );
+    }
+
+    @Test
+    void testFailureModeIdentifiers() {
+        assertEquals( FailureMode.ABORT_SCENARIO, FailureMode.getMode( "abort-scenario" ) );
+        assertThrows( IllegalArgumentException.class, () -> FailureMode.getMode( "abort" ) );
+        assertThrows( IllegalArgumentException.class, () -> Configuration.getInstance().setMaxFailures( -1 ) );
+    }
+}
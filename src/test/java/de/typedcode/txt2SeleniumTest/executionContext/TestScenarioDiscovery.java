@@ -0,0 +1,65 @@
+package de.typedcode.txt2SeleniumTest.executionContext;
+
+import de.typedcode.txt2selenium.executionContext.ScenarioDiscovery;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestScenarioDiscovery {
+
+    private final Path scenarioPath = Paths.get( "src", "test", "resources", "executionContext", "scenarioDiscovery" );
+
+    @BeforeEach
+    void before() {
+        Configuration.getInstance().setMainDirectory( this.scenarioPath.getParent() );
+    }
+
+    @AfterEach
+    void afterEach() {
+        Configuration.getInstance().clear();
+    }
+
+    @Test
+    void testTreeIsSortedByName() {
+        TestScenario tsc = ScenarioDiscovery.discover( this.scenarioPath );
+
+        assertEquals( List.of( "a", "b", "c" ), names( tsc ) );
+        assertEquals( List.of( "scenarioDiscovery/alpha", "scenarioDiscovery/beta", "scenarioDiscovery/gamma" ),
+                tsc.getSubScenarios().stream().map( TestScenario::getName ).collect( Collectors.toList() ) );
+
+        TestScenario alpha = tsc.getSubScenarios().get( 0 );
+
+        assertEquals( List.of( "first", "second" ), names( alpha ) );
+        assertEquals( tsc, alpha.parentScenario );
+        assertEquals( alpha, alpha.getTests().get( 0 ).getTestScenario() );
+        assertEquals( 1, alpha.getSubScenarios().size() );
+        assertEquals( List.of( "test" ), names( alpha.getSubScenarios().get( 0 ) ) );
+    }
+
+    @Test
+    void testSameTreeAsSequentialConstruction() {
+        TestScenario parallel = ScenarioDiscovery.discover( this.scenarioPath );
+        TestScenario sequential = new TestScenario( null, this.scenarioPath );
+
+        assertEquals( describe( sequential ), describe( parallel ) );
+    }
+
+    private static List< String > names( TestScenario scenario ) {
+        return scenario.getTests().stream().map( de.typedcode.txt2selenium.executionContext.Test::getName ).collect( Collectors.toList() );
+    }
+
+    private static String describe( TestScenario scenario ) {
+        return scenario.getName() + names( scenario ) + scenario.getSubScenarios().stream()
+                .map( TestScenarioDiscovery::describe )
+                .collect( Collectors.joining( ",", "[", "]" ) );
+    }
+}
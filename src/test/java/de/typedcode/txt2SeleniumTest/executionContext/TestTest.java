@@ -2,11 +2,14 @@ package de.typedcode.txt2SeleniumTest.executionContext;
 
 import de.typedcode.txt2selenium.actions.ActionFactory;
 import de.typedcode.txt2selenium.actions.OpenAction;
+import de.typedcode.txt2selenium.exceptions.ParseException;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.Configuration;
 import de.typedcode.txt2selenium.util.UnitLogger;
 import de.typedcode.txt2selenium.util.WebUtil;
 import de.typedcode.txt2SeleniumTest.testUtils.TestLoggingHandler;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -17,15 +20,45 @@ import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TestTest {
 
     private TestScenario testScenario = Mockito.mock( TestScenario.class );
 
+    @BeforeEach
+    void beforeEach() {
+        WebUtil.reset();
+    }
+
     @AfterEach
     void afterEach() {
         WebUtil.reset();
+        Configuration.getInstance().clear();
+    }
+
+    @Test
+    void testLazyParsing() {
+        Path testPath = Paths.get( "src", "test", "resources", "executionContext", "test", "erroneousTest.t2s" );
+
+        assertThrows( ParseException.class, () -> new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, testPath ) );
+
+        Configuration.getInstance().setLazyParsing( true );
+
+        de.typedcode.txt2selenium.executionContext.Test tst = new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, testPath );
+
+        assertThrows( ParseException.class, tst::parse );
+    }
+
+    @Test
+    void testUnreadVariable() {
+        Path testPath = Paths.get( "src", "test", "resources", "executionContext", "test", "unreadVariable.t2s" );
+
+        Throwable exception = assertThrows( ParseException.class, () -> new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, testPath ) );
+
+        assertEquals( String.format( "Error Parsing file '%s'. Variable 'myReed' is used by 'assertReadEquals true myRead myReed' before it is read.",
+                testPath.toAbsolutePath() ), exception.getMessage() );
     }
 
     @Test
@@ -94,4 +127,52 @@ class TestTest {
         assertEquals( "Test empty", logRecords.get( 1 ).getMessage() );
         assertEquals( "Ending Test: emptyTest", logRecords.get( 2 ).getMessage() );
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMethodLogging() {
+        TestScenario scenario = new TestScenario( null, Paths.get( "src", "test", "resources", "executionContext", "test", "inlineMethods" ) );
+
+        TestLoggingHandler handler = new TestLoggingHandler();
+        UnitLogger.addHandler( handler );
+
+        scenario.getTests().get( 0 ).execute();
+
+        List<LogRecord > logRecords = handler.getLogRecords();
+
+        assertEquals( "Starting Test: caller", logRecords.get( 0 ).getMessage() );
+        assertEquals( "method outer", logRecords.get( 1 ).getMessage() );
+        assertEquals( "Starting Method: outer", logRecords.get( 2 ).getMessage() );
+        assertEquals( "comment: outer", logRecords.get( 3 ).getMessage() );
+        assertEquals( "method inner", logRecords.get( 4 ).getMessage() );
+        assertEquals( "Starting Method: inner", logRecords.get( 5 ).getMessage() );
+        assertEquals( "comment: inner", logRecords.get( 6 ).getMessage() );
+        assertEquals( "Ending Method: inner", logRecords.get( 7 ).getMessage() );
+        assertEquals( "Ending Method: outer", logRecords.get( 8 ).getMessage() );
+        assertEquals( "comment: caller", logRecords.get( 9 ).getMessage() );
+        assertEquals( "Ending Test: caller", logRecords.get( 10 ).getMessage() );
+
+        assertEquals( 11, logRecords.size() );
+    }
+
+    @Test
+    void testInlinedMethodLogging() {
+        Configuration.getInstance().setInlineMethods( true );
+
+        TestScenario scenario = new TestScenario( null, Paths.get( "src", "test", "resources", "executionContext", "test", "inlineMethods" ) );
+
+        TestLoggingHandler handler = new TestLoggingHandler();
+        UnitLogger.addHandler( handler );
+
+        scenario.getTests().get( 0 ).execute();
+
+        List<LogRecord > logRecords = handler.getLogRecords();
+
+        assertEquals( "Starting Test: caller", logRecords.get( 0 ).getMessage() );
+        assertEquals( "comment: outer", logRecords.get( 1 ).getMessage() );
+        assertEquals( "comment: inner", logRecords.get( 2 ).getMessage() );
+        assertEquals( "comment: caller", logRecords.get( 3 ).getMessage() );
+        assertEquals( "Ending Test: caller", logRecords.get( 4 ).getMessage() );
+
+        assertEquals( 5, logRecords.size() );
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.typedcode.txt2SeleniumTest.executionContext;
+
+import de.typedcode.txt2selenium.executionContext.ScenarioDiscovery;
+import de.typedcode.txt2selenium.executionContext.Test;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.executionContext.TestTimings;
+import de.typedcode.txt2selenium.parsers.TestCache;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestTestTimings {
+
+    @TempDir
+    Path mainDirectory;
+
+    private Path testDirectory;
+    private TestScenario rootScenario;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        Configuration.getInstance().setMainDirectory( this.mainDirectory );
+        resetTimings();
+
+        this.testDirectory = Files.createDirectory( this.mainDirectory.resolve( "tests" ) );
+        Files.createDirectories( this.testDirectory.resolve( "methods" ) );
+
+        Files.writeString( this.testDirectory.resolve( "methods" ).resolve( "login.t2s" ), "comment 1\ncomment 2\ncomment 3\ncomment 4\ncomment 5\ncomment 6" );
+        Files.writeString( this.testDirectory.resolve( "short.t2s" ), "comment short" );
+        Files.writeString( this.testDirectory.resolve( "long.t2s" ), "comment 1\ncomment 2\n\ncomment 3\ncomment 4\ncomment 5" );
+        Files.writeString( this.testDirectory.resolve( "login.t2s" ), "method login" );
+        Files.writeString( this.testDirectory.resolve( "recorded.t2s" ), "comment recorded" );
+
+        this.rootScenario = ScenarioDiscovery.discover( this.testDirectory );
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        resetTimings();
+        CompareStringRepository.getInstance().cleanRepository();
+        Configuration.getInstance().clear();
+    }
+
+    private static void resetTimings() throws Exception {
+        Field instance = TestTimings.class.getDeclaredField( "instance" );
+        instance.setAccessible( true );
+        instance.set( instance, null );
+    }
+
+    private List< String > sortedNames() {
+        List< Test > tests = new ArrayList<>( this.rootScenario.getTests() );
+        TestTimings.getInstance().sortLongestFirst( tests );
+
+        return tests.stream().map( Test::getName ).collect( Collectors.toList() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testEstimatesByActionCount() {
+        // login calls a method with 6 actions, the blank line of long is not counted
+        assertEquals( List.of( "login", "long", "recorded", "short" ), sortedNames() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testRecordedDurations() {
+        TestTimings.getInstance().record( this.testDirectory.resolve( "short.t2s" ), 2_000_000_000L, 1 );
+        TestTimings.getInstance().record( this.testDirectory.resolve( "recorded.t2s" ), 10_000_000_000L, 1 );
+
+        // Average action takes 6 seconds, long is estimated with 30 and login with 42 seconds
+        assertEquals( List.of( "login", "long", "recorded", "short" ), sortedNames() );
+
+        TestTimings.getInstance().record( this.testDirectory.resolve( "short.t2s" ), 100_000_000_000L, 1 );
+
+        assertEquals( OptionalLong.of( 51_000_000_000L ), TestTimings.getInstance().getDuration( this.testDirectory.resolve( "short.t2s" ) ) );
+        // The estimates grow with the average action, now 30.5 seconds
+        assertEquals( List.of( "login", "long", "short", "recorded" ), sortedNames() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testStoreAndLoad() throws Exception {
+        TestTimings.getInstance().record( this.testDirectory.resolve( "short.t2s" ), 2_000_000L, 1 );
+        TestTimings.getInstance().close();
+
+        assertTrue( Files.exists( this.mainDirectory.resolve( TestCache.CACHE_FOLDER ).resolve( TestTimings.TIMINGS_FILE ) ) );
+
+        resetTimings();
+
+        assertEquals( OptionalLong.of( 2_000_000L ), TestTimings.getInstance().getDuration( this.testDirectory.resolve( "short.t2s" ) ) );
+        assertTrue( TestTimings.getInstance().getDuration( this.testDirectory.resolve( "long.t2s" ) ).isEmpty() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testUnreadableStore() throws Exception {
+        Path file = this.mainDirectory.resolve( TestCache.CACHE_FOLDER ).resolve( TestTimings.TIMINGS_FILE );
+        Files.createDirectories( file.getParent() );
+        Files.writeString( file, "not a timings file" );
+
+        assertTrue( TestTimings.getInstance().getDuration( this.testDirectory.resolve( "short.t2s" ) ).isEmpty() );
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.typedcode.txt2SeleniumTest.executionContext;
+
+import de.typedcode.txt2selenium.executionContext.ScenarioDiscovery;
+import de.typedcode.txt2selenium.executionContext.Test;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.executionContext.TestWatcher;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.WebUtil;
+import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import de.typedcode.txt2selenium.util.repositories.SessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestTestWatcher {
+
+    @TempDir
+    Path mainDirectory;
+
+    private Path testDirectory;
+    private TestScenario rootScenario;
+    private TestWatcher watcher;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        Configuration.getInstance().setMainDirectory( this.mainDirectory );
+
+        this.testDirectory = Files.createDirectory( this.mainDirectory.resolve( "tests" ) );
+        Files.createDirectories( this.testDirectory.resolve( "methods" ) );
+        Files.createDirectories( this.testDirectory.resolve( "sub" ) );
+
+        Files.writeString( this.testDirectory.resolve( "compareStrings.t2s" ), "key value\nother value" );
+        Files.writeString( this.testDirectory.resolve( "methods" ).resolve( "login.t2s" ), "comment login" );
+        Files.writeString( this.testDirectory.resolve( "methods" ).resolve( "checkout.t2s" ), "comment checkout" );
+        Files.writeString( this.testDirectory.resolve( "comment.t2s" ), "comment test" );
+        Files.writeString( this.testDirectory.resolve( "login.t2s" ), "method login" );
+        Files.writeString( this.testDirectory.resolve( "checkout.t2s" ), "method checkout" );
+        Files.writeString( this.testDirectory.resolve( "assert.t2s" ), "read var\nassertEquals key var" );
+        Files.writeString( this.testDirectory.resolve( "sub" ).resolve( "inherited.t2s" ), "read var\nassertEquals key var" );
+        Files.writeString( this.testDirectory.resolve( "sub" ).resolve( "other.t2s" ), "read var\nassertEquals other var" );
+
+        this.rootScenario = ScenarioDiscovery.discover( this.testDirectory );
+        this.watcher = new TestWatcher( this.rootScenario );
+    }
+
+    @AfterEach
+    void afterEach() {
+        CompareStringRepository.getInstance().cleanRepository();
+        SessionRepository.getInstance().cleanRepository();
+        Configuration.getInstance().clear();
+    }
+
+    private List< String > update( Path... changes ) {
+        return this.watcher.update( List.of( changes ) ).stream().map( Test::getName ).collect( Collectors.toList() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testChangedTest() throws IOException {
+        Path test = this.testDirectory.resolve( "comment.t2s" );
+        Files.writeString( test, "comment changed" );
+
+        assertEquals( List.of( "comment" ), update( test ) );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testChangedMethod() throws IOException {
+        Path method = this.testDirectory.resolve( "methods" ).resolve( "login.t2s" );
+        Files.writeString( method, "comment changed" );
+
+        assertEquals( List.of( "login" ), update( method ) );
+
+        method = this.testDirectory.resolve( "methods" ).resolve( "checkout.t2s" );
+        Files.writeString( method, "comment changed" );
+
+        assertEquals( List.of( "checkout" ), update( method ) );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testChangedSessionMethod() throws IOException {
+        Files.writeString( this.testDirectory.resolve( "session.t2s" ), "restoreSession admin login" );
+        this.rootScenario = ScenarioDiscovery.discover( this.testDirectory );
+        this.watcher = new TestWatcher( this.rootScenario );
+
+        SessionRepository.getInstance().putSession( "admin", WebUtil.getInstance().getSession() );
+
+        Path method = this.testDirectory.resolve( "methods" ).resolve( "login.t2s" );
+        Files.writeString( method, "comment changed" );
+
+        // The session created by the old method is not restored any more
+        assertEquals( List.of( "login", "session" ), update( method ) );
+        assertTrue( SessionRepository.getInstance().getSession( "admin" ).isEmpty() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testChangedCompareStrings() throws IOException {
+        Path compareStrings = this.testDirectory.resolve( "compareStrings.t2s" );
+        Files.writeString( compareStrings, "key changed\nother value" );
+
+        assertEquals( List.of( "assert", "inherited" ), update( compareStrings ) );
+        assertEquals( "changed", CompareStringRepository.getInstance().getCompareString( this.rootScenario.getSubScenarios().get( 0 ), "key" ).get() );
+
+        // Unchanged values do not affect any test
+        assertTrue( update( compareStrings ).isEmpty() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testChangedIndexedCompareStrings() throws IOException {
+        Configuration.getInstance().setCompareStringIndexEnabled( true );
+        this.rootScenario = ScenarioDiscovery.discover( this.testDirectory );
+        this.watcher = new TestWatcher( this.rootScenario );
+
+        Path compareStrings = this.testDirectory.resolve( "compareStrings.t2s" );
+        Files.writeString( compareStrings, "key changed" );
+
+        // The previous values are not read from the replaced index, every assertion is affected
+        assertEquals( List.of( "assert", "inherited", "other" ), update( compareStrings ) );
+        assertEquals( "changed", CompareStringRepository.getInstance().getCompareString( this.rootScenario.getSubScenarios().get( 0 ), "key" ).get() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testCreatedAndDeletedTest() throws IOException {
+        Path created = this.testDirectory.resolve( "sub" ).resolve( "created.t2s" );
+        Files.writeString( created, "comment created" );
+
+        assertEquals( List.of( "created" ), update( created ) );
+        assertEquals( 3, this.rootScenario.getSubScenarios().get( 0 ).getTests().size() );
+
+        Path deleted = this.testDirectory.resolve( "comment.t2s" );
+        Files.delete( deleted );
+
+        assertTrue( update( deleted ).isEmpty() );
+        assertEquals( 3, this.rootScenario.getTests().size() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testCreatedAndDeletedScenario() throws IOException {
+        Path scenario = Files.createDirectory( this.testDirectory.resolve( "created" ) );
+        Files.writeString( scenario.resolve( "first.t2s" ), "comment first" );
+
+        assertEquals( List.of( "first" ), update( scenario ) );
+        assertEquals( 2, this.rootScenario.getSubScenarios().size() );
+
+        Files.delete( scenario.resolve( "first.t2s" ) );
+        Files.delete( scenario );
+
+        assertTrue( update( scenario ).isEmpty() );
+        assertEquals( 1, this.rootScenario.getSubScenarios().size() );
+    }
+
+    @org.junit.jupiter.api.Test
+    void testErroneousChange() throws IOException {
+        Path test = this.testDirectory.resolve( "comment.t2s" );
+        Files.writeString( test, "unknownAction" );
+
+        // The test is parsed again when it is executed and reports the error there
+        assertEquals( List.of( "comment" ), update( test ) );
+    }
+}
@@ -0,0 +1,54 @@
+package de.typedcode.txt2SeleniumTest.metrics;
+
+import de.typedcode.txt2selenium.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TestLatencyHistogram {
+
+    @Test
+    void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals( 0, histogram.getCount() );
+        assertEquals( 0, histogram.getMean() );
+        assertEquals( 0, histogram.getQuantile( 0.95 ) );
+    }
+
+    @Test
+    void testRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // 90 samples of 0.2 ms, 10 samples of 40 ms
+        for( int i = 0; i < 90; i++ ) {
+            histogram.record( 200_000L );
+        }
+
+        for( int i = 0; i < 10; i++ ) {
+            histogram.record( 40_000_000L );
+        }
+
+        assertEquals( 100, histogram.getCount() );
+        assertEquals( 90 * 200_000L + 10 * 40_000_000L, histogram.getSum() );
+        assertEquals( 40_000_000L, histogram.getMax() );
+
+        assertEquals( 90, histogram.getBucket( 2 ) );
+        assertEquals( 250_000L, LatencyHistogram.getBucketBound( 2 ) );
+
+        assertEquals( 250_000L, histogram.getQuantile( 0.5 ) );
+        // The bucket bound of 50 ms is above the maximum
+        assertEquals( 40_000_000L, histogram.getQuantile( 0.95 ) );
+    }
+
+    @Test
+    void testOverflowBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record( 120_000_000_000L );
+
+        assertEquals( 1, histogram.getBucket( LatencyHistogram.getBucketCount() - 1 ) );
+        assertEquals( Long.MAX_VALUE, LatencyHistogram.getBucketBound( LatencyHistogram.getBucketCount() - 1 ) );
+        assertEquals( 120_000_000_000L, histogram.getQuantile( 1 ) );
+    }
+}
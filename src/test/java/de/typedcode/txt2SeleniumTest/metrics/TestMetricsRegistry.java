@@ -0,0 +1,77 @@
+package de.typedcode.txt2SeleniumTest.metrics;
+
+import de.typedcode.txt2selenium.actions.CommentAction;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.metrics.MetricsRegistry;
+import de.typedcode.txt2selenium.metrics.MetricsReport;
+import de.typedcode.txt2selenium.util.WebUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestMetricsRegistry {
+
+    private TestScenario testScenario = Mockito.mock( TestScenario.class );
+
+    private Path testPath = Paths.get( "src", "test", "resources", "results", "passing.t2s" );
+
+    @AfterEach
+    void afterEach() {
+        MetricsRegistry.getInstance().clear();
+        WebUtil.reset();
+    }
+
+    @Test
+    void testDisabled() {
+        new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, this.testPath ).execute();
+
+        assertTrue( MetricsRegistry.getInstance().getActionTypes().isEmpty() );
+        assertTrue( MetricsRegistry.getInstance().getTests().isEmpty() );
+    }
+
+    @Test
+    void testRecording() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.setEnabled( true );
+
+        de.typedcode.txt2selenium.executionContext.Test test = new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, this.testPath );
+        test.execute();
+        test.execute();
+
+        assertEquals( 2, registry.getActionTypes().get( CommentAction.class ).getCount() );
+        assertEquals( 2, registry.getTests().get( test ).getCount() );
+        assertEquals( 1, registry.getActions().size() );
+        assertTrue( registry.getMethods().isEmpty() );
+
+        assertEquals( "comment", MetricsRegistry.getActionName( CommentAction.class ) );
+    }
+
+    @Test
+    void testPrometheus( @TempDir Path directory ) throws Exception {
+        Mockito.when( this.testScenario.getName() ).thenReturn( "tests/\"quoted\"" );
+
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.setEnabled( true );
+
+        new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, this.testPath ).execute();
+
+        Path file = directory.resolve( "metrics.prom" );
+        MetricsReport.writePrometheus( registry, file );
+
+        List< String > lines = Files.readAllLines( file );
+
+        assertTrue( lines.contains( "# TYPE txt2selenium_action_duration_seconds histogram" ) );
+        assertTrue( lines.contains( "txt2selenium_action_duration_seconds_bucket{action=\"comment\",le=\"+Inf\"} 1" ) );
+        assertTrue( lines.contains( "txt2selenium_action_duration_seconds_count{action=\"comment\"} 1" ) );
+        assertTrue( lines.contains( "txt2selenium_test_duration_seconds_count{scenario=\"tests/\\\"quoted\\\"\",test=\"passing\"} 1" ) );
+        assertTrue( lines.contains( "# TYPE txt2selenium_method_duration_seconds histogram" ) );
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.typedcode.txt2SeleniumTest.parsers;
+
+import de.typedcode.txt2selenium.exceptions.ParseException;
+import de.typedcode.txt2selenium.parsers.CompareStringIndex;
+import de.typedcode.txt2selenium.parsers.CompareStringParser;
+import de.typedcode.txt2selenium.parsers.TestCache;
+import de.typedcode.txt2selenium.util.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestCompareStringIndex {
+
+    private Path resources = Paths.get( "src", "test", "resources", "parsers", "compareStrings" );
+
+    @AfterEach
+    void afterEach() {
+        Configuration.getInstance().clear();
+    }
+
+    @Test
+    void testSameAsParser() {
+        for( String file : new String[] { "empty.t2s", "singleEntry.t2s", "withEmptyLines.t2s", "contentWithSpaces.t2s" } ) {
+            Map< String, String > parsed = CompareStringParser.parse( this.resources.resolve( file ) );
+            CompareStringIndex index = CompareStringIndex.open( this.resources.resolve( file ) );
+
+            assertEquals( parsed.size(), index.size(), file );
+            parsed.forEach( ( key, value ) -> assertEquals( value, index.get( key ), file ) );
+        }
+    }
+
+    @Test
+    void testMissingKey() {
+        CompareStringIndex index = CompareStringIndex.open( this.resources.resolve( "contentWithSpaces.t2s" ) );
+
+        assertNull( index.get( "missing" ) );
+        assertNull( index.get( "" ) );
+    }
+
+    @Test
+    void testDoubleKey() {
+        Throwable exception = assertThrows( ParseException.class, () -> CompareStringIndex.open( this.resources.resolve( "duplicatedKey.t2s" ) ) );
+
+        assertEquals( "Comparestrings contain a doubled key entry at line 3", exception.getMessage() );
+    }
+
+    @Test
+    void testStoredIndex( @TempDir Path directory ) throws IOException {
+        Configuration.getInstance().setMainDirectory( directory );
+
+        Path stringFile = directory.resolve( "compareStrings.t2s" );
+        Files.writeString( stringFile, "zeta last\nalpha first\r\nmü umlaut\n\n indented line\nbeta\n" );
+
+        CompareStringIndex index = CompareStringIndex.open( stringFile );
+
+        try( Stream< Path > files = Files.list( directory.resolve( TestCache.CACHE_FOLDER ) ) ) {
+            assertEquals( 1, files.count() );
+        }
+
+        // Opened again from the stored index
+        index = CompareStringIndex.open( stringFile );
+
+        assertEquals( 4, index.size() );
+        assertEquals( "alpha", index.getKey( 0 ) );
+        assertEquals( "first", index.get( "alpha" ) );
+        assertEquals( "", index.get( "beta" ) );
+        assertEquals( "umlaut", index.get( "mü" ) );
+        assertEquals( "last", index.getValue( 3 ) );
+    }
+
+    @Test
+    void testChangedContentWithSameSizeAndTime( @TempDir Path directory ) throws IOException {
+        Configuration.getInstance().setMainDirectory( directory );
+
+        Path stringFile = directory.resolve( "compareStrings.t2s" );
+        Files.writeString( stringFile, "key old\nother value" );
+        FileTime modified = Files.getLastModifiedTime( stringFile );
+
+        assertEquals( "old", CompareStringIndex.open( stringFile ).get( "key" ) );
+
+        Files.writeString( stringFile, "kex new\nother value" );
+        Files.setLastModifiedTime( stringFile, modified );
+
+        CompareStringIndex index = CompareStringIndex.open( stringFile );
+
+        assertNull( index.get( "key" ) );
+        assertEquals( "new", index.get( "kex" ) );
+    }
+
+    @Test
+    void testSharedPrefixes( @TempDir Path directory ) throws IOException {
+        StringBuilder content = new StringBuilder();
+
+        for( int i = 999; i >= 0; i-- ) {
+            content.append( "prefix.key" ).append( i ).append( ' ' ).append( i ).append( '\n' );
+        }
+
+        content.append( "pre short\n\u00fcber umlaut\nzz last\n" );
+
+        Path stringFile = directory.resolve( "compareStrings.t2s" );
+        Files.writeString( stringFile, content );
+
+        CompareStringIndex index = CompareStringIndex.open( stringFile );
+
+        assertEquals( 1003, index.size() );
+        assertEquals( "pre", index.getKey( 0 ) );
+        assertEquals( "prefix.key0", index.getKey( 1 ) );
+        assertEquals( "zz", index.getKey( 1001 ) );
+        assertEquals( "\u00fcber", index.getKey( 1002 ) );
+
+        for( int i = 1; i < index.size(); i++ ) {
+            assertTrue( index.getKey( i - 1 ).compareTo( index.getKey( i ) ) < 0 );
+        }
+
+        for( int i = 0; i < 1000; i++ ) {
+            assertEquals( String.valueOf( i ), index.get( "prefix.key" + i ) );
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.typedcode.txt2SeleniumTest.parsers;
+
+import de.typedcode.txt2selenium.parsers.CompareStringParser;
+import de.typedcode.txt2selenium.parsers.LineTokenizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestLineTokenizer {
+
+    private LineTokenizer tokenize( String content ) {
+        return new LineTokenizer( content.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    @Test
+    void testKeyAndValue() {
+        LineTokenizer tokenizer = tokenize( "select xpath //div[@class='a b']\nclick\ncomment \n" );
+
+        assertTrue( tokenizer.next() );
+        assertEquals( "select", tokenizer.getKey() );
+        assertEquals( "xpath //div[@class='a b']", tokenizer.getValue() );
+        assertTrue( tokenizer.keyEquals( "select".getBytes( StandardCharsets.UTF_8 ) ) );
+        assertFalse( tokenizer.keyEquals( "selec".getBytes( StandardCharsets.UTF_8 ) ) );
+
+        assertTrue( tokenizer.next() );
+        assertEquals( "click", tokenizer.getKey() );
+        assertEquals( "", tokenizer.getValue() );
+
+        assertTrue( tokenizer.next() );
+        assertEquals( "comment", tokenizer.getKey() );
+        assertEquals( "", tokenizer.getValue() );
+        assertEquals( 3, tokenizer.getLineNumber() );
+
+        assertFalse( tokenizer.next() );
+    }
+
+    @Test
+    void testLineTerminators() {
+        LineTokenizer tokenizer = tokenize( "first\r\nsecond\rthird\n\n \t\nlast" );
+
+        String[] expected = { "first", "second", "third", "", " \t", "last" };
+
+        for( String line : expected ) {
+            assertTrue( tokenizer.next() );
+            assertEquals( line.isBlank(), tokenizer.isBlank() );
+            assertEquals( line.isEmpty(), tokenizer.isEmpty() );
+        }
+
+        assertEquals( 6, tokenizer.getLineNumber() );
+        assertEquals( "last", tokenizer.getKey() );
+        assertFalse( tokenizer.next() );
+    }
+
+    @Test
+    void testStartsWithSpace() {
+        LineTokenizer tokenizer = tokenize( " indented\nkey value" );
+
+        assertTrue( tokenizer.next() );
+        assertTrue( tokenizer.startsWithSpace() );
+        assertEquals( "", tokenizer.getKey() );
+
+        assertTrue( tokenizer.next() );
+        assertFalse( tokenizer.startsWithSpace() );
+    }
+
+    @Test
+    void testMultiByteCharacters() {
+        LineTokenizer tokenizer = tokenize( "grüße Größe ß\n" );
+
+        assertTrue( tokenizer.next() );
+        assertEquals( "grüße", tokenizer.getKey() );
+        assertEquals( "Größe ß", tokenizer.getValue() );
+    }
+
+    @Test
+    void testMappedFile( @TempDir Path directory ) throws IOException {
+        Path file = directory.resolve( "compareStrings.t2s" );
+        StringBuilder content = new StringBuilder();
+
+        for( int i = 0; i < 20000; i++ ) {
+            content.append( "key" ).append( i ).append( " välue " ).append( i ).append( '\n' );
+        }
+
+        Files.writeString( file, content );
+
+        Map< String, String > compareStrings = CompareStringParser.parse( file );
+
+        assertTrue( Files.size( file ) > 64 * 1024 );
+        assertEquals( 20000, compareStrings.size() );
+        assertEquals( "välue 0", compareStrings.get( "key0" ) );
+        assertEquals( "välue 19999", compareStrings.get( "key19999" ) );
+    }
+}
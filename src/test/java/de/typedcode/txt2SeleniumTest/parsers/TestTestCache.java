@@ -0,0 +1,113 @@
+package de.typedcode.txt2SeleniumTest.parsers;
+
+import de.typedcode.txt2selenium.actions.ActionProgram;
+import de.typedcode.txt2selenium.actions.OpenAction;
+import de.typedcode.txt2selenium.actions.ScreenshotAction;
+import de.typedcode.txt2selenium.exceptions.ParseException;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.parsers.TestCache;
+import de.typedcode.txt2selenium.parsers.TestFileParser;
+import de.typedcode.txt2selenium.util.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestTestCache {
+
+    private TestScenario testScenario = Mockito.mock( TestScenario.class );
+
+    @TempDir
+    Path mainDirectory;
+
+    private Path testFile;
+
+    @BeforeEach
+    void before() throws IOException {
+        Configuration.getInstance().setMainDirectory( this.mainDirectory );
+        Configuration.getInstance().setTestCacheEnabled( true );
+
+        this.testFile = this.mainDirectory.resolve( "test.t2s" );
+        Files.writeString( this.testFile, "open http://www.typedcode.de\n\nscreenshot prefix with spaces\n" );
+    }
+
+    @AfterEach
+    void afterEach() {
+        Configuration.getInstance().clear();
+    }
+
+    @Test
+    void testStoreAndLoad() {
+        long hits = TestCache.getInstance().getHits();
+        long misses = TestCache.getInstance().getMisses();
+
+        TestFileParser.parse( this.testScenario, this.testFile );
+
+        assertEquals( misses + 1, TestCache.getInstance().getMisses() );
+        assertTrue( Files.isDirectory( this.mainDirectory.resolve( TestCache.CACHE_FOLDER ) ) );
+
+        ActionProgram program = TestFileParser.parse( this.testScenario, this.testFile );
+
+        assertEquals( hits + 1, TestCache.getInstance().getHits() );
+        assertEquals( OpenAction.class, program.get( 0 ).getClass() );
+        assertEquals( "http://www.typedcode.de", ( ( OpenAction ) program.get( 0 ) ).getUrl() );
+        assertEquals( ScreenshotAction.class, program.get( 1 ).getClass() );
+        assertEquals( "screenshot prefix with spaces", program.get( 1 ).getCommand() );
+        assertEquals( 2, program.size() );
+    }
+
+    @Test
+    void testChangedContentIsParsedAgain() throws IOException {
+        TestFileParser.parse( this.testScenario, this.testFile );
+
+        long misses = TestCache.getInstance().getMisses();
+
+        Files.writeString( this.testFile, "open http://www.example.com\n" );
+
+        ActionProgram program = TestFileParser.parse( this.testScenario, this.testFile );
+
+        assertEquals( misses + 1, TestCache.getInstance().getMisses() );
+        assertEquals( "http://www.example.com", ( ( OpenAction ) program.get( 0 ) ).getUrl() );
+        assertEquals( 1, program.size() );
+    }
+
+    @Test
+    void testTouchedFileWithSameContentIsLoaded() throws IOException {
+        TestFileParser.parse( this.testScenario, this.testFile );
+
+        long hits = TestCache.getInstance().getHits();
+
+        Files.setLastModifiedTime( this.testFile, FileTime.fromMillis( 0 ) );
+
+        TestFileParser.parse( this.testScenario, this.testFile );
+
+        assertEquals( hits + 1, TestCache.getInstance().getHits() );
+    }
+
+    @Test
+    void testErrorLineNumberFromCache() throws IOException {
+        Files.writeString( this.testFile, "open http://www.typedcode.de\n\nopen\n" );
+
+        assertThrows( ParseException.class, () -> TestFileParser.parse( this.testScenario, this.testFile ) );
+
+        Throwable exception = assertThrows( ParseException.class, () -> TestFileParser.parse( this.testScenario, this.testFile ) );
+        assertEquals( "Error Parsing file '" + this.testFile.toAbsolutePath().toString() + "' at line 3", exception.getMessage() );
+    }
+
+    @Test
+    void testUnknownAction() throws IOException {
+        Files.writeString( this.testFile, "unknown action\n" );
+
+        Throwable exception = assertThrows( ParseException.class, () -> TestFileParser.parse( this.testScenario, this.testFile ) );
+        assertEquals( "Error Parsing file '" + this.testFile.toAbsolutePath().toString() + "' at line 1", exception.getMessage() );
+        assertEquals( "Action 'unknown' is unknown.", exception.getCause().getMessage() );
+    }
+}
@@ -24,7 +24,7 @@
 
 package de.typedcode.txt2SeleniumTest.parsers;
 
-import de.typedcode.txt2selenium.actions.AAction;
+import de.typedcode.txt2selenium.actions.ActionProgram;
 import de.typedcode.txt2selenium.actions.OpenAction;
 import de.typedcode.txt2selenium.actions.ScreenshotAction;
 import de.typedcode.txt2selenium.exceptions.ParseException;
@@ -35,7 +35,6 @@ import org.mockito.Mockito;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,58 +44,53 @@ class TestTestFileParser {
 
     @Test
     void testEmptyTestFile() throws ParseException {
-        Optional< AAction > action = TestFileParser.parse(testScenario,
+        ActionProgram program = TestFileParser.parse(testScenario,
                 Paths.get( "src", "test", "resources", "parsers", "testFileParser", "emptyTestFile.t2s" ) );
-        assertTrue( action.isEmpty() );
+        assertTrue( program.isEmpty() );
     }
 
     @Test
     void testMultipleActions() throws ParseException {
-        AAction action = TestFileParser.parse(testScenario,
-                Paths.get( "src", "test", "resources", "parsers", "testFileParser", "multipleActions.t2s" ) ).get();
-
-        assertEquals( OpenAction.class, action.getClass() );
-        assertEquals( "http://www.markus-fischer.net", ( ( OpenAction ) action ).getUrl() );
-        action = action.getNextAction();
-        assertEquals( ScreenshotAction.class, action.getClass() );
-        action = action.getNextAction();
-        assertEquals( OpenAction.class, action.getClass() );
-        assertEquals( "http://www.typedcode.de", ( ( OpenAction ) action ).getUrl() );
-        action = action.getNextAction();
-        assertEquals( ScreenshotAction.class, action.getClass() );
-        assertNull( action.getNextAction() );
+        ActionProgram program = TestFileParser.parse(testScenario,
+                Paths.get( "src", "test", "resources", "parsers", "testFileParser", "multipleActions.t2s" ) );
+
+        assertEquals( OpenAction.class, program.get( 0 ).getClass() );
+        assertEquals( "http://www.markus-fischer.net", ( ( OpenAction ) program.get( 0 ) ).getUrl() );
+        assertEquals( ScreenshotAction.class, program.get( 1 ).getClass() );
+        assertEquals( OpenAction.class, program.get( 2 ).getClass() );
+        assertEquals( "http://www.typedcode.de", ( ( OpenAction ) program.get( 2 ) ).getUrl() );
+        assertEquals( ScreenshotAction.class, program.get( 3 ).getClass() );
+        assertEquals( 4, program.size() );
     }
 
     @Test
     void testOneAction() throws ParseException {
-        AAction action = TestFileParser.parse(testScenario,
-                Paths.get( "src", "test", "resources", "parsers", "testFileParser", "oneAction.t2s" ) ).get();
+        ActionProgram program = TestFileParser.parse(testScenario,
+                Paths.get( "src", "test", "resources", "parsers", "testFileParser", "oneAction.t2s" ) );
 
-        assertEquals( OpenAction.class, action.getClass() );
-        assertNull( action.getNextAction() );
-        assertEquals( "http://www.typedcode.de", ( ( OpenAction ) action ).getUrl() );
+        assertEquals( OpenAction.class, program.get( 0 ).getClass() );
+        assertEquals( 1, program.size() );
+        assertEquals( "http://www.typedcode.de", ( ( OpenAction ) program.get( 0 ) ).getUrl() );
     }
 
     @Test
     void testTwoActions() throws ParseException {
-        AAction action = TestFileParser.parse(testScenario,
-                Paths.get( "src", "test", "resources", "parsers", "testFileParser", "twoActions.t2s" ) ).get();
+        ActionProgram program = TestFileParser.parse(testScenario,
+                Paths.get( "src", "test", "resources", "parsers", "testFileParser", "twoActions.t2s" ) );
 
-        assertEquals( OpenAction.class, action.getClass() );
-        action = action.getNextAction();
-        assertEquals( ScreenshotAction.class, action.getClass() );
-        assertNull( action.getNextAction() );
+        assertEquals( OpenAction.class, program.get( 0 ).getClass() );
+        assertEquals( ScreenshotAction.class, program.get( 1 ).getClass() );
+        assertEquals( 2, program.size() );
     }
 
     @Test
     void testTwoActionsWihEmptyNewline() throws ParseException {
-        AAction action = TestFileParser.parse(testScenario,
-                Paths.get( "src", "test", "resources", "parsers", "testFileParser", "twoActionsWithEmptyNewline.t2s" ) ).get();
+        ActionProgram program = TestFileParser.parse(testScenario,
+                Paths.get( "src", "test", "resources", "parsers", "testFileParser", "twoActionsWithEmptyNewline.t2s" ) );
 
-        assertEquals( OpenAction.class, action.getClass() );
-        action = action.getNextAction();
-        assertEquals( ScreenshotAction.class, action.getClass() );
-        assertNull( action.getNextAction() );
+        assertEquals( OpenAction.class, program.get( 0 ).getClass() );
+        assertEquals( ScreenshotAction.class, program.get( 1 ).getClass() );
+        assertEquals( 2, program.size() );
     }
 
     @Test
@@ -0,0 +1,203 @@
+package de.typedcode.txt2SeleniumTest.results;
+
+import de.typedcode.txt2selenium.exceptions.ActionExecutionException;
+import de.typedcode.txt2selenium.exceptions.ShardException;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.results.JUnitXmlResultWriter;
+import de.typedcode.txt2selenium.results.JsonLinesResultWriter;
+import de.typedcode.txt2selenium.results.ResultCodec;
+import de.typedcode.txt2selenium.results.ResultListener;
+import de.typedcode.txt2selenium.results.ResultRecorder;
+import de.typedcode.txt2selenium.results.TestResult;
+import de.typedcode.txt2selenium.util.WebUtil;
+import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestResultRecorder {
+
+    private Path resources = Paths.get( "src", "test", "resources", "results" );
+
+    private TestScenario testScenario = Mockito.mock( TestScenario.class );
+
+    @BeforeEach
+    void beforeEach() {
+        WebUtil.reset();
+        Mockito.when( this.testScenario.getPath() ).thenReturn( this.resources );
+        CompareStringRepository.getInstance().registerScenario( this.testScenario );
+    }
+
+    @AfterEach
+    void afterEach() {
+        ResultRecorder.getInstance().clear();
+        CompareStringRepository.getInstance().cleanRepository();
+        WebUtil.reset();
+    }
+
+    private void executeTests() {
+        Path resources = this.resources;
+
+        new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, resources.resolve( "passing.t2s" ) ).execute();
+        new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, resources.resolve( "failing.t2s" ) ).execute();
+
+        de.typedcode.txt2selenium.executionContext.Test erroneous = new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, resources.resolve( "erroneous.t2s" ) );
+        assertThrows( ActionExecutionException.class, erroneous::execute );
+    }
+
+    @Test
+    void testNothingRecordedWithoutListener() {
+        executeTests();
+
+        assertFalse( ResultRecorder.getInstance().isEnabled() );
+        assertEquals( 0, ResultRecorder.getInstance().getTestCount() );
+    }
+
+    @Test
+    void testJsonLines( @TempDir Path directory ) throws Exception {
+        Path file = directory.resolve( "results.jsonl" );
+        ResultRecorder.getInstance().addListener( new JsonLinesResultWriter( file ) );
+
+        executeTests();
+
+        // Lines are written as soon as a test finished
+        List< String > lines = Files.readAllLines( file );
+        assertEquals( 3, lines.size() );
+
+        ResultRecorder.getInstance().close();
+
+        assertEquals( 3, ResultRecorder.getInstance().getTestCount() );
+        assertEquals( 1, ResultRecorder.getInstance().getFailedTestCount() );
+        assertEquals( 1, ResultRecorder.getInstance().getErroneousTestCount() );
+
+        assertTrue( lines.get( 0 ).startsWith( "{\"scenario\":\"\",\"test\":\"passing\",\"path\":" ) );
+        assertTrue( lines.get( 0 ).contains( "\"status\":\"passed\"" ) );
+        assertTrue( lines.get( 0 ).contains( "\"failures\":[],\"actions\":[{\"command\":\"comment: all good\",\"status\":\"passed\",\"durationMs\":" ) );
+
+        assertTrue( lines.get( 1 ).contains( "\"test\":\"failing\"" ) );
+        assertTrue( lines.get( 1 ).contains( "\"status\":\"failed\"" ) );
+        assertTrue( lines.get( 1 ).contains( "\"failures\":[\"Execution Error. Session 'missing' was not saved.\"]" ) );
+        assertTrue( lines.get( 1 ).contains( "{\"command\":\"comment: \\\"quoted\\\" check\",\"status\":\"passed\"" ) );
+        assertTrue( lines.get( 1 ).contains( "{\"command\":\"restoreSession missing\",\"status\":\"failed\"" ) );
+
+        assertTrue( lines.get( 2 ).contains( "\"status\":\"error\"" ) );
+        assertTrue( lines.get( 2 ).contains( "\"error\":\"Error execution ClickAction. No element was selected.\"" ) );
+        assertFalse( lines.get( 2 ).contains( "comment after" ) );
+    }
+
+    @Test
+    void testJUnitXml( @TempDir Path directory ) throws Exception {
+        Path file = directory.resolve( "results.xml" );
+        ResultRecorder.getInstance().addListener( new JUnitXmlResultWriter( file ) );
+
+        executeTests();
+
+        ResultRecorder.getInstance().close();
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse( file.toFile() );
+
+        NodeList testCases = document.getElementsByTagName( "testcase" );
+        assertEquals( 3, testCases.getLength() );
+        assertEquals( "passing", ( ( Element ) testCases.item( 0 ) ).getAttribute( "name" ) );
+        assertEquals( 0, ( ( Element ) testCases.item( 0 ) ).getChildNodes().getLength() );
+
+        Element failure = ( Element ) ( ( Element ) testCases.item( 1 ) ).getElementsByTagName( "failure" ).item( 0 );
+        assertEquals( "Execution Error. Session 'missing' was not saved.", failure.getAttribute( "message" ) );
+
+        Element error = ( Element ) ( ( Element ) testCases.item( 2 ) ).getElementsByTagName( "error" ).item( 0 );
+        assertEquals( ActionExecutionException.class.getName(), error.getAttribute( "type" ) );
+    }
+
+    @Test
+    void testRecordError( @TempDir Path directory ) throws Exception {
+        Path file = directory.resolve( "results.xml" );
+        ResultRecorder.getInstance().addListener( new JUnitXmlResultWriter( file ) );
+
+        de.typedcode.txt2selenium.executionContext.Test test = new de.typedcode.txt2selenium.executionContext.Test( this.testScenario, this.resources.resolve( "passing.t2s" ) );
+        ResultRecorder.getInstance().recordError( test, new ShardException( "Worker 1 exited while running passing" ) );
+
+        ResultRecorder.getInstance().close();
+
+        assertEquals( 1, ResultRecorder.getInstance().getTestCount() );
+        assertEquals( 1, ResultRecorder.getInstance().getErroneousTestCount() );
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse( file.toFile() );
+        Element testCase = ( Element ) document.getElementsByTagName( "testcase" ).item( 0 );
+        assertEquals( "passing", testCase.getAttribute( "name" ) );
+
+        Element error = ( Element ) testCase.getElementsByTagName( "error" ).item( 0 );
+        assertEquals( ShardException.class.getName(), error.getAttribute( "type" ) );
+        assertEquals( "Worker 1 exited while running passing", error.getAttribute( "message" ) );
+    }
+
+    @Test
+    void testResultCodec( @TempDir Path directory ) throws Exception {
+        List< TestResult > results = new ArrayList<>();
+        ResultRecorder.getInstance().addListener( new ResultListener() {
+            @Override
+            public void testFinished( TestResult result ) {
+                results.add( result );
+            }
+
+            @Override
+            public void close() {
+            }
+        } );
+
+        executeTests();
+
+        ResultRecorder.getInstance().clear();
+
+        Path file = directory.resolve( "results.xml" );
+        ResultRecorder.getInstance().addListener( new JUnitXmlResultWriter( file ) );
+
+        for( TestResult result : results ) {
+            TestResult decoded = ResultCodec.decode( ResultCodec.encode( result ) );
+
+            assertEquals( result.getScenarioName(), decoded.getScenarioName() );
+            assertEquals( result.getTestName(), decoded.getTestName() );
+            assertEquals( result.getPath(), decoded.getPath() );
+            assertEquals( result.getDurationNanos(), decoded.getDurationNanos() );
+            assertEquals( result.getStatus(), decoded.getStatus() );
+            assertEquals( result.getFailures(), decoded.getFailures() );
+            assertEquals( result.getErrorType(), decoded.getErrorType() );
+            assertEquals( result.getError().map( Throwable::getMessage ), decoded.getError().map( Throwable::getMessage ) );
+            assertEquals( result.getActions().size(), decoded.getActions().size() );
+
+            for( int i = 0; i < result.getActions().size(); i++ ) {
+                assertEquals( result.getActions().get( i ).getCommand(), decoded.getActions().get( i ).getCommand() );
+                assertEquals( result.getActions().get( i ).getStatus(), decoded.getActions().get( i ).getStatus() );
+                assertEquals( result.getActions().get( i ).getMessage(), decoded.getActions().get( i ).getMessage() );
+            }
+
+            ResultRecorder.getInstance().recordResult( decoded );
+        }
+
+        ResultRecorder.getInstance().close();
+
+        assertEquals( 3, ResultRecorder.getInstance().getTestCount() );
+        assertEquals( 1, ResultRecorder.getInstance().getFailedTestCount() );
+        assertEquals( 1, ResultRecorder.getInstance().getErroneousTestCount() );
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse( file.toFile() );
+        Element error = ( Element ) document.getElementsByTagName( "error" ).item( 0 );
+        assertEquals( ActionExecutionException.class.getName(), error.getAttribute( "type" ) );
+        assertTrue( error.getTextContent().contains( "at de.typedcode.txt2selenium.actions.ClickAction.execute" ) );
+
+        assertThrows( IllegalArgumentException.class, () -> ResultCodec.decode( List.of( "scenario", "test" ) ) );
+    }
+}
@@ -50,4 +50,34 @@ class TestConfiguration {
         assertTrue( Configuration.getInstance().getMainDirectory().isEmpty() );
     }
 
+    @Test
+    void testSetThreadCount() {
+        assertEquals( 1, Configuration.getInstance().getThreadCount() );
+
+        Configuration.getInstance().setThreadCount( 4 );
+
+        assertEquals( 4, Configuration.getInstance().getThreadCount() );
+
+        Throwable exception = assertThrows( IllegalArgumentException.class, () -> Configuration.getInstance().setThreadCount( 0 ) );
+        assertEquals( "Thread count has to be at least 1 but was 0.", exception.getMessage() );
+
+        Configuration.getInstance().clear();
+
+        assertEquals( 1, Configuration.getInstance().getThreadCount() );
+    }
+
+    @Test
+    void testRecordAndReplayDirectory() {
+        Configuration.getInstance().setRecordDirectory( Path.of( "recordings" ) );
+
+        assertEquals( Path.of( "recordings" ), Configuration.getInstance().getRecordDirectory().get() );
+
+        Throwable exception = assertThrows( IllegalArgumentException.class, () -> Configuration.getInstance().setReplayDirectory( Path.of( "recordings" ) ) );
+        assertEquals( "Responses can not be recorded and replayed at the same time.", exception.getMessage() );
+
+        Configuration.getInstance().clear();
+
+        assertTrue( Configuration.getInstance().getRecordDirectory().isEmpty() );
+        assertTrue( Configuration.getInstance().getReplayDirectory().isEmpty() );
+    }
 }
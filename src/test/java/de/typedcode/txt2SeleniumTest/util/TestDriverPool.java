@@ -0,0 +1,134 @@
+package de.typedcode.txt2SeleniumTest.util;
+
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.DriverPool;
+import de.typedcode.txt2selenium.util.DriverProfile;
+import de.typedcode.txt2selenium.util.WebUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestDriverPool {
+
+    @BeforeEach
+    void before() {
+        WebUtil.reset();
+        Path path = Paths.get( "src", "test", "resources", "util", "webUtil", "webUtil.html" );
+        WebUtil.getInstance().openUrl( path.toUri().toString() );
+    }
+
+    @AfterEach
+    void afterEach() {
+        Configuration.getInstance().clear();
+    }
+
+    @Test
+    void testResetReusesDriver() {
+        long hits = DriverPool.getInstance().getHits();
+        long misses = DriverPool.getInstance().getMisses();
+
+        WebUtil.reset();
+
+        assertEquals( hits + 1, DriverPool.getInstance().getHits() );
+        assertEquals( misses, DriverPool.getInstance().getMisses() );
+    }
+
+    @Test
+    void testResetCleansDriver() {
+        assertEquals( "WebUtil", WebUtil.getInstance().getTitle() );
+        WebUtil.getInstance().select( By.id( "utilContent" ) );
+        WebUtil.getInstance().readText( "myRead" );
+
+        WebUtil.reset();
+
+        assertEquals( "", WebUtil.getInstance().getTitle() );
+        assertTrue( WebUtil.getInstance().getSelectedElement().isEmpty() );
+        assertTrue( WebUtil.getInstance().getReadVar( "myRead" ).isEmpty() );
+    }
+
+    @Test
+    void testEvictionAfterMaxUses() {
+        Configuration.getInstance().setMaxDriverUses( 1 );
+
+        long evictions = DriverPool.getInstance().getEvictions();
+
+        WebUtil.reset();
+
+        assertEquals( evictions + 1, DriverPool.getInstance().getEvictions() );
+    }
+
+    @Test
+    void testEveryTestGetsCleanedDriver( @TempDir Path directory ) throws IOException {
+        TestScenario scenario = Mockito.mock( TestScenario.class );
+        Path page = Paths.get( "src", "test", "resources", "util", "webUtil", "webUtil.html" );
+
+        Path opening = Files.writeString( directory.resolve( "opening.t2s" ), "open " + page.toUri() );
+        Path empty = Files.writeString( directory.resolve( "empty.t2s" ), "comment nothing opened" );
+
+        long hits = DriverPool.getInstance().getHits();
+
+        new de.typedcode.txt2selenium.executionContext.Test( scenario, opening ).execute();
+
+        assertEquals( "WebUtil", WebUtil.getInstance().getTitle() );
+
+        new de.typedcode.txt2selenium.executionContext.Test( scenario, empty ).execute();
+
+        // The first test used the WebUtil of before(), the second one got the cleaned driver
+        assertEquals( "", WebUtil.getInstance().getTitle() );
+        assertEquals( hits + 1, DriverPool.getInstance().getHits() );
+    }
+
+    @Test
+    void testResetClearsStorage( @TempDir Path directory ) throws IOException {
+        Path writing = Files.writeString( directory.resolve( "writing.html" ),
+                "<html><head><title>Writing</title><script>localStorage.setItem( 'key', 'value' );</script></head></html>" );
+        Path reading = Files.writeString( directory.resolve( "reading.html" ), "<html><head><title>Reading</title></head></html>" );
+
+        WebUtil.useProfile( new DriverProfile( true, true, 0L, List.of() ) );
+
+        try {
+            WebUtil.getInstance().openUrl( writing.toUri().toString() );
+
+            assertEquals( Map.of( "key", "value" ), WebUtil.getInstance().getSession().getLocalStorage() );
+
+            long hits = DriverPool.getInstance().getHits();
+            WebUtil.reset();
+            WebUtil.getInstance().openUrl( reading.toUri().toString() );
+
+            // The same driver is used again without the storage of the previous test
+            assertEquals( hits + 1, DriverPool.getInstance().getHits() );
+            assertEquals( "Reading", WebUtil.getInstance().getTitle() );
+            assertTrue( WebUtil.getInstance().getSession().getLocalStorage().isEmpty() );
+        }
+        finally {
+            WebUtil.useProfile( DriverProfile.DEFAULT );
+        }
+    }
+
+    @Test
+    void testReleaseInstance() {
+        int idle = DriverPool.getInstance().getIdleCount();
+
+        WebUtil.releaseInstance();
+
+        assertEquals( idle + 1, DriverPool.getInstance().getIdleCount() );
+
+        // A new instance takes the released driver
+        WebUtil.getInstance();
+
+        assertEquals( idle, DriverPool.getInstance().getIdleCount() );
+    }
+}
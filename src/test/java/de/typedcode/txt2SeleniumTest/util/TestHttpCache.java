@@ -0,0 +1,251 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2SeleniumTest.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.DriverPool;
+import de.typedcode.txt2selenium.util.HttpCache;
+import de.typedcode.txt2selenium.util.WebUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestHttpCache {
+
+    private static final String PAGE = "<html><head><title>Cached</title></head><body></body></html>";
+
+    @TempDir
+    Path mainDirectory;
+
+    private HttpServer server;
+    private String url;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger validations = new AtomicInteger();
+    private String cacheControl;
+    private String vary;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        Configuration.getInstance().setMainDirectory( this.mainDirectory );
+
+        this.server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+        this.server.createContext( "/page.html", this::respond );
+        this.server.createContext( "/login.html", this::login );
+        this.server.start();
+
+        this.url = String.format( "http://localhost:%d/page.html", this.server.getAddress().getPort() );
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        this.server.stop( 0 );
+        Configuration.getInstance().clear();
+        resetDrivers();
+        Configuration.getInstance().clear();
+    }
+
+    /**
+     * Drivers are set up with the cache when they are built, so new drivers are needed after the configuration
+     * changed. Drivers used once are not handed out again.
+     */
+    private static void resetDrivers() throws Exception {
+        Field instance = HttpCache.class.getDeclaredField( "instance" );
+        instance.setAccessible( true );
+        instance.set( instance, null );
+
+        Configuration.getInstance().setMaxDriverUses( 1 );
+        DriverPool.getInstance().shutdown();
+        WebUtil.reset();
+    }
+
+    private void respond( HttpExchange exchange ) throws IOException {
+        this.requests.incrementAndGet();
+
+        exchange.getResponseHeaders().add( "ETag", "\"v1\"" );
+        exchange.getResponseHeaders().add( "Cache-Control", this.cacheControl );
+
+        if( this.vary != null ) {
+            exchange.getResponseHeaders().add( "Vary", this.vary );
+        }
+
+        if( "\"v1\"".equals( exchange.getRequestHeaders().getFirst( "If-None-Match" ) ) ) {
+            this.validations.incrementAndGet();
+            exchange.sendResponseHeaders( 304, -1 );
+            exchange.close();
+            return;
+        }
+
+        byte[] content = PAGE.getBytes( StandardCharsets.UTF_8 );
+        exchange.getResponseHeaders().add( "Content-Type", "text/html" );
+        exchange.sendResponseHeaders( 200, content.length );
+
+        try( OutputStream out = exchange.getResponseBody() ) {
+            out.write( content );
+        }
+    }
+
+    private void login( HttpExchange exchange ) throws IOException {
+        exchange.getResponseHeaders().add( "Set-Cookie", "session=secret; Path=/" );
+        exchange.sendResponseHeaders( 200, -1 );
+        exchange.close();
+    }
+
+    /**
+     * Opens the page twice and returns the number of requests the server received.
+     */
+    private int openTwice( String url ) throws Exception {
+        Configuration.getInstance().setHttpCacheEnabled( true );
+        resetDrivers();
+
+        WebUtil.getInstance().openUrl( url );
+        WebUtil.getInstance().openUrl( url );
+
+        assertEquals( "Cached", WebUtil.getInstance().getTitle() );
+        assertEquals( 0, HttpCache.getInstance().getHits() );
+
+        return this.requests.get();
+    }
+
+    @Test
+    void testPrivateResponse() throws Exception {
+        this.cacheControl = "private, max-age=60";
+
+        assertEquals( 2, openTwice( this.url ) );
+    }
+
+    @Test
+    void testVaryingResponse() throws Exception {
+        this.cacheControl = "max-age=60";
+        this.vary = "Accept-Language";
+
+        assertEquals( 2, openTwice( this.url ) );
+    }
+
+    @Test
+    void testRequestWithCookie() throws Exception {
+        this.cacheControl = "max-age=60";
+        Configuration.getInstance().setHttpCacheEnabled( true );
+        resetDrivers();
+
+        WebUtil.getInstance().openUrl( this.url.replace( "page", "login" ) );
+        WebUtil.getInstance().openUrl( this.url );
+        WebUtil.getInstance().openUrl( this.url );
+
+        assertEquals( "Cached", WebUtil.getInstance().getTitle() );
+        assertEquals( 2, this.requests.get() );
+        // Only the login was looked up, it was sent without a cookie
+        assertEquals( 0, HttpCache.getInstance().getHits() );
+        assertEquals( 1, HttpCache.getInstance().getMisses() );
+    }
+
+    @Test
+    void testRequestWithAuthorization() throws Exception {
+        this.cacheControl = "max-age=60";
+
+        assertEquals( 2, openTwice( this.url.replace( "localhost", "user:secret@localhost" ) ) );
+    }
+
+    @Test
+    void testRevalidation() throws Exception {
+        this.cacheControl = "no-cache";
+        Configuration.getInstance().setHttpCacheEnabled( true );
+        resetDrivers();
+
+        WebUtil.getInstance().openUrl( this.url );
+        WebUtil.getInstance().openUrl( this.url );
+
+        assertEquals( "Cached", WebUtil.getInstance().getTitle() );
+        assertEquals( 2, this.requests.get() );
+        assertEquals( 1, this.validations.get() );
+        assertEquals( 1, HttpCache.getInstance().getMisses() );
+        assertEquals( 1, HttpCache.getInstance().getValidations() );
+    }
+
+    @Test
+    void testFreshResponse() throws Exception {
+        this.cacheControl = "max-age=60";
+        Configuration.getInstance().setHttpCacheEnabled( true );
+        resetDrivers();
+
+        WebUtil.getInstance().openUrl( this.url );
+        WebUtil.getInstance().openUrl( this.url );
+
+        assertEquals( "Cached", WebUtil.getInstance().getTitle() );
+        assertEquals( 1, this.requests.get() );
+        assertEquals( 1, HttpCache.getInstance().getHits() );
+
+        // Responses are kept on disk for other processes and later runs
+        resetDrivers();
+        WebUtil.getInstance().openUrl( this.url );
+
+        assertEquals( "Cached", WebUtil.getInstance().getTitle() );
+        assertEquals( 1, this.requests.get() );
+        assertEquals( 1, HttpCache.getInstance().getHits() );
+    }
+
+    @Test
+    void testRecordAndReplay() throws Exception {
+        this.cacheControl = "no-store";
+        Path recordings = this.mainDirectory.resolve( "recordings" );
+
+        Configuration.getInstance().setRecordDirectory( recordings );
+        resetDrivers();
+
+        WebUtil.getInstance().openUrl( this.url );
+
+        assertEquals( 1, this.requests.get() );
+        assertTrue( Files.list( recordings ).findAny().isPresent() );
+
+        this.server.stop( 0 );
+        Configuration.getInstance().setRecordDirectory( null );
+        Configuration.getInstance().setReplayDirectory( recordings );
+        resetDrivers();
+
+        WebUtil.getInstance().openUrl( this.url );
+
+        assertEquals( "Cached", WebUtil.getInstance().getTitle() );
+        assertEquals( 1, HttpCache.getInstance().getReplayed() );
+
+        WebUtil.getInstance().openUrl( this.url.replace( "page", "other" ) );
+
+        assertEquals( 1, this.requests.get() );
+        assertEquals( 1, HttpCache.getInstance().getNotRecorded() );
+    }
+}
@@ -0,0 +1,85 @@
+package de.typedcode.txt2SeleniumTest.util;
+
+import de.typedcode.txt2selenium.util.ByType;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.SelectorCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestSelectorCache {
+
+    private SelectorCache cache = SelectorCache.getInstance();
+
+    @BeforeEach
+    void beforeEach() {
+        this.cache.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.cache.clear();
+        Configuration.getInstance().clear();
+    }
+
+    @Test
+    void testSharedInstance() {
+        By first = this.cache.get( ByType.XPATH, "//div[@class='content']" );
+        By second = this.cache.get( ByType.XPATH, "//div[@class='content']" );
+
+        assertSame( first, second );
+        assertEquals( "By.xpath: //div[@class='content']", first.toString() );
+        assertEquals( 1, this.cache.getHits() );
+        assertEquals( 1, this.cache.getMisses() );
+        assertEquals( 0.5, this.cache.getHitRate() );
+    }
+
+    @Test
+    void testTypeIsPartOfKey() {
+        By id = this.cache.get( ByType.ID, "search" );
+        By name = this.cache.get( ByType.NAME, "search" );
+
+        assertNotSame( id, name );
+        assertEquals( "By.id: search", id.toString() );
+        assertEquals( "By.name: search", name.toString() );
+        assertEquals( 2, this.cache.getSize() );
+    }
+
+    @Test
+    void testEviction() {
+        Configuration.getInstance().setSelectorCacheSize( 2 );
+
+        By first = this.cache.get( ByType.ID, "first" );
+        this.cache.get( ByType.ID, "second" );
+        this.cache.get( ByType.ID, "first" );
+        this.cache.get( ByType.ID, "third" );
+
+        assertEquals( 2, this.cache.getSize() );
+        assertEquals( 1, this.cache.getEvictions() );
+        assertSame( first, this.cache.get( ByType.ID, "first" ) );
+        assertEquals( 2, this.cache.getHits() );
+
+        this.cache.get( ByType.ID, "second" );
+        assertEquals( 4, this.cache.getMisses() );
+    }
+
+    @Test
+    void testDisabled() {
+        Configuration.getInstance().setSelectorCacheSize( 0 );
+
+        assertNotSame( this.cache.get( ByType.ID, "id" ), this.cache.get( ByType.ID, "id" ) );
+        assertEquals( 0, this.cache.getSize() );
+        assertEquals( 0, this.cache.getMisses() );
+    }
+
+    @Test
+    void testNegativeSize() {
+        assertThrows( IllegalArgumentException.class, () -> Configuration.getInstance().setSelectorCacheSize( -1 ) );
+    }
+}
@@ -0,0 +1,56 @@
+package de.typedcode.txt2SeleniumTest.util;
+
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.TestFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestTestFilter {
+
+    private Path mainDirectory = Paths.get( "src", "test", "resources", "util", "testFilter" );
+    private Path testDirectory = this.mainDirectory.resolve( "tests" );
+
+    @BeforeEach
+    void beforeEach() {
+        Configuration.getInstance().setMainDirectory( this.mainDirectory );
+    }
+
+    @AfterEach
+    void afterEach() {
+        Configuration.getInstance().clear();
+    }
+
+    @Test
+    void testMatchScenario() {
+        TestFilter filter = new TestFilter( "login" );
+
+        assertTrue( filter.matches( this.testDirectory.resolve( Paths.get( "login", "valid", "correctPassword.t2s" ) ) ) );
+        assertFalse( filter.matches( this.testDirectory.resolve( Paths.get( "checkout", "checkoutCart.t2s" ) ) ) );
+        assertFalse( filter.matches( this.testDirectory.resolve( "search.t2s" ) ) );
+    }
+
+    @Test
+    void testMatchTestName() {
+        TestFilter filter = new TestFilter( "**/checkout*" );
+
+        assertTrue( filter.matches( this.testDirectory.resolve( Paths.get( "checkout", "checkoutCart.t2s" ) ) ) );
+        assertFalse( filter.matches( this.testDirectory.resolve( Paths.get( "login", "valid", "correctPassword.t2s" ) ) ) );
+
+        assertTrue( new TestFilter( "search" ).matches( this.testDirectory.resolve( "search.t2s" ) ) );
+        assertTrue( new TestFilter( "search.t2s" ).matches( this.testDirectory.resolve( "search.t2s" ) ) );
+    }
+
+    @Test
+    void testOutsideTestDirectory() {
+        TestFilter filter = new TestFilter( "**" );
+
+        assertFalse( filter.matches( Paths.get( "src", "test", "resources", "executionContext", "test", "emptyTest.t2s" ) ) );
+    }
+}
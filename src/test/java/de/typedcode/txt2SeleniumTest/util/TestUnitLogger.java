@@ -0,0 +1,81 @@
+package de.typedcode.txt2SeleniumTest.util;
+
+import de.typedcode.txt2selenium.util.LogOverflowPolicy;
+import de.typedcode.txt2selenium.util.UnitLogger;
+import de.typedcode.txt2SeleniumTest.testUtils.TestLoggingHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestUnitLogger {
+
+    private TestLoggingHandler handler = new TestLoggingHandler();
+
+    @AfterEach
+    void afterEach() {
+        UnitLogger.disableAsync();
+        UnitLogger.removeHandler( this.handler );
+        UnitLogger.setLogLevel( Level.INFO );
+    }
+
+    @Test
+    void testSupplierNotEvaluatedIfLevelDisabled() {
+        AtomicInteger calls = new AtomicInteger();
+        UnitLogger.addHandler( this.handler );
+
+        UnitLogger.logFine( () -> "fine " + calls.incrementAndGet() );
+        assertEquals( 0, calls.get() );
+        assertTrue( this.handler.getLogRecords().isEmpty() );
+
+        UnitLogger.logInfo( () -> "info " + calls.incrementAndGet() );
+        assertEquals( 1, calls.get() );
+        assertEquals( "info 1", this.handler.getLogRecords().get( 0 ).getMessage() );
+    }
+
+    @Test
+    void testAsyncLogFile( @TempDir Path directory ) throws IOException {
+        Path logFile = directory.resolve( "txt2Selenium.log" );
+
+        UnitLogger.enableAsync( 16, LogOverflowPolicy.BLOCK, logFile );
+        UnitLogger.addHandler( this.handler );
+
+        for( int i = 0; i < 100; i++ ) {
+            UnitLogger.logInfo( "message " + i );
+        }
+
+        UnitLogger.flush();
+
+        List< String > lines = Files.readAllLines( logFile );
+
+        assertEquals( 100, lines.size() );
+        assertTrue( lines.get( 0 ).matches( "\\[\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}] \\[INFO   ] message 0 " ) );
+        assertTrue( lines.get( 99 ).endsWith( "message 99 " ) );
+        assertEquals( 0, UnitLogger.getDroppedRecords() );
+
+        // Added handlers still receive the records synchronously
+        assertEquals( 100, this.handler.getLogRecords().size() );
+
+        UnitLogger.disableAsync();
+        UnitLogger.logInfo( "after disable" );
+
+        assertEquals( 100, Files.readAllLines( logFile ).size() );
+    }
+
+    @Test
+    void testOverflowPolicy() {
+        assertEquals( LogOverflowPolicy.DROP_OLDEST, LogOverflowPolicy.getPolicy( "drop-oldest" ) );
+        assertEquals( LogOverflowPolicy.DROP_NEWEST, LogOverflowPolicy.getPolicy( "DROP-NEWEST" ) );
+
+        Throwable exception = assertThrows( IllegalArgumentException.class, () -> LogOverflowPolicy.getPolicy( "ignore" ) );
+        assertEquals( "Overflow policy 'ignore' is unknown. Use block, drop-newest or drop-oldest.", exception.getMessage() );
+    }
+}
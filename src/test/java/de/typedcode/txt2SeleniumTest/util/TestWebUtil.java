@@ -28,14 +28,27 @@ import de.typedcode.txt2selenium.actions.ActionFactory;
 import de.typedcode.txt2selenium.actions.ReadAction;
 import de.typedcode.txt2selenium.actions.SelectAction;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.DriverProfile;
 import de.typedcode.txt2selenium.util.WebUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -50,6 +63,12 @@ class TestWebUtil {
         WebUtil.getInstance().openUrl( path.toUri().toString() );
     }
 
+    @AfterEach
+    void afterEach() {
+        WebUtil.useProfile( DriverProfile.DEFAULT );
+        Configuration.getInstance().clear();
+    }
+
     @Test
     void testSelect() {
         assertTrue( WebUtil.getInstance().getSelectedElement().isEmpty() );
@@ -92,4 +111,96 @@ class TestWebUtil {
         assertTrue( WebUtil.getInstance().getSelectedElement().isEmpty() );
         assertTrue( WebUtil.getInstance().getSelectedBy().isEmpty() );
     }
+
+    @Test
+    void testSelectWaitsForTimeout() {
+        WebUtil.getInstance().setWaitTimeout( 200 );
+
+        long start = System.nanoTime();
+
+        assertThrows( NoSuchElementException.class, () -> WebUtil.getInstance().select( By.id( "missing" ) ) );
+        assertTrue( System.nanoTime() - start >= 200_000_000L );
+
+        // Present elements are selected without waiting
+        start = System.nanoTime();
+        WebUtil.getInstance().select( By.id( "utilContent" ) );
+
+        assertTrue( System.nanoTime() - start < 200_000_000L );
+        assertEquals( By.id( "utilContent" ), WebUtil.getInstance().getSelectedBy().get() );
+    }
+
+    @Test
+    void testReadWaitsForVisibility() {
+        WebUtil.getInstance().setWaitTimeout( 200 );
+        WebUtil.getInstance().select( By.id( "hiddenContent" ) );
+
+        long start = System.nanoTime();
+        WebUtil.getInstance().readText( "myVar" );
+
+        assertTrue( System.nanoTime() - start >= 200_000_000L );
+    }
+
+    @Test
+    void testWaitTimeout() {
+        assertEquals( 0, WebUtil.getInstance().getWaitTimeout() );
+
+        Configuration.getInstance().setWaitTimeout( 1000 );
+
+        assertEquals( 1000, WebUtil.getInstance().getWaitTimeout() );
+
+        WebUtil.startTest();
+        WebUtil.getInstance().setWaitTimeout( 0 );
+
+        assertEquals( 0, WebUtil.getInstance().getWaitTimeout() );
+
+        // The next test does not inherit the timeout
+        WebUtil.startTest();
+
+        assertEquals( 1000, WebUtil.getInstance().getWaitTimeout() );
+        assertThrows( IllegalArgumentException.class, () -> Configuration.getInstance().setWaitTimeout( -1 ) );
+    }
+
+    @Test
+    void testDriverProfile() throws IOException {
+        AtomicInteger scriptRequests = new AtomicInteger();
+        HttpServer server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+
+        server.createContext( "/page.html", o -> respond( o, "<html><head><title>Page</title><script src=\"/script.js\"></script></head><body></body></html>" ) );
+        server.createContext( "/script.js", o -> {
+            scriptRequests.incrementAndGet();
+            respond( o, "document.title = 'Script';" );
+        } );
+        server.start();
+
+        try {
+            String url = String.format( "http://localhost:%d/page.html", server.getAddress().getPort() );
+
+            // Scripts are not executed by default
+            WebUtil.getInstance().openUrl( url );
+            assertEquals( "Page", WebUtil.getInstance().getTitle() );
+
+            WebUtil.useProfile( new DriverProfile( true, false, 0L, List.of() ).inherit( DriverProfile.DEFAULT ) );
+            WebUtil.getInstance().openUrl( url );
+            assertEquals( "Script", WebUtil.getInstance().getTitle() );
+            assertEquals( 1, scriptRequests.get() );
+
+            WebUtil.useProfile( new DriverProfile( true, false, 0L, List.of( DriverProfile.compileUrlPattern( "*.js" ) ) ).inherit( DriverProfile.DEFAULT ) );
+            WebUtil.getInstance().openUrl( url );
+            assertEquals( "Page", WebUtil.getInstance().getTitle() );
+            assertEquals( 1, scriptRequests.get() );
+        }
+        finally {
+            server.stop( 0 );
+        }
+    }
+
+    private static void respond( HttpExchange exchange, String body ) throws IOException {
+        byte[] content = body.getBytes( StandardCharsets.UTF_8 );
+        exchange.getResponseHeaders().add( "Content-Type", exchange.getRequestURI().getPath().endsWith( ".js" ) ? "application/javascript" : "text/html" );
+        exchange.sendResponseHeaders( 200, content.length );
+
+        try( OutputStream out = exchange.getResponseBody() ) {
+            out.write( content );
+        }
+    }
 }
@@ -36,21 +36,28 @@ import org.mockito.Mockito;
 import java.lang.reflect.Field;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TestCompareStringRepository {
 
     private TestScenario testScenario;
+    private Configuration configuration;
 
     @BeforeEach
     void before() throws NoSuchFieldException, IllegalAccessException {
         this.testScenario = Mockito.mock( TestScenario.class );
-        Configuration configuration = Mockito.mock(Configuration.class);
+        this.configuration = Mockito.mock(Configuration.class);
         Field instance = Configuration.class.getDeclaredField("instance" );
         instance.setAccessible( true );
-        instance.set( instance, configuration);
+        instance.set( instance, this.configuration);
     }
 
     @AfterEach
@@ -108,4 +115,159 @@ class TestCompareStringRepository {
         assertEquals( "additional", CompareStringRepository.getInstance().getCompareString( tsc, "fourth" ).get() );
         assertEquals( 2, CompareStringRepository.getInstance().getCompareStringsForScenario( tsc ).size() );
     }
+
+    @Test
+    void testResolvedCompareStrings() {
+        Path scenarioPath = Paths.get( "src", "test", "resources", "util", "repositories", "compareStringRepository", "additionalCompareStrings" );
+        Path emptyPath = Paths.get( "src", "test", "resources", "util", "repositories", "compareStringRepository", "emptyScenario" );
+
+        TestScenario tsc = new TestScenario( this.testScenario, scenarioPath );
+        TestScenario subScenario = tsc.getSubScenarios().get( 0 );
+        TestScenario emptyScenario = new TestScenario( this.testScenario, subScenario, emptyPath );
+
+        assertEquals( 4, CompareStringRepository.getInstance().getResolvedCompareStrings( subScenario ).size() );
+        assertEquals( "overwrite", CompareStringRepository.getInstance().getCompareString( emptyScenario, "second" ).get() );
+        assertTrue( CompareStringRepository.getInstance().getCompareString( emptyScenario, "missing" ).isEmpty() );
+
+        //Scenarios without own compare strings share the view of their parent
+        assertSame( CompareStringRepository.getInstance().getResolvedCompareStrings( subScenario ), CompareStringRepository.getInstance().getResolvedCompareStrings( emptyScenario ) );
+    }
+
+    @Test
+    void testIndexedCompareStrings() {
+        Mockito.when( this.configuration.isCompareStringIndexEnabled() ).thenReturn( true );
+        Mockito.when( this.configuration.getCompareStringCacheSize() ).thenReturn( 1 );
+
+        Path scenarioPath = Paths.get( "src", "test", "resources", "util", "repositories", "compareStringRepository", "additionalCompareStrings" );
+
+        TestScenario tsc = new TestScenario( this.testScenario, scenarioPath );
+        TestScenario subScenario = tsc.getSubScenarios().get( 0 );
+
+        assertEquals( "one",  CompareStringRepository.getInstance().getCompareString( subScenario, "first" ).get() );
+        assertEquals( "overwrite", CompareStringRepository.getInstance().getCompareString( subScenario, "second" ).get() );
+        assertEquals( "two", CompareStringRepository.getInstance().getCompareString( tsc, "second" ).get() );
+        assertEquals( "additional", CompareStringRepository.getInstance().getCompareString( subScenario, "fourth" ).get() );
+        assertTrue( CompareStringRepository.getInstance().getCompareString( subScenario, "missing" ).isEmpty() );
+
+        assertEquals( 2, CompareStringRepository.getInstance().getCompareStringsForScenario( subScenario ).size() );
+        assertEquals( 4, CompareStringRepository.getInstance().getResolvedCompareStrings( subScenario ).size() );
+    }
+
+    @Test
+    @SuppressWarnings( "unchecked" )
+    void testIndexedCompareStringsAreNotCopied() throws Exception {
+        Mockito.when( this.configuration.isCompareStringIndexEnabled() ).thenReturn( true );
+        Mockito.when( this.configuration.getCompareStringCacheSize() ).thenReturn( 1 );
+
+        Path rootPath = Paths.get( "src", "test", "resources", "util", "repositories", "compareStringRepository", "emptyScenario" );
+        Path secondPath = Paths.get( "src", "test", "resources", "util", "repositories", "compareStringRepository", "scenarioOnly" );
+        Path thirdPath = Paths.get( "src", "test", "resources", "util", "repositories", "compareStringRepository", "additionalCompareStrings", "subScenario" );
+
+        TestScenario root = new TestScenario( this.testScenario, rootPath );
+        TestScenario second = new TestScenario( this.testScenario, root, secondPath );
+        TestScenario third = new TestScenario( this.testScenario, second, thirdPath );
+
+        // Stands in for a large table that must only be read by key
+        Field field = CompareStringRepository.class.getDeclaredField( "compareStrings" );
+        field.setAccessible( true );
+        ( ( Map< TestScenario, Map< String, String > > ) field.get( CompareStringRepository.getInstance() ) ).put( root, new UncopyableStrings( Map.of( "root", "base", "first", "root one" ) ) );
+
+        CompareStringRepository repository = CompareStringRepository.getInstance();
+
+        assertEquals( "base", repository.getCompareString( third, "root" ).get() );
+        assertEquals( "one", repository.getCompareString( third, "first" ).get() );
+        assertEquals( "overwrite", repository.getCompareString( third, "second" ).get() );
+        assertEquals( "additional", repository.getCompareString( third, "fourth" ).get() );
+        assertTrue( repository.getCompareString( third, "missing" ).isEmpty() );
+
+        assertFalse( repository.getResolvedCompareStrings( third ).isEmpty() );
+        assertEquals( 4, repository.getResolvedCompareStrings( second ).size() );
+        assertEquals( 5, repository.getResolvedCompareStrings( third ).size() );
+    }
+
+    @Test
+    @SuppressWarnings( "unchecked" )
+    void testNestedCompareStrings() throws Exception {
+        Path rootPath = Paths.get( "src", "test", "resources", "util", "repositories", "compareStringRepository", "emptyScenario" );
+        Path secondPath = Paths.get( "src", "test", "resources", "util", "repositories", "compareStringRepository", "scenarioOnly" );
+        Path thirdPath = Paths.get( "src", "test", "resources", "util", "repositories", "compareStringRepository", "additionalCompareStrings", "subScenario" );
+
+        TestScenario root = new TestScenario( this.testScenario, rootPath );
+        TestScenario second = new TestScenario( this.testScenario, root, secondPath );
+        TestScenario third = new TestScenario( this.testScenario, second, thirdPath );
+
+        // A larger table, including keys with the same hash code
+        Map< String, String > rootStrings = new HashMap<>();
+
+        for( int i = 0; i < 1000; i++ ) {
+            rootStrings.put( "key" + i, "value" + i );
+        }
+
+        rootStrings.put( "Aa", "first collision" );
+        rootStrings.put( "BB", "second collision" );
+        rootStrings.put( "second", "root two" );
+
+        Field field = CompareStringRepository.class.getDeclaredField( "compareStrings" );
+        field.setAccessible( true );
+        ( ( Map< TestScenario, Map< String, String > > ) field.get( CompareStringRepository.getInstance() ) ).put( root, rootStrings );
+
+        CompareStringRepository repository = CompareStringRepository.getInstance();
+
+        for( int i = 0; i < 1000; i++ ) {
+            assertEquals( "value" + i, repository.getCompareString( third, "key" + i ).get() );
+        }
+
+        assertEquals( "first collision", repository.getCompareString( third, "Aa" ).get() );
+        assertEquals( "second collision", repository.getCompareString( third, "BB" ).get() );
+        assertEquals( "overwrite", repository.getCompareString( third, "second" ).get() );
+        assertEquals( "two", repository.getCompareString( second, "second" ).get() );
+        assertEquals( "root two", repository.getCompareString( root, "second" ).get() );
+        assertEquals( "additional", repository.getCompareString( third, "fourth" ).get() );
+        assertTrue( repository.getCompareString( second, "fourth" ).isEmpty() );
+
+        assertEquals( 1003, repository.getResolvedCompareStrings( root ).size() );
+        assertEquals( 1005, repository.getResolvedCompareStrings( second ).size() );
+        assertEquals( 1006, repository.getResolvedCompareStrings( third ).size() );
+
+        Map< String, String > merged = new HashMap<>( rootStrings );
+        merged.putAll( Map.of( "first", "one", "second", "overwrite", "third", "three", "fourth", "additional" ) );
+        assertEquals( merged, repository.getResolvedCompareStrings( third ) );
+    }
+
+    /**
+     * Compare strings that fail the test if they are iterated.
+     */
+    private static class UncopyableStrings extends AbstractMap< String, String > {
+
+        private final Map< String, String > strings;
+
+        UncopyableStrings( Map< String, String > strings ) {
+            this.strings = strings;
+        }
+
+        @Override
+        public String get( Object key ) {
+            return this.strings.get( key );
+        }
+
+        @Override
+        public boolean containsKey( Object key ) {
+            return this.strings.containsKey( key );
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.strings.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return this.strings.size();
+        }
+
+        @Override
+        public Set< Entry< String, String > > entrySet() {
+            throw new AssertionError( "Compare strings were copied" );
+        }
+    }
 }
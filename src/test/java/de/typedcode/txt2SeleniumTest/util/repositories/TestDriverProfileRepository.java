@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.typedcode.txt2SeleniumTest.util.repositories;
+
+import de.typedcode.txt2selenium.exceptions.ParseException;
+import de.typedcode.txt2selenium.executionContext.TestScenario;
+import de.typedcode.txt2selenium.util.Configuration;
+import de.typedcode.txt2selenium.util.DriverProfile;
+import de.typedcode.txt2selenium.util.repositories.CompareStringRepository;
+import de.typedcode.txt2selenium.util.repositories.DriverProfileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestDriverProfileRepository {
+
+    private static final Path REPOSITORY_PATH = Paths.get( "src", "test", "resources", "util", "repositories", "driverProfileRepository" );
+
+    @AfterEach
+    void after() {
+        DriverProfileRepository.getInstance().cleanRepository();
+        CompareStringRepository.getInstance().cleanRepository();
+        Configuration.getInstance().clear();
+    }
+
+    @Test
+    void testInheritedProfiles() {
+        Path scenarioPath = REPOSITORY_PATH.resolve( "profiles" );
+        Configuration.getInstance().setMainDirectory( scenarioPath );
+
+        TestScenario root = new TestScenario( null, scenarioPath );
+        TestScenario child = root.getSubScenarios().get( 0 );
+        TestScenario sibling = root.getSubScenarios().get( 1 );
+
+        // The profile files are no tests
+        assertTrue( root.getTests().isEmpty() );
+        assertEquals( 1, child.getTests().size() );
+
+        DriverProfile rootProfile = DriverProfileRepository.getInstance().getProfile( root );
+
+        assertTrue( rootProfile.isJavascriptEnabled() );
+        assertTrue( rootProfile.isCssEnabled() );
+        assertEquals( 0, rootProfile.getBackgroundJavaScriptWait() );
+        assertTrue( rootProfile.isBlocked( "http://localhost/logo.png" ) );
+        assertFalse( rootProfile.isBlocked( "http://localhost/analytics/track.js" ) );
+
+        DriverProfile childProfile = DriverProfileRepository.getInstance().getProfile( child );
+
+        assertTrue( childProfile.isJavascriptEnabled() );
+        assertFalse( childProfile.isCssEnabled() );
+        assertEquals( 250, childProfile.getBackgroundJavaScriptWait() );
+        assertTrue( childProfile.isBlocked( "http://localhost/logo.png" ) );
+        assertTrue( childProfile.isBlocked( "http://localhost/analytics/track.js" ) );
+
+        assertSame( rootProfile, DriverProfileRepository.getInstance().getProfile( sibling ) );
+    }
+
+    @Test
+    void testDefaultProfile() {
+        assertSame( DriverProfile.DEFAULT, DriverProfileRepository.getInstance().getProfile( null ) );
+        assertFalse( DriverProfile.DEFAULT.isJavascriptEnabled() );
+        assertTrue( DriverProfile.DEFAULT.isCssEnabled() );
+        assertFalse( DriverProfile.DEFAULT.isBlocked( "http://localhost/logo.png" ) );
+    }
+
+    @Test
+    void testUrlPattern() {
+        assertTrue( DriverProfile.compileUrlPattern( "https://www.google-analytics.com/*" ).matcher( "https://www.google-analytics.com/analytics.js" ).matches() );
+        assertFalse( DriverProfile.compileUrlPattern( "https://www.google-analytics.com/*" ).matcher( "https://www.google-analytics.com.evil/a.js" ).matches() );
+        assertTrue( DriverProfile.compileUrlPattern( "*.css?v=*" ).matcher( "http://localhost/style.css?v=2" ).matches() );
+        assertFalse( DriverProfile.compileUrlPattern( "*.css?v=*" ).matcher( "http://localhost/style.css" ).matches() );
+    }
+
+    @Test
+    void testErroneousProfile() {
+        Path scenarioPath = REPOSITORY_PATH.resolve( "erroneous" );
+        Configuration.getInstance().setMainDirectory( scenarioPath );
+
+        Throwable exception = assertThrows( ParseException.class, () -> new TestScenario( null, scenarioPath ) );
+
+        assertEquals( "Driver profile setting 'css' has to be true or false but was 'maybe' at line 2", exception.getMessage() );
+    }
+}
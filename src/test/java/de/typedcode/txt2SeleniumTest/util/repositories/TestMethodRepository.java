@@ -24,7 +24,9 @@
 
 package de.typedcode.txt2SeleniumTest.util.repositories;
 
+import de.typedcode.txt2selenium.exceptions.ParseException;
 import de.typedcode.txt2selenium.executionContext.Method;
+import de.typedcode.txt2selenium.executionContext.MethodCallGraph;
 import de.typedcode.txt2selenium.executionContext.TestScenario;
 import de.typedcode.txt2selenium.util.Configuration;
 import de.typedcode.txt2selenium.util.repositories.MethodRepository;
@@ -108,4 +110,42 @@ class TestMethodRepository {
 
         assertNotEquals( method1, method1Sub );
     }
+
+    @Test
+    void testMethodCalls() {
+        Path scenarioPath = Paths.get( "src", "test", "resources", "util", "repositories", "methodRepository", "methodCalls" );
+
+        Mockito.when( this.testScenario.getPath() ).thenReturn( scenarioPath );
+        MethodRepository.getInstance().registerScenario( this.testScenario );
+
+        assertEquals( 3, MethodRepository.getInstance().getMethodsForScenario( this.testScenario ).get().size() );
+    }
+
+    @Test
+    void testMethodCycle() {
+        Path scenarioPath = Paths.get( "src", "test", "resources", "util", "repositories", "methodRepository", "methodCycle" );
+
+        Mockito.when( this.testScenario.getPath() ).thenReturn( scenarioPath );
+        Mockito.when( this.testScenario.getName() ).thenReturn( "methodCycle" );
+
+        ParseException exception = assertThrows( ParseException.class, () -> MethodRepository.getInstance().registerScenario( this.testScenario ) );
+
+        assertEquals( "Cyclic method calls in scenario 'methodCycle': method1 -> method2 -> method3 -> method1", exception.getMessage() );
+    }
+
+    @Test
+    void testMethodCycleLazy() {
+        Path scenarioPath = Paths.get( "src", "test", "resources", "util", "repositories", "methodRepository", "methodCycle" );
+
+        Mockito.when( this.testScenario.getPath() ).thenReturn( scenarioPath );
+        Mockito.when( this.testScenario.getName() ).thenReturn( "methodCycle" );
+        Mockito.when( this.configuration.isLazyParsing() ).thenReturn( true );
+
+        MethodRepository.getInstance().registerScenario( this.testScenario );
+        Method method2 = MethodRepository.getInstance().getMethod( this.testScenario, "method2" ).get();
+
+        ParseException exception = assertThrows( ParseException.class, () -> MethodCallGraph.verify( method2 ) );
+
+        assertEquals( "Cyclic method calls in scenario 'methodCycle': method2 -> method3 -> method1 -> method2", exception.getMessage() );
+    }
 }
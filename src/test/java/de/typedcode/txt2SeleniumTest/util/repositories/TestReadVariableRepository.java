@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Markus Hoffmann (www.typedcode.de)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.typedcode.txt2SeleniumTest.util.repositories;
+
+import de.typedcode.txt2selenium.util.repositories.ReadVariableRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TestReadVariableRepository {
+
+    @Test
+    void testSlots() {
+        ReadVariableRepository repository = ReadVariableRepository.getInstance();
+
+        int first = repository.getSlot( "readVariableRepositoryFirst" );
+        int second = repository.getSlot( "readVariableRepositorySecond" );
+
+        assertNotEquals( first, second );
+        assertEquals( first, repository.getSlot( "readVariableRepositoryFirst" ) );
+        assertEquals( first, repository.findSlot( "readVariableRepositoryFirst" ) );
+        assertEquals( "readVariableRepositorySecond", repository.getName( second ) );
+    }
+
+    @Test
+    void testUnknownName() {
+        ReadVariableRepository repository = ReadVariableRepository.getInstance();
+        int size = repository.size();
+
+        assertEquals( -1, repository.findSlot( "readVariableRepositoryUnknown" ) );
+        assertEquals( size, repository.size() );
+    }
+}